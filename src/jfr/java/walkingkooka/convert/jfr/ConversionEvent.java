@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded for each successful conversion.
+ */
+@Name("walkingkooka.convert.Conversion")
+@Label("Conversion")
+@Description("A value was converted")
+@Category({"walkingkooka", "Convert"})
+@StackTrace(false)
+final class ConversionEvent extends Event {
+
+    @Label("Converter")
+    String converter;
+
+    @Label("Source Type")
+    Class<?> sourceType;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Conversion Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long conversionTime;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert.jfr;
+
+import jdk.jfr.EventType;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.ConverterEventListener;
+import walkingkooka.convert.ConverterEvents;
+
+/**
+ * A {@link ConverterEventListener} that records Java Flight Recorder events. It is only enabled while a recording has
+ * at least one of the events enabled, so it may be registered permanently using {@link #register()}.
+ */
+public final class JfrConverterEventListener implements ConverterEventListener {
+
+    /**
+     * Registers the singleton with {@link ConverterEvents}.
+     */
+    public static void register() {
+        ConverterEvents.setListener(INSTANCE);
+    }
+
+    /**
+     * Singleton
+     */
+    public final static JfrConverterEventListener INSTANCE = new JfrConverterEventListener();
+
+    private JfrConverterEventListener() {
+        super();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return CONVERSION.isEnabled() ||
+                CONVERSION_FAILED.isEnabled() ||
+                FORMATTER_CACHE_MISS.isEnabled();
+    }
+
+    @Override
+    public void converted(final Converter<?> converter,
+                          final Object value,
+                          final Class<?> type,
+                          final long nanos) {
+        final ConversionEvent event = new ConversionEvent();
+        if (event.shouldCommit()) {
+            event.converter = converter.toString();
+            event.sourceType = sourceType(value);
+            event.targetType = type;
+            event.conversionTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void failed(final Converter<?> converter,
+                       final Object value,
+                       final Class<?> type,
+                       final String message,
+                       final long nanos) {
+        final ConversionFailedEvent event = new ConversionFailedEvent();
+        if (event.shouldCommit()) {
+            event.converter = converter.toString();
+            event.sourceType = sourceType(value);
+            event.targetType = type;
+            event.message = message;
+            event.conversionTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void formatterCacheMiss(final Converter<?> converter,
+                                   final Object value,
+                                   final Class<?> type) {
+        final FormatterCacheMissEvent event = new FormatterCacheMissEvent();
+        if (event.shouldCommit()) {
+            event.converter = converter.toString();
+            event.sourceType = sourceType(value);
+            event.targetType = type;
+            event.commit();
+        }
+    }
+
+    private static Class<?> sourceType(final Object value) {
+        return null == value ?
+                null :
+                value.getClass();
+    }
+
+    private final static EventType CONVERSION = EventType.getEventType(ConversionEvent.class);
+    private final static EventType CONVERSION_FAILED = EventType.getEventType(ConversionFailedEvent.class);
+    private final static EventType FORMATTER_CACHE_MISS = EventType.getEventType(FormatterCacheMissEvent.class);
+
+    @Override
+    public String toString() {
+        return "JFR";
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#collection(List)} and {@link Converters#compiledCollection(List)} holding a realistic
+ * list of converters similar to those used by a spreadsheet.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionConverterBenchmark {
+
+    @Param({"collection", "compiledCollection"})
+    public String kind;
+
+    private Converter<ConverterContext> converter;
+    private Converter<ConverterContext> classBased;
+    private ConverterContext context;
+
+    @Setup
+    public void setup() {
+        final List<Converter<ConverterContext>> converters = converters();
+
+        switch (this.kind) {
+            case "collection":
+                this.converter = Converters.collection(converters);
+                this.classBased = Converters.collection(classBased());
+                break;
+            case "compiledCollection":
+                this.converter = Converters.compiledCollection(converters);
+                this.classBased = Converters.compiledCollection(classBased());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kind " + this.kind);
+        }
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    private static List<Converter<ConverterContext>> converters() {
+        final long offset = Converters.EXCEL_1900_DATE_SYSTEM_OFFSET;
+
+        return Lists.of(
+                Converters.simple(),
+                Converters.object(),
+                Converters.numberNumber(),
+                Converters.booleanNumber(),
+                Converters.truthyNumberBoolean(),
+                Converters.stringCharacter(),
+                Converters.localDateLocalDateTime(),
+                Converters.localDateNumber(offset),
+                Converters.localDateString((c) -> DateTimeFormatter.ISO_LOCAL_DATE),
+                Converters.localDateTimeLocalDate(),
+                Converters.localDateTimeLocalTime(),
+                Converters.localDateTimeNumber(offset),
+                Converters.localDateTimeString((c) -> DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                Converters.localTimeLocalDateTime(),
+                Converters.localTimeNumber(),
+                Converters.localTimeString((c) -> DateTimeFormatter.ISO_LOCAL_TIME),
+                Converters.numberLocalDate(offset),
+                Converters.numberLocalDateTime(offset),
+                Converters.numberLocalTime(),
+                Converters.numberString((c) -> new DecimalFormat("#0.###")),
+                Converters.stringLocalDate((c) -> DateTimeFormatter.ISO_LOCAL_DATE),
+                Converters.stringLocalDateTime((c) -> DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                Converters.stringLocalTime((c) -> DateTimeFormatter.ISO_LOCAL_TIME),
+                Converters.stringNumber((c) -> new DecimalFormat("#0.###")),
+                Converters.objectString()
+        );
+    }
+
+    /**
+     * Only converters whose canConvert tests the value {@link Class} and target type, so unsupported pairs are remembered when compiled.
+     */
+    private static List<Converter<ConverterContext>> classBased() {
+        final long offset = Converters.EXCEL_1900_DATE_SYSTEM_OFFSET;
+
+        return Lists.of(
+                Converters.numberNumber(),
+                Converters.localDateLocalDateTime(),
+                Converters.localDateNumber(offset),
+                Converters.localDateTimeLocalDate(),
+                Converters.localDateTimeLocalTime(),
+                Converters.localDateTimeNumber(offset),
+                Converters.localTimeLocalDateTime(),
+                Converters.localTimeNumber(),
+                Converters.numberLocalDate(offset),
+                Converters.numberLocalDateTime(offset),
+                Converters.numberLocalTime()
+        );
+    }
+
+    @Benchmark
+    public Either<String, String> first() {
+        return this.converter.convert("abc", String.class, this.context);
+    }
+
+    @Benchmark
+    public Either<Long, String> numberToNumber() {
+        return this.converter.convert(1.0, Long.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDateTime, String> localDateToLocalDateTime() {
+        return this.converter.convert(LocalDate.of(2000, 1, 31), LocalDateTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalTime, String> stringToLocalTime() {
+        return this.converter.convert("12:58:59", LocalTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<BigDecimal, String> stringToNumber() {
+        return this.converter.convert("1234.5", BigDecimal.class, this.context);
+    }
+
+    /**
+     * A text cell, which the String to Number converter rejects in canConvert without parsing.
+     */
+    @Benchmark
+    public Either<BigDecimal, String> textToNumberFails() {
+        return this.converter.convert("Hello World", BigDecimal.class, this.context);
+    }
+
+    /**
+     * A text cell, which the String to LocalDate converter rejects in canConvert using the shape of its formatter.
+     */
+    @Benchmark
+    public Either<LocalDate, String> textToLocalDateFails() {
+        return this.converter.convert("Hello World", LocalDate.class, this.context);
+    }
+
+    @Benchmark
+    public Either<Void, String> unhandled() {
+        return this.converter.convert("abc", Void.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalTime, String> classBasedUnsupported() {
+        return this.classBased.convert(UNSUPPORTED, LocalTime.class, this.context);
+    }
+
+    private final static List<String> UNSUPPORTED = Lists.of("a", "b");
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.StaticHelper;
+
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * The {@link ConverterContext} shared by all benchmarks, so results are comparable across converters.
+ */
+final class ConverterBenchmarkContexts implements StaticHelper {
+
+    static ConverterContext context() {
+        return ConverterContexts.basic(
+                Converters.fake(),
+                DateTimeContexts.locale(
+                        Locale.ENGLISH,
+                        1900,
+                        20,
+                        () -> NOW
+                ),
+                DecimalNumberContexts.american(MathContext.DECIMAL64)
+        );
+    }
+
+    private final static LocalDateTime NOW = LocalDateTime.of(2000, 1, 31, 12, 58, 59);
+
+    /**
+     * Stop creation
+     */
+    private ConverterBenchmarkContexts() {
+        throw new UnsupportedOperationException();
+    }
+}
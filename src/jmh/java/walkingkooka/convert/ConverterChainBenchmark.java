@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#chain(Converter, Class, Converter)} against calling both {@link Converter converters}
+ * one after the other, converting a {@link BigDecimal} to a {@link Long} to a {@link LocalDate}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterChainBenchmark {
+
+    private final static BigDecimal VALUE = BigDecimal.valueOf(36556);
+
+    private Converter<ConverterContext> numberNumber;
+    private Converter<ConverterContext> numberLocalDate;
+    private Converter<ConverterContext> chain;
+    private ConverterContext context;
+
+    @Setup
+    public void setup() {
+        this.numberNumber = Converters.numberNumber();
+        this.numberLocalDate = Converters.numberLocalDate(Converters.EXCEL_1900_DATE_SYSTEM_OFFSET);
+        this.chain = Converters.chain(this.numberNumber, Long.class, this.numberLocalDate);
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> chain() {
+        return this.chain.convert(VALUE, LocalDate.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> twoConverts() {
+        final Either<Long, String> intermediate = this.numberNumber.convert(VALUE, Long.class, this.context);
+        return intermediate.isLeft() ?
+                this.numberLocalDate.convert(intermediate.leftValue(), LocalDate.class, this.context) :
+                Either.right(intermediate.rightValue());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#graph(java.util.List)} following a remembered route, compared with an explicit
+ * {@link Converters#chain(Converter, Class, Converter)}, and a pair without a route.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterGraphBenchmark {
+
+    private Converter<ConverterContext> graph;
+    private Converter<ConverterContext> chain;
+    private ConverterContext context;
+
+    @Setup
+    public void setup() {
+        final Converter<ConverterContext> booleanNumber = Converters.booleanNumber();
+        final Converter<ConverterContext> numberLocalDate = Converters.numberLocalDate(Converters.JAVA_EPOCH_OFFSET);
+
+        this.graph = Converters.graph(
+                Lists.of(
+                        booleanNumber,
+                        numberLocalDate,
+                        Converters.localDateLocalDateTime(),
+                        Converters.numberNumber()
+                )
+        );
+        this.chain = Converters.chain(booleanNumber, Long.class, numberLocalDate);
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> route() {
+        return this.graph.convert(true, LocalDate.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDateTime, String> routeTwoIntermediateTypes() {
+        return this.graph.convert(true, LocalDateTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> chain() {
+        return this.chain.convert(true, LocalDate.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> noRoute() {
+        return this.graph.convert("abc", LocalDate.class, this.context);
+    }
+}
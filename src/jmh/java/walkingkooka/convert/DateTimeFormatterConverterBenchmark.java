@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#stringLocalDate(String)} and
+ * {@link Converters#localDateString(java.util.function.Function)}, including the cost of text that is not a date
+ * compared to catching the {@link DateTimeParseException} from {@link LocalDate#parse(CharSequence, DateTimeFormatter)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeFormatterConverterBenchmark {
+
+    private Converter<ConverterContext> stringLocalDate;
+    private Converter<ConverterContext> localDateString;
+    private ConverterContext context;
+    private DateTimeFormatter formatter;
+
+    @Setup
+    public void setup() {
+        this.formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+        this.stringLocalDate = Converters.stringLocalDate("yyyy/MM/dd");
+        this.localDateString = Converters.localDateString((c) -> DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> stringToLocalDate() {
+        return this.stringLocalDate.convert("2000/01/31", LocalDate.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDate, String> stringToLocalDateFails() {
+        return this.stringLocalDate.convert("Not a date", LocalDate.class, this.context);
+    }
+
+    /**
+     * The text is matched by the pattern but the month is invalid, which is reported by the {@link DateTimeFormatter}.
+     */
+    @Benchmark
+    public Either<LocalDate, String> stringToLocalDateInvalidMonthFails() {
+        return this.stringLocalDate.convert("2000/13/31", LocalDate.class, this.context);
+    }
+
+    /**
+     * The cost of a failed parse using {@link LocalDate#parse(CharSequence, DateTimeFormatter)}.
+     */
+    @Benchmark
+    public LocalDate localDateParseFails() {
+        try {
+            return LocalDate.parse("Not a date", this.formatter);
+        } catch (final DateTimeParseException expected) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Either<String, String> localDateToString() {
+        return this.localDateString.convert(LocalDate.of(2000, 1, 31), String.class, this.context);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#stringNumber(java.util.function.Function)} and
+ * {@link Converters#numberString(java.util.function.Function)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecimalFormatConverterBenchmark {
+
+    private final static String PATTERN = "#,##0.###";
+
+    private Converter<ConverterContext> stringNumber;
+    private Converter<ConverterContext> numberString;
+    private ConverterContext context;
+
+    @Setup
+    public void setup() {
+        this.stringNumber = Converters.stringNumber((c) -> new DecimalFormat(PATTERN));
+        this.numberString = Converters.numberString((c) -> new DecimalFormat(PATTERN));
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    @Benchmark
+    public Either<BigDecimal, String> stringToBigDecimal() {
+        return this.stringNumber.convert("1,234.5", BigDecimal.class, this.context);
+    }
+
+    @Benchmark
+    public Either<Double, String> stringToDouble() {
+        return this.stringNumber.convert("1,234.5", Double.class, this.context);
+    }
+
+    @Benchmark
+    public Either<Long, String> stringToLong() {
+        return this.stringNumber.convert("1,234", Long.class, this.context);
+    }
+
+    @Benchmark
+    public Either<String, String> bigDecimalToString() {
+        return this.numberString.convert(BigDecimal.valueOf(1234.5), String.class, this.context);
+    }
+
+    @Benchmark
+    public Either<String, String> doubleToString() {
+        return this.numberString.convert(1234.5, String.class, this.context);
+    }
+
+    @Benchmark
+    public Either<String, String> longToString() {
+        return this.numberString.convert(1234L, String.class, this.context);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DecimalFormatConverterNumberStringFormatter} against the {@link DecimalFormat} it was compiled from.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecimalFormatConverterNumberStringFormatterBenchmark {
+
+    @Param({"#,##0.00", "#,##0.##%", "$ #,##0.00", "0.000E00"})
+    public String pattern;
+
+    @Param({"long", "double", "BigDecimal"})
+    public String type;
+
+    private Number number;
+    private DecimalFormat decimalFormat;
+    private DecimalFormatConverterNumberStringFormatter formatter;
+
+    @Setup
+    public void setup() {
+        switch (this.type) {
+            case "long":
+                this.number = 1234567L;
+                break;
+            case "double":
+                this.number = -1234.5678;
+                break;
+            default:
+                this.number = new BigDecimal("1234567.125");
+                break;
+        }
+        this.decimalFormat = new DecimalFormat(this.pattern, DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+        this.formatter = DecimalFormatConverterNumberStringFormatter.compile(this.decimalFormat);
+    }
+
+    @Benchmark
+    public String decimalFormat() {
+        return this.decimalFormat.format(this.number);
+    }
+
+    @Benchmark
+    public String formatter() {
+        return this.formatter.format(this.number);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DecimalFormatConverterStringNumberParser} against the {@link DecimalFormat} it was compiled from.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecimalFormatConverterStringNumberParserBenchmark {
+
+    @Param({"1234.5", "-1,234,567.125", "0.00125E3", "12.5%"})
+    public String text;
+
+    private DecimalFormat decimalFormat;
+    private DecimalFormatConverterStringNumberParser parser;
+
+    @Setup
+    public void setup() {
+        final String pattern = this.text.endsWith("%") ?
+                "#,##0.###%" :
+                "#,##0.###";
+        this.decimalFormat = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+        this.decimalFormat.setParseBigDecimal(true);
+        this.parser = DecimalFormatConverterStringNumberParser.compile(this.decimalFormat);
+    }
+
+    @Benchmark
+    public Number decimalFormat() {
+        return this.decimalFormat.parse(this.text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public BigDecimal parser() {
+        return this.parser.parse(this.text);
+    }
+}
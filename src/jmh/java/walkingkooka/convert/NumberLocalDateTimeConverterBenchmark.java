@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#numberLocalDateTime(long)} and {@link Converters#localDateTimeNumber(long)} using the
+ * Excel and java offsets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberLocalDateTimeConverterBenchmark {
+
+    @Param({"EXCEL_1900", "EXCEL_1904", "JAVA"})
+    public String offset;
+
+    private Converter<ConverterContext> numberLocalDateTime;
+    private Converter<ConverterContext> localDateTimeNumber;
+    private ConverterContext context;
+
+    @Setup
+    public void setup() {
+        final long offset;
+        switch (this.offset) {
+            case "EXCEL_1900":
+                offset = Converters.EXCEL_1900_DATE_SYSTEM_OFFSET;
+                break;
+            case "EXCEL_1904":
+                offset = Converters.EXCEL_1904_DATE_SYSTEM_OFFSET;
+                break;
+            case "JAVA":
+                offset = Converters.JAVA_EPOCH_OFFSET;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown offset " + this.offset);
+        }
+
+        this.numberLocalDateTime = Converters.numberLocalDateTime(offset);
+        this.localDateTimeNumber = Converters.localDateTimeNumber(offset);
+        this.context = ConverterBenchmarkContexts.context();
+    }
+
+    @Benchmark
+    public Either<LocalDateTime, String> bigDecimalToLocalDateTime() {
+        return this.numberLocalDateTime.convert(BigDecimal.valueOf(36556.5), LocalDateTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDateTime, String> doubleToLocalDateTime() {
+        return this.numberLocalDateTime.convert(36556.5, LocalDateTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<LocalDateTime, String> longToLocalDateTime() {
+        return this.numberLocalDateTime.convert(36556L, LocalDateTime.class, this.context);
+    }
+
+    @Benchmark
+    public Either<Double, String> localDateTimeToDouble() {
+        return this.localDateTimeNumber.convert(LocalDateTime.of(2000, 1, 31, 12, 0), Double.class, this.context);
+    }
+
+    @Benchmark
+    public Either<BigDecimal, String> localDateTimeToBigDecimal() {
+        return this.localDateTimeNumber.convert(LocalDateTime.of(2000, 1, 31, 12, 0), BigDecimal.class, this.context);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#numberNumber()} for every pair of the 8 JRE {@link Number} types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberNumberConverterBenchmark {
+
+    @Param({"BigDecimal", "BigInteger", "Byte", "Double", "Float", "Integer", "Long", "Short"})
+    public String source;
+
+    @Param({"BigDecimal", "BigInteger", "Byte", "Double", "Float", "Integer", "Long", "Short"})
+    public String target;
+
+    private Converter<ConverterContext> converter;
+    private ConverterContext context;
+    private Number value;
+    private Class<? extends Number> type;
+
+    @Setup
+    public void setup() {
+        this.converter = Converters.numberNumber();
+        this.context = ConverterBenchmarkContexts.context();
+        this.value = number(this.source);
+        this.type = number(this.target).getClass();
+    }
+
+    private static Number number(final String type) {
+        switch (type) {
+            case "BigDecimal":
+                return BigDecimal.valueOf(99);
+            case "BigInteger":
+                return BigInteger.valueOf(99);
+            case "Byte":
+                return (byte) 99;
+            case "Double":
+                return 99.0;
+            case "Float":
+                return 99.0f;
+            case "Integer":
+                return 99;
+            case "Long":
+                return 99L;
+            case "Short":
+                return (short) 99;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+    }
+
+    @Benchmark
+    public Either<? extends Number, String> convert() {
+        return this.converter.convert(this.value, this.type, this.context);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.Either;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.cursor.parser.BigDecimalParserToken;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserContexts;
+import walkingkooka.text.cursor.parser.Parsers;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Converters#parser(Class, walkingkooka.text.cursor.parser.Parser, java.util.function.Function, java.util.function.BiFunction)}
+ * with a {@link BigDecimal} parser.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserConverterBenchmark {
+
+    private Converter<ConverterContext> converter;
+    private Converter<ConverterContext> converterLookahead;
+    private ConverterContext context;
+    private List<String> column;
+    private BigDecimal[] converted;
+    private String[] errors;
+
+    @Setup
+    public void setup() {
+        this.converter = Converters.<BigDecimal, ParserContext, ConverterContext>parser(
+                BigDecimal.class,
+                Parsers.bigDecimal(),
+                (c) -> ParserContexts.basic(c, c),
+                (t, c) -> t.cast(BigDecimalParserToken.class).value()
+        );
+        this.converterLookahead = Converters.<BigDecimal, ParserContext, ConverterContext>parser(
+                BigDecimal.class,
+                Parsers.bigDecimal(),
+                (c) -> ParserContexts.basic(c, c),
+                (t, c) -> t.cast(BigDecimalParserToken.class).value(),
+                CharPredicates.range('0', '9').or(CharPredicates.any("+-.")),
+                1
+        );
+        this.context = ConverterBenchmarkContexts.context();
+
+        final String[] column = new String[COLUMN_SIZE];
+        for (int i = 0; i < COLUMN_SIZE; i++) {
+            column[i] = i + "." + (i % 10);
+        }
+        this.column = Arrays.asList(column);
+        this.converted = new BigDecimal[COLUMN_SIZE];
+        this.errors = new String[COLUMN_SIZE];
+    }
+
+    private final static int COLUMN_SIZE = 1000;
+
+    @Benchmark
+    public Either<BigDecimal, String> parse() {
+        return this.converter.convert("1234.5", BigDecimal.class, this.context);
+    }
+
+    @Benchmark
+    public Either<BigDecimal, String> parseFails() {
+        return this.converter.convert("abc", BigDecimal.class, this.context);
+    }
+
+    @Benchmark
+    public Either<BigDecimal, String> parseFailsLookahead() {
+        return this.converterLookahead.convert("abc", BigDecimal.class, this.context);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public int parseColumn() {
+        return this.converter.convertAll(this.column, BigDecimal.class, this.context, this.converted, this.errors);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Wraps another {@link Converter} remembering both successful and failed results for each value, target type and
+ * fingerprint of the {@link ConverterContext}. The fingerprint is given, or else only includes the date time values
+ * for a {@link DateTimeFormatterConverter}, only the number symbols for a {@link DecimalFormatConverter}, and both for
+ * any other {@link Converter}. The results are spread across {@link CachingConverterSegment segments}
+ * by the hash of their key, each with its own lock and evicting its own least recently used result, so a single
+ * instance may be shared by many threads with little contention, at the cost of only approximating least recently used
+ * eviction across all results. The {@link Converter} given to the context for nested conversions is not part of the
+ * key, and contexts that only differ by that should not share a {@link CachingConverter}.
+ */
+final class CachingConverter<C extends ConverterContext> implements Converter<C>,
+        HasConverterCacheStatistics {
+
+    /**
+     * The maximum number of segments.
+     */
+    final static int MAX_SEGMENTS = 16;
+
+    /**
+     * Segments are only added while each holds at least this many results, so small caches stay close to least
+     * recently used.
+     */
+    final static int MIN_SEGMENT_ENTRIES = 8;
+
+    static <C extends ConverterContext> CachingConverter<C> with(final Converter<C> converter,
+                                                                 final int maxEntries) {
+        Objects.requireNonNull(converter, "converter");
+
+        return with(
+                converter,
+                maxEntries,
+                contextKey(converter)
+        );
+    }
+
+    static <C extends ConverterContext> CachingConverter<C> with(final Converter<C> converter,
+                                                                 final int maxEntries,
+                                                                 final Function<? super C, ?> contextKey) {
+        return with(
+                converter,
+                maxEntries,
+                Math.max(
+                        1,
+                        Math.min(
+                                MAX_SEGMENTS,
+                                maxEntries / MIN_SEGMENT_ENTRIES
+                        )
+                ),
+                contextKey
+        );
+    }
+
+    static <C extends ConverterContext> CachingConverter<C> with(final Converter<C> converter,
+                                                                 final int maxEntries,
+                                                                 final int segmentCount) {
+        Objects.requireNonNull(converter, "converter");
+
+        return with(
+                converter,
+                maxEntries,
+                segmentCount,
+                contextKey(converter)
+        );
+    }
+
+    static <C extends ConverterContext> CachingConverter<C> with(final Converter<C> converter,
+                                                                 final int maxEntries,
+                                                                 final int segmentCount,
+                                                                 final Function<? super C, ?> contextKey) {
+        Objects.requireNonNull(converter, "converter");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid cache size " + maxEntries + " <= 0");
+        }
+        if (segmentCount <= 0 || segmentCount > maxEntries) {
+            throw new IllegalArgumentException("Invalid segment count " + segmentCount + " not between 1 and " + maxEntries);
+        }
+        Objects.requireNonNull(contextKey, "contextKey");
+
+        return new CachingConverter<>(
+                converter,
+                maxEntries,
+                segmentCount,
+                contextKey
+        );
+    }
+
+    /**
+     * Returns the fingerprint of the {@link ConverterContext} values the {@link Converter} may read.
+     */
+    private static Function<ConverterContext, ?> contextKey(final Converter<?> converter) {
+        final Function<ConverterContext, ?> contextKey;
+
+        if (converter instanceof DateTimeFormatterConverter) {
+            contextKey = DateTimeFormatterConverterCacheKey::with;
+        } else if (converter instanceof DecimalFormatConverter) {
+            contextKey = DecimalFormatConverterCacheKey::with;
+        } else {
+            contextKey = CachingConverter::dateTimeAndDecimalNumber;
+        }
+
+        return contextKey;
+    }
+
+    private static Object dateTimeAndDecimalNumber(final ConverterContext context) {
+        return Lists.of(
+                DateTimeFormatterConverterCacheKey.with(context),
+                DecimalFormatConverterCacheKey.with(context)
+        );
+    }
+
+    private CachingConverter(final Converter<C> converter,
+                             final int maxEntries,
+                             final int segmentCount,
+                             final Function<? super C, ?> contextKey) {
+        super();
+        this.converter = converter;
+        this.maxEntries = maxEntries;
+        this.contextKey = contextKey;
+
+        // the first segments hold any remainder so the total is exactly maxEntries
+        final CachingConverterSegment[] segments = new CachingConverterSegment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = CachingConverterSegment.with(
+                    maxEntries / segmentCount + (i < maxEntries % segmentCount ? 1 : 0)
+            );
+        }
+        this.segments = segments;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return this.converter.canConvert(value, type, context);
+    }
+
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
+    /**
+     * Returns the cached result or converts and caches the result. The conversion happens outside the lock, so two
+     * threads may convert the same value, with the last to complete being kept.
+     */
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(context, "context");
+
+        final CachingConverterKey key = CachingConverterKey.with(
+                value,
+                type,
+                this.contextKey.apply(context)
+        );
+        final CachingConverterSegment segment = this.segment(key);
+
+        Either<?, String> result = segment.get(key);
+        if (null == result) {
+            result = this.converter.convert(value, type, context);
+            segment.put(key, result);
+        }
+
+        return Cast.to(result);
+    }
+
+    /**
+     * Selects the segment using the spread hash of the key.
+     */
+    private CachingConverterSegment segment(final CachingConverterKey key) {
+        final CachingConverterSegment[] segments = this.segments;
+        final int hash = key.hashCode();
+
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    // HasConverterCacheStatistics......................................................................................
+
+    /**
+     * Adds up the counters of each segment, which are read one at a time while conversions may continue.
+     */
+    @Override
+    public ConverterCacheStatistics cacheStatistics() {
+        int size = 0;
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+
+        for (final CachingConverterSegment segment : this.segments) {
+            final ConverterCacheStatistics statistics = segment.statistics();
+            size += statistics.size();
+            hits += statistics.hits();
+            misses += statistics.misses();
+            evictions += statistics.evictions();
+        }
+
+        return ConverterCacheStatistics.with(
+                size,
+                hits,
+                misses,
+                evictions
+        );
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    // @VisibleForTesting
+    final int maxEntries;
+
+    /**
+     * Makes the fingerprint of the {@link ConverterContext} that is part of each key.
+     */
+    private final Function<? super C, ?> contextKey;
+
+    // @VisibleForTesting
+    final CachingConverterSegment[] segments;
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.converter.sourceTypes();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.converter.targetTypes();
+    }
+
+    @Override
+    public String toString() {
+        return "caching(" + this.converter + ")";
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CharSequences;
+
+import java.util.Objects;
+
+/**
+ * The key for a single {@link CachingConverter} result, holding the value, the target type and a fingerprint of the
+ * {@link ConverterContext} made by the {@link CachingConverter}, which only includes the values its {@link Converter}
+ * may read.
+ */
+final class CachingConverterKey {
+
+    static CachingConverterKey with(final Object value,
+                                    final Class<?> type,
+                                    final Object context) {
+        return new CachingConverterKey(
+                value,
+                type,
+                context
+        );
+    }
+
+    private CachingConverterKey(final Object value,
+                                final Class<?> type,
+                                final Object context) {
+        super();
+
+        this.value = value;
+        this.type = type;
+        this.context = context;
+    }
+
+    final Object value;
+    final Class<?> type;
+    final Object context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return (Objects.hashCode(this.value) * 31 +
+                this.type.hashCode()) * 31 +
+                Objects.hashCode(this.context);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof CachingConverterKey &&
+                        this.equals0(Cast.to(other));
+    }
+
+    /**
+     * The value classes are also compared, as values of different classes such as lists may be equal but convert
+     * differently.
+     */
+    private boolean equals0(final CachingConverterKey other) {
+        final Object value = this.value;
+        final Object otherValue = other.value;
+
+        return (null == value ?
+                null == otherValue :
+                null != otherValue && value.getClass() == otherValue.getClass() && value.equals(otherValue)) &&
+                this.type == other.type &&
+                Objects.equals(this.context, other.context);
+    }
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteIfChars(this.value) + " " + this.type.getName() + " " + this.context;
+    }
+}
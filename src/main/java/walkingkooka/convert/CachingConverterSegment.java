@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One of the segments of a {@link CachingConverter}, holding the results for the keys that hash to it and evicting its
+ * own least recently used result when full. Each segment has its own lock, so threads converting keys of different
+ * segments never wait for each other.
+ */
+final class CachingConverterSegment {
+
+    static CachingConverterSegment with(final int maxEntries) {
+        return new CachingConverterSegment(maxEntries);
+    }
+
+    private CachingConverterSegment(final int maxEntries) {
+        super();
+        this.maxEntries = maxEntries;
+        this.results = new LinkedHashMap<CachingConverterKey, Either<?, String>>(maxEntries, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CachingConverterKey, Either<?, String>> eldest) {
+                final boolean remove = this.size() > CachingConverterSegment.this.maxEntries;
+                if (remove) {
+                    CachingConverterSegment.this.evictions++;
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result or null, counting a hit or miss.
+     */
+    Either<?, String> get(final CachingConverterKey key) {
+        final Map<CachingConverterKey, Either<?, String>> results = this.results;
+
+        synchronized (results) {
+            final Either<?, String> result = results.get(key);
+            if (null != result) {
+                this.hits++;
+            } else {
+                this.misses++;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Adds or replaces the result, possibly evicting the least recently used.
+     */
+    void put(final CachingConverterKey key,
+             final Either<?, String> result) {
+        final Map<CachingConverterKey, Either<?, String>> results = this.results;
+
+        synchronized (results) {
+            results.put(key, result);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the counters of this segment.
+     */
+    ConverterCacheStatistics statistics() {
+        synchronized (this.results) {
+            return ConverterCacheStatistics.with(
+                    this.results.size(),
+                    this.hits,
+                    this.misses,
+                    this.evictions
+            );
+        }
+    }
+
+    // @VisibleForTesting
+    final int maxEntries;
+
+    /**
+     * A {@link LinkedHashMap} in access order, guarded by synchronizing on itself.
+     */
+    private final Map<CachingConverterKey, Either<?, String>> results;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @Override
+    public String toString() {
+        return this.statistics().toString();
+    }
+}
@@ -14,23 +14,22 @@
  * limitations under the License.
  *
  */
-
 package walkingkooka.convert;
 
-public final class ConverterNumberNumberNumberTypeVisitorDoubleTest extends ConverterNumberNumberNumberTypeVisitorTestCase<ConverterNumberNumberNumberTypeVisitorDouble, Double> {
-
-    @Override
-    public ConverterNumberNumberNumberTypeVisitorDouble createVisitor() {
-        return new ConverterNumberNumberNumberTypeVisitorDouble();
-    }
+import java.util.stream.Stream;
 
-    @Override
-    public Class<ConverterNumberNumberNumberTypeVisitorDouble> type() {
-        return ConverterNumberNumberNumberTypeVisitorDouble.class;
-    }
+/**
+ * Receives each value that failed to convert while streaming values through
+ * {@link Converter#convertStream(Stream, Class, ConverterContext, int, ConversionErrorHandler)}.
+ */
+public interface ConversionErrorHandler {
 
-    @Override
-    Class<Double> targetType() {
-        return Double.class;
-    }
+    /**
+     * Called with the index of the value within the source, the value, the target type and the failure message.
+     * Implementations may throw to stop the stream.
+     */
+    void handle(final long index,
+                final Object value,
+                final Class<?> type,
+                final String message);
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link ConversionErrorHandler} that drops the value from the stream, recording the failure message under the index
+ * of the value.
+ */
+final class ConversionErrorHandlerCollect implements ConversionErrorHandler {
+
+    static ConversionErrorHandlerCollect with(final Map<Long, String> errors) {
+        Objects.requireNonNull(errors, "errors");
+
+        return new ConversionErrorHandlerCollect(errors);
+    }
+
+    private ConversionErrorHandlerCollect(final Map<Long, String> errors) {
+        super();
+        this.errors = errors;
+    }
+
+    @Override
+    public void handle(final long index,
+                       final Object value,
+                       final Class<?> type,
+                       final String message) {
+        this.errors.put(index, message);
+    }
+
+    private final Map<Long, String> errors;
+
+    @Override
+    public String toString() {
+        return "collect " + this.errors;
+    }
+}
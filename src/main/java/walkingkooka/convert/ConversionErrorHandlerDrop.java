@@ -14,32 +14,32 @@
  * limitations under the License.
  *
  */
-
 package walkingkooka.convert;
 
-import walkingkooka.math.NumberVisitor;
+/**
+ * A {@link ConversionErrorHandler} that silently drops values that fail to convert from the stream.
+ */
+final class ConversionErrorHandlerDrop implements ConversionErrorHandler {
 
-abstract class ConverterNumberNumberNumberTypeVisitorNumber<N extends Number> extends NumberVisitor {
+    /**
+     * Singleton
+     */
+    final static ConversionErrorHandlerDrop INSTANCE = new ConversionErrorHandlerDrop();
 
-    ConverterNumberNumberNumberTypeVisitorNumber() {
+    private ConversionErrorHandlerDrop() {
         super();
     }
 
-    final N convert(final Number number) {
-        this.accept(number);
-        return converted;
-    }
-
-    final void save(final N number) {
-        this.converted = number;
+    @Override
+    public void handle(final long index,
+                       final Object value,
+                       final Class<?> type,
+                       final String message) {
+        // nop
     }
 
-    private N converted;
-
-    abstract Class<N> targetType();
-
     @Override
-    public final String toString() {
-        return Number.class.getSimpleName() + "->" + this.targetType().getSimpleName();
+    public String toString() {
+        return "drop";
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+/**
+ * A {@link ConversionErrorHandler} that stops the stream by throwing a {@link ConversionException} for the first value
+ * that fails to convert.
+ */
+final class ConversionErrorHandlerFailFast implements ConversionErrorHandler {
+
+    /**
+     * Singleton
+     */
+    final static ConversionErrorHandlerFailFast INSTANCE = new ConversionErrorHandlerFailFast();
+
+    private ConversionErrorHandlerFailFast() {
+        super();
+    }
+
+    @Override
+    public void handle(final long index,
+                       final Object value,
+                       final Class<?> type,
+                       final String message) {
+        throw new ConversionException(
+                message + " at " + index,
+                value,
+                type
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "fail-fast";
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.Map;
+
+/**
+ * Factory methods for numerous {@link ConversionErrorHandler handlers}.
+ */
+public final class ConversionErrorHandlers implements PublicStaticHelper {
+
+    /**
+     * {@see ConversionErrorHandlerCollect}
+     */
+    public static ConversionErrorHandler collect(final Map<Long, String> errors) {
+        return ConversionErrorHandlerCollect.with(errors);
+    }
+
+    /**
+     * {@see ConversionErrorHandlerDrop}
+     */
+    public static ConversionErrorHandler drop() {
+        return ConversionErrorHandlerDrop.INSTANCE;
+    }
+
+    /**
+     * {@see ConversionErrorHandlerFailFast}
+     */
+    public static ConversionErrorHandler failFast() {
+        return ConversionErrorHandlerFailFast.INSTANCE;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConversionErrorHandlers() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -21,6 +21,11 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.text.CharSequences;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /**
  * Converts an object instance to a requested target {@link Class class}.
  */
@@ -53,6 +58,43 @@ public interface Converter<C extends ConverterContext> {
         return can;
     }
 
+    /**
+     * Returns true if {@link #canConvert(Object, Class, ConverterContext)} may give different answers for two values
+     * of the same {@link Class} or for different contexts. Converters that only test the value {@link Class} and the
+     * target type should return false and also declare their {@link #sourceTypes()} and {@link #targetTypes()}, which
+     * allows composites to remember the answer for that pair of types. Composites never remember answers from a
+     * {@link Converter} that does not declare its types.
+     */
+    default boolean isValueDependent() {
+        return false;
+    }
+
+    /**
+     * Returns the {@link Class classes} of the non null values this {@link Converter} may convert, or empty when they
+     * are not known. {@link Number Number.class} stands for any {@link Number} and {@link Object Object.class} for any
+     * value. Values of other {@link Class classes} are never converted, which allows composites to skip this
+     * {@link Converter} without asking.
+     */
+    default Optional<Set<Class<?>>> sourceTypes() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the target types this {@link Converter} may convert to, or empty when they are not known. Other target
+     * types are never converted, not even a null value.
+     */
+    default Optional<Set<Class<?>>> targetTypes() {
+        return Optional.empty();
+    }
+
+    /**
+     * Discards anything remembered about which values and types are supported, so later requests ask again. This
+     * should be called after a wrapped or child {@link Converter} changes what it supports.
+     */
+    default void invalidate() {
+        // nop
+    }
+
     /**
      * Converts the given value to the requested type returning an {@link Either} with {@link Either#leftValue()} holding
      * the result or {@link Either#rightValue()} holding an failure message.
@@ -61,6 +103,51 @@ public interface Converter<C extends ConverterContext> {
                                   final Class<T> type,
                                   final C context);
 
+    /**
+     * Converts many values to the same type, writing each converted value to the same index in converted, or the
+     * failure message to errors with a null converted value. Returns the number of values that failed. Implementations
+     * may override this to avoid the per value dispatch and {@link Either}.
+     */
+    default <T> int convertAll(final List<?> values,
+                               final Class<T> type,
+                               final C context,
+                               final T[] converted,
+                               final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        int failures = 0;
+        final int count = values.size();
+        for (int i = 0; i < count; i++) {
+            failures += ConverterConvertAll.set(
+                    this.convert(values.get(i), type, context),
+                    i,
+                    converted,
+                    errors
+            );
+        }
+        return failures;
+    }
+
+    /**
+     * Lazily converts the values of the {@link Stream} in batches of batchSize using
+     * {@link #convertAll(List, Class, ConverterContext, Object[], String[])}, giving each failure to the
+     * {@link ConversionErrorHandler} and leaving that value out of the returned {@link Stream}.
+     */
+    default <T> Stream<T> convertStream(final Stream<?> values,
+                                        final Class<T> type,
+                                        final C context,
+                                        final int batchSize,
+                                        final ConversionErrorHandler errorHandler) {
+        return ConverterStream.with(
+                values,
+                this,
+                type,
+                context,
+                batchSize,
+                errorHandler
+        );
+    }
+
     /**
      * Converts the given value to the {@link Class target type} or throws a {@link ConversionException}
      */
@@ -20,6 +20,7 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -55,11 +56,56 @@ abstract class Converter2<C extends ConverterContext> implements Converter<C> {
         Objects.requireNonNull(type, "type");
         Objects.requireNonNull(context, "context");
 
+        final ConverterEventListener listener = ConverterEvents.enabled();
+        if (null == listener) {
+            return this.convert1(value, type, context);
+        }
+
+        final long start = System.nanoTime();
+        final Either<T, String> result = this.convert1(value, type, context);
+        ConverterEvents.result(listener, this, value, type, result, System.nanoTime() - start);
+        return result;
+    }
+
+    private <T> Either<T, String> convert1(final Object value,
+                                           final Class<T> type,
+                                           final C context) {
         return this.canConvert(value, type, context) ?
                 this.convert0(value, type, context) :
                 this.failConversion(value, type);
     }
 
+    /**
+     * Tests the target type once, and then calls {@link #convertNonNull(Object, Class, ConverterContext)} for each
+     * value that passes {@link #canConvertNonNull(Object, Class, ConverterContext)}.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final boolean canConvertType = this.canConvertType(type);
+
+        int failures = 0;
+        final int count = values.size();
+        for (int i = 0; i < count; i++) {
+            final Object value = values.get(i);
+
+            failures += ConverterConvertAll.set(
+                    canConvertType && (null == value || this.canConvertNonNull(value, type, context)) ?
+                            this.convert0(value, type, context) :
+                            this.failConversion(value, type),
+                    i,
+                    converted,
+                    errors
+            );
+        }
+        return failures;
+    }
+
     private <T> Either<T, String> convert0(final Object value,
                                            final Class<T> type,
                                            final ConverterContext context) {
@@ -87,6 +133,48 @@ abstract class Converter2<C extends ConverterContext> implements Converter<C> {
                                                   final Class<T> type,
                                                   final ConverterContext context);
 
+    /**
+     * While speculative returns a failure without building its message, see
+     * {@link FailConversion#speculate(Converter, Object, Class, ConverterContext)}.
+     */
+    @Override
+    public final <T> Either<T, String> failConversion(final Object value,
+                                                      final Class<T> type) {
+        return FailConversion.isSpeculative() ?
+                FailConversion.speculativeFailure() :
+                FailConversion.handle(value, type);
+    }
+
+    /**
+     * While speculative returns a failure without building its message, see
+     * {@link FailConversion#speculate(Converter, Object, Class, ConverterContext)}.
+     */
+    @Override
+    public final <T> Either<T, String> failConversion(final Object value,
+                                                      final Class<T> type,
+                                                      final Throwable cause) {
+        return FailConversion.isSpeculative() ?
+                FailConversion.speculativeFailure() :
+                FailConversion.handle(value, type, cause);
+    }
+
+    /**
+     * Creates a {@link ConversionException} with the standard failure message, for {@link PrimitiveConverter} methods
+     * which cannot return an {@link Either}.
+     */
+    final RuntimeException convertThrowable(final Object value,
+                                            final Class<?> type) {
+        return this.convertThrowable(
+                FailConversion.message(
+                        value,
+                        type,
+                        null
+                ),
+                value,
+                type
+        );
+    }
+
     /**
      * Helper that performs the last step by converting a {@link Number} to another {@link Number sub class}.
      */
@@ -21,6 +21,8 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 
 import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * A specialized {@link Converter} that tests a {@link BigDecimal} against zero without using {@link BigDecimal#equals(Object)
@@ -69,6 +71,16 @@ final class ConverterBigDecimalBoolean<C extends ConverterContext> extends Conve
         );
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(BigDecimal.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(Boolean.class);
+    }
+
     @Override
     public String toString() {
         return "BigDecimal->Boolean";
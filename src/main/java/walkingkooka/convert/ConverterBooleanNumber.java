@@ -21,10 +21,14 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.math.Maths;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Handles converting {@link Number} to {@link Boolean}.
  */
-final class ConverterBooleanNumber<C extends ConverterContext> extends Converter2<C> {
+final class ConverterBooleanNumber<C extends ConverterContext> extends Converter2<C>
+        implements PrimitiveConverter<C> {
 
     /**
      * Type safe instance getter
@@ -70,6 +74,63 @@ final class ConverterBooleanNumber<C extends ConverterContext> extends Converter
         );
     }
 
+    // PrimitiveConverter...............................................................................................
+
+    @Override
+    public boolean canConvertToDouble(final Object value,
+                                      final C context) {
+        return value instanceof Boolean;
+    }
+
+    @Override
+    public double convertToDouble(final Object value,
+                                  final C context) {
+        if (!this.canConvertToDouble(value, context)) {
+            throw this.convertThrowable(value, double.class);
+        }
+        return (Boolean) value ? 1 : 0;
+    }
+
+    @Override
+    public boolean canConvertToInt(final Object value,
+                                   final C context) {
+        return value instanceof Boolean;
+    }
+
+    @Override
+    public int convertToInt(final Object value,
+                            final C context) {
+        if (!this.canConvertToInt(value, context)) {
+            throw this.convertThrowable(value, int.class);
+        }
+        return (Boolean) value ? 1 : 0;
+    }
+
+    @Override
+    public boolean canConvertToLong(final Object value,
+                                    final C context) {
+        return value instanceof Boolean;
+    }
+
+    @Override
+    public long convertToLong(final Object value,
+                              final C context) {
+        if (!this.canConvertToLong(value, context)) {
+            throw this.convertThrowable(value, long.class);
+        }
+        return (Boolean) value ? 1 : 0;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(Boolean.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.NUMBERS;
+    }
+
     @Override
     public String toString() {
         return "Boolean->Number";
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+/**
+ * A snapshot of the counters of a cache held by a {@link Converter}, taken at a single moment.
+ */
+public final class ConverterCacheStatistics {
+
+    static ConverterCacheStatistics with(final int size,
+                                         final long hits,
+                                         final long misses,
+                                         final long evictions) {
+        return new ConverterCacheStatistics(
+                size,
+                hits,
+                misses,
+                evictions
+        );
+    }
+
+    private ConverterCacheStatistics(final int size,
+                                     final long hits,
+                                     final long misses,
+                                     final long evictions) {
+        super();
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * The number of entries currently held.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * The number of lookups that found an entry.
+     */
+    public long hits() {
+        return this.hits;
+    }
+
+    private final long hits;
+
+    /**
+     * The number of lookups that did not find an entry.
+     */
+    public long misses() {
+        return this.misses;
+    }
+
+    private final long misses;
+
+    /**
+     * The number of entries removed to stay within the maximum size.
+     */
+    public long evictions() {
+        return this.evictions;
+    }
+
+    private final long evictions;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return ((Long.hashCode(this.hits) * 31 +
+                Long.hashCode(this.misses)) * 31 +
+                Long.hashCode(this.evictions)) * 31 +
+                this.size;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof ConverterCacheStatistics &&
+                        this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterCacheStatistics other) {
+        return this.size == other.size &&
+                this.hits == other.hits &&
+                this.misses == other.misses &&
+                this.evictions == other.evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + this.size + " hits=" + this.hits + " misses=" + this.misses + " evictions=" + this.evictions;
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link Converter} that converts a value to an intermediate type using the first {@link Converter} and then that
+ * result to the target type using the second {@link Converter}, for example {@link String} to {@link Number} to
+ * {@link java.time.LocalDate}.
+ * <br>
+ * When the second {@link Converter} declares {@link Converter#sourceTypes()} that do not include the intermediate type
+ * the chain never converts. When the second {@link Converter} declares its {@link Converter#targetTypes()} the target type is tested against them,
+ * so the intermediate value is never created just to test, otherwise the intermediate value is created and given to the
+ * second {@link Converter}. A failure returns the message of the {@link Converter} that failed. When the first
+ * {@link Converter} is a {@link PrimitiveConverter} and the intermediate type is {@link Double}, {@link Integer} or
+ * {@link Long} the intermediate value is handed over without an {@link Either}.
+ */
+final class ConverterChain<C extends ConverterContext> implements Converter<C> {
+
+    static <C extends ConverterContext> ConverterChain<C> with(final Converter<C> first,
+                                                               final Class<?> intermediateType,
+                                                               final Converter<C> second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(intermediateType, "intermediateType");
+        Objects.requireNonNull(second, "second");
+
+        return new ConverterChain<>(
+                first,
+                intermediateType,
+                second
+        );
+    }
+
+    private ConverterChain(final Converter<C> first,
+                           final Class<?> intermediateType,
+                           final Converter<C> second) {
+        super();
+
+        this.first = first;
+        this.intermediateType = intermediateType;
+        this.second = second;
+        this.intermediate = ConverterTypes.isSource(second, intermediateType);
+        this.targetTypes = second.targetTypes()
+                .orElse(null);
+        this.primitive = first instanceof PrimitiveConverter &&
+                (Double.class == intermediateType || Integer.class == intermediateType || Long.class == intermediateType) ?
+                Cast.to(first) :
+                null;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        final Set<Class<?>> targetTypes = this.targetTypes;
+
+        return this.intermediate &&
+                (null != targetTypes ?
+                        targetTypes.contains(type) && this.canConvertFirst(value, context) :
+                        this.canConvertIntermediate(value, type, context));
+    }
+
+    /**
+     * Without declared target types the second {@link Converter} can only be asked with the real intermediate value.
+     */
+    private boolean canConvertIntermediate(final Object value,
+                                           final Class<?> type,
+                                           final C context) {
+        boolean can = false;
+
+        if (this.canConvertFirst(value, context)) {
+            final Either<?, String> intermediate = this.first.convert(value, this.intermediateType, context);
+            can = intermediate.isLeft() &&
+                    this.second.canConvert(intermediate.leftValue(), type, context);
+        }
+
+        return can;
+    }
+
+    /**
+     * Returns false if the second {@link Converter} does not accept the intermediate type, or declares its target types
+     * and the type is not one of them.
+     */
+    private boolean isTarget(final Class<?> type) {
+        final Set<Class<?>> targetTypes = this.targetTypes;
+        return this.intermediate &&
+                (null == targetTypes || targetTypes.contains(type));
+    }
+
+    private boolean canConvertFirst(final Object value,
+                                    final C context) {
+        final PrimitiveConverter<C> primitive = this.primitive;
+        final Class<?> intermediateType = this.intermediateType;
+
+        return null == primitive || null == value ?
+                this.first.canConvert(value, intermediateType, context) :
+                Long.class == intermediateType ?
+                        primitive.canConvertToLong(value, context) :
+                        Integer.class == intermediateType ?
+                                primitive.canConvertToInt(value, context) :
+                                primitive.canConvertToDouble(value, context);
+    }
+
+    /**
+     * A {@link PrimitiveConverter} first {@link Converter} range checks each value when converting to {@link Integer} or
+     * {@link Long}.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return null != this.primitive ||
+                this.first.isValueDependent() ||
+                this.second.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.first.invalidate();
+        this.second.invalidate();
+    }
+
+    /**
+     * Tests the target type against the declared target types of the second {@link Converter} once, and leaves testing
+     * the value to each {@link Converter} as it converts, returning the failure of the first that fails.
+     */
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        return this.isTarget(type) ?
+                this.convertIntermediate(value, type, context) :
+                this.failConversion(value, type);
+    }
+
+    private <T> Either<T, String> convertIntermediate(final Object value,
+                                                      final Class<T> type,
+                                                      final C context) {
+        final PrimitiveConverter<C> primitive = this.primitive;
+
+        final Either<T, String> result;
+        if (null == primitive || null == value || false == this.canConvertFirst(value, context)) {
+            final Either<?, String> intermediate = this.first.convert(value, this.intermediateType, context);
+            result = intermediate.isLeft() ?
+                    this.second.convert(intermediate.leftValue(), type, context) :
+                    Cast.to(intermediate);
+        } else {
+            result = this.second.convert(
+                    this.convertPrimitive(primitive, value, context),
+                    type,
+                    context
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Only called after the matching can test, so this will not throw.
+     */
+    private Object convertPrimitive(final PrimitiveConverter<C> primitive,
+                                    final Object value,
+                                    final C context) {
+        final Class<?> intermediateType = this.intermediateType;
+
+        return Long.class == intermediateType ?
+                (Object) primitive.convertToLong(value, context) :
+                Integer.class == intermediateType ?
+                        (Object) primitive.convertToInt(value, context) :
+                        (Object) primitive.convertToDouble(value, context);
+    }
+
+    /**
+     * Converts all values to the intermediate type using the first {@link Converter} and then the successful results
+     * using the second {@link Converter}, so each {@link Converter} can use its own batch path.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final int count = values.size();
+        if (0 == count || false == this.isTarget(type)) {
+            return Converter.super.convertAll(values, type, context, converted, errors);
+        }
+
+        final Object[] intermediates = new Object[count];
+        final String[] intermediateErrors = new String[count];
+        this.first.convertAll(
+                values,
+                this.intermediateType,
+                context,
+                Cast.to(intermediates),
+                intermediateErrors
+        );
+
+        this.second.convertAll(
+                Arrays.asList(intermediates),
+                type,
+                context,
+                converted,
+                errors
+        );
+
+        int failures = 0;
+        for (int i = 0; i < count; i++) {
+            final String intermediateError = intermediateErrors[i];
+            if (null != intermediateError) {
+                converted[i] = null;
+                errors[i] = intermediateError;
+            }
+            if (null != errors[i]) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Converts the value to the intermediate type.
+     */
+    private final Converter<C> first;
+
+    /**
+     * The type the first {@link Converter} converts to and the second converts from.
+     */
+    private final Class<?> intermediateType;
+
+    /**
+     * Converts the intermediate value to the target type.
+     */
+    private final Converter<C> second;
+
+    /**
+     * False when the second {@link Converter} declares source types that do not include the intermediate type.
+     */
+    private final boolean intermediate;
+
+    /**
+     * The declared target types of the second {@link Converter}, or null when it does not declare them.
+     */
+    private final Set<Class<?>> targetTypes;
+
+    /**
+     * The first {@link Converter} when it is a {@link PrimitiveConverter} and the intermediate type has a primitive,
+     * otherwise null.
+     */
+    private final PrimitiveConverter<C> primitive;
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.first.sourceTypes();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.intermediate ?
+                this.second.targetTypes() :
+                ConverterTypes.NONE;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.first + "->" + this.intermediateType.getSimpleName() + "->" + this.second;
+    }
+}
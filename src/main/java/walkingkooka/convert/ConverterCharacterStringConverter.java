@@ -21,6 +21,8 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link Converter} that supports considering {@link Character} as equivalent to {@link String} to convert to a type.
@@ -65,6 +67,16 @@ final class ConverterCharacterStringConverter<C extends ConverterContext> implem
         );
     }
 
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
@@ -100,6 +112,19 @@ final class ConverterCharacterStringConverter<C extends ConverterContext> implem
      */
     private final Converter<C> converter;
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.add(
+                this.converter.sourceTypes(),
+                Character.class
+        );
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.converter.targetTypes();
+    }
+
     @Override
     public String toString() {
         return "Character->" + this.converter;
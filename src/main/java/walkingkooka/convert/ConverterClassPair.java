@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+
+/**
+ * Holds the source value {@link Class} and the target {@link Class} of a conversion request, and is intended to be
+ * used as the key of tables that cache answers that only depend on these two types.
+ */
+final class ConverterClassPair {
+
+    static ConverterClassPair with(final Class<?> source,
+                                   final Class<?> target) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(target, "target");
+
+        return new ConverterClassPair(source, target);
+    }
+
+    private ConverterClassPair(final Class<?> source,
+                               final Class<?> target) {
+        super();
+        this.source = source;
+        this.target = target;
+    }
+
+    final Class<?> source;
+    final Class<?> target;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.source.hashCode() * 31 + this.target.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof ConverterClassPair && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterClassPair other) {
+        return this.source == other.source &&
+                this.target == other.target;
+    }
+
+    @Override
+    public String toString() {
+        return this.source.getName() + "->" + this.target.getName();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of values computed for each {@link ConverterClassPair}, evicting the least recently used when full,
+ * like the caches of {@link java.time.format.DateTimeFormatter} and {@link java.text.DecimalFormat}. This stops a
+ * long lived {@link Converter} given values of many different classes growing without limit. All access holds the
+ * lock of the map, and values are computed by the caller outside the lock, so two threads may compute the same value
+ * with the last put being kept.
+ */
+final class ConverterClassPairCache<V> {
+
+    /**
+     * The default maximum number of pairs.
+     */
+    final static int DEFAULT_SIZE = 128;
+
+    static <V> ConverterClassPairCache<V> with(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size " + maxSize + " <= 0");
+        }
+        return new ConverterClassPairCache<>(maxSize);
+    }
+
+    private ConverterClassPairCache(final int maxSize) {
+        super();
+
+        this.maxSize = maxSize;
+        this.values = new LinkedHashMap<ConverterClassPair, V>(maxSize, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ConverterClassPair, V> eldest) {
+                return this.size() > ConverterClassPairCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for the pair or null if it is absent or was evicted.
+     */
+    V get(final ConverterClassPair pair) {
+        final Map<ConverterClassPair, V> values = this.values;
+        synchronized (values) {
+            return values.get(pair);
+        }
+    }
+
+    /**
+     * Adds or replaces the value for the pair, evicting the least recently used pair when full.
+     */
+    void put(final ConverterClassPair pair,
+             final V value) {
+        Objects.requireNonNull(pair, "pair");
+        Objects.requireNonNull(value, "value");
+
+        final Map<ConverterClassPair, V> values = this.values;
+        synchronized (values) {
+            values.put(pair, value);
+        }
+    }
+
+    /**
+     * Forgets all pairs.
+     */
+    void clear() {
+        final Map<ConverterClassPair, V> values = this.values;
+        synchronized (values) {
+            values.clear();
+        }
+    }
+
+    /**
+     * The number of pairs currently held.
+     */
+    int size() {
+        final Map<ConverterClassPair, V> values = this.values;
+        synchronized (values) {
+            return values.size();
+        }
+    }
+
+    private final int maxSize;
+
+    private final Map<ConverterClassPair, V> values;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final Map<ConverterClassPair, V> values = this.values;
+        synchronized (values) {
+            return values.keySet().toString();
+        }
+    }
+}
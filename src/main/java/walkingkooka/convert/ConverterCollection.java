@@ -22,10 +22,25 @@ import walkingkooka.collect.list.Lists;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * A {@link Converter} which tries all collectors to satisfy a request.
+ * <br>
+ * A compiled {@link ConverterCollection} also remembers for the most recently used pairs of value {@link Class} and
+ * target {@link Class} which converters answered {@link Converter#canConvert(Object, Class, ConverterContext)} with
+ * true, so later requests for the same pair only try those converters. A null target type is given to every converter. Only converters that declare their {@link Converter#sourceTypes()} and
+ * {@link Converter#targetTypes()} and return false for {@link Converter#isValueDependent()} are skipped, all others
+ * are always asked.
+ * <br>
+ * When compiled and every converter declares its {@link Converter#sourceTypes()} and {@link Converter#targetTypes()},
+ * pairs of value {@link Class} and target {@link Class} that no converter supports are remembered in a bounded table,
+ * and later requests for the same pair fail without asking any converter, until {@link #invalidate()}. Converters that
+ * declare types that exclude a pair are never asked about that pair, and converters that declare no target types are
+ * removed when the collection is created, as are repeats of the same converter.
  */
 final class ConverterCollection<C extends ConverterContext> implements Converter<C> {
 
@@ -34,70 +49,406 @@ final class ConverterCollection<C extends ConverterContext> implements Converter
      * Providing zero will result in an {@link IllegalArgumentException}.
      */
     static <C extends ConverterContext> Converter<C> with(final List<Converter<C>> converters) {
+        return with0(converters, false);
+    }
+
+    /**
+     * Factory that creates a compiled {@link ConverterCollection} if more than one converter is given.
+     * Providing zero will result in an {@link IllegalArgumentException}.
+     */
+    static <C extends ConverterContext> Converter<C> compiled(final List<Converter<C>> converters) {
+        return with0(converters, true);
+    }
+
+    private static <C extends ConverterContext> Converter<C> with0(final List<Converter<C>> converters,
+                                                                   final boolean compiled) {
         Objects.requireNonNull(converters, "converters");
 
         final List<Converter<C>> copy = Lists.immutable(converters);
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least 1 converter but got 0");
+        }
+
+        final List<Converter<C>> pruned = prune(copy);
 
         Converter<C> result;
-        final int count = copy.size();
+        final int count = pruned.size();
         switch (count) {
             case 0:
-                throw new IllegalArgumentException("Expected at least 1 converter but got 0");
+                result = ConverterNever.instance();
+                break;
             case 1:
-                result = copy.get(0);
+                result = pruned.get(0);
                 break;
             default:
-                result = new ConverterCollection<>(copy);
+                result = new ConverterCollection<>(
+                        pruned,
+                        compiled ?
+                                ConverterClassPairCache.with(ConverterClassPairCache.DEFAULT_SIZE) :
+                                null
+                );
                 break;
         }
 
         return result;
     }
 
-    private ConverterCollection(final List<Converter<C>> converters) {
+    /**
+     * Removes converters that declare no target types and so never convert, and repeats of an earlier converter,
+     * which would only be asked again after the same converter already failed.
+     */
+    private static <C extends ConverterContext> List<Converter<C>> prune(final List<Converter<C>> converters) {
+        final List<Converter<C>> pruned = Lists.array();
+
+        for (final Converter<C> converter : converters) {
+            if (ConverterTypes.isNever(converter) || pruned.stream().anyMatch(c -> c == converter)) {
+                continue;
+            }
+            pruned.add(converter);
+        }
+
+        return pruned.size() == converters.size() ?
+                converters :
+                Lists.immutable(pruned);
+    }
+
+    private ConverterCollection(final List<Converter<C>> converters,
+                                final ConverterClassPairCache<List<Converter<C>>> dispatch) {
         this.converters = converters;
+        this.dispatch = dispatch;
+        this.valueDependent = Lists.immutable(
+                converters.stream()
+                        .filter(Converter::isValueDependent)
+                        .collect(Collectors.toList())
+        );
+        this.unsupported = null != dispatch &&
+                converters.stream()
+                        .allMatch(ConverterTypes::isDeclared) ?
+                ConverterCollectionUnsupported.with(ConverterCollectionUnsupported.DEFAULT_SIZE) :
+                null;
     }
 
     @Override
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
+        if (this.isUnsupported(value, type)) {
+            return false;
+        }
+
+        final boolean can = false == this.isCompiled(value, type) ?
+                this.converters.stream()
+                        .anyMatch(c -> c.canConvert(value, type, context)) :
+                this.candidates(value, type, context)
+                        .stream()
+                        .anyMatch(c -> ConverterTypes.isClassBased(c) || c.canConvert(value, type, context));
+        if (false == can) {
+            this.addUnsupported(value, type);
+        }
+        return can;
+    }
+
+    @Override
+    public boolean isValueDependent() {
         return this.converters.stream()
-                .anyMatch(c -> c.canConvert(value, type, context));
+                .anyMatch(Converter::isValueDependent);
     }
 
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
                                          final C context) {
-        return this.canConvert(value, type, context) ?
-                this.convertNonNull(value, type, context) :
-                this.failConversion(value, type);
+        final ConverterEventListener listener = ConverterEvents.enabled();
+        if (null == listener) {
+            return this.convert0(value, type, context);
+        }
+
+        final long start = System.nanoTime();
+        final Either<T, String> result = this.convert0(value, type, context);
+        ConverterEvents.result(listener, this, value, type, result, System.nanoTime() - start);
+        return result;
     }
 
-    private <T> Either<T, String> convertNonNull(final Object value,
-                                                 final Class<T> type,
-                                                 final C context) {
+    private <T> Either<T, String> convert0(final Object value,
+                                           final Class<T> type,
+                                           final C context) {
+        return this.isUnsupported(value, type) ?
+                this.failConversion(value, type) :
+                false == this.isCompiled(value, type) ?
+                this.convertAll(value, type, context) :
+                this.convertCandidates(
+                        this.candidates(value, type, context),
+                        value,
+                        type,
+                        context
+                );
+    }
+
+    /**
+     * Tries each converter in turn that can convert, stopping at the first success.
+     */
+    private <T> Either<T, String> convertAll(final Object value,
+                                             final Class<T> type,
+                                             final C context) {
         Either<T, String> result = null;
+        Converter<C> last = null;
 
         for (final Converter<C> possible : this.converters) {
             if (possible.canConvert(value, type, context)) {
-                result = possible.convert(value, type, context);
+                result = FailConversion.speculate(possible, value, type, context);
                 if (result.isLeft()) {
                     break;
                 }
+                last = possible;
                 // try again.
             }
         }
 
         if (null == result) {
-            result = this.failConversion(value, type);
+            this.addUnsupported(value, type);
         }
-        return result;
+
+        return this.result(
+                result,
+                last,
+                value,
+                type,
+                context
+        );
+    }
+
+    /**
+     * Only tries the candidates previously compiled for the value {@link Class} and target type.
+     */
+    private <T> Either<T, String> convertCandidates(final List<Converter<C>> candidates,
+                                                    final Object value,
+                                                    final Class<T> type,
+                                                    final C context) {
+        Either<T, String> result = null;
+        Converter<C> last = null;
+
+        if (candidates.isEmpty()) {
+            this.addUnsupported(value, type);
+        }
+
+        for (final Converter<C> possible : candidates) {
+            if (ConverterTypes.isClassBased(possible) || possible.canConvert(value, type, context)) {
+                result = FailConversion.speculate(possible, value, type, context);
+                if (result.isLeft()) {
+                    break;
+                }
+                last = possible;
+                // try again.
+            }
+        }
+
+        return this.result(
+                result,
+                last,
+                value,
+                type,
+                context
+        );
+    }
+
+    /**
+     * Children are tried speculatively, so a failure from the last child may not have its message. That child is then
+     * converted once more, outside speculative mode, to get the real message.
+     */
+    private <T> Either<T, String> result(final Either<T, String> result,
+                                         final Converter<C> last,
+                                         final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        return null == result ?
+                this.failConversion(value, type) :
+                FailConversion.isSpeculativeFailure(result) ?
+                        last.convert(value, type, context) :
+                        result;
+    }
+
+    /**
+     * When compiled the candidates are only fetched when the value {@link Class} changes, so a run of values of the same
+     * {@link Class} shares a single lookup.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        int failures = 0;
+        final int count = values.size();
+
+        Class<?> previous = null;
+        List<Converter<C>> candidates = null;
+
+        for (int i = 0; i < count; i++) {
+            final Object value = values.get(i);
+
+            final Either<T, String> result;
+            if (this.isUnsupported(value, type)) {
+                result = this.failConversion(value, type);
+            } else if (false == this.isCompiled(value, type)) {
+                result = this.convertAll(value, type, context);
+            } else {
+                final Class<?> valueType = value.getClass();
+                if (previous != valueType) {
+                    candidates = this.candidates(value, type, context);
+                    previous = valueType;
+                }
+                result = this.convertCandidates(
+                        candidates,
+                        value,
+                        type,
+                        context
+                );
+            }
+
+            failures += ConverterConvertAll.set(
+                    result,
+                    i,
+                    converted,
+                    errors
+            );
+        }
+
+        return failures;
+    }
+
+    /**
+     * Only values with a target type use the compiled candidates, a null type is given to each converter like an
+     * uncompiled collection.
+     */
+    private boolean isCompiled(final Object value,
+                               final Class<?> type) {
+        return null != value &&
+                null != type &&
+                null != this.dispatch;
+    }
+
+    /**
+     * Returns the compiled candidates for the value {@link Class} and type, compiling them if this is the first request.
+     */
+    private List<Converter<C>> candidates(final Object value,
+                                          final Class<?> type,
+                                          final C context) {
+        final ConverterClassPair pair = ConverterClassPair.with(value.getClass(), type);
+
+        List<Converter<C>> candidates = this.dispatch.get(pair);
+        if (null == candidates) {
+            candidates = this.compile(value, type, context);
+            this.dispatch.put(pair, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns all converters whose declared types include the value and type, and are not class based or answered true
+     * to {@link Converter#canConvert(Object, Class, ConverterContext)} for the given value and type, keeping the
+     * original order.
+     */
+    private List<Converter<C>> compile(final Object value,
+                                       final Class<?> type,
+                                       final C context) {
+        return Lists.immutable(
+                this.converters.stream()
+                        .filter(c -> ConverterTypes.mayConvert(c, value, type))
+                        .filter(c -> false == ConverterTypes.isClassBased(c) || c.canConvert(value, type, context))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Returns true if the value {@link Class} and type were previously found to be unsupported by every converter.
+     */
+    private boolean isUnsupported(final Object value,
+                                  final Class<?> type) {
+        final ConverterCollectionUnsupported unsupported = this.unsupported;
+        return null != unsupported &&
+                null != value &&
+                null != type &&
+                unsupported.contains(value.getClass(), type);
+    }
+
+    /**
+     * Remembers that no converter supports the value {@link Class} and type, when every value dependent converter
+     * declares types that exclude them.
+     */
+    private void addUnsupported(final Object value,
+                                final Class<?> type) {
+        final ConverterCollectionUnsupported unsupported = this.unsupported;
+        if (null != unsupported && null != value && null != type &&
+                this.valueDependent.stream().noneMatch(c -> ConverterTypes.mayConvert(c, value, type))) {
+            unsupported.add(
+                    ConverterClassPair.with(value.getClass(), type)
+            );
+        }
+    }
+
+    /**
+     * Forgets the compiled candidates and unsupported pairs, and invalidates all converters.
+     */
+    @Override
+    public void invalidate() {
+        final ConverterCollectionUnsupported unsupported = this.unsupported;
+        if (null != unsupported) {
+            unsupported.clear();
+        }
+
+        final ConverterClassPairCache<List<Converter<C>>> dispatch = this.dispatch;
+        if (null != dispatch) {
+            dispatch.clear();
+        }
+
+        this.converters.forEach(Converter::invalidate);
+    }
+
+    /**
+     * Creates a new collection of the same kind, with each converter replaced by the mapper.
+     */
+    Converter<C> mapConverters(final Function<Converter<C>, Converter<C>> mapper) {
+        return with0(
+                this.converters.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()),
+                null != this.dispatch
+        );
     }
 
     private final List<Converter<C>> converters;
 
+    /**
+     * The converters that are value dependent, which may support one value and not another of the same {@link Class}.
+     */
+    private final List<Converter<C>> valueDependent;
+
+    /**
+     * When not null holds the candidate converters for the most recently used value and target type pairs.
+     */
+    // @VisibleForTesting
+    final ConverterClassPairCache<List<Converter<C>>> dispatch;
+
+    /**
+     * When not null holds the pairs of value {@link Class} and target {@link Class} that no converter supports. This
+     * is null unless compiled, and when any converter does not declare its types, as it may support another value of
+     * the same {@link Class}.
+     */
+    // @VisibleForTesting
+    final ConverterCollectionUnsupported unsupported;
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.union(this.converters, Converter::sourceTypes);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.union(this.converters, Converter::targetTypes);
+    }
+
     @Override
     public String toString() {
         return this.converters.stream()
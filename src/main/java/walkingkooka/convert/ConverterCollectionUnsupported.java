@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A bounded set of {@link ConverterClassPair} that no converter of a {@link ConverterCollection} supports. Each pair
+ * has a single slot picked by its hash, and a pair added to a full slot replaces the previous one. The slots hold
+ * immutable {@link ConverterClassPair}, so they are read and written without locks, and a racing reader at worst
+ * misses a pair and asks the converters again.
+ */
+final class ConverterCollectionUnsupported {
+
+    /**
+     * The default number of slots.
+     */
+    final static int DEFAULT_SIZE = 64;
+
+    static ConverterCollectionUnsupported with(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid size " + size + " <= 0");
+        }
+
+        int slots = 1;
+        while (slots < size) {
+            slots <<= 1;
+        }
+        return new ConverterCollectionUnsupported(slots);
+    }
+
+    private ConverterCollectionUnsupported(final int slots) {
+        super();
+        this.pairs = new ConverterClassPair[slots];
+    }
+
+    /**
+     * Returns true if the pair of source and target has been added and not replaced or cleared.
+     */
+    boolean contains(final Class<?> source,
+                     final Class<?> target) {
+        final ConverterClassPair[] pairs = this.pairs;
+        final ConverterClassPair pair = pairs[slot(source, target, pairs.length)];
+        return null != pair &&
+                source == pair.source &&
+                target == pair.target;
+    }
+
+    /**
+     * Adds the given pair, replacing any other pair in the same slot.
+     */
+    void add(final ConverterClassPair pair) {
+        Objects.requireNonNull(pair, "pair");
+
+        final ConverterClassPair[] pairs = this.pairs;
+        pairs[slot(pair.source, pair.target, pairs.length)] = pair;
+    }
+
+    /**
+     * Forgets all pairs.
+     */
+    void clear() {
+        this.pairs = new ConverterClassPair[this.pairs.length];
+    }
+
+    private static int slot(final Class<?> source,
+                            final Class<?> target,
+                            final int length) {
+        final int hash = source.hashCode() * 31 + target.hashCode();
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    /**
+     * The number of slots.
+     */
+    int size() {
+        return this.pairs.length;
+    }
+
+    /**
+     * Replaced by {@link #clear()}, while the slots themselves are written without any locking.
+     */
+    private volatile ConverterClassPair[] pairs;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return Arrays.stream(this.pairs)
+                .filter(Objects::nonNull)
+                .map(ConverterClassPair::toString)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+import walkingkooka.reflect.StaticHelper;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Helpers used by the many {@link Converter#convertAll(List, Class, ConverterContext, Object[], String[])}.
+ */
+final class ConverterConvertAll implements StaticHelper {
+
+    /**
+     * Checks the parameters and that both arrays are large enough to hold a result for every value.
+     */
+    static void check(final List<?> values,
+                      final Class<?> type,
+                      final ConverterContext context,
+                      final Object[] converted,
+                      final String[] errors) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(converted, "converted");
+        Objects.requireNonNull(errors, "errors");
+
+        final int count = values.size();
+        if (converted.length < count) {
+            throw new IllegalArgumentException("Converted length " + converted.length + " < " + count + " values");
+        }
+        if (errors.length < count) {
+            throw new IllegalArgumentException("Errors length " + errors.length + " < " + count + " values");
+        }
+    }
+
+    /**
+     * Records the result of a single conversion returning 1 if it failed or 0 if it was successful.
+     */
+    static <T> int set(final Either<T, String> result,
+                       final int i,
+                       final T[] converted,
+                       final String[] errors) {
+        final int failed;
+        if (result.isLeft()) {
+            converted[i] = result.leftValue();
+            errors[i] = null;
+            failed = 0;
+        } else {
+            converted[i] = null;
+            errors[i] = result.rightValue();
+            failed = 1;
+        }
+        return failed;
+    }
+
+    /**
+     * Records a successful conversion.
+     */
+    static <T> void success(final T value,
+                            final int i,
+                            final T[] converted,
+                            final String[] errors) {
+        converted[i] = value;
+        errors[i] = null;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterConvertAll() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -21,6 +21,8 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link Converter} that may be used to convert values to a {@link Character} or {@link String}, possibly
@@ -78,6 +80,16 @@ final class ConverterConverterStringCharacter<C extends ConverterContext> implem
                 );
     }
 
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
@@ -176,6 +188,23 @@ final class ConverterConverterStringCharacter<C extends ConverterContext> implem
      */
     private final Converter<C> converter;
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.add(
+                this.converter.sourceTypes(),
+                Character.class,
+                String.class
+        );
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(
+                Character.class,
+                String.class
+        );
+    }
+
     // Object..........................................................................................................
 
     @Override
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+/**
+ * Receives events for each conversion and formatter cache miss, once registered with
+ * {@link ConverterEvents#setListener(ConverterEventListener)}. Listeners are called on the converting thread and
+ * should be fast and never throw.
+ */
+public interface ConverterEventListener {
+
+    /**
+     * When false no events are sent and conversions are not timed.
+     */
+    boolean isEnabled();
+
+    /**
+     * A conversion was successful.
+     */
+    void converted(final Converter<?> converter,
+                   final Object value,
+                   final Class<?> type,
+                   final long nanos);
+
+    /**
+     * A conversion failed with the given message.
+     */
+    void failed(final Converter<?> converter,
+                final Object value,
+                final Class<?> type,
+                final String message,
+                final long nanos);
+
+    /**
+     * A {@link java.time.format.DateTimeFormatter} or {@link java.text.DecimalFormat} had to be created for the
+     * {@link ConverterContext} because none was cached.
+     */
+    void formatterCacheMiss(final Converter<?> converter,
+                            final Object value,
+                            final Class<?> type);
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+import walkingkooka.reflect.PublicStaticHelper;
+
+/**
+ * Holds the single {@link ConverterEventListener} that receives events from {@link Converter converters} created by
+ * {@link Converters}. When no listener is set, or it is disabled, the only cost is reading a field.
+ */
+public final class ConverterEvents implements PublicStaticHelper {
+
+    /**
+     * Sets the {@link ConverterEventListener}, or removes it when null.
+     */
+    public static void setListener(final ConverterEventListener listener) {
+        LISTENER = listener;
+    }
+
+    /**
+     * Returns the current {@link ConverterEventListener} if it is enabled, otherwise null.
+     */
+    static ConverterEventListener enabled() {
+        final ConverterEventListener listener = LISTENER;
+        return null != listener && listener.isEnabled() ?
+                listener :
+                null;
+    }
+
+    /**
+     * Sends a converted or failed event for the result.
+     */
+    static void result(final ConverterEventListener listener,
+                       final Converter<?> converter,
+                       final Object value,
+                       final Class<?> type,
+                       final Either<?, String> result,
+                       final long nanos) {
+        if (result.isLeft()) {
+            listener.converted(converter, value, type, nanos);
+        } else {
+            listener.failed(converter, value, type, result.rightValue(), nanos);
+        }
+    }
+
+    /**
+     * Sends a formatter cache miss event if there is an enabled listener.
+     */
+    static void formatterCacheMiss(final Converter<?> converter,
+                                   final Object value,
+                                   final Class<?> type) {
+        final ConverterEventListener listener = enabled();
+        if (null != listener) {
+            listener.formatterCacheMiss(converter, value, type);
+        }
+    }
+
+    private static volatile ConverterEventListener LISTENER;
+
+    /**
+     * Stop creation
+     */
+    private ConverterEvents() {
+        throw new UnsupportedOperationException();
+    }
+}
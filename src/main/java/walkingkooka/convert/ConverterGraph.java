@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Converter} that first tries its {@link Converter converters} directly like a compiled collection, and when
+ * none can convert the value to the target type, follows a route through one or more intermediate types.
+ * <br>
+ * Routes are planned for each pair of value {@link Class} and target type from the declared
+ * {@link Converter#sourceTypes()} and {@link Converter#targetTypes()} of the {@link Converter converters}, without
+ * converting any value, and the most recently used are remembered until {@link #invalidate()}. A null target type is
+ * only given to the {@link Converter converters} directly. A {@link Converter} that does not declare its types
+ * is only tried directly. Routes are ordered by their number of steps, then the order of the intermediate types and
+ * then the {@link Converter converters}. Each value follows the routes in that order until one converts, so a value
+ * dependent step, such as parsing a {@link String}, that fails for one value falls back to the next route.
+ */
+final class ConverterGraph<C extends ConverterContext> implements Converter<C> {
+
+    /**
+     * The intermediate types used when none are given, with {@link String} last so routes prefer typed values.
+     */
+    final static List<Class<?>> DEFAULT_TYPES = Lists.of(
+            Long.class,
+            Double.class,
+            BigDecimal.class,
+            BigInteger.class,
+            Integer.class,
+            Short.class,
+            Byte.class,
+            Float.class,
+            Boolean.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            LocalTime.class,
+            Character.class,
+            String.class
+    );
+
+    static <C extends ConverterContext> ConverterGraph<C> with(final List<Converter<C>> converters,
+                                                               final List<Class<?>> intermediateTypes) {
+        Objects.requireNonNull(converters, "converters");
+        Objects.requireNonNull(intermediateTypes, "intermediateTypes");
+
+        final List<Converter<C>> convertersCopy = Lists.immutable(converters);
+        if (convertersCopy.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least 1 converter but got 0");
+        }
+
+        return new ConverterGraph<>(
+                convertersCopy,
+                Lists.immutable(intermediateTypes)
+        );
+    }
+
+    private ConverterGraph(final List<Converter<C>> converters,
+                           final List<Class<?>> intermediateTypes) {
+        super();
+        this.converters = converters;
+        this.intermediateTypes = intermediateTypes;
+        this.direct = ConverterCollection.compiled(converters);
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return this.direct.canConvert(value, type, context) ||
+                null != value && null != type && this.canRoute(value, type, context);
+    }
+
+    /**
+     * Tests if the first {@link Converter} of any route accepts the value, without converting.
+     */
+    private boolean canRoute(final Object value,
+                             final Class<?> type,
+                             final C context) {
+        for (final ConverterGraphRoute<C> route : this.routes(value, type)) {
+            if (route.canConvert(value, type, context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Routes may start with a value dependent {@link Converter}, which may accept one value and not another of the same
+     * {@link Class}.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return true;
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        final Converter<C> direct = this.direct;
+
+        final Either<T, String> result;
+        if (null == value || null == type || direct.canConvert(value, type, context)) {
+            result = direct.convert(value, type, context);
+        } else {
+            final Either<T, String> routed = this.convertRoute(value, type, context);
+            result = null != routed ?
+                    routed :
+                    this.failConversion(value, type);
+        }
+        return result;
+    }
+
+    /**
+     * Follows each route for the value {@link Class} and type in order, returning the result of the first that converts,
+     * or null if none do.
+     */
+    private <T> Either<T, String> convertRoute(final Object value,
+                                               final Class<T> type,
+                                               final C context) {
+        for (final ConverterGraphRoute<C> route : this.routes(value, type)) {
+            final Either<T, String> result = route.convert(value, type, context);
+            if (null != result) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the remembered routes for the value {@link Class} and type, planning them the first time.
+     */
+    private List<ConverterGraphRoute<C>> routes(final Object value,
+                                                final Class<?> type) {
+        final ConverterClassPair pair = ConverterClassPair.with(value.getClass(), type);
+
+        List<ConverterGraphRoute<C>> routes = this.routes.get(pair);
+        if (null == routes) {
+            routes = this.plan(value.getClass(), type);
+            this.routes.put(pair, routes);
+        }
+        return routes;
+    }
+
+    /**
+     * Visits each intermediate type reachable from the source one step at a time, using only the declared types of the
+     * {@link Converter converters}, and returns every route to the type in order of fewest steps. Each intermediate
+     * type is only visited at the first step it is reached.
+     */
+    private List<ConverterGraphRoute<C>> plan(final Class<?> source,
+                                              final Class<?> type) {
+        final List<ConverterGraphRoute<C>> routes = Lists.array();
+
+        final List<Class<?>> visited = Lists.array();
+        visited.add(source);
+        visited.add(type);
+
+        List<ConverterGraphStep<C>> steps = Lists.of(ConverterGraphStep.start(source));
+
+        while (false == steps.isEmpty()) {
+            final List<ConverterGraphStep<C>> next = Lists.array();
+
+            for (final ConverterGraphStep<C> step : steps) {
+                for (final Class<?> intermediateType : this.intermediateTypes) {
+                    if (visited.contains(intermediateType)) {
+                        continue;
+                    }
+
+                    for (final Converter<C> converter : this.converters) {
+                        if (false == ConverterTypes.isDeclared(converter, step.type, intermediateType)) {
+                            continue;
+                        }
+
+                        final ConverterGraphStep<C> reached = step.next(intermediateType, converter);
+                        for (final Converter<C> last : this.converters) {
+                            if (ConverterTypes.isDeclared(last, intermediateType, type)) {
+                                routes.add(reached.route(last));
+                            }
+                        }
+                        next.add(reached);
+                    }
+                }
+            }
+
+            for (final ConverterGraphStep<C> reached : next) {
+                visited.add(reached.type);
+            }
+            steps = next;
+        }
+
+        return Lists.immutable(routes);
+    }
+
+    /**
+     * Forgets all planned routes, and invalidates all converters.
+     */
+    @Override
+    public void invalidate() {
+        this.routes.clear();
+        this.direct.invalidate();
+    }
+
+    /**
+     * A route starts with a value one of the {@link Converter converters} accepts, and ends with a type one of them
+     * converts to.
+     */
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.union(this.converters, Converter::sourceTypes);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.union(this.converters, Converter::targetTypes);
+    }
+
+    private final List<Converter<C>> converters;
+
+    /**
+     * The intermediate types that routes may pass through, in order of preference.
+     */
+    private final List<Class<?>> intermediateTypes;
+
+    /**
+     * Compiled collection of all {@link Converter converters} that is always tried first.
+     */
+    private final Converter<C> direct;
+
+    /**
+     * The routes planned for the most recently used value and target type pairs, which is empty when there is no route.
+     */
+    // @VisibleForTesting
+    final ConverterClassPairCache<List<ConverterGraphRoute<C>>> routes = ConverterClassPairCache.with(ConverterClassPairCache.DEFAULT_SIZE);
+
+    @Override
+    public String toString() {
+        return this.converters.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(" | ", "graph(", ")"));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * A route of one or more {@link Converter converters} planned by a {@link ConverterGraph}, where each but the last
+ * {@link Converter} converts to the next intermediate type, and the last converts to the target type.
+ */
+final class ConverterGraphRoute<C extends ConverterContext> {
+
+    /**
+     * Creates a route, where there is one less intermediate type than {@link Converter converters}.
+     */
+    static <C extends ConverterContext> ConverterGraphRoute<C> with(final List<Converter<C>> converters,
+                                                                    final List<Class<?>> types) {
+        final List<Converter<C>> convertersCopy = Lists.immutable(converters);
+        final List<Class<?>> typesCopy = Lists.immutable(types);
+
+        final int count = convertersCopy.size();
+        if (0 == count) {
+            throw new IllegalArgumentException("Expected at least 1 converter but got 0");
+        }
+        if (typesCopy.size() != count - 1) {
+            throw new IllegalArgumentException("Expected " + (count - 1) + " types but got " + typesCopy.size());
+        }
+
+        return new ConverterGraphRoute<>(
+                convertersCopy,
+                typesCopy
+        );
+    }
+
+    private ConverterGraphRoute(final List<Converter<C>> converters,
+                                final List<Class<?>> types) {
+        super();
+        this.converters = converters;
+        this.types = types;
+    }
+
+    /**
+     * Returns true if the first {@link Converter} can convert the value, without converting. A later step may still
+     * fail for the value.
+     */
+    boolean canConvert(final Object value,
+                       final Class<?> type,
+                       final C context) {
+        return this.converters.get(0)
+                .canConvert(value, this.type(0, type), context);
+    }
+
+    /**
+     * Converts the value along the route, returning null if any {@link Converter} cannot convert or fails.
+     */
+    <T> Either<T, String> convert(final Object value,
+                                  final Class<T> type,
+                                  final C context) {
+        final List<Converter<C>> converters = this.converters;
+        final int count = converters.size();
+
+        Object intermediate = value;
+        Either<?, String> result = null;
+
+        for (int i = 0; i < count; i++) {
+            final Converter<C> converter = converters.get(i);
+            final Class<?> stepType = this.type(i, type);
+            if (false == converter.canConvert(intermediate, stepType, context)) {
+                return null;
+            }
+
+            result = FailConversion.speculate(converter, intermediate, stepType, context);
+            if (result.isRight()) {
+                return null;
+            }
+            intermediate = result.leftValue();
+        }
+
+        return Cast.to(result);
+    }
+
+    /**
+     * Returns the type converted to by the {@link Converter} at the index, which is the target type for the last.
+     */
+    private Class<?> type(final int index,
+                          final Class<?> type) {
+        final List<Class<?>> types = this.types;
+        return index < types.size() ?
+                types.get(index) :
+                type;
+    }
+
+    /**
+     * The {@link Converter} for each step.
+     */
+    private final List<Converter<C>> converters;
+
+    /**
+     * The intermediate type converted to by each {@link Converter} except the last.
+     */
+    private final List<Class<?>> types;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+
+        final List<Converter<C>> converters = this.converters;
+        final List<Class<?>> types = this.types;
+        final int count = converters.size();
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                b.append(" ->")
+                        .append(types.get(i - 1).getSimpleName())
+                        .append("-> ");
+            }
+            b.append(converters.get(i));
+        }
+
+        return b.toString();
+    }
+}
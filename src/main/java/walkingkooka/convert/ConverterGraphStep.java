@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * A type reached while a {@link ConverterGraph} plans routes, remembering the {@link Converter} and previous step that
+ * declares converting to it.
+ */
+final class ConverterGraphStep<C extends ConverterContext> {
+
+    /**
+     * Creates the first step holding the {@link Class} of the values to be converted.
+     */
+    static <C extends ConverterContext> ConverterGraphStep<C> start(final Class<?> type) {
+        return new ConverterGraphStep<>(
+                type,
+                null,
+                null
+        );
+    }
+
+    private ConverterGraphStep(final Class<?> type,
+                               final Converter<C> converter,
+                               final ConverterGraphStep<C> previous) {
+        super();
+        this.type = type;
+        this.converter = converter;
+        this.previous = previous;
+    }
+
+    /**
+     * Creates the step reached by converting to the type with the {@link Converter}.
+     */
+    ConverterGraphStep<C> next(final Class<?> type,
+                               final Converter<C> converter) {
+        return new ConverterGraphStep<>(
+                type,
+                converter,
+                this
+        );
+    }
+
+    /**
+     * Creates the route that reaches this step, followed by the last {@link Converter} to the target type.
+     */
+    ConverterGraphRoute<C> route(final Converter<C> last) {
+        final List<Converter<C>> converters = Lists.array();
+        final List<Class<?>> types = Lists.array();
+
+        for (ConverterGraphStep<C> step = this; null != step.previous; step = step.previous) {
+            converters.add(0, step.converter);
+            types.add(0, step.type);
+        }
+        converters.add(last);
+
+        return ConverterGraphRoute.with(
+                converters,
+                types
+        );
+    }
+
+    /**
+     * The type converted to, or the {@link Class} of the values for the first step.
+     */
+    final Class<?> type;
+
+    /**
+     * The {@link Converter} that converts to the type, or null for the first step.
+     */
+    private final Converter<C> converter;
+
+    /**
+     * The step that was converted, or null for the first step.
+     */
+    private final ConverterGraphStep<C> previous;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return null == this.previous ?
+                this.type.getSimpleName() :
+                this.previous + " " + this.converter + " " + this.type.getSimpleName();
+    }
+}
@@ -20,6 +20,8 @@ package walkingkooka.convert;
 import walkingkooka.Either;
 
 import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Converts a {@link LocalTime} to a given type.
@@ -63,4 +65,9 @@ abstract class ConverterLocalTime<C extends ConverterContext> extends Converter2
                                                         final LocalTime localTime,
                                                         final Class<T> type,
                                                         final ConverterContext context);
+
+    @Override
+    public final Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(LocalTime.class);
+    }
 }
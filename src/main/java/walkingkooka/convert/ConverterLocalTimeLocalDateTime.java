@@ -23,6 +23,8 @@ import walkingkooka.Either;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link Converter} that converts {@link LocalTime} into {@link LocalDateTime}.
@@ -64,6 +66,11 @@ final class ConverterLocalTimeLocalDateTime<C extends ConverterContext> extends
 
     private final static LocalDate DATE = LocalDate.EPOCH;
 
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(LocalDateTime.class);
+    }
+
     @Override
     public String toString() {
         return "LocalTime->LocalDateTime";
@@ -23,11 +23,14 @@ import walkingkooka.math.Maths;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Converts a {@link LocalTime} into the requested {@link Number} type.
  */
-final class ConverterLocalTimeNumber<C extends ConverterContext> extends ConverterLocalTime<C> {
+final class ConverterLocalTimeNumber<C extends ConverterContext> extends ConverterLocalTime<C>
+        implements PrimitiveConverter<C> {
 
     /**
      * Type safe instance getter
@@ -58,11 +61,85 @@ final class ConverterLocalTimeNumber<C extends ConverterContext> extends Convert
                                                final LocalTime localTime,
                                                final Class<T> type,
                                                final ConverterContext context) {
-        return this.convertToNumber(BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(1.0 * nano / Converters.NANOS_PER_SECOND)),
+        return this.convertToNumber(bigDecimal(seconds, nano),
                 Cast.to(type),
                 context);
     }
 
+    private static BigDecimal bigDecimal(final long seconds,
+                                         final long nano) {
+        return BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(1.0 * nano / Converters.NANOS_PER_SECOND));
+    }
+
+    // PrimitiveConverter...............................................................................................
+
+    /**
+     * Whole seconds always convert, while fractions only convert if the {@link BigDecimal} passed to
+     * {@link #convertToNumber(Number, Class, ConverterContext)} is an exact double.
+     */
+    @Override
+    public boolean canConvertToDouble(final Object value,
+                                      final C context) {
+        return value instanceof LocalTime &&
+                (0 == ((LocalTime) value).getNano() ||
+                        ConverterNumberNumberTable.canConvertToDouble(bigDecimal((LocalTime) value)));
+    }
+
+    @Override
+    public double convertToDouble(final Object value,
+                                  final C context) {
+        if (!this.canConvertToDouble(value, context)) {
+            throw this.convertThrowable(value, double.class);
+        }
+        final LocalTime localTime = (LocalTime) value;
+        return 0 == localTime.getNano() ?
+                localTime.toSecondOfDay() :
+                bigDecimal(localTime).doubleValue();
+    }
+
+    @Override
+    public boolean canConvertToInt(final Object value,
+                                   final C context) {
+        return this.canConvertToLong(value, context);
+    }
+
+    @Override
+    public int convertToInt(final Object value,
+                            final C context) {
+        if (!this.canConvertToInt(value, context)) {
+            throw this.convertThrowable(value, int.class);
+        }
+        return ((LocalTime) value).toSecondOfDay();
+    }
+
+    /**
+     * Only whole seconds may be converted to a long or int.
+     */
+    @Override
+    public boolean canConvertToLong(final Object value,
+                                    final C context) {
+        return value instanceof LocalTime &&
+                0 == ((LocalTime) value).getNano();
+    }
+
+    @Override
+    public long convertToLong(final Object value,
+                              final C context) {
+        if (!this.canConvertToLong(value, context)) {
+            throw this.convertThrowable(value, long.class);
+        }
+        return ((LocalTime) value).toSecondOfDay();
+    }
+
+    private static BigDecimal bigDecimal(final LocalTime localTime) {
+        return bigDecimal(localTime.toSecondOfDay(), localTime.getNano());
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.NUMBERS;
+    }
+
     @Override
     public String toString() {
         return "LocalTime->Number";
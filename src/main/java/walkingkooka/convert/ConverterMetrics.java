@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link ConverterMetricsCounters} filled by the converters returned by
+ * {@link Converters#instrumented(Converter, ConverterMetrics)}. A single registry may be shared by many converters and
+ * threads, and read at any time.
+ */
+public final class ConverterMetrics {
+
+    /**
+     * Creates a new registry without any counters.
+     */
+    public static ConverterMetrics empty() {
+        return new ConverterMetrics();
+    }
+
+    private ConverterMetrics() {
+        super();
+    }
+
+    /**
+     * Returns a read only live view of all counters.
+     */
+    public Map<ConverterMetricsKey, ConverterMetricsCounters> counters() {
+        return this.readOnlyCounters;
+    }
+
+    /**
+     * Returns the counters for the given converter and types, creating them on first use. The converter is null when
+     * counters are grouped by a name supplied by the caller.
+     */
+    ConverterMetricsCounters counters(final String name,
+                                      final Converter<?> converter,
+                                      final Class<?> source,
+                                      final Class<?> target) {
+        final ConverterMetricsKey key = ConverterMetricsKey.with(name, converter, source, target);
+
+        ConverterMetricsCounters counters = this.counters.get(key);
+        if (null == counters) {
+            counters = this.counters.computeIfAbsent(key, k -> ConverterMetricsCounters.empty());
+        }
+        return counters;
+    }
+
+    private final Map<ConverterMetricsKey, ConverterMetricsCounters> counters = new ConcurrentHashMap<>();
+
+    private final Map<ConverterMetricsKey, ConverterMetricsCounters> readOnlyCounters = Collections.unmodifiableMap(this.counters);
+
+    @Override
+    public String toString() {
+        return this.counters.toString();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and latency histograms for a single {@link ConverterMetricsKey}. Each counter is updated and read without
+ * locking, so reading while conversions continue may see counters from slightly different moments.
+ * <br>
+ * Each histogram has {@link #LATENCY_BUCKETS} buckets, where bucket i counts samples that took at least 2^i and
+ * less than 2^(i+1) nanoseconds, with the last bucket also counting anything slower. A batch of values given to
+ * {@link Converter#convertAll(java.util.List, Class, ConverterContext, Object[], String[])} adds a single sample with
+ * the time of the whole batch to a separate batch histogram, rather than inventing a per value latency or mixing
+ * batches with single conversions.
+ */
+public final class ConverterMetricsCounters {
+
+    /**
+     * The number of latency histogram buckets, the last starting at 2^31 nanoseconds, a little over 2 seconds.
+     */
+    public final static int LATENCY_BUCKETS = 32;
+
+    static ConverterMetricsCounters empty() {
+        return new ConverterMetricsCounters();
+    }
+
+    private ConverterMetricsCounters() {
+        super();
+
+        this.latencies = histogram();
+        this.batchLatencies = histogram();
+    }
+
+    private static AtomicLong[] histogram() {
+        final AtomicLong[] histogram = new AtomicLong[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = new AtomicLong();
+        }
+        return histogram;
+    }
+
+    void canConvert() {
+        this.canConvert.incrementAndGet();
+    }
+
+    void success(final long nanos) {
+        this.success.incrementAndGet();
+        this.latency(nanos);
+    }
+
+    void failure(final long nanos) {
+        this.failure.incrementAndGet();
+        this.latency(nanos);
+    }
+
+    void batch(final long successes,
+               final long failures,
+               final long nanos) {
+        this.batch.incrementAndGet();
+        this.success.addAndGet(successes);
+        this.failure.addAndGet(failures);
+        this.nanos.addAndGet(nanos);
+        this.batchLatencies[bucket(nanos)].incrementAndGet();
+    }
+
+    void exception(final long nanos) {
+        this.exception.incrementAndGet();
+        this.latency(nanos);
+    }
+
+    private void latency(final long nanos) {
+        this.nanos.addAndGet(nanos);
+        this.latencies[bucket(nanos)].incrementAndGet();
+    }
+
+    // @VisibleForTesting
+    static int bucket(final long nanos) {
+        return Math.min(
+                LATENCY_BUCKETS - 1,
+                63 - Long.numberOfLeadingZeros(Math.max(1, nanos))
+        );
+    }
+
+    /**
+     * The number of {@link Converter#canConvert(Object, Class, ConverterContext)} calls.
+     */
+    public long canConvertCount() {
+        return this.canConvert.get();
+    }
+
+    private final AtomicLong canConvert = new AtomicLong();
+
+    /**
+     * The number of conversions, which is the total of successes, failures and exceptions.
+     */
+    public long convertCount() {
+        return this.successCount() + this.failureCount() + this.exceptionCount();
+    }
+
+    /**
+     * The number of conversions that succeeded.
+     */
+    public long successCount() {
+        return this.success.get();
+    }
+
+    private final AtomicLong success = new AtomicLong();
+
+    /**
+     * The number of conversions that returned a failure.
+     */
+    public long failureCount() {
+        return this.failure.get();
+    }
+
+    private final AtomicLong failure = new AtomicLong();
+
+    /**
+     * The number of convertAll batches, each of which added its successes and failures and one batch latency sample.
+     */
+    public long batchCount() {
+        return this.batch.get();
+    }
+
+    private final AtomicLong batch = new AtomicLong();
+
+    /**
+     * The number of conversions that threw.
+     */
+    public long exceptionCount() {
+        return this.exception.get();
+    }
+
+    private final AtomicLong exception = new AtomicLong();
+
+    /**
+     * The total time spent converting in nanoseconds.
+     */
+    public long totalNanos() {
+        return this.nanos.get();
+    }
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * Returns a copy of the latency histogram of single conversions.
+     */
+    public long[] latencyHistogram() {
+        return copy(this.latencies);
+    }
+
+    private final AtomicLong[] latencies;
+
+    /**
+     * Returns a copy of the latency histogram of whole convertAll batches.
+     */
+    public long[] batchLatencyHistogram() {
+        return copy(this.batchLatencies);
+    }
+
+    private final AtomicLong[] batchLatencies;
+
+    private static long[] copy(final AtomicLong[] histogram) {
+        final long[] copy = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            copy[i] = histogram[i].get();
+        }
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "canConvert=" + this.canConvertCount() +
+                " success=" + this.successCount() +
+                " failure=" + this.failureCount() +
+                " exception=" + this.exceptionCount() +
+                " batch=" + this.batchCount() +
+                " nanos=" + this.totalNanos();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Identifies the {@link ConverterMetricsCounters} for a single converter, value {@link Class} and target {@link Class}.
+ * The converter is identified either by its instance, so two converters with the same {@link Converter#toString()}
+ * have separate counters, or by a name supplied by the caller, which groups all converters instrumented with that name.
+ */
+public final class ConverterMetricsKey {
+
+    /**
+     * Creates a key, where converter is null when the caller supplied the name.
+     */
+    static ConverterMetricsKey with(final String name,
+                                    final Converter<?> converter,
+                                    final Class<?> source,
+                                    final Class<?> target) {
+        return new ConverterMetricsKey(name, converter, source, target);
+    }
+
+    private ConverterMetricsKey(final String name,
+                                final Converter<?> converter,
+                                final Class<?> source,
+                                final Class<?> target) {
+        super();
+        this.name = name;
+        this.converter = converter;
+        this.source = source;
+        this.target = target;
+    }
+
+    /**
+     * The name supplied when instrumenting or the {@link Converter#toString()} of the instrumented converter.
+     */
+    public String name() {
+        return this.name;
+    }
+
+    private final String name;
+
+    /**
+     * The instrumented converter, which is empty when counters are grouped by a name supplied by the caller.
+     */
+    public Optional<Converter<?>> converter() {
+        return Optional.ofNullable(this.converter);
+    }
+
+    /**
+     * Compared by identity, so converters with equal {@link Object#toString()} are not merged.
+     */
+    private final Converter<?> converter;
+
+    /**
+     * The {@link Class} of the value, or null for null values.
+     */
+    public Class<?> source() {
+        return this.source;
+    }
+
+    private final Class<?> source;
+
+    /**
+     * The requested target {@link Class}.
+     */
+    public Class<?> target() {
+        return this.target;
+    }
+
+    private final Class<?> target;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return ((this.name.hashCode() * 31 +
+                System.identityHashCode(this.converter)) * 31 +
+                Objects.hashCode(this.source)) * 31 +
+                this.target.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof ConverterMetricsKey &&
+                        this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ConverterMetricsKey other) {
+        return this.name.equals(other.name) &&
+                this.converter == other.converter &&
+                this.source == other.source &&
+                this.target == other.target;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " " + (null == this.source ? "null" : this.source.getName()) + "->" + this.target.getName();
+    }
+}
@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A {@link Converter} that never converts.
  */
@@ -60,6 +63,16 @@ final class ConverterNever<C extends ConverterContext> extends Converter2<C> {
         return this.failConversion(value, type);
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.NONE;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.NONE;
+    }
+
     @Override
     public String toString() {
         return "never";
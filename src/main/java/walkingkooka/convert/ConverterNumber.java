@@ -22,6 +22,8 @@ import walkingkooka.Either;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link Converter} that handles converting {@link Number} to another {@link Number} type.
@@ -82,6 +84,16 @@ abstract class ConverterNumber<T, C extends ConverterContext> extends Converter2
 
     abstract Either<T, String> longValue(final Long value);
 
+    @Override
+    public final Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.ANY_NUMBER;
+    }
+
+    @Override
+    public final Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(this.targetType());
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -17,11 +17,14 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Cast;
 import walkingkooka.Either;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * A {@link Converter} that handles converting any {@link Number} to a {@link LocalDate}.
@@ -46,12 +49,16 @@ final class ConverterNumberLocalDate<C extends ConverterContext> extends Convert
 
     @Override
     Either<LocalDate, String> bigDecimal(final BigDecimal value) {
-        return this.localDate(value.longValueExact());
+        return ConverterNumberNumberTable.canConvertToLong(value) ?
+                this.localDate(value.longValue(), value) :
+                this.failConversion(value, LocalDate.class);
     }
 
     @Override
     Either<LocalDate, String> bigInteger(final BigInteger value) {
-        return this.localDate(value.longValueExact());
+        return value.bitLength() < Long.SIZE ?
+                this.localDate(value.longValue(), value) :
+                this.failConversion(value, LocalDate.class);
     }
 
     @Override
@@ -59,23 +66,86 @@ final class ConverterNumberLocalDate<C extends ConverterContext> extends Convert
         final double doubleValue = value;
         return value != (long) doubleValue ?
                 this.failConversion(value, LocalDate.class) :
-                this.localDate((long) doubleValue);
+                this.localDate((long) doubleValue, value);
     }
 
     @Override
     Either<LocalDate, String> longValue(final Long value) {
-        return this.localDate(value);
+        return this.localDate(value, value);
     }
 
-    private Either<LocalDate, String> localDate(final long value) {
-        return this.successfulConversion(
-                LocalDate.ofEpochDay(value + this.offset),
-                LocalDate.class
-        );
+    private Either<LocalDate, String> localDate(final long longValue,
+                                                final Number value) {
+        Either<LocalDate, String> result;
+        try {
+            result = this.successfulConversion(
+                    LocalDate.ofEpochDay(longValue + this.offset),
+                    LocalDate.class
+            );
+        } catch (final DateTimeException cause) {
+            result = this.failConversion(value, LocalDate.class, cause);
+        }
+        return result;
     }
 
     private final long offset;
 
+    /**
+     * Converts integral values directly, only creating an {@link Either} for other values or values that fail.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        int failures = 0;
+        final int count = values.size();
+
+        if (LocalDate.class == type) {
+            final long offset = this.offset;
+
+            for (int i = 0; i < count; i++) {
+                final Object value = values.get(i);
+
+                LocalDate localDate = null;
+                Either<T, String> failure = null;
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    try {
+                        localDate = LocalDate.ofEpochDay(((Number) value).longValue() + offset);
+                    } catch (final DateTimeException cause) {
+                        // out of range, fail without converting the value again
+                        failure = this.failConversion(value, type, cause);
+                    }
+                }
+
+                if (null != localDate) {
+                    ConverterConvertAll.<T>success(
+                            Cast.to(localDate),
+                            i,
+                            converted,
+                            errors
+                    );
+                } else {
+                    failures += ConverterConvertAll.set(
+                            null != failure ?
+                                    failure :
+                                    this.convert(value, type, context),
+                            i,
+                            converted,
+                            errors
+                    );
+                }
+            }
+        } else {
+            failures = super.convertAll(values, type, context, converted, errors);
+        }
+
+        return failures;
+    }
+
     @Override
     Class<LocalDate> targetType() {
         return LocalDate.class;
@@ -50,14 +50,16 @@ final class ConverterNumberLocalDateTime<C extends ConverterContext> extends Con
     @Override
     Either<LocalDateTime, String> bigDecimal(final BigDecimal value) {
         final double doubleValue = value.doubleValue();
-        return 0 != BigDecimal.valueOf(doubleValue).compareTo(value) ?
-                this.failConversion(value, LocalDateTime.class) :
-                this.localDateTime(doubleValue);
+        return Double.isFinite(doubleValue) && 0 == BigDecimal.valueOf(doubleValue).compareTo(value) ?
+                this.localDateTime(doubleValue) :
+                this.failConversion(value, LocalDateTime.class);
     }
 
     @Override
     Either<LocalDateTime, String> bigInteger(final BigInteger value) {
-        return this.localDateTime(value.longValueExact(), value);
+        return value.bitLength() < Long.SIZE ?
+                this.localDateTime(value.longValue(), value) :
+                this.failConversion(value, LocalDateTime.class);
     }
 
     @SuppressWarnings("UnnecessaryUnboxing")
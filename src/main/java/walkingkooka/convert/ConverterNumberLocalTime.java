@@ -52,14 +52,16 @@ final class ConverterNumberLocalTime<C extends ConverterContext> extends Convert
     @Override
     Either<LocalTime, String> bigDecimal(final BigDecimal value) {
         final double doubleValue = value.doubleValue();
-        return 0 != BigDecimal.valueOf(doubleValue).compareTo(value) ?
-                this.failConversion(value, LocalTime.class) :
-                this.localTime(doubleValue);
+        return Double.isFinite(doubleValue) && 0 == BigDecimal.valueOf(doubleValue).compareTo(value) ?
+                this.localTime(doubleValue) :
+                this.failConversion(value, LocalTime.class);
     }
 
     @Override
     Either<LocalTime, String> bigInteger(final BigInteger value) {
-        return this.localTime(value.longValueExact());
+        return value.bitLength() < Long.SIZE ?
+                this.localTime(value.longValue()) :
+                this.failConversion(value, LocalTime.class);
     }
 
     @SuppressWarnings("UnnecessaryUnboxing")
@@ -21,10 +21,15 @@ import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.math.Maths;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A {@link Converter} which handles converting {@link Number} to other number types or nothing at all if the target is number.
  */
-final class ConverterNumberNumber<C extends ConverterContext> extends Converter2<C> {
+final class ConverterNumberNumber<C extends ConverterContext> extends Converter2<C>
+        implements PrimitiveConverter<C> {
 
     /**
      * Type safe instance getter
@@ -58,39 +63,148 @@ final class ConverterNumberNumber<C extends ConverterContext> extends Converter2
     <T> Either<T, String> convertNonNull(final Object value,
                                          final Class<T> type,
                                          final ConverterContext context) {
-        Either<T, String> result;
-        try {
-            result = type == Number.class ?
-                    this.successfulConversion(value, type) :
-                    this.convertNonNumber(value, type);
-        } catch (final RuntimeException cause) {
-            result = this.failConversion(value, type, cause);
-        }
-        return result;
+        return type == Number.class ?
+                this.successfulConversion(value, type) :
+                this.convertNonNumber(value, type);
     }
 
     private <T> Either<T, String> convertNonNumber(final Object value,
                                                    final Class<T> type) {
-        Either<T, String> result;
-
-        // attempt to find a visitor for the tiven type.
-        final ConverterNumberNumberNumberTypeVisitorNumber<?> visitor = ConverterNumberNumberNumberTypeVisitor.visitor(type);
-        if (null == visitor) {
-            result = this.failConversion(value, type);
-        } else {
-            // ask the visitor to convert the given value.
-            final Object converted = visitor.convert(Cast.to(value));
-            if (null == converted) {
-                result = this.failConversion(value, type);
-            } else {
-                result = this.successfulConversion(
+        final Number converted = value.getClass() == type ?
+                (Number) value :
+                ConverterNumberNumberTable.convert(
+                        (Number) value,
+                        type
+                );
+        return null == converted ?
+                this.failConversion(value, type) :
+                this.successfulConversion(
                         converted,
                         type
                 );
+    }
+
+    /**
+     * Converts each value using {@link ConverterNumberNumberTable} directly, only creating an {@link Either} for values
+     * that fail.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        int failures = 0;
+        final int count = values.size();
+
+        if (this.canConvertType(type)) {
+            final boolean number = Number.class == type;
+
+            for (int i = 0; i < count; i++) {
+                final Object value = values.get(i);
+
+                Object result = null;
+                boolean success = false;
+
+                if (null == value) {
+                    success = true;
+                } else {
+                    if (value instanceof Number) {
+                        if (number || value.getClass() == type) {
+                            result = value;
+                        } else {
+                            result = ConverterNumberNumberTable.convert(
+                                    (Number) value,
+                                    type
+                            );
+                        }
+                        success = null != result;
+                    }
+                }
+
+                if (success) {
+                    ConverterConvertAll.<T>success(
+                            Cast.to(result),
+                            i,
+                            converted,
+                            errors
+                    );
+                } else {
+                    failures += ConverterConvertAll.set(
+                            this.convert(value, type, context),
+                            i,
+                            converted,
+                            errors
+                    );
+                }
             }
+        } else {
+            failures = super.convertAll(values, type, context, converted, errors);
         }
 
-        return result;
+        return failures;
+    }
+
+    // PrimitiveConverter...............................................................................................
+
+    @Override
+    public boolean canConvertToDouble(final Object value,
+                                      final C context) {
+        return value instanceof Number &&
+                ConverterNumberNumberTable.canConvertToDouble((Number) value);
+    }
+
+    @Override
+    public double convertToDouble(final Object value,
+                                  final C context) {
+        if (!this.canConvertToDouble(value, context)) {
+            throw this.convertThrowable(value, double.class);
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    @Override
+    public boolean canConvertToInt(final Object value,
+                                   final C context) {
+        return value instanceof Number &&
+                ConverterNumberNumberTable.canConvertToInt((Number) value);
+    }
+
+    @Override
+    public int convertToInt(final Object value,
+                            final C context) {
+        if (!this.canConvertToInt(value, context)) {
+            throw this.convertThrowable(value, int.class);
+        }
+        return ((Number) value).intValue();
+    }
+
+    @Override
+    public boolean canConvertToLong(final Object value,
+                                    final C context) {
+        return value instanceof Number &&
+                ConverterNumberNumberTable.canConvertToLong((Number) value);
+    }
+
+    @Override
+    public long convertToLong(final Object value,
+                              final C context) {
+        if (!this.canConvertToLong(value, context)) {
+            throw this.convertThrowable(value, long.class);
+        }
+        return ((Number) value).longValue();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.ANY_NUMBER;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.NUMBERS;
     }
 
     @Override
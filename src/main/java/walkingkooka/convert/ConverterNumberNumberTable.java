@@ -0,0 +1,507 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.reflect.StaticHelper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * A precomputed table of stateless functions, one for each pair of the 8 JRE {@link Number} types, used by
+ * {@link ConverterNumberNumber}, so a conversion only allocates its result.
+ * Each function returns null when the value cannot be converted without loss, using range and fraction tests rather
+ * than the exact methods such as {@link BigDecimal#longValueExact()} which throw, so failures never capture a stack trace.
+ */
+final class ConverterNumberNumberTable implements StaticHelper {
+
+    /**
+     * Returns the index of the given {@link Number} type or -1 if it is not one of the 8 supported types.
+     */
+    static int index(final Class<?> type) {
+        return BigDecimal.class == type ?
+                BIG_DECIMAL :
+                BigInteger.class == type ?
+                        BIG_INTEGER :
+                        Byte.class == type ?
+                                BYTE :
+                                Double.class == type ?
+                                        DOUBLE :
+                                        Float.class == type ?
+                                                FLOAT :
+                                                Integer.class == type ?
+                                                        INTEGER :
+                                                        Long.class == type ?
+                                                                LONG :
+                                                                Short.class == type ?
+                                                                        SHORT :
+                                                                        -1;
+    }
+
+    final static int BIG_DECIMAL = 0;
+    final static int BIG_INTEGER = 1;
+    final static int BYTE = 2;
+    final static int DOUBLE = 3;
+    final static int FLOAT = 4;
+    final static int INTEGER = 5;
+    final static int LONG = 6;
+    final static int SHORT = 7;
+
+    /**
+     * Converts the {@link Number} to the target type, returning null if either type is not supported or the value
+     * could not be converted without loss.
+     */
+    static Number convert(final Number value,
+                          final Class<?> type) {
+        final int source = index(value.getClass());
+        final int target = index(type);
+
+        return -1 == source || -1 == target ?
+                null :
+                TABLE[target][source].apply(value);
+    }
+
+    /**
+     * The outer array is the target type, and the inner array the source type, both using the indices above.
+     */
+    private final static Function<Number, Number>[][] TABLE = Cast.to(
+            new Function<?, ?>[][]{
+                    row(
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::bigIntegerToBigDecimal,
+                            ConverterNumberNumberTable::longToBigDecimal,
+                            ConverterNumberNumberTable::doubleToBigDecimal,
+                            ConverterNumberNumberTable::doubleToBigDecimal,
+                            ConverterNumberNumberTable::longToBigDecimal,
+                            ConverterNumberNumberTable::longToBigDecimal,
+                            ConverterNumberNumberTable::longToBigDecimal
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToBigInteger,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::longToBigInteger,
+                            ConverterNumberNumberTable::doubleToBigInteger,
+                            ConverterNumberNumberTable::doubleToBigInteger,
+                            ConverterNumberNumberTable::longToBigInteger,
+                            ConverterNumberNumberTable::longToBigInteger,
+                            ConverterNumberNumberTable::longToBigInteger
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToByte,
+                            ConverterNumberNumberTable::bigIntegerToByte,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::doubleToByte,
+                            ConverterNumberNumberTable::doubleToByte,
+                            ConverterNumberNumberTable::longToByte,
+                            ConverterNumberNumberTable::longToByte,
+                            ConverterNumberNumberTable::longToByte
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToDouble,
+                            ConverterNumberNumberTable::bigIntegerToDouble,
+                            ConverterNumberNumberTable::toDouble,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::toDouble,
+                            ConverterNumberNumberTable::toDouble,
+                            ConverterNumberNumberTable::longToDouble,
+                            ConverterNumberNumberTable::toDouble
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToFloat,
+                            ConverterNumberNumberTable::bigIntegerToFloat,
+                            ConverterNumberNumberTable::toFloat,
+                            ConverterNumberNumberTable::doubleToFloat,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::toFloat,
+                            ConverterNumberNumberTable::longToFloat,
+                            ConverterNumberNumberTable::toFloat
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToInteger,
+                            ConverterNumberNumberTable::bigIntegerToInteger,
+                            ConverterNumberNumberTable::toInteger,
+                            ConverterNumberNumberTable::doubleToInteger,
+                            ConverterNumberNumberTable::doubleToInteger,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::longToInteger,
+                            ConverterNumberNumberTable::toInteger
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToLong,
+                            ConverterNumberNumberTable::bigIntegerToLong,
+                            ConverterNumberNumberTable::toLong,
+                            ConverterNumberNumberTable::doubleToLong,
+                            ConverterNumberNumberTable::doubleToLong,
+                            ConverterNumberNumberTable::toLong,
+                            ConverterNumberNumberTable::same,
+                            ConverterNumberNumberTable::toLong
+                    ),
+                    row(
+                            ConverterNumberNumberTable::bigDecimalToShort,
+                            ConverterNumberNumberTable::bigIntegerToShort,
+                            ConverterNumberNumberTable::toShort,
+                            ConverterNumberNumberTable::doubleToShort,
+                            ConverterNumberNumberTable::doubleToShort,
+                            ConverterNumberNumberTable::longToShort,
+                            ConverterNumberNumberTable::longToShort,
+                            ConverterNumberNumberTable::same
+                    )
+            }
+    );
+
+    @SafeVarargs
+    private static Function<Number, Number>[] row(final Function<Number, Number>... functions) {
+        return functions;
+    }
+
+    private static Number same(final Number value) {
+        return value;
+    }
+
+    // BigDecimal.......................................................................................................
+
+    private static Number bigIntegerToBigDecimal(final Number value) {
+        return new BigDecimal((BigInteger) value);
+    }
+
+    private static Number doubleToBigDecimal(final Number value) {
+        final double doubleValue = value.doubleValue();
+        return Double.isFinite(doubleValue) ?
+                BigDecimal.valueOf(doubleValue) :
+                null;
+    }
+
+    private static Number longToBigDecimal(final Number value) {
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    // BigInteger.......................................................................................................
+
+    private static Number bigDecimalToBigInteger(final Number value) {
+        final BigDecimal bigDecimal = (BigDecimal) value;
+        return isIntegral(bigDecimal) ?
+                bigDecimal.toBigInteger() :
+                null;
+    }
+
+    private static Number doubleToBigInteger(final Number value) {
+        final double doubleValue = value.doubleValue();
+        return Double.isFinite(doubleValue) && doubleValue == Math.floor(doubleValue) ?
+                new BigDecimal(doubleValue).toBigInteger() :
+                null;
+    }
+
+    private static Number longToBigInteger(final Number value) {
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    // Byte.............................................................................................................
+
+    private static Number bigDecimalToByte(final Number value) {
+        return isLong((BigDecimal) value) ?
+                longToByte(value) :
+                null;
+    }
+
+    private static Number bigIntegerToByte(final Number value) {
+        return ((BigInteger) value).bitLength() < Byte.SIZE ?
+                value.byteValue() :
+                null;
+    }
+
+    private static Number doubleToByte(final Number value) {
+        final byte converted = value.byteValue();
+        return converted == value.doubleValue() ?
+                converted :
+                null;
+    }
+
+    private static Number longToByte(final Number value) {
+        final byte converted = value.byteValue();
+        return converted == value.longValue() ?
+                converted :
+                null;
+    }
+
+    // Double...........................................................................................................
+
+    private static Number bigDecimalToDouble(final Number value) {
+        final double converted = value.doubleValue();
+        return Double.isFinite(converted) && 0 == new BigDecimal(converted).compareTo((BigDecimal) value) ?
+                converted :
+                null;
+    }
+
+    private static Number bigIntegerToDouble(final Number value) {
+        final double converted = value.doubleValue();
+        return Double.isFinite(converted) && new BigDecimal(converted).toBigInteger().equals(value) ?
+                converted :
+                null;
+    }
+
+    private static Number longToDouble(final Number value) {
+        final double converted = value.doubleValue();
+        return (long) converted == value.longValue() ?
+                converted :
+                null;
+    }
+
+    private static Number toDouble(final Number value) {
+        return value.doubleValue();
+    }
+
+    // Float............................................................................................................
+
+    private static Number bigDecimalToFloat(final Number value) {
+        final float converted = value.floatValue();
+        return Double.isFinite(converted) && 0 == new BigDecimal(converted).compareTo((BigDecimal) value) ?
+                converted :
+                null;
+    }
+
+    private static Number bigIntegerToFloat(final Number value) {
+        final float converted = value.floatValue();
+        return Double.isFinite(converted) && new BigDecimal(converted).toBigInteger().equals(value) ?
+                converted :
+                null;
+    }
+
+    private static Number doubleToFloat(final Number value) {
+        final float converted = value.floatValue();
+        return converted == value.doubleValue() ?
+                converted :
+                null;
+    }
+
+    private static Number longToFloat(final Number value) {
+        final float converted = value.floatValue();
+        return (long) converted == value.longValue() ?
+                converted :
+                null;
+    }
+
+    private static Number toFloat(final Number value) {
+        return value.floatValue();
+    }
+
+    // Integer..........................................................................................................
+
+    private static Number bigDecimalToInteger(final Number value) {
+        return isLong((BigDecimal) value) ?
+                longToInteger(value) :
+                null;
+    }
+
+    private static Number bigIntegerToInteger(final Number value) {
+        return ((BigInteger) value).bitLength() < Integer.SIZE ?
+                value.intValue() :
+                null;
+    }
+
+    private static Number doubleToInteger(final Number value) {
+        final int converted = value.intValue();
+        return converted == value.doubleValue() ?
+                converted :
+                null;
+    }
+
+    private static Number longToInteger(final Number value) {
+        final int converted = value.intValue();
+        return converted == value.longValue() ?
+                converted :
+                null;
+    }
+
+    private static Number toInteger(final Number value) {
+        return value.intValue();
+    }
+
+    // Long.............................................................................................................
+
+    private static Number bigDecimalToLong(final Number value) {
+        return isLong((BigDecimal) value) ?
+                value.longValue() :
+                null;
+    }
+
+    private static Number bigIntegerToLong(final Number value) {
+        return ((BigInteger) value).bitLength() < Long.SIZE ?
+                value.longValue() :
+                null;
+    }
+
+    private static Number doubleToLong(final Number value) {
+        final double doubleValue = value.doubleValue();
+        return isLong(doubleValue) ?
+                (long) doubleValue :
+                null;
+    }
+
+    private static Number toLong(final Number value) {
+        return value.longValue();
+    }
+
+    // Short............................................................................................................
+
+    private static Number bigDecimalToShort(final Number value) {
+        return isLong((BigDecimal) value) ?
+                longToShort(value) :
+                null;
+    }
+
+    private static Number bigIntegerToShort(final Number value) {
+        return ((BigInteger) value).bitLength() < Short.SIZE ?
+                value.shortValue() :
+                null;
+    }
+
+    private static Number doubleToShort(final Number value) {
+        final short converted = value.shortValue();
+        return converted == value.doubleValue() ?
+                converted :
+                null;
+    }
+
+    private static Number longToShort(final Number value) {
+        final short converted = value.shortValue();
+        return converted == value.longValue() ?
+                converted :
+                null;
+    }
+
+    private static Number toShort(final Number value) {
+        return value.shortValue();
+    }
+
+    // primitives.......................................................................................................
+
+    /**
+     * Tests if the {@link Number} may be converted to a double without loss, matching the table above, and without
+     * allocating for the common boxed types.
+     */
+    static boolean canConvertToDouble(final Number value) {
+        final boolean can;
+
+        switch (index(value.getClass())) {
+            case BIG_DECIMAL:
+                can = null != bigDecimalToDouble(value);
+                break;
+            case BIG_INTEGER:
+                can = null != bigIntegerToDouble(value);
+                break;
+            case LONG:
+                can = isDouble(value.longValue());
+                break;
+            case -1:
+                can = false;
+                break;
+            default:
+                can = true;
+                break;
+        }
+
+        return can;
+    }
+
+    /**
+     * Tests if the {@link Number} may be converted to a long without loss, matching the table above, and without
+     * allocating or throwing for any of the boxed types.
+     */
+    static boolean canConvertToLong(final Number value) {
+        final boolean can;
+
+        switch (index(value.getClass())) {
+            case BIG_DECIMAL:
+                can = isLong((BigDecimal) value);
+                break;
+            case BIG_INTEGER:
+                can = ((BigInteger) value).bitLength() < 64;
+                break;
+            case DOUBLE:
+            case FLOAT:
+                can = isLong(value.doubleValue());
+                break;
+            case -1:
+                can = false;
+                break;
+            default:
+                can = true;
+                break;
+        }
+
+        return can;
+    }
+
+    /**
+     * Tests if the {@link Number} may be converted to an int without loss, matching the table above.
+     */
+    static boolean canConvertToInt(final Number value) {
+        return canConvertToLong(value) &&
+                isInt(value.longValue());
+    }
+
+    /**
+     * Returns true if the double has no fraction and is within the range of a long.
+     */
+    static boolean isLong(final double value) {
+        return value == Math.floor(value) &&
+                value >= -0x1p63 &&
+                value < 0x1p63;
+    }
+
+    /**
+     * Returns true if the {@link BigDecimal} has no fraction and is within the range of a long.
+     */
+    private static boolean isLong(final BigDecimal value) {
+        return value.compareTo(LONG_MIN) >= 0 &&
+                value.compareTo(LONG_MAX) <= 0 &&
+                isIntegral(value);
+    }
+
+    /**
+     * Returns true if the long may be converted to a double and back without loss.
+     */
+    static boolean isDouble(final long value) {
+        return (long) (double) value == value;
+    }
+
+    /**
+     * Returns true if the long is within the range of an int.
+     */
+    static boolean isInt(final long value) {
+        return value == (int) value;
+    }
+
+    private static boolean isIntegral(final BigDecimal value) {
+        return value.scale() <= 0 ||
+                value.signum() == 0 ||
+                value.stripTrailingZeros().scale() <= 0;
+    }
+
+    private final static BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private final static BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Stop creation
+     */
+    private ConverterNumberNumberTable() {
+        throw new UnsupportedOperationException();
+    }
+}
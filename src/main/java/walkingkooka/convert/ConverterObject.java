@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A {@link Converter} that only handles requests to convert to {@link Object}.
  * @param <C>
@@ -60,6 +63,16 @@ final class ConverterObject<C extends ConverterContext> extends Converter2<C> {
         return this.successfulConversion(value, type);
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.ANY_OBJECT;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(Object.class);
+    }
+
     @Override
     public String toString() {
         return "*->" + Object.class.getSimpleName();
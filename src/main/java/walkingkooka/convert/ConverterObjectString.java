@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A {@link Converter} that invokes {@link Object#toString()} to convert any value into a {@link String}
  */
@@ -63,6 +66,16 @@ final class ConverterObjectString<C extends ConverterContext> extends Converter2
         );
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.ANY_OBJECT;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
     @Override
     public String toString() {
         return "*->String";
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link Iterator} that pulls batches of values from a source {@link Stream}, converting each batch with
+ * {@link Converter#convertAll(List, Class, ConverterContext, Object[], String[])}, and then gives the converted values
+ * one at a time. Values are only pulled when the consumer asks for more, so no more than a single batch is held at
+ * any time. Failures are given to the {@link ConversionErrorHandler} when their batch is converted, and the failed
+ * values are never returned.
+ */
+final class ConverterStream<T, C extends ConverterContext> implements Iterator<T> {
+
+    static <T, C extends ConverterContext> Stream<T> with(final Stream<?> values,
+                                                          final Converter<C> converter,
+                                                          final Class<T> type,
+                                                          final C context,
+                                                          final int batchSize,
+                                                          final ConversionErrorHandler errorHandler) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(context, "context");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize + " <= 0");
+        }
+        Objects.requireNonNull(errorHandler, "errorHandler");
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        new ConverterStream<>(
+                                values.iterator(),
+                                converter,
+                                type,
+                                context,
+                                batchSize,
+                                errorHandler
+                        ),
+                        Spliterator.ORDERED
+                ),
+                false
+        ).onClose(values::close);
+    }
+
+    private ConverterStream(final Iterator<?> values,
+                            final Converter<C> converter,
+                            final Class<T> type,
+                            final C context,
+                            final int batchSize,
+                            final ConversionErrorHandler errorHandler) {
+        super();
+        this.values = values;
+        this.converter = converter;
+        this.type = type;
+        this.context = context;
+        this.errorHandler = errorHandler;
+
+        this.batch = new ArrayList<>(batchSize);
+        this.converted = Cast.to(new Object[batchSize]);
+        this.errors = new String[batchSize];
+    }
+
+    @Override
+    public boolean hasNext() {
+        for (; ; ) {
+            while (this.position < this.count) {
+                if (null == this.errors[this.position]) {
+                    return true;
+                }
+                this.position++;
+            }
+            if (!this.values.hasNext()) {
+                return false;
+            }
+            this.convertBatch();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int position = this.position;
+        final T value = this.converted[position];
+        this.converted[position] = null;
+        this.position = position + 1;
+        return value;
+    }
+
+    /**
+     * Fills and converts the next batch, reporting any failures before any of its values are returned.
+     */
+    private void convertBatch() {
+        final List<Object> batch = this.batch;
+        final int batchSize = this.errors.length;
+        final Iterator<?> values = this.values;
+
+        batch.clear();
+        while (batch.size() < batchSize && values.hasNext()) {
+            batch.add(values.next());
+        }
+
+        final int count = batch.size();
+        final long index = this.index;
+        this.index = index + count;
+        this.position = 0;
+        this.count = 0;
+
+        final Class<T> type = this.type;
+        final String[] errors = this.errors;
+        final int failures = this.converter.convertAll(
+                batch,
+                type,
+                this.context,
+                this.converted,
+                errors
+        );
+
+        if (failures > 0) {
+            final ConversionErrorHandler errorHandler = this.errorHandler;
+            for (int i = 0; i < count; i++) {
+                final String message = errors[i];
+                if (null != message) {
+                    errorHandler.handle(
+                            index + i,
+                            batch.get(i),
+                            type,
+                            message
+                    );
+                }
+            }
+        }
+
+        this.count = count;
+    }
+
+    private final Iterator<?> values;
+    private final Converter<C> converter;
+    private final Class<T> type;
+    private final C context;
+    private final ConversionErrorHandler errorHandler;
+
+    /**
+     * The values of the current batch.
+     */
+    private final List<Object> batch;
+
+    private final T[] converted;
+    private final String[] errors;
+
+    /**
+     * The index of the next value within the current batch, and the number of values in that batch.
+     */
+    private int position;
+    private int count;
+
+    /**
+     * The index within the source of the first value of the next batch.
+     */
+    private long index;
+
+    @Override
+    public String toString() {
+        return this.converter + " " + this.type.getName() + " " + this.errorHandler;
+    }
+}
@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A Converter that converts a String with one character into a {@link Character}. Strings of other length will fail.
  */
@@ -52,6 +55,14 @@ final class ConverterStringCharacter<C extends ConverterContext> extends Convert
         return value instanceof String && ((String) value).length() == 1;
     }
 
+    /**
+     * Only {@link String} with a single character are supported.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return true;
+    }
+
     @Override
     boolean canConvertType(final Class<?> type) {
         return type == Character.class;
@@ -71,6 +82,16 @@ final class ConverterStringCharacter<C extends ConverterContext> extends Convert
                 Either.right("String length must be one but was " + length);
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(Character.class);
+    }
+
     @Override
     public String toString() {
         return "String->Character";
@@ -20,6 +20,9 @@ package walkingkooka.convert;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A {@link Converter} which only accepts a single source type and a single target type, with an offset which is
  * added to the date component.
@@ -46,6 +49,18 @@ abstract class ConverterTemporal<S, D, C extends ConverterContext> extends Conve
 
     final long offset;
 
+    @Override
+    public final Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(this.sourceType());
+    }
+
+    @Override
+    public final Optional<Set<Class<?>>> targetTypes() {
+        return Number.class == this.targetType() ?
+                ConverterTypes.NUMBERS :
+                ConverterTypes.of(this.targetType());
+    }
+
     @Override
     public final String toString() {
         return this.sourceType().getSimpleName() + "->" + this.targetType().getSimpleName() + toStringOffset(this.offset);
@@ -25,7 +25,8 @@ import java.time.LocalDate;
 /**
  * Converts {@link java.time.LocalDate} to {@link Number}
  */
-final class ConverterTemporalLocalDateNumber<C extends ConverterContext> extends ConverterTemporalLocalDate<Number, C> {
+final class ConverterTemporalLocalDateNumber<C extends ConverterContext> extends ConverterTemporalLocalDate<Number, C>
+        implements PrimitiveConverter<C> {
 
     /**
      * Factory that creates a new instance with the given date offset.
@@ -51,11 +52,64 @@ final class ConverterTemporalLocalDateNumber<C extends ConverterContext> extends
     <T> Either<T, String> convert1(final LocalDate date,
                                    final Class<T> type,
                                    final ConverterContext context) {
-        return this.convertToNumber(date.toEpochDay() + this.offset,
+        return this.convertToNumber(this.days(date),
                 type,
                 context);
     }
 
+    // PrimitiveConverter...............................................................................................
+
+    @Override
+    public boolean canConvertToDouble(final Object value,
+                                      final C context) {
+        return value instanceof LocalDate &&
+                ConverterNumberNumberTable.isDouble(this.days((LocalDate) value));
+    }
+
+    @Override
+    public double convertToDouble(final Object value,
+                                  final C context) {
+        if (!this.canConvertToDouble(value, context)) {
+            throw this.convertThrowable(value, double.class);
+        }
+        return this.days((LocalDate) value);
+    }
+
+    @Override
+    public boolean canConvertToInt(final Object value,
+                                   final C context) {
+        return value instanceof LocalDate &&
+                ConverterNumberNumberTable.isInt(this.days((LocalDate) value));
+    }
+
+    @Override
+    public int convertToInt(final Object value,
+                            final C context) {
+        if (!this.canConvertToInt(value, context)) {
+            throw this.convertThrowable(value, int.class);
+        }
+        return (int) this.days((LocalDate) value);
+    }
+
+    @Override
+    public boolean canConvertToLong(final Object value,
+                                    final C context) {
+        return value instanceof LocalDate;
+    }
+
+    @Override
+    public long convertToLong(final Object value,
+                              final C context) {
+        if (!this.canConvertToLong(value, context)) {
+            throw this.convertThrowable(value, long.class);
+        }
+        return this.days((LocalDate) value);
+    }
+
+    private long days(final LocalDate date) {
+        return date.toEpochDay() + this.offset;
+    }
+
     @Override
     Class<Number> targetType() {
         return Number.class;
@@ -50,13 +50,27 @@ abstract class ConverterTemporalLocalDateTime<D, C extends ConverterContext> ext
     final <T> Either<T, String> convert1(final LocalDateTime value,
                                          final Class<T> type,
                                          final ConverterContext context) {
-        return this.convertFromLocalDateTime(value.toLocalDate().toEpochDay() + this.offset,
-                (double) value.toLocalTime().toNanoOfDay() / Converters.NANOS_PER_DAY,
+        return this.convertFromLocalDateTime(this.days(value),
+                this.time(value),
                 value,
                 type,
                 context);
     }
 
+    /**
+     * The date component as days since the epoch plus the offset.
+     */
+    final long days(final LocalDateTime value) {
+        return value.toLocalDate().toEpochDay() + this.offset;
+    }
+
+    /**
+     * The time component as a fraction of a day.
+     */
+    final double time(final LocalDateTime value) {
+        return (double) value.toLocalTime().toNanoOfDay() / Converters.NANOS_PER_DAY;
+    }
+
     abstract <T> Either<T, String> convertFromLocalDateTime(final long days,
                                                             final double time,
                                                             final LocalDateTime localDateTime,
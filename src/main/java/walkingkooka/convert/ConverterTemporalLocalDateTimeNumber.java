@@ -25,7 +25,8 @@ import java.time.LocalDateTime;
 /**
  * Converts a {@link LocalDateTime} into a {@link Number}.
  */
-final class ConverterTemporalLocalDateTimeNumber<C extends ConverterContext> extends ConverterTemporalLocalDateTime<Number, C> {
+final class ConverterTemporalLocalDateTimeNumber<C extends ConverterContext> extends ConverterTemporalLocalDateTime<Number, C>
+        implements PrimitiveConverter<C> {
 
     /**
      * Creates a new instance with the given date offset.
@@ -58,6 +59,62 @@ final class ConverterTemporalLocalDateTimeNumber<C extends ConverterContext> ext
                 context);
     }
 
+    // PrimitiveConverter...............................................................................................
+
+    @Override
+    public boolean canConvertToDouble(final Object value,
+                                      final C context) {
+        return value instanceof LocalDateTime;
+    }
+
+    @Override
+    public double convertToDouble(final Object value,
+                                  final C context) {
+        if (!this.canConvertToDouble(value, context)) {
+            throw this.convertThrowable(value, double.class);
+        }
+        return this.number((LocalDateTime) value);
+    }
+
+    @Override
+    public boolean canConvertToInt(final Object value,
+                                   final C context) {
+        return this.canConvertToLong(value, context) &&
+                ConverterNumberNumberTable.isInt((long) this.number((LocalDateTime) value));
+    }
+
+    @Override
+    public int convertToInt(final Object value,
+                            final C context) {
+        if (!this.canConvertToInt(value, context)) {
+            throw this.convertThrowable(value, int.class);
+        }
+        return (int) this.number((LocalDateTime) value);
+    }
+
+    @Override
+    public boolean canConvertToLong(final Object value,
+                                    final C context) {
+        return value instanceof LocalDateTime &&
+                ConverterNumberNumberTable.isLong(this.number((LocalDateTime) value));
+    }
+
+    @Override
+    public long convertToLong(final Object value,
+                              final C context) {
+        if (!this.canConvertToLong(value, context)) {
+            throw this.convertThrowable(value, long.class);
+        }
+        return (long) this.number((LocalDateTime) value);
+    }
+
+    /**
+     * Computes the same double passed to {@link #convertToNumber(Number, Class, ConverterContext)}, without boxing.
+     */
+    private double number(final LocalDateTime dateTime) {
+        return this.days(dateTime) + this.time(dateTime);
+    }
+
     @Override
     Class<Number> targetType() {
         return Number.class;
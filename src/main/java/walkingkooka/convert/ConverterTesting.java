@@ -20,9 +20,12 @@ package walkingkooka.convert;
 import org.opentest4j.AssertionFailedError;
 import walkingkooka.Cast;
 import walkingkooka.Either;
+import walkingkooka.collect.set.Sets;
 import walkingkooka.test.Testing;
 import walkingkooka.text.CharSequences;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -58,6 +61,39 @@ public interface ConverterTesting extends Testing {
         return convertedValue;
     }
 
+    /**
+     * Calls {@link Converter#convertAll(List, Class, ConverterContext, Object[], String[])} and verifies each result
+     * matches {@link Converter#convert(Object, Class, ConverterContext)} for the same value.
+     */
+    default <T, C extends ConverterContext> void convertAllAndCheck(final Converter<C> converter,
+                                                                    final List<?> values,
+                                                                    final Class<T> target,
+                                                                    final C context) {
+        final int count = values.size();
+        final T[] converted = Cast.to(new Object[count]);
+        final String[] errors = new String[count];
+
+        final int failures = converter.convertAll(values, target, context, converted, errors);
+
+        int expectedFailures = 0;
+        for (int i = 0; i < count; i++) {
+            final Object value = values.get(i);
+            final Either<T, String> result = converter.convert(value, target, context);
+            final String message = "convertAll " + CharSequences.quoteIfChars(value) + " to " + target.getName() + " index " + i;
+
+            if (result.isLeft()) {
+                this.checkEquals(result.leftValue(), converted[i], message);
+                this.checkEquals(null, errors[i], message);
+            } else {
+                this.checkEquals(null, converted[i], message);
+                this.checkEquals(result.rightValue(), errors[i], message);
+                expectedFailures++;
+            }
+        }
+
+        this.checkEquals(expectedFailures, failures, "failures");
+    }
+
     @Override
     default void checkEquals(final Object expected,
                              final Object actual,
@@ -81,4 +117,155 @@ public interface ConverterTesting extends Testing {
             throw new AssertionFailedError("Expected failure converting " + CharSequences.quoteIfChars(value) + " to " + type.getName() + " but got " + CharSequences.quoteIfChars(v));
         });
     }
+
+    // PrimitiveConverter...............................................................................................
+
+    default <C extends ConverterContext> void convertToDoubleAndCheck(final PrimitiveConverter<C> converter,
+                                                                      final Object value,
+                                                                      final C context,
+                                                                      final double expected) {
+        this.checkEquals(
+                true,
+                converter.canConvertToDouble(value, context),
+                () -> converter + " canConvertToDouble " + CharSequences.quoteIfChars(value)
+        );
+        this.checkEquals(
+                expected,
+                converter.convertToDouble(value, context),
+                () -> converter + " convertToDouble " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertAndCheck(converter, value, Double.class, context, expected);
+    }
+
+    default <C extends ConverterContext> void convertToDoubleFails(final PrimitiveConverter<C> converter,
+                                                                   final Object value,
+                                                                   final C context) {
+        this.checkEquals(
+                false,
+                converter.canConvertToDouble(value, context),
+                () -> converter + " canConvertToDouble " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertFails(() -> converter.convertToDouble(value, context), converter, value, Double.class, context);
+    }
+
+    default <C extends ConverterContext> void convertToIntAndCheck(final PrimitiveConverter<C> converter,
+                                                                   final Object value,
+                                                                   final C context,
+                                                                   final int expected) {
+        this.checkEquals(
+                true,
+                converter.canConvertToInt(value, context),
+                () -> converter + " canConvertToInt " + CharSequences.quoteIfChars(value)
+        );
+        this.checkEquals(
+                expected,
+                converter.convertToInt(value, context),
+                () -> converter + " convertToInt " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertAndCheck(converter, value, Integer.class, context, expected);
+    }
+
+    default <C extends ConverterContext> void convertToIntFails(final PrimitiveConverter<C> converter,
+                                                                final Object value,
+                                                                final C context) {
+        this.checkEquals(
+                false,
+                converter.canConvertToInt(value, context),
+                () -> converter + " canConvertToInt " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertFails(() -> converter.convertToInt(value, context), converter, value, Integer.class, context);
+    }
+
+    default <C extends ConverterContext> void convertToLongAndCheck(final PrimitiveConverter<C> converter,
+                                                                    final Object value,
+                                                                    final C context,
+                                                                    final long expected) {
+        this.checkEquals(
+                true,
+                converter.canConvertToLong(value, context),
+                () -> converter + " canConvertToLong " + CharSequences.quoteIfChars(value)
+        );
+        this.checkEquals(
+                expected,
+                converter.convertToLong(value, context),
+                () -> converter + " convertToLong " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertAndCheck(converter, value, Long.class, context, expected);
+    }
+
+    default <C extends ConverterContext> void convertToLongFails(final PrimitiveConverter<C> converter,
+                                                                 final Object value,
+                                                                 final C context) {
+        this.checkEquals(
+                false,
+                converter.canConvertToLong(value, context),
+                () -> converter + " canConvertToLong " + CharSequences.quoteIfChars(value)
+        );
+        this.primitiveConvertFails(() -> converter.convertToLong(value, context), converter, value, Long.class, context);
+    }
+
+    /**
+     * Checks the {@link Converter#sourceTypes()} are declared and match the expected {@link Class classes}.
+     */
+    default void sourceTypesAndCheck(final Converter<?> converter,
+                                     final Class<?>... expected) {
+        this.checkEquals(
+                Optional.of(Sets.of(expected)),
+                converter.sourceTypes(),
+                () -> converter + " sourceTypes"
+        );
+    }
+
+    /**
+     * Checks the {@link Converter#targetTypes()} are declared and match the expected {@link Class classes}.
+     */
+    default void targetTypesAndCheck(final Converter<?> converter,
+                                     final Class<?>... expected) {
+        this.checkEquals(
+                Optional.of(Sets.of(expected)),
+                converter.targetTypes(),
+                () -> converter + " targetTypes"
+        );
+    }
+
+    /**
+     * Verifies the boxed conversion gives the same answer when the {@link PrimitiveConverter} is also a {@link Converter}.
+     */
+    private <T, C extends ConverterContext> void primitiveConvertAndCheck(final PrimitiveConverter<C> converter,
+                                                                          final Object value,
+                                                                          final Class<T> target,
+                                                                          final C context,
+                                                                          final T expected) {
+        if (converter instanceof Converter) {
+            this.convertAndCheck(
+                    Cast.<Converter<C>>to(converter),
+                    value,
+                    target,
+                    context,
+                    expected
+            );
+        }
+    }
+
+    private <C extends ConverterContext> void primitiveConvertFails(final Runnable convert,
+                                                                    final PrimitiveConverter<C> converter,
+                                                                    final Object value,
+                                                                    final Class<?> target,
+                                                                    final C context) {
+        try {
+            convert.run();
+            throw new AssertionFailedError("Expected " + ConversionException.class.getSimpleName() + " converting " + CharSequences.quoteIfChars(value) + " to " + target.getName());
+        } catch (final ConversionException expected) {
+            // good
+        }
+
+        if (converter instanceof Converter) {
+            this.convertFails(
+                    Cast.<Converter<C>>to(converter),
+                    value,
+                    target,
+                    context
+            );
+        }
+    }
 }
@@ -22,6 +22,8 @@ import walkingkooka.Either;
 import walkingkooka.ToStringTesting;
 import walkingkooka.reflect.TypeNameTesting;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public interface ConverterTesting2<C extends Converter<CC>, CC extends ConverterContext>
@@ -73,6 +75,16 @@ public interface ConverterTesting2<C extends Converter<CC>, CC extends Converter
         return this.convertAndCheck(converter, value, target, this.createContext(), expected);
     }
 
+    default <T> void convertAllAndCheck(final List<?> values,
+                                        final Class<T> target) {
+        this.convertAllAndCheck(
+                this.createConverter(),
+                values,
+                target,
+                this.createContext()
+        );
+    }
+
     default void convertFails(final Object value, final Class<?> type) {
         this.convertFails(this.createConverter(), value, type);
     }
@@ -83,6 +95,14 @@ public interface ConverterTesting2<C extends Converter<CC>, CC extends Converter
         this.convertFails(converter, value, type, this.createContext());
     }
 
+    default void sourceTypesAndCheck(final Class<?>... expected) {
+        this.sourceTypesAndCheck(this.createConverter(), expected);
+    }
+
+    default void targetTypesAndCheck(final Class<?>... expected) {
+        this.targetTypesAndCheck(this.createConverter(), expected);
+    }
+
     default <T> Either<T, String> convert(final T value) {
         return this.convert(value, Cast.to(value.getClass()));
     }
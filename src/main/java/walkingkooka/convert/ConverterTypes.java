@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.StaticHelper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helpers used to create and test the {@link Converter#sourceTypes()} and {@link Converter#targetTypes()} of
+ * {@link Converter converters}.
+ */
+final class ConverterTypes implements StaticHelper {
+
+    /**
+     * Source types for a {@link Converter} that accepts any {@link Number}.
+     */
+    final static Optional<Set<Class<?>>> ANY_NUMBER = of(Number.class);
+
+    /**
+     * Target types for a {@link Converter} that converts to {@link Number} or any of its standard sub classes.
+     */
+    final static Optional<Set<Class<?>>> NUMBERS = of(
+            Number.class,
+            BigDecimal.class,
+            BigInteger.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class
+    );
+
+    /**
+     * Source types for a {@link Converter} that accepts any value.
+     */
+    final static Optional<Set<Class<?>>> ANY_OBJECT = of(Object.class);
+
+    /**
+     * Types for a {@link Converter} that never converts.
+     */
+    final static Optional<Set<Class<?>>> NONE = Optional.of(Sets.empty());
+
+    /**
+     * Creates the declared types.
+     */
+    static Optional<Set<Class<?>>> of(final Class<?>... types) {
+        return Optional.of(Sets.of(types));
+    }
+
+    /**
+     * Returns the types with more types added, or empty if the types are not declared.
+     */
+    static Optional<Set<Class<?>>> add(final Optional<Set<Class<?>>> types,
+                                       final Class<?>... more) {
+        return types.map(
+                t -> {
+                    final Set<Class<?>> all = Sets.ordered();
+                    all.addAll(t);
+                    all.addAll(Arrays.asList(more));
+                    return Sets.immutable(all);
+                }
+        );
+    }
+
+    /**
+     * Returns true if the {@link Converter} may convert the value to the type, testing only its declared types.
+     */
+    static boolean mayConvert(final Converter<?> converter,
+                              final Object value,
+                              final Class<?> type) {
+        return isTarget(converter, type) &&
+                (null == value || isSource(converter, value));
+    }
+
+    private static boolean isSource(final Converter<?> converter,
+                                    final Object value) {
+        final Optional<Set<Class<?>>> sourceTypes = converter.sourceTypes();
+        return false == sourceTypes.isPresent() ||
+                isSource(sourceTypes.get(), value);
+    }
+
+    private static boolean isSource(final Set<Class<?>> sourceTypes,
+                                    final Object value) {
+        return sourceTypes.contains(value.getClass()) ||
+                sourceTypes.contains(Object.class) ||
+                value instanceof Number && sourceTypes.contains(Number.class);
+    }
+
+    /**
+     * Returns true if the {@link Converter} may accept values of the {@link Class}, testing only its declared source
+     * types. Only the standard sub classes of {@link Number} are known to be accepted by a {@link Number} source type.
+     */
+    static boolean isSource(final Converter<?> converter,
+                            final Class<?> type) {
+        final Optional<Set<Class<?>>> sourceTypes = converter.sourceTypes();
+        return false == sourceTypes.isPresent() ||
+                isSource(sourceTypes.get(), type);
+    }
+
+    private static boolean isSource(final Set<Class<?>> sourceTypes,
+                                    final Class<?> type) {
+        return sourceTypes.contains(type) ||
+                sourceTypes.contains(Object.class) ||
+                sourceTypes.contains(Number.class) && NUMBERS.get().contains(type);
+    }
+
+    /**
+     * Returns true if the {@link Converter} may convert to the type, testing only its declared target types.
+     */
+    static boolean isTarget(final Converter<?> converter,
+                            final Class<?> type) {
+        final Optional<Set<Class<?>>> targetTypes = converter.targetTypes();
+        return false == targetTypes.isPresent() ||
+                targetTypes.get().contains(type);
+    }
+
+    /**
+     * Returns true if the {@link Converter} declares both its source and target types.
+     */
+    static boolean isDeclared(final Converter<?> converter) {
+        return converter.sourceTypes().isPresent() &&
+                converter.targetTypes().isPresent();
+    }
+
+    /**
+     * Returns true if the {@link Converter} declares both its types, and they include converting values of the source
+     * {@link Class} to the target type. The {@link Converter} may still refuse a particular value.
+     */
+    static boolean isDeclared(final Converter<?> converter,
+                              final Class<?> source,
+                              final Class<?> target) {
+        return isDeclared(converter) &&
+                isSource(converter, source) &&
+                isTarget(converter, target);
+    }
+
+    /**
+     * Returns true if the {@link Converter} declares its types and is not value dependent, so its answer to
+     * {@link Converter#canConvert(Object, Class, ConverterContext)} may be remembered for a pair of value {@link Class}
+     * and target type. A {@link Converter} that does not declare its types is never trusted to be class based.
+     */
+    static boolean isClassBased(final Converter<?> converter) {
+        return false == converter.isValueDependent() &&
+                isDeclared(converter);
+    }
+
+    /**
+     * Returns true if the {@link Converter} declares no target types, so it never converts anything.
+     */
+    static boolean isNever(final Converter<?> converter) {
+        final Optional<Set<Class<?>>> targetTypes = converter.targetTypes();
+        return targetTypes.isPresent() &&
+                targetTypes.get().isEmpty();
+    }
+
+    /**
+     * Returns all the types of the {@link Converter converters}, or empty if any did not declare them.
+     */
+    static <C extends ConverterContext> Optional<Set<Class<?>>> union(final List<Converter<C>> converters,
+                                                                      final Function<Converter<C>, Optional<Set<Class<?>>>> types) {
+        final Set<Class<?>> union = Sets.ordered();
+
+        for (final Converter<C> converter : converters) {
+            final Optional<Set<Class<?>>> converterTypes = types.apply(converter);
+            if (false == converterTypes.isPresent()) {
+                return Optional.empty();
+            }
+            union.addAll(converterTypes.get());
+        }
+
+        return Optional.of(Sets.immutable(union));
+    }
+
+    /**
+     * Stop creation
+     */
+    private ConverterTypes() {
+        throw new UnsupportedOperationException();
+    }
+}
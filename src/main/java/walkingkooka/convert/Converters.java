@@ -19,6 +19,7 @@ package walkingkooka.convert;
 
 import walkingkooka.datetime.DateTimeContext;
 import walkingkooka.math.DecimalNumberContext;
+import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.reflect.PublicStaticHelper;
 import walkingkooka.text.cursor.parser.Parser;
 import walkingkooka.text.cursor.parser.ParserContext;
@@ -28,6 +29,8 @@ import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -122,6 +125,51 @@ public final class Converters implements PublicStaticHelper {
         return ConverterBooleanNumber.instance();
     }
 
+    /**
+     * {@see CachingConverter}
+     * <br>
+     * The returned {@link Converter} implements {@link HasConverterCacheStatistics}, see {@link #cacheStatistics(Converter)}.
+     */
+    public static <C extends ConverterContext> Converter<C> caching(final Converter<C> converter,
+                                                                    final int maxEntries) {
+        return CachingConverter.with(converter, maxEntries);
+    }
+
+    /**
+     * {@see CachingConverter}
+     * <br>
+     * The context key function returns a fingerprint of the {@link ConverterContext} values the {@link Converter} reads,
+     * which must implement equals and hashCode.
+     */
+    public static <C extends ConverterContext> Converter<C> caching(final Converter<C> converter,
+                                                                    final int maxEntries,
+                                                                    final Function<? super C, ?> contextKey) {
+        return CachingConverter.with(converter, maxEntries, contextKey);
+    }
+
+    /**
+     * Returns the {@link ConverterCacheStatistics} of a {@link Converter} that caches, such as one returned by
+     * {@link #caching(Converter, int)}, or nothing if it does not cache.
+     */
+    public static Optional<ConverterCacheStatistics> cacheStatistics(final Converter<?> converter) {
+        Objects.requireNonNull(converter, "converter");
+
+        return Optional.ofNullable(
+                converter instanceof HasConverterCacheStatistics ?
+                        ((HasConverterCacheStatistics) converter).cacheStatistics() :
+                        null
+        );
+    }
+
+    /**
+     * {@see ConverterChain}
+     */
+    public static <C extends ConverterContext> Converter<C> chain(final Converter<C> first,
+                                                                  final Class<?> intermediateType,
+                                                                  final Converter<C> second) {
+        return ConverterChain.with(first, intermediateType, second);
+    }
+
     /**
      * {@see ConverterCharacterStringConverter}
      */
@@ -143,6 +191,13 @@ public final class Converters implements PublicStaticHelper {
         return ConverterCollection.with(converters);
     }
 
+    /**
+     * {@see ConverterCollection}
+     */
+    public static <C extends ConverterContext> Converter<C> compiledCollection(final List<Converter<C>> converters) {
+        return ConverterCollection.compiled(converters);
+    }
+
     /**
      * {@see CustomToStringConverter}
      */
@@ -158,6 +213,38 @@ public final class Converters implements PublicStaticHelper {
         return new FakeConverter<>();
     }
 
+    /**
+     * {@see ConverterGraph}
+     */
+    public static <C extends ConverterContext> Converter<C> graph(final List<Converter<C>> converters) {
+        return graph(converters, ConverterGraph.DEFAULT_TYPES);
+    }
+
+    /**
+     * {@see ConverterGraph}
+     */
+    public static <C extends ConverterContext> Converter<C> graph(final List<Converter<C>> converters,
+                                                                  final List<Class<?>> intermediateTypes) {
+        return ConverterGraph.with(converters, intermediateTypes);
+    }
+
+    /**
+     * {@see InstrumentedConverter}
+     */
+    public static <C extends ConverterContext> Converter<C> instrumented(final Converter<C> converter,
+                                                                         final ConverterMetrics metrics) {
+        return InstrumentedConverter.wrap(converter, metrics);
+    }
+
+    /**
+     * {@see InstrumentedConverter}
+     */
+    public static <C extends ConverterContext> Converter<C> instrumented(final Converter<C> converter,
+                                                                         final String name,
+                                                                         final ConverterMetrics metrics) {
+        return InstrumentedConverter.wrap(converter, name, metrics);
+    }
+
     /**
      * {@see LocalDateLocalDateTimeConverter}
      */
@@ -179,6 +266,17 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterLocalDateString.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterLocalDateString}
+     */
+    public static <C extends ConverterContext> Converter<C> localDateString(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterLocalDateString.with(
+                formatter,
+                cacheSize
+        );
+    }
+
     /**
      * {@see ConverterTemporalLocalDateTimeLocalDate}
      */
@@ -207,6 +305,17 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterLocalDateTimeString.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterLocalDateTimeString}
+     */
+    public static <C extends ConverterContext> Converter<C> localDateTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                final int cacheSize) {
+        return DateTimeFormatterConverterLocalDateTimeString.with(
+                formatter,
+                cacheSize
+        );
+    }
+
     /**
      * {@see ConverterLocalTimeLocalDateTime}
      */
@@ -228,6 +337,17 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterLocalTimeString.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterLocalTimeString}
+     */
+    public static <C extends ConverterContext> Converter<C> localTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterLocalTimeString.with(
+                formatter,
+                cacheSize
+        );
+    }
+
     /**
      * {@see PredicatedMapperConverter}
      */
@@ -279,6 +399,17 @@ public final class Converters implements PublicStaticHelper {
         return DecimalFormatConverterNumberString.with(decimalFormat);
     }
 
+    /**
+     * {@see DecimalFormatConverterNumberString}
+     */
+    public static <C extends ConverterContext> Converter<C> numberString(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                                                         final int cacheSize) {
+        return DecimalFormatConverterNumberString.with(
+                decimalFormat,
+                cacheSize
+        );
+    }
+
     /**
      * {@see ConverterObject}
      */
@@ -293,6 +424,21 @@ public final class Converters implements PublicStaticHelper {
         return ConverterObjectString.instance();
     }
     
+    /**
+     * {@see ParallelConverter}
+     */
+    public static <C extends ConverterContext> Converter<C> parallel(final Converter<C> converter) {
+        return parallel(converter, ParallelConverter.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * {@see ParallelConverter}
+     */
+    public static <C extends ConverterContext> Converter<C> parallel(final Converter<C> converter,
+                                                                     final int threshold) {
+        return ParallelConverter.with(converter, threshold);
+    }
+
     /**
      * {@see ParserConverter}
      */
@@ -310,6 +456,27 @@ public final class Converters implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see ParserConverter}
+     */
+    public static <V,
+            P extends ParserContext,
+            C extends ConverterContext> Converter<C> parser(final Class<V> type,
+                                                            final Parser<P> parser,
+                                                            final Function<C, P> context,
+                                                            final BiFunction<ParserToken, C, V> transformer,
+                                                            final CharPredicate leading,
+                                                            final int minLength) {
+        return ParserConverter.with(
+                type,
+                parser,
+                context,
+                transformer,
+                leading,
+                minLength
+        );
+    }
+
     /**
      * {@see SimpleConverter}
      */
@@ -331,6 +498,35 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterStringLocalDate.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDate}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDate(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalDate.with(
+                formatter,
+                cacheSize
+        );
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDate}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDate(final String pattern) {
+        return DateTimeFormatterConverterStringLocalDate.with(pattern);
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDate}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDate(final String pattern,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalDate.with(
+                pattern,
+                cacheSize
+        );
+    }
+
     /**
      * {@see DateTimeFormatterConverterStringLocalDateTime}
      */
@@ -338,6 +534,35 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterStringLocalDateTime.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDateTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDateTime(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalDateTime.with(
+                formatter,
+                cacheSize
+        );
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDateTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDateTime(final String pattern) {
+        return DateTimeFormatterConverterStringLocalDateTime.with(pattern);
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalDateTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalDateTime(final String pattern,
+                                                                                final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalDateTime.with(
+                pattern,
+                cacheSize
+        );
+    }
+
     /**
      * {@see DateTimeFormatterConverterStringLocalTime}
      */
@@ -345,6 +570,35 @@ public final class Converters implements PublicStaticHelper {
         return DateTimeFormatterConverterStringLocalTime.with(formatter);
     }
 
+    /**
+     * {@see DateTimeFormatterConverterStringLocalTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalTime(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalTime.with(
+                formatter,
+                cacheSize
+        );
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalTime(final String pattern) {
+        return DateTimeFormatterConverterStringLocalTime.with(pattern);
+    }
+
+    /**
+     * {@see DateTimeFormatterConverterStringLocalTime}
+     */
+    public static <C extends ConverterContext> Converter<C> stringLocalTime(final String pattern,
+                                                                            final int cacheSize) {
+        return DateTimeFormatterConverterStringLocalTime.with(
+                pattern,
+                cacheSize
+        );
+    }
+
     /**
      * {@see DecimalFormatConverterStringNumber}
      */
@@ -352,6 +606,17 @@ public final class Converters implements PublicStaticHelper {
         return DecimalFormatConverterStringNumber.with(decimalFormat);
     }
 
+    /**
+     * {@see DecimalFormatConverterStringNumber}
+     */
+    public static <C extends ConverterContext> Converter<C> stringNumber(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                                                         final int cacheSize) {
+        return DecimalFormatConverterStringNumber.with(
+                decimalFormat,
+                cacheSize
+        );
+    }
+
     /**
      * {@see ConverterNumberBoolean}
      */
@@ -21,6 +21,8 @@ import walkingkooka.Either;
 import walkingkooka.text.Whitespace;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Wraps another {@link Converter} replacing or ignoring its {@link Converter#toString()} with the provided {@link String}.
@@ -66,6 +68,16 @@ final class CustomToStringConverter<C extends ConverterContext> implements Conve
         return this.converter.canConvert(value, type, context);
     }
 
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
@@ -92,6 +104,16 @@ final class CustomToStringConverter<C extends ConverterContext> implements Conve
                 this.toString.equals(other.toString);
     }
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.converter.sourceTypes();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.converter.targetTypes();
+    }
+
     @Override
     public String toString() {
         return this.toString;
@@ -23,27 +23,43 @@ import walkingkooka.datetime.DateTimeContext;
 
 import java.time.DateTimeException;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DecimalStyle;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Function;
 
 /**
  * A {@link Converter} which uses a {@link DateTimeFormatter} in some part of the conversion process.
  */
-abstract class DateTimeFormatterConverter<S, D, C extends ConverterContext> extends Converter2<C> {
+abstract class DateTimeFormatterConverter<S, D, C extends ConverterContext> extends Converter2<C>
+        implements HasConverterCacheStatistics {
 
     /**
      * Package private to limit sub classing.
      */
-    DateTimeFormatterConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
+    DateTimeFormatterConverter(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                               final int cacheSize) {
+        this(
+                formatter,
+                null,
+                cacheSize
+        );
+    }
+
+    /**
+     * Package private to limit sub classing, the pattern is null when the formatter was not built from one.
+     */
+    DateTimeFormatterConverter(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                               final String pattern,
+                               final int cacheSize) {
         Objects.requireNonNull(formatter, "formatter");
         this.formatter = formatter;
+        this.pattern = pattern;
+        this.cache = DateTimeFormatterConverterCache.with(cacheSize);
     }
 
     /**
      * Wraps the {@link #convert(Object, Class, ConverterContext)} in a try/catch any exceptions will become a failure
-     * using the {@link Throwable#getMessage()} as the failure message.
+     * using the {@link Throwable#getMessage()} as the failure message. Text that is not matched by the formatter
+     * is reported as a null result without an exception.
      */
     @Override
     final <T> Either<T, String> convertNonNull(final Object value,
@@ -51,10 +67,13 @@ abstract class DateTimeFormatterConverter<S, D, C extends ConverterContext> exte
                                                final ConverterContext context) {
         Either<T, String> result;
         try {
-            result = this.successfulConversion(
-                    this.convert1(Cast.to(value), context),
-                    type
-            );
+            final D converted = this.convert1(Cast.to(value), type, context);
+            result = null == converted ?
+                    this.failConversion(value, type) :
+                    this.successfulConversion(
+                            converted,
+                            type
+                    );
         } catch (final IllegalArgumentException | DateTimeException cause) {
             result = this.failConversion(value, type, cause);
         }
@@ -62,38 +81,26 @@ abstract class DateTimeFormatterConverter<S, D, C extends ConverterContext> exte
     }
 
     /**
-     * Uses the {@link Locale} and {@link ConverterContext#twoDigitYear()} creating a {@link DateTimeFormatter}
-     * if necessary and then calls {@link #parseOrFormat(Object, DateTimeFormatter)} wrapping any thrown {@link DateTimeException}
+     * Fetches the {@link DateTimeFormatter} for the {@link ConverterContext} from the cache, creating one if necessary
+     * and then calls {@link #parseOrFormat(Object, DateTimeFormatterConverterCacheEntry)}.
      */
     private D convert1(final S value,
+                       final Class<?> type,
                        final ConverterContext context) {
-        final Locale locale = context.locale();
-        final int twoDigitYear = context.twoDigitYear();
-
-        DateTimeFormatterConverterCache cache = this.cache;
-        DateTimeFormatter dateTimeFormatter;
-        if (null == cache) {
-            dateTimeFormatter = this.formatter.apply(context);
-            this.cache = DateTimeFormatterConverterCache.with(locale,
-                    twoDigitYear,
-                    dateTimeFormatter);
-        } else {
-            if (false == cache.locale.equals(locale) || cache.twoDigitYear != twoDigitYear) {
-                dateTimeFormatter = this.formatter.apply(context)
-                        .withDecimalStyle(DecimalStyle.of(locale)
-                                .withPositiveSign(context.positiveSign())
-                                .withNegativeSign(context.negativeSign())
-                                .withDecimalSeparator(context.decimalSeparator()));
-                cache = DateTimeFormatterConverterCache.with(locale,
-                        twoDigitYear,
-                        dateTimeFormatter);
-                this.cache = cache;
-            }
-
-            dateTimeFormatter = cache.formatter;
-        }
+        final ConverterEventListener listener = ConverterEvents.enabled();
 
-        return this.parseOrFormat(value, dateTimeFormatter);
+        return this.parseOrFormat(
+                value,
+                this.cache.get(
+                        context,
+                        null == listener ?
+                                this.formatter :
+                                (c) -> {
+                                    listener.formatterCacheMiss(this, value, type);
+                                    return this.formatter.apply(c);
+                                }
+                )
+        );
     }
 
     /**
@@ -101,11 +108,47 @@ abstract class DateTimeFormatterConverter<S, D, C extends ConverterContext> exte
      */
     final Function<DateTimeContext, DateTimeFormatter> formatter;
 
-    private transient DateTimeFormatterConverterCache cache;
+    /**
+     * The pattern given to {@link DateTimeFormatterConverterPattern}, or null when the formatter is any function.
+     */
+    final String pattern;
+
+    /**
+     * Holds the {@link DateTimeFormatter} previously created for each {@link java.util.Locale} and other properties.
+     */
+    final DateTimeFormatterConverterCache cache;
+
+    // HasConverterCacheStatistics......................................................................................
+
+    /**
+     * Counts the {@link DateTimeFormatter} found in or built for the cache.
+     */
+    @Override
+    public final ConverterCacheStatistics cacheStatistics() {
+        return this.cache.statistics();
+    }
+
+    /**
+     * Tests the text against the {@link DateTimeFormatterConverterShape} of the pattern, returning true if the
+     * formatter was not built from a pattern or none has been built yet for the {@link ConverterContext}.
+     */
+    final boolean canParse(final String text,
+                           final ConverterContext context) {
+        final String pattern = this.pattern;
+        if (null == pattern) {
+            return true;
+        }
+
+        final DateTimeFormatterConverterCacheEntry entry = this.cache.cached(context);
+        return null == entry ||
+                entry.shape(pattern, context)
+                        .test(text);
+    }
 
     /**
-     * Sub classes should parse or format the value using the {@link DateTimeContext} aware {@link DateTimeFormatter}.
+     * Sub classes should parse or format the value using the {@link DateTimeContext} aware {@link DateTimeFormatter}
+     * held by the {@link DateTimeFormatterConverterCacheEntry}, parsers returning null when the text does not match.
      */
     abstract D parseOrFormat(final S value,
-                             final DateTimeFormatter formatter) throws IllegalArgumentException, DateTimeException;
+                             final DateTimeFormatterConverterCacheEntry entry) throws IllegalArgumentException, DateTimeException;
 }
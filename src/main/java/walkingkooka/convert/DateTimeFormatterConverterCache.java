@@ -17,36 +17,162 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.datetime.DateTimeContext;
+
 import java.time.format.DateTimeFormatter;
-import java.util.Locale;
+import java.time.format.DecimalStyle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
- * Holds the {@link Locale} and {@link int twoDigitYear} that were used to build the {@link DateTimeFormatter}.
+ * A bounded cache of {@link DateTimeFormatter} built for each unique {@link DateTimeFormatterConverterCacheKey},
+ * evicting the least recently used when full. {@link DateTimeFormatter} are immutable and safe to share across threads.
+ * Each is held in a {@link DateTimeFormatterConverterCacheEntry}, so helpers built from it are kept and evicted with it.
  */
 final class DateTimeFormatterConverterCache {
 
-    static DateTimeFormatterConverterCache with(final Locale locale,
-                                                final int twoDigitYear,
-                                                final DateTimeFormatter formatter) {
-        return new DateTimeFormatterConverterCache(locale, twoDigitYear, formatter);
+    /**
+     * The default maximum number of {@link DateTimeFormatter} held by each {@link DateTimeFormatterConverter}.
+     */
+    final static int DEFAULT_SIZE = 16;
+
+    static DateTimeFormatterConverterCache with(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size " + maxSize + " <= 0");
+        }
+        return new DateTimeFormatterConverterCache(maxSize);
     }
 
-    private DateTimeFormatterConverterCache(final Locale locale,
-                                            final int twoDigitYear,
-                                            final DateTimeFormatter formatter) {
+    private DateTimeFormatterConverterCache(final int maxSize) {
         super();
 
-        this.locale = locale;
-        this.twoDigitYear = twoDigitYear;
-        this.formatter = formatter;
+        this.maxSize = maxSize;
+        this.formatters = new LinkedHashMap<DateTimeFormatterConverterCacheKey, DateTimeFormatterConverterCacheEntry>(maxSize, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<DateTimeFormatterConverterCacheKey, DateTimeFormatterConverterCacheEntry> eldest) {
+                final boolean evict = this.size() > DateTimeFormatterConverterCache.this.maxSize;
+                if (evict) {
+                    DateTimeFormatterConverterCache.this.evictions++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@link DateTimeFormatterConverterCacheEntry} for the given {@link ConverterContext} or builds
+     * a {@link DateTimeFormatter} using the factory, applying the {@link DecimalStyle} from the context. The factory is
+     * invoked outside the lock, so two threads may build the same formatter, with the first to complete being kept.
+     */
+    DateTimeFormatterConverterCacheEntry get(final ConverterContext context,
+                                             final Function<DateTimeContext, DateTimeFormatter> factory) {
+        final DateTimeFormatterConverterCacheKey key = DateTimeFormatterConverterCacheKey.with(context);
+        final Map<DateTimeFormatterConverterCacheKey, DateTimeFormatterConverterCacheEntry> formatters = this.formatters;
+
+        DateTimeFormatterConverterCacheEntry entry;
+        synchronized (formatters) {
+            entry = formatters.get(key);
+            if (null != entry) {
+                this.hits++;
+            } else {
+                this.misses++;
+            }
+        }
+
+        if (null == entry) {
+            final DateTimeFormatterConverterCacheEntry built = DateTimeFormatterConverterCacheEntry.with(
+                    factory.apply(context)
+                            .withDecimalStyle(DecimalStyle.of(key.locale)
+                                    .withPositiveSign(key.positiveSign)
+                                    .withNegativeSign(key.negativeSign)
+                                    .withDecimalSeparator(key.decimalSeparator))
+            );
+
+            synchronized (formatters) {
+                entry = formatters.get(key);
+                if (null == entry) {
+                    formatters.put(key, built);
+                    entry = built;
+                }
+            }
+        }
+
+        return entry;
     }
 
-    final Locale locale;
-    final int twoDigitYear;
-    final DateTimeFormatter formatter;
+    /**
+     * Returns the cached {@link DateTimeFormatterConverterCacheEntry} for the given {@link ConverterContext} or null if
+     * none has been built, without counting a hit or miss.
+     */
+    DateTimeFormatterConverterCacheEntry cached(final ConverterContext context) {
+        final DateTimeFormatterConverterCacheKey key = DateTimeFormatterConverterCacheKey.with(context);
+        final Map<DateTimeFormatterConverterCacheKey, DateTimeFormatterConverterCacheEntry> formatters = this.formatters;
+
+        synchronized (formatters) {
+            return formatters.get(key);
+        }
+    }
+
+    /**
+     * The number of cached {@link DateTimeFormatter}.
+     */
+    int size() {
+        synchronized (this.formatters) {
+            return this.formatters.size();
+        }
+    }
+
+    /**
+     * The number of {@link #get(ConverterContext, Function)} that returned a cached {@link DateTimeFormatter}.
+     */
+    long hits() {
+        synchronized (this.formatters) {
+            return this.hits;
+        }
+    }
+
+    /**
+     * The number of {@link #get(ConverterContext, Function)} that needed to build a {@link DateTimeFormatter}.
+     */
+    long misses() {
+        synchronized (this.formatters) {
+            return this.misses;
+        }
+    }
+
+    /**
+     * Returns a snapshot of all counters, taken while holding the lock.
+     */
+    ConverterCacheStatistics statistics() {
+        synchronized (this.formatters) {
+            return ConverterCacheStatistics.with(
+                    this.formatters.size(),
+                    this.hits,
+                    this.misses,
+                    this.evictions
+            );
+        }
+    }
+
+    private final int maxSize;
+
+    /**
+     * A {@link LinkedHashMap} in access order, guarded by synchronizing on itself.
+     */
+    private final Map<DateTimeFormatterConverterCacheKey, DateTimeFormatterConverterCacheEntry> formatters;
+
+    private long hits;
+    private long misses;
+    private long evictions;
 
     @Override
     public String toString() {
-        return this.locale + " " + this.twoDigitYear + " " + this.formatter;
+        synchronized (this.formatters) {
+            return this.formatters.keySet() + " hits=" + this.hits + " misses=" + this.misses;
+        }
     }
 }
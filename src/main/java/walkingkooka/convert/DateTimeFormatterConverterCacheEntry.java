@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.datetime.DateTimeContext;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A {@link DateTimeFormatter} held by a {@link DateTimeFormatterConverterCache}, along with the helpers examined from
+ * it, which are only built the first time they are needed. All are immutable, so two threads may both build the same
+ * helper with either being kept.
+ */
+final class DateTimeFormatterConverterCacheEntry {
+
+    static DateTimeFormatterConverterCacheEntry with(final DateTimeFormatter formatter) {
+        return new DateTimeFormatterConverterCacheEntry(formatter);
+    }
+
+    private DateTimeFormatterConverterCacheEntry(final DateTimeFormatter formatter) {
+        super();
+        this.formatter = formatter;
+    }
+
+    /**
+     * The {@link DateTimeFormatter} with the {@link java.time.format.DecimalStyle} of the context applied.
+     */
+    final DateTimeFormatter formatter;
+
+    /**
+     * Returns the {@link DateTimeFormatterConverterResolver} for the {@link #formatter}.
+     */
+    DateTimeFormatterConverterResolver resolver() {
+        DateTimeFormatterConverterResolver resolver = this.resolver;
+        if (null == resolver) {
+            resolver = DateTimeFormatterConverterResolver.with(this.formatter);
+            this.resolver = resolver;
+        }
+        return resolver;
+    }
+
+    private volatile DateTimeFormatterConverterResolver resolver;
+
+    /**
+     * Returns the {@link DateTimeFormatterConverterShape} for the pattern the {@link #formatter} was built from, using
+     * the names of the {@link DateTimeContext}.
+     */
+    DateTimeFormatterConverterShape shape(final String pattern,
+                                          final DateTimeContext context) {
+        DateTimeFormatterConverterShape shape = this.shape;
+        if (null == shape) {
+            shape = DateTimeFormatterConverterShape.with(
+                    pattern,
+                    context,
+                    this.formatter.getDecimalStyle()
+                            .getZeroDigit()
+            );
+            this.shape = shape;
+        }
+        return shape;
+    }
+
+    private volatile DateTimeFormatterConverterShape shape;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.formatter.toString();
+    }
+}
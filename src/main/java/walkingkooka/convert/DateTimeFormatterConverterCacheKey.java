@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Captures all the {@link ConverterContext} properties that are used to build a {@link DateTimeFormatter}.
+ */
+final class DateTimeFormatterConverterCacheKey {
+
+    static DateTimeFormatterConverterCacheKey with(final ConverterContext context) {
+        return new DateTimeFormatterConverterCacheKey(
+                context.locale(),
+                context.twoDigitYear(),
+                context.positiveSign(),
+                context.negativeSign(),
+                context.decimalSeparator()
+        );
+    }
+
+    private DateTimeFormatterConverterCacheKey(final Locale locale,
+                                               final int twoDigitYear,
+                                               final char positiveSign,
+                                               final char negativeSign,
+                                               final char decimalSeparator) {
+        super();
+
+        this.locale = locale;
+        this.twoDigitYear = twoDigitYear;
+        this.positiveSign = positiveSign;
+        this.negativeSign = negativeSign;
+        this.decimalSeparator = decimalSeparator;
+    }
+
+    final Locale locale;
+    final int twoDigitYear;
+    final char positiveSign;
+    final char negativeSign;
+    final char decimalSeparator;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return ((((this.locale.hashCode() * 31) +
+                this.twoDigitYear) * 31 +
+                this.positiveSign) * 31 +
+                this.negativeSign) * 31 +
+                this.decimalSeparator;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof DateTimeFormatterConverterCacheKey &&
+                        this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final DateTimeFormatterConverterCacheKey other) {
+        return this.locale.equals(other.locale) &&
+                this.twoDigitYear == other.twoDigitYear &&
+                this.positiveSign == other.positiveSign &&
+                this.negativeSign == other.negativeSign &&
+                this.decimalSeparator == other.decimalSeparator;
+    }
+
+    @Override
+    public String toString() {
+        return this.locale + " " + this.twoDigitYear + " " + this.positiveSign + this.negativeSign + this.decimalSeparator;
+    }
+}
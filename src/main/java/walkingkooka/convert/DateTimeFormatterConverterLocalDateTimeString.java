@@ -21,6 +21,8 @@ import walkingkooka.datetime.DateTimeContext;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -29,11 +31,26 @@ import java.util.function.Function;
 final class DateTimeFormatterConverterLocalDateTimeString<C extends ConverterContext> extends DateTimeFormatterConverter<LocalDateTime, String, C> {
 
     static <C extends ConverterContext> DateTimeFormatterConverterLocalDateTimeString<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        return new DateTimeFormatterConverterLocalDateTimeString<>(formatter);
+        return with(
+                formatter,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
     }
 
-    private DateTimeFormatterConverterLocalDateTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        super(formatter);
+    static <C extends ConverterContext> DateTimeFormatterConverterLocalDateTimeString<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                              final int cacheSize) {
+        return new DateTimeFormatterConverterLocalDateTimeString<>(
+                formatter,
+                cacheSize
+        );
+    }
+
+    private DateTimeFormatterConverterLocalDateTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                          final int cacheSize) {
+        super(
+                formatter,
+                cacheSize
+        );
     }
 
     @Override
@@ -50,8 +67,18 @@ final class DateTimeFormatterConverterLocalDateTimeString<C extends ConverterCon
 
     @Override
     String parseOrFormat(final LocalDateTime value,
-                         final DateTimeFormatter formatter) throws IllegalArgumentException {
-        return value.format(formatter);
+                         final DateTimeFormatterConverterCacheEntry entry) throws IllegalArgumentException {
+        return value.format(entry.formatter);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(LocalDateTime.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(String.class);
     }
 
     // Object...........................................................................................................
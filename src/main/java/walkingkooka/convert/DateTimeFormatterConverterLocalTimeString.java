@@ -21,6 +21,8 @@ import walkingkooka.datetime.DateTimeContext;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -29,11 +31,26 @@ import java.util.function.Function;
 final class DateTimeFormatterConverterLocalTimeString<C extends ConverterContext> extends DateTimeFormatterConverter<LocalTime, String, C> {
 
     static <C extends ConverterContext> DateTimeFormatterConverterLocalTimeString<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        return new DateTimeFormatterConverterLocalTimeString<>(formatter);
+        return with(
+                formatter,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
     }
 
-    private DateTimeFormatterConverterLocalTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        super(formatter);
+    static <C extends ConverterContext> DateTimeFormatterConverterLocalTimeString<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                          final int cacheSize) {
+        return new DateTimeFormatterConverterLocalTimeString<>(
+                formatter,
+                cacheSize
+        );
+    }
+
+    private DateTimeFormatterConverterLocalTimeString(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                      final int cacheSize) {
+        super(
+                formatter,
+                cacheSize
+        );
     }
 
     @Override
@@ -50,8 +67,18 @@ final class DateTimeFormatterConverterLocalTimeString<C extends ConverterContext
 
     @Override
     String parseOrFormat(final LocalTime value,
-                         final DateTimeFormatter formatter) throws IllegalArgumentException {
-        return value.format(formatter);
+                         final DateTimeFormatterConverterCacheEntry entry) throws IllegalArgumentException {
+        return value.format(entry.formatter);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(LocalTime.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(String.class);
     }
 
     // Object...........................................................................................................
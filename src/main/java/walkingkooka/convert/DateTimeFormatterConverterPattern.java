@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.datetime.DateTimeContext;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Builds a {@link DateTimeFormatter} from a {@link DateTimeFormatter#ofPattern(String)} pattern, taking month, day of
+ * week and am/pm names from the {@link DateTimeContext} rather than the {@link java.util.Locale}. The same pattern
+ * and names are read by {@link DateTimeFormatterConverterShape}.
+ */
+final class DateTimeFormatterConverterPattern {
+
+    /**
+     * Returns a factory that builds the {@link DateTimeFormatter} for the pattern, failing invalid patterns now
+     * rather than on the first conversion.
+     */
+    static Function<DateTimeContext, DateTimeFormatter> formatter(final String pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+
+        DateTimeFormatter.ofPattern(pattern);
+        return (c) -> formatter(pattern, c);
+    }
+
+    // @VisibleForTesting
+    static DateTimeFormatter formatter(final String pattern,
+                                       final DateTimeContext context) {
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+
+        final int length = pattern.length();
+        int start = 0;
+        int i = 0;
+
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            final int end = end(pattern, i);
+
+            final Map<Long, String> names = names(c, end - i, context);
+            if (null != names) {
+                if (start < i) {
+                    builder.appendPattern(pattern.substring(start, i));
+                }
+                builder.appendText(
+                        field(c),
+                        names
+                );
+                start = end;
+            }
+            i = end;
+        }
+
+        if (start < length) {
+            builder.appendPattern(pattern.substring(start));
+        }
+
+        return builder.toFormatter(context.locale());
+    }
+
+    /**
+     * Returns the end of the run of the same letter or quoted literal starting at i, or i + 1 for any other character.
+     */
+    static int end(final String pattern,
+                   final int i) {
+        final int length = pattern.length();
+        final char c = pattern.charAt(i);
+        int end = i + 1;
+
+        if ('\'' == c) {
+            while (end < length) {
+                if ('\'' == pattern.charAt(end)) {
+                    end++;
+                    if (end == length || '\'' != pattern.charAt(end)) {
+                        break;
+                    }
+                }
+                end++;
+            }
+        } else {
+            if (isLetter(c)) {
+                while (end < length && c == pattern.charAt(end)) {
+                    end++;
+                }
+            }
+        }
+
+        return end;
+    }
+
+    static boolean isLetter(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns the names for a month, day of week or am/pm field taken from the {@link DateTimeContext}, or null for
+     * any other field or style.
+     */
+    static Map<Long, String> names(final char letter,
+                                   final int count,
+                                   final DateTimeContext context) {
+        Map<Long, String> names = null;
+
+        switch (letter) {
+            case 'M':
+                switch (count) {
+                    case 3:
+                        names = names(context.monthNameAbbreviations(), 1, 0);
+                        break;
+                    case 4:
+                        names = names(context.monthNames(), 1, 0);
+                        break;
+                    default:
+                        break;
+                }
+                break;
+            case 'E':
+                // DayOfWeek counts from monday but the context names begin with sunday
+                switch (count) {
+                    case 1:
+                    case 2:
+                    case 3:
+                        names = names(context.weekDayNameAbbreviations(), 1, 1);
+                        break;
+                    case 4:
+                        names = names(context.weekDayNames(), 1, 1);
+                        break;
+                    default:
+                        break;
+                }
+                break;
+            case 'a':
+                if (1 == count) {
+                    names = names(context.ampms(), 0, 0);
+                }
+                break;
+            default:
+                break;
+        }
+
+        return names;
+    }
+
+    private static Map<Long, String> names(final List<String> names,
+                                           final int first,
+                                           final int offset) {
+        final Map<Long, String> map = new LinkedHashMap<>();
+
+        final int count = names.size();
+        for (int i = 0; i < count; i++) {
+            map.put(
+                    (long) (first + i),
+                    names.get((i + offset) % count)
+            );
+        }
+
+        return map;
+    }
+
+    private static ChronoField field(final char letter) {
+        final ChronoField field;
+
+        switch (letter) {
+            case 'M':
+                field = ChronoField.MONTH_OF_YEAR;
+                break;
+            case 'E':
+                field = ChronoField.DAY_OF_WEEK;
+                break;
+            default:
+                field = ChronoField.AMPM_OF_DAY;
+                break;
+        }
+
+        return field;
+    }
+
+    /**
+     * Stop creation
+     */
+    private DateTimeFormatterConverterPattern() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Parses text with a {@link DateTimeFormatter} without throwing when the text does not match, using
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}, and then resolves the common ISO date and
+ * time fields following the same rules as the {@link DateTimeFormatter} in {@link ResolverStyle#SMART} and
+ * {@link ResolverStyle#STRICT}.
+ * <br>
+ * The {@link DateTimeFormatter} is examined once, only resolving when it parses nothing other than era, year,
+ * month, day of month, day of week, hour, am/pm, minute, second and nano of second. The resolve methods return null
+ * when the formatter or parsed values are not supported, and the caller should then parse again with the
+ * {@link DateTimeFormatter}, which either resolves the other fields or throws the exception with the reason.
+ */
+final class DateTimeFormatterConverterResolver {
+
+    static DateTimeFormatterConverterResolver with(final DateTimeFormatter formatter) {
+        return new DateTimeFormatterConverterResolver(formatter);
+    }
+
+    private DateTimeFormatterConverterResolver(final DateTimeFormatter formatter) {
+        super();
+        this.formatter = formatter;
+
+        final Chronology chronology = formatter.getChronology();
+        final int fields = ResolverStyle.LENIENT != formatter.getResolverStyle() &&
+                null == formatter.getZone() &&
+                null == formatter.getResolverFields() &&
+                (null == chronology || IsoChronology.INSTANCE.equals(chronology)) ?
+                fields(formatter.toString()) :
+                UNSUPPORTED;
+
+        this.date = fields == DATE;
+        this.time = fields == TIME;
+        this.dateTime = fields == (DATE | TIME);
+        this.strict = ResolverStyle.STRICT == formatter.getResolverStyle();
+    }
+
+    /**
+     * Parses the text returning the unresolved fields, or null if the text is not entirely matched by the formatter.
+     */
+    TemporalAccessor parseUnresolved(final String text) {
+        final ParsePosition position = new ParsePosition(0);
+        final TemporalAccessor unresolved = this.formatter.parseUnresolved(text, position);
+
+        return null == unresolved || position.getErrorIndex() >= 0 || position.getIndex() != text.length() ?
+                null :
+                unresolved;
+    }
+
+    /**
+     * Resolves the date fields, returning null if the formatter also parses time fields.
+     */
+    LocalDate localDate(final TemporalAccessor unresolved) {
+        return this.date ?
+                this.date(unresolved) :
+                null;
+    }
+
+    /**
+     * Resolves the time fields, returning null if the formatter also parses date fields.
+     */
+    LocalTime localTime(final TemporalAccessor unresolved) {
+        return this.time ?
+                time(unresolved) :
+                null;
+    }
+
+    /**
+     * Resolves both the date and time fields, returning null if either is missing.
+     */
+    LocalDateTime localDateTime(final TemporalAccessor unresolved) {
+        LocalDateTime localDateTime = null;
+
+        if (this.dateTime) {
+            final LocalDate date = this.date(unresolved);
+            if (null != date) {
+                final LocalTime time = time(unresolved);
+                if (null != time) {
+                    localDateTime = LocalDateTime.of(date, time);
+                }
+            }
+        }
+
+        return localDateTime;
+    }
+
+    private final DateTimeFormatter formatter;
+
+    /**
+     * Only one of these will be true when the formatter parses date, time or date and time fields that are resolved here.
+     */
+    private final boolean date;
+    private final boolean time;
+    private final boolean dateTime;
+
+    private final boolean strict;
+
+    private final static int UNSUPPORTED = -1;
+    private final static int DATE = 1;
+    private final static int TIME = 2;
+
+    /**
+     * Reads the description of the printer parsers from {@link DateTimeFormatter#toString()}, returning {@link #DATE}
+     * and or {@link #TIME} for the fields that are parsed or {@link #UNSUPPORTED} if anything else is present, such as a
+     * zone, offset, day period, week fields, defaults or a description that is not understood.
+     * <pre>
+     * Value(YearOfEra,4,19,EXCEEDS_PAD)'-'Value(MonthOfYear,2)'-'Value(DayOfMonth,2)[' 'Value(HourOfDay,2)]
+     * </pre>
+     */
+    static int fields(final String description) {
+        int fields = 0;
+
+        final int length = description.length();
+        int i = 0;
+
+        while (i < length) {
+            final char c = description.charAt(i);
+
+            switch (c) {
+                case '\'':
+                    // literal text with quotes escaped by doubling
+                    i++;
+                    for (; ; ) {
+                        if (i >= length) {
+                            return UNSUPPORTED;
+                        }
+                        if ('\'' == description.charAt(i)) {
+                            i++;
+                            if (i == length || '\'' != description.charAt(i)) {
+                                break;
+                            }
+                        }
+                        i++;
+                    }
+                    break;
+                case '(':
+                case ')':
+                case '[':
+                case ']':
+                    i++;
+                    break;
+                default:
+                    final int nameStart = i;
+                    while (i < length && Character.isLetter(description.charAt(i))) {
+                        i++;
+                    }
+                    if (i == length || '(' != description.charAt(i)) {
+                        return UNSUPPORTED;
+                    }
+                    final String name = description.substring(nameStart, i);
+                    final int close = description.indexOf(')', i);
+                    if (-1 == close) {
+                        return UNSUPPORTED;
+                    }
+                    int argumentEnd = description.indexOf(',', i);
+                    if (-1 == argumentEnd || argumentEnd > close) {
+                        argumentEnd = close;
+                    }
+                    final String argument = description.substring(i + 1, argumentEnd);
+
+                    switch (name) {
+                        case "Value":
+                        case "Text":
+                        case "ReducedValue":
+                        case "Fraction":
+                            final int group = group(argument);
+                            if (0 == group) {
+                                return UNSUPPORTED;
+                            }
+                            fields |= group;
+                            break;
+                        case "ParseCaseSensitive":
+                        case "ParseStrict":
+                            break;
+                        default:
+                            return UNSUPPORTED;
+                    }
+                    i = close + 1;
+                    break;
+            }
+        }
+
+        return 0 == fields ?
+                UNSUPPORTED :
+                fields;
+    }
+
+    /**
+     * Returns {@link #DATE}, {@link #TIME} or 0 for fields that are never resolved here.
+     */
+    private static int group(final String field) {
+        final int group;
+
+        switch (field) {
+            case "Era":
+            case "YearOfEra":
+            case "Year":
+            case "MonthOfYear":
+            case "DayOfMonth":
+            case "DayOfWeek":
+                group = DATE;
+                break;
+            case "AmPmOfDay":
+            case "ClockHourOfAmPm":
+            case "HourOfAmPm":
+            case "ClockHourOfDay":
+            case "HourOfDay":
+            case "MinuteOfHour":
+            case "SecondOfMinute":
+            case "NanoOfSecond":
+                group = TIME;
+                break;
+            default:
+                group = 0;
+                break;
+        }
+
+        return group;
+    }
+
+    /**
+     * Resolves the year from the year of era and era, then the date from the year, month and day, following
+     * {@link IsoChronology#resolveDate(java.util.Map, ResolverStyle)}.
+     */
+    private LocalDate date(final TemporalAccessor unresolved) {
+        Long year = get(unresolved, ChronoField.YEAR);
+        final Long yearOfEra = get(unresolved, ChronoField.YEAR_OF_ERA);
+        final Long era = get(unresolved, ChronoField.ERA);
+
+        boolean valid;
+        if (null != yearOfEra) {
+            final long yoe = yearOfEra;
+            if (yoe < 1 || yoe > Year.MAX_VALUE + 1L) {
+                valid = false;
+            } else {
+                final long resolved;
+                if (null == era) {
+                    // STRICT does not assume the current era without a year
+                    valid = false == this.strict || null != year;
+                    resolved = null == year || year > 0 ?
+                            yoe :
+                            1 - yoe;
+                } else {
+                    final long eraValue = era;
+                    valid = 0 == eraValue || 1 == eraValue;
+                    resolved = 1 == eraValue ?
+                            yoe :
+                            1 - yoe;
+                }
+                if (null != year && year != resolved) {
+                    valid = false;
+                }
+                year = resolved;
+            }
+        } else {
+            valid = null == era;
+        }
+
+        final Long month = get(unresolved, ChronoField.MONTH_OF_YEAR);
+        final Long day = get(unresolved, ChronoField.DAY_OF_MONTH);
+
+        LocalDate date = null;
+        if (valid && null != year && null != month && null != day &&
+                ChronoField.YEAR.range().isValidValue(year) &&
+                month >= 1 && month <= 12 &&
+                day >= 1 && day <= 31) {
+            final int y = (int) (long) year;
+            final int m = (int) (long) month;
+            int d = (int) (long) day;
+
+            final int length = Month.of(m).length(Year.isLeap(y));
+            if (false == this.strict && d > length) {
+                d = length;
+            }
+            if (d <= length) {
+                date = LocalDate.of(y, m, d);
+
+                final Long dayOfWeek = get(unresolved, ChronoField.DAY_OF_WEEK);
+                if (null != dayOfWeek && dayOfWeek != date.getDayOfWeek().getValue()) {
+                    date = null;
+                }
+            }
+        }
+
+        return date;
+    }
+
+    /**
+     * Resolves the hour from the clock hour or am/pm fields and then the time, following the time resolving of
+     * the {@link DateTimeFormatter}. Midnight written as 24:00 with the hour of day is left to the {@link DateTimeFormatter}.
+     */
+    private static LocalTime time(final TemporalAccessor unresolved) {
+        Long hour = get(unresolved, ChronoField.HOUR_OF_DAY);
+        final Long clockHour = get(unresolved, ChronoField.CLOCK_HOUR_OF_DAY);
+        Long hourOfAmPm = get(unresolved, ChronoField.HOUR_OF_AMPM);
+        final Long clockHourOfAmPm = get(unresolved, ChronoField.CLOCK_HOUR_OF_AMPM);
+        final Long amPm = get(unresolved, ChronoField.AMPM_OF_DAY);
+
+        boolean valid = true;
+        if (null != clockHour) {
+            valid = null == hour && clockHour >= 1 && clockHour <= 24;
+            hour = 24 == clockHour ? 0 : clockHour;
+        }
+        if (null != clockHourOfAmPm) {
+            valid &= null == hourOfAmPm && clockHourOfAmPm >= 1 && clockHourOfAmPm <= 12;
+            hourOfAmPm = 12 == clockHourOfAmPm ? 0 : clockHourOfAmPm;
+        }
+        if (null != hourOfAmPm || null != amPm) {
+            valid &= null == hour &&
+                    null != hourOfAmPm &&
+                    null != amPm &&
+                    hourOfAmPm >= 0 && hourOfAmPm <= 11 &&
+                    amPm >= 0 && amPm <= 1;
+            if (valid) {
+                hour = amPm * 12 + hourOfAmPm;
+            }
+        }
+
+        final Long minute = get(unresolved, ChronoField.MINUTE_OF_HOUR);
+        final Long second = get(unresolved, ChronoField.SECOND_OF_MINUTE);
+        final Long nano = get(unresolved, ChronoField.NANO_OF_SECOND);
+
+        // seconds require minutes and nanos require seconds otherwise the time is not resolved
+        if (null == minute && (null != second || null != nano) ||
+                null != minute && null == second && null != nano) {
+            valid = false;
+        }
+
+        return valid &&
+                null != hour && hour >= 0 && hour <= 23 &&
+                (null == minute || minute >= 0 && minute <= 59) &&
+                (null == second || second >= 0 && second <= 59) &&
+                (null == nano || nano >= 0 && nano <= 999_999_999) ?
+                LocalTime.of(
+                        (int) (long) hour,
+                        null == minute ? 0 : (int) (long) minute,
+                        null == second ? 0 : (int) (long) second,
+                        null == nano ? 0 : (int) (long) nano
+                ) :
+                null;
+    }
+
+    private static Long get(final TemporalAccessor unresolved,
+                            final ChronoField field) {
+        return unresolved.isSupported(field) ?
+                unresolved.getLong(field) :
+                null;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.formatter.toString();
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.datetime.DateTimeContext;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cheap test that rejects text that a {@link DateTimeFormatter} built by {@link DateTimeFormatterConverterPattern}
+ * cannot parse, without invoking the formatter. The shape is read once from the pattern, and holds the range of
+ * lengths, the minimum number of digits and the literals and month, day of week or am/pm names that must appear in
+ * order. Text that passes may still fail to parse.
+ * <pre>
+ * yyyy-MM-dd
+ * </pre>
+ * Names are those of the {@link DateTimeContext} used to build the formatter. Fields in optional sections are never
+ * required, and patterns with letters that are not understood, such as zones, offsets, weeks or quarters, result in
+ * a shape that accepts any text.
+ */
+final class DateTimeFormatterConverterShape {
+
+    static DateTimeFormatterConverterShape with(final String pattern,
+                                                final DateTimeContext context,
+                                                final char zeroDigit) {
+        final DateTimeFormatterConverterShape shape = parse(
+                pattern,
+                context,
+                zeroDigit
+        );
+        return null != shape ?
+                shape :
+                new DateTimeFormatterConverterShape(
+                        zeroDigit,
+                        0,
+                        Integer.MAX_VALUE,
+                        0,
+                        NO_PIECES
+                );
+    }
+
+    private final static String[][] NO_PIECES = new String[0][];
+
+    /**
+     * Reads the pattern, returning null if anything is not understood.
+     */
+    private static DateTimeFormatterConverterShape parse(final String pattern,
+                                                         final DateTimeContext context,
+                                                         final char zeroDigit) {
+        final List<String[]> pieces = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+
+        int minLength = 0;
+        long maxLength = 0;
+        int minDigits = 0;
+
+        int optional = 0;
+
+        final int length = pattern.length();
+        int i = 0;
+
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            final int end = DateTimeFormatterConverterPattern.end(pattern, i);
+            final int count = end - i;
+
+            if ('\'' == c) {
+                // a doubled quote is an escaped quote both inside and outside a quoted literal
+                final String text = 2 == count ?
+                        "'" :
+                        pattern.substring(i + 1, end - 1)
+                                .replace("''", "'");
+                if (0 == optional) {
+                    literal.append(text);
+                    minLength += text.length();
+                    minDigits += digits(text, zeroDigit);
+                }
+                maxLength += text.length();
+            } else {
+                if (DateTimeFormatterConverterPattern.isLetter(c)) {
+                    final Map<Long, String> names = DateTimeFormatterConverterPattern.names(c, count, context);
+                    if (null != names) {
+                        if (0 == optional) {
+                            final String[] text = names.values()
+                                    .toArray(new String[0]);
+                            literal(literal, pieces);
+                            pieces.add(text);
+                            minLength += shortest(text);
+                        }
+                        maxLength = Integer.MAX_VALUE;
+                    } else {
+                        final int min;
+                        final int max;
+
+                        switch (c) {
+                            case 'u':
+                            case 'y':
+                                min = 2 == count ?
+                                        2 :
+                                        count;
+                                max = 2 == count ?
+                                        2 :
+                                        19 + 1;
+                                break;
+                            case 'M':
+                            case 'L':
+                                // longer are names that are not from the context
+                                min = count > 2 ?
+                                        0 :
+                                        count;
+                                max = count > 2 ?
+                                        Integer.MAX_VALUE :
+                                        2 == count ?
+                                                2 :
+                                                19 + 1;
+                                break;
+                            case 'd':
+                            case 'H':
+                            case 'h':
+                            case 'K':
+                            case 'k':
+                            case 'm':
+                            case 's':
+                                if (count > 2) {
+                                    return null;
+                                }
+                                min = count;
+                                max = 2 == count ?
+                                        2 :
+                                        19 + 1;
+                                break;
+                            case 'D':
+                                if (count > 3) {
+                                    return null;
+                                }
+                                min = count;
+                                max = 1 == count ?
+                                        19 + 1 :
+                                        3;
+                                break;
+                            case 'S':
+                                min = count;
+                                max = count;
+                                break;
+                            case 'n':
+                            case 'N':
+                            case 'A':
+                                min = count;
+                                max = Math.max(count, 19 + 1);
+                                break;
+                            case 'E':
+                            case 'G':
+                                // narrow or era names that are not from the context
+                                min = 0;
+                                max = Integer.MAX_VALUE;
+                                break;
+                            default:
+                                return null;
+                        }
+
+                        if (0 == optional) {
+                            minLength += min;
+                            minDigits += min;
+                        }
+                        maxLength += max;
+                    }
+                } else {
+                    switch (c) {
+                        case '[':
+                            optional++;
+                            break;
+                        case ']':
+                            optional--;
+                            if (optional < 0) {
+                                return null;
+                            }
+                            break;
+                        case '{':
+                        case '}':
+                        case '#':
+                            return null;
+                        default:
+                            if (0 == optional) {
+                                literal.append(c);
+                                minLength++;
+                                minDigits += digits(String.valueOf(c), zeroDigit);
+                            }
+                            maxLength++;
+                            break;
+                    }
+                }
+                if ('[' == c || ']' == c || DateTimeFormatterConverterPattern.isLetter(c)) {
+                    literal(literal, pieces);
+                }
+            }
+
+            i = end;
+        }
+        literal(literal, pieces);
+
+        return new DateTimeFormatterConverterShape(
+                zeroDigit,
+                minLength,
+                (int) Math.min(maxLength, Integer.MAX_VALUE),
+                minDigits,
+                pieces.toArray(NO_PIECES)
+        );
+    }
+
+    /**
+     * Adds any literal text as a piece and clears it.
+     */
+    private static void literal(final StringBuilder literal,
+                                final List<String[]> pieces) {
+        if (literal.length() > 0) {
+            pieces.add(new String[]{literal.toString()});
+            literal.setLength(0);
+        }
+    }
+
+    private static int digits(final CharSequence text,
+                              final char zeroDigit) {
+        int digits = 0;
+
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final int digit = text.charAt(i) - zeroDigit;
+            if (digit >= 0 && digit <= 9) {
+                digits++;
+            }
+        }
+
+        return digits;
+    }
+
+    private static int shortest(final String[] names) {
+        int shortest = Integer.MAX_VALUE;
+        for (final String name : names) {
+            shortest = Math.min(shortest, name.length());
+        }
+        return shortest;
+    }
+
+    private DateTimeFormatterConverterShape(final char zeroDigit,
+                                            final int minLength,
+                                            final int maxLength,
+                                            final int minDigits,
+                                            final String[][] pieces) {
+        super();
+
+        this.zeroDigit = zeroDigit;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.minDigits = minDigits;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Returns false if the text cannot possibly be parsed by the formatter.
+     */
+    boolean test(final String text) {
+        final int length = text.length();
+        if (length < this.minLength || length > this.maxLength) {
+            return false;
+        }
+
+        final int minDigits = this.minDigits;
+        if (minDigits > 0 && digits(text, this.zeroDigit) < minDigits) {
+            return false;
+        }
+
+        int position = 0;
+        for (final String[] alternatives : this.pieces) {
+            position = end(
+                    text,
+                    alternatives,
+                    position
+            );
+            if (-1 == position) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the smallest end of any of the alternatives found at or after from, or -1 if none were found.
+     */
+    private static int end(final String text,
+                           final String[] alternatives,
+                           final int from) {
+        int end = -1;
+
+        for (final String alternative : alternatives) {
+            final int found = text.indexOf(alternative, from);
+            if (-1 != found) {
+                final int alternativeEnd = found + alternative.length();
+                if (-1 == end || alternativeEnd < end) {
+                    end = alternativeEnd;
+                }
+            }
+        }
+
+        return end;
+    }
+
+    private final char zeroDigit;
+    private final int minLength;
+    private final int maxLength;
+    private final int minDigits;
+
+    /**
+     * Each piece holds one or more alternatives, one of which must appear after the previous piece.
+     */
+    private final String[][] pieces;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append(this.minLength)
+                .append("..")
+                .append(this.maxLength)
+                .append(" digits=")
+                .append(this.minDigits);
+
+        for (final String[] alternatives : this.pieces) {
+            b.append(' ')
+                    .append(Arrays.toString(alternatives));
+        }
+        return b.toString();
+    }
+}
@@ -23,6 +23,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -31,21 +34,65 @@ import java.util.function.Function;
 final class DateTimeFormatterConverterStringLocalDate<C extends ConverterContext> extends DateTimeFormatterConverter<String, LocalDate, C> {
 
     static <C extends ConverterContext> DateTimeFormatterConverterStringLocalDate<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        return new DateTimeFormatterConverterStringLocalDate<>(formatter);
+        return with(
+                formatter,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalDate<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                          final int cacheSize) {
+        return new DateTimeFormatterConverterStringLocalDate<>(
+                formatter,
+                null,
+                cacheSize
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalDate<C> with(final String pattern) {
+        return with(
+                pattern,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalDate<C> with(final String pattern,
+                                                                                          final int cacheSize) {
+        return new DateTimeFormatterConverterStringLocalDate<>(
+                DateTimeFormatterConverterPattern.formatter(pattern),
+                pattern,
+                cacheSize
+        );
     }
 
     /**
      * Private ctor use static factory
      */
-    private DateTimeFormatterConverterStringLocalDate(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        super(formatter);
+    private DateTimeFormatterConverterStringLocalDate(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                      final String pattern,
+                                                      final int cacheSize) {
+        super(
+                formatter,
+                pattern,
+                cacheSize
+        );
     }
 
+    /**
+     * Only accepts {@link String} that have the shape of the formatter, so a {@link ConverterCollection} skips this
+     * converter for text that cannot be parsed.
+     */
     @Override
     boolean canConvertNonNull(final Object value,
                               final Class<?> type,
                               final C context) {
-        return value instanceof String;
+        return value instanceof String &&
+                this.canParse((String) value, context);
+    }
+
+    @Override
+    public boolean isValueDependent() {
+        return true;
     }
 
     @Override
@@ -55,8 +102,28 @@ final class DateTimeFormatterConverterStringLocalDate<C extends ConverterContext
 
     @Override
     LocalDate parseOrFormat(final String text,
-                            final DateTimeFormatter formatter) throws DateTimeParseException {
-        return LocalDate.parse(text, formatter);
+                            final DateTimeFormatterConverterCacheEntry entry) throws DateTimeParseException {
+        final DateTimeFormatterConverterResolver resolver = entry.resolver();
+        final TemporalAccessor unresolved = resolver.parseUnresolved(text);
+
+        LocalDate parsed = null;
+        if (null != unresolved) {
+            parsed = resolver.localDate(unresolved);
+            if (null == parsed) {
+                parsed = LocalDate.parse(text, entry.formatter);
+            }
+        }
+        return parsed;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(LocalDate.class);
     }
 
     // Object...........................................................................................................
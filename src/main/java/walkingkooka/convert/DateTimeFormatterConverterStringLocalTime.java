@@ -22,6 +22,9 @@ import walkingkooka.datetime.DateTimeContext;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -30,21 +33,65 @@ import java.util.function.Function;
 final class DateTimeFormatterConverterStringLocalTime<C extends ConverterContext> extends DateTimeFormatterConverter<String, LocalTime, C> {
 
     static <C extends ConverterContext> DateTimeFormatterConverterStringLocalTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        return new DateTimeFormatterConverterStringLocalTime<>(formatter);
+        return with(
+                formatter,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                                                          final int cacheSize) {
+        return new DateTimeFormatterConverterStringLocalTime<>(
+                formatter,
+                null,
+                cacheSize
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalTime<C> with(final String pattern) {
+        return with(
+                pattern,
+                DateTimeFormatterConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DateTimeFormatterConverterStringLocalTime<C> with(final String pattern,
+                                                                                          final int cacheSize) {
+        return new DateTimeFormatterConverterStringLocalTime<>(
+                DateTimeFormatterConverterPattern.formatter(pattern),
+                pattern,
+                cacheSize
+        );
     }
 
     /**
      * Private ctor use static factory
      */
-    private DateTimeFormatterConverterStringLocalTime(final Function<DateTimeContext, DateTimeFormatter> formatter) {
-        super(formatter);
+    private DateTimeFormatterConverterStringLocalTime(final Function<DateTimeContext, DateTimeFormatter> formatter,
+                                                      final String pattern,
+                                                      final int cacheSize) {
+        super(
+                formatter,
+                pattern,
+                cacheSize
+        );
     }
 
+    /**
+     * Only accepts {@link String} that have the shape of the formatter, so a {@link ConverterCollection} skips this
+     * converter for text that cannot be parsed.
+     */
     @Override
     boolean canConvertNonNull(final Object value,
                               final Class<?> type,
                               final C context) {
-        return value instanceof String;
+        return value instanceof String &&
+                this.canParse((String) value, context);
+    }
+
+    @Override
+    public boolean isValueDependent() {
+        return true;
     }
 
     @Override
@@ -54,8 +101,28 @@ final class DateTimeFormatterConverterStringLocalTime<C extends ConverterContext
 
     @Override
     LocalTime parseOrFormat(final String text,
-                            final DateTimeFormatter formatter) throws DateTimeParseException {
-        return LocalTime.parse(text, formatter);
+                            final DateTimeFormatterConverterCacheEntry entry) throws DateTimeParseException {
+        final DateTimeFormatterConverterResolver resolver = entry.resolver();
+        final TemporalAccessor unresolved = resolver.parseUnresolved(text);
+
+        LocalTime parsed = null;
+        if (null != unresolved) {
+            parsed = resolver.localTime(unresolved);
+            if (null == parsed) {
+                parsed = LocalTime.parse(text, entry.formatter);
+            }
+        }
+        return parsed;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(LocalTime.class);
     }
 
     // Object...........................................................................................................
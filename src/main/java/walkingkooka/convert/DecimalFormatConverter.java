@@ -24,16 +24,17 @@ import walkingkooka.text.CharSequences;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Currency;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
 /**
- * Base class for a {@link Converter} that parses or formats using a {@link DecimalFormat}.
+ * Base class for a {@link Converter} that parses or formats using a {@link DecimalFormat}, or a thread safe compiled
+ * form of type {@code F} when one is available.
  */
-abstract class DecimalFormatConverter<C extends ConverterContext> extends Converter2<C> {
+abstract class DecimalFormatConverter<C extends ConverterContext, F> extends Converter2<C>
+        implements HasConverterCacheStatistics {
 
     static void check(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
         Objects.requireNonNull(decimalFormat, "decimalFormat");
@@ -42,68 +43,213 @@ abstract class DecimalFormatConverter<C extends ConverterContext> extends Conver
     /**
      * Private ctor use factory
      */
-    DecimalFormatConverter(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
+    DecimalFormatConverter(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                           final int cacheSize) {
         super();
         this.decimalFormat = decimalFormat;
+        this.cache = DecimalFormatConverterCache.with(
+                cacheSize,
+                this::compile
+        );
     }
 
     @Override //
     final <T> Either<T, String> convertNonNull(final Object value,
                                                final Class<T> type,
                                                final ConverterContext context) {
-        Either<T, String> result;
+        Either<T, String> result = null;
         try {
-            final ThreadLocal<Map<ConverterContext, DecimalFormat>> cache = this.cache;
+            final DecimalFormatConverterCache<F> cache = this.cache;
+            final DecimalFormatConverterCacheKey key = DecimalFormatConverterCacheKey.with(context);
 
-            Map<ConverterContext, DecimalFormat> map = cache.get();
-            if (null == map) {
-                map = new HashMap<>();
-                this.cache.set(map);
+            final DecimalFormatConverterCachePool<F> pool = cache.pool(key);
+            final F compiled = null != pool ?
+                    pool.compiled :
+                    null;
+            if (null != compiled) {
+                result = this.convertCompiled(
+                        compiled,
+                        value,
+                        type,
+                        context
+                );
             }
 
-            DecimalFormat format = map.get(context);
-            if (null == format) {
-                format = this.decimalFormat.apply(context);
-                format.setParseBigDecimal(true);
+            if (null == result) {
+                final DecimalFormat format = this.borrow(
+                        pool,
+                        value,
+                        type,
+                        context
+                );
 
-                final Locale locale = context.locale();
                 try {
-                    format.setCurrency(Currency.getInstance(locale));
-                } catch (final IllegalArgumentException cause) {
-                    throw new ConversionException(
-                            "Unable to set currency, probably an invalid locale " + CharSequences.quoteAndEscape(locale.toLanguageTag()),
+                    result = this.convertWithDecimalFormat(
+                            format,
                             value,
                             type,
-                            cause
+                            context
                     );
+                } finally {
+                    cache.release(key, pool, format);
                 }
+            }
+        } catch (final RuntimeException cause) {
+            result = this.failConversion(value, type, cause);
+        }
+        return result;
+    }
+
+    /**
+     * Borrows at most a single {@link DecimalFormat} for all values, as they share the same {@link ConverterContext}.
+     */
+    @Override
+    public final <T> int convertAll(final List<?> values,
+                                    final Class<T> type,
+                                    final C context,
+                                    final T[] converted,
+                                    final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final int count = values.size();
+        if (false == this.canConvertType(type) || 0 == count) {
+            return super.convertAll(values, type, context, converted, errors);
+        }
 
-                final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-                symbols.setCurrencySymbol(context.currencySymbol());
-                symbols.setDecimalSeparator(context.decimalSeparator());
-                symbols.setExponentSeparator(String.valueOf(context.exponentSymbol()));
-                symbols.setGroupingSeparator(context.groupingSeparator());
-                symbols.setMinusSign(context.negativeSign());
-                symbols.setPercent(context.percentageSymbol());
+        final DecimalFormatConverterCache<F> cache = this.cache;
+        final DecimalFormatConverterCacheKey key = DecimalFormatConverterCacheKey.with(context);
 
-                format.setDecimalFormatSymbols(symbols);
+        DecimalFormatConverterCachePool<F> pool = cache.pool(key);
+        final F compiled = null != pool ?
+                pool.compiled :
+                null;
+        DecimalFormat format = null;
+        int failures = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                final Object value = values.get(i);
+
+                Either<T, String> result = null;
+                if (null == value || false == this.canConvertNonNull(value, type, context)) {
+                    result = this.convert(value, type, context);
+                } else {
+                    try {
+                        if (null != compiled) {
+                            result = this.convertCompiled(
+                                    compiled,
+                                    value,
+                                    type,
+                                    context
+                            );
+                        }
+                        if (null == result) {
+                            if (null == format) {
+                                // testing a value may have added the pool
+                                if (null == pool) {
+                                    pool = cache.pool(key);
+                                }
+                                format = this.borrow(
+                                        pool,
+                                        value,
+                                        type,
+                                        context
+                                );
+                            }
+                            result = this.convertWithDecimalFormat(
+                                    format,
+                                    value,
+                                    type,
+                                    context
+                            );
+                        }
+                    } catch (final RuntimeException cause) {
+                        result = this.failConversion(value, type, cause);
+                    }
+                }
 
-                map.put(context, format);
+                failures += ConverterConvertAll.set(
+                        result,
+                        i,
+                        converted,
+                        errors
+                );
             }
+        } finally {
+            if (null != format) {
+                cache.release(key, pool, format);
+            }
+        }
+
+        return failures;
+    }
+
+    /**
+     * Borrows an idle {@link DecimalFormat} from the pool or creates a new one, which should be given back using
+     * {@link DecimalFormatConverterCache#release(DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool, DecimalFormat)}.
+     */
+    final DecimalFormat borrow(final DecimalFormatConverterCachePool<F> pool,
+                               final Object value,
+                               final Class<?> type,
+                               final ConverterContext context) {
+        final DecimalFormat format = this.cache.borrow(pool);
+        return null != format ?
+                format :
+                this.createDecimalFormat(
+                        value,
+                        type,
+                        context
+                );
+    }
 
-            result = this.convertWithDecimalFormat(
-                    format,
+    /**
+     * Creates a {@link DecimalFormat} using the factory and then configures it using the symbols from the context.
+     */
+    private DecimalFormat createDecimalFormat(final Object value,
+                                              final Class<?> type,
+                                              final ConverterContext context) {
+        ConverterEvents.formatterCacheMiss(this, value, type);
+
+        final DecimalFormat format = this.decimalFormat.apply(context);
+        format.setParseBigDecimal(true);
+
+        final Locale locale = context.locale();
+        try {
+            format.setCurrency(Currency.getInstance(locale));
+        } catch (final IllegalArgumentException cause) {
+            throw new ConversionException(
+                    "Unable to set currency, probably an invalid locale " + CharSequences.quoteAndEscape(locale.toLanguageTag()),
                     value,
                     type,
-                    context
+                    cause
             );
-        } catch (final RuntimeException cause) {
-            result = this.failConversion(value, type, cause);
         }
-        return result;
+
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+        symbols.setCurrencySymbol(context.currencySymbol());
+        symbols.setDecimalSeparator(context.decimalSeparator());
+        symbols.setExponentSeparator(String.valueOf(context.exponentSymbol()));
+        symbols.setGroupingSeparator(context.groupingSeparator());
+        symbols.setMinusSign(context.negativeSign());
+        symbols.setPercent(context.percentageSymbol());
+
+        format.setDecimalFormatSymbols(symbols);
+        return format;
     }
 
-    private final ThreadLocal<Map<ConverterContext, DecimalFormat>> cache = new ThreadLocal<>();
+    /**
+     * Pools {@link DecimalFormat} for each unique set of symbols.
+     */
+    final DecimalFormatConverterCache<F> cache;
+
+    // HasConverterCacheStatistics......................................................................................
+
+    /**
+     * Counts the sets of symbols with a pool, and the idle {@link DecimalFormat} borrowed or created.
+     */
+    @Override
+    public final ConverterCacheStatistics cacheStatistics() {
+        return this.cache.statistics();
+    }
 
     private final Function<DecimalNumberContext, DecimalFormat> decimalFormat;
 
@@ -112,6 +258,22 @@ abstract class DecimalFormatConverter<C extends ConverterContext> extends Conver
                                                             final Class<T> type,
                                                             final ConverterContext context);
 
+    /**
+     * Returns a thread safe equivalent of the given {@link DecimalFormat} that is then given to
+     * {@link #convertCompiled(Object, Object, Class, ConverterContext)}, or null if the {@link DecimalFormat} must
+     * always be used. This is called once for each unique set of symbols with a fully configured {@link DecimalFormat}.
+     */
+    abstract F compile(final DecimalFormat decimalFormat);
+
+    /**
+     * Converts the value using the result of {@link #compile(DecimalFormat)}, returning null when the
+     * {@link DecimalFormat} should be used instead.
+     */
+    abstract <T> Either<T, String> convertCompiled(final F compiled,
+                                                   final Object value,
+                                                   final Class<T> type,
+                                                   final ConverterContext context);
+
     @Override
     public final String toString() {
         return this.decimalFormat.toString();
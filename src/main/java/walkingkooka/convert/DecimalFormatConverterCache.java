@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of idle {@link DecimalFormat} for each unique {@link DecimalFormatConverterCacheKey}, evicting the
+ * least recently used key when full. {@link DecimalFormat} are not thread safe, so each is borrowed by a single caller
+ * and returned when finished, which also works with threads that are not long lived, unlike a {@link ThreadLocal}.
+ * <br>
+ * The first {@link DecimalFormat} released for each key is also given to a compiler, which may return a thread safe
+ * equivalent that is used without borrowing, or null if the {@link DecimalFormat} is always required.
+ * <br>
+ * Only finding the {@link DecimalFormatConverterCachePool} for a key takes the lock, borrowing and releasing use the
+ * pool without it, and the compiler runs outside the lock.
+ */
+final class DecimalFormatConverterCache<F> {
+
+    /**
+     * The default maximum number of keys held by each {@link DecimalFormatConverter}.
+     */
+    final static int DEFAULT_SIZE = 16;
+
+    /**
+     * The maximum number of idle {@link DecimalFormat} kept for each key.
+     */
+    final static int MAX_IDLE = 4;
+
+    static <F> DecimalFormatConverterCache<F> with(final int maxSize) {
+        return with(
+                maxSize,
+                (d) -> null
+        );
+    }
+
+    static <F> DecimalFormatConverterCache<F> with(final int maxSize,
+                                                   final Function<DecimalFormat, F> compiler) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size " + maxSize + " <= 0");
+        }
+        Objects.requireNonNull(compiler, "compiler");
+
+        return new DecimalFormatConverterCache<>(
+                maxSize,
+                compiler
+        );
+    }
+
+    private DecimalFormatConverterCache(final int maxSize,
+                                        final Function<DecimalFormat, F> compiler) {
+        super();
+
+        this.maxSize = maxSize;
+        this.compiler = compiler;
+        this.pools = new LinkedHashMap<DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool<F>>(maxSize, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool<F>> eldest) {
+                final boolean evict = this.size() > DecimalFormatConverterCache.this.maxSize;
+                if (evict) {
+                    DecimalFormatConverterCache.this.evictions++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link DecimalFormatConverterCachePool} for the key, or null if no {@link DecimalFormat} has been
+     * released for it yet.
+     */
+    DecimalFormatConverterCachePool<F> pool(final DecimalFormatConverterCacheKey key) {
+        final Map<DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool<F>> pools = this.pools;
+
+        synchronized (pools) {
+            return pools.get(key);
+        }
+    }
+
+    /**
+     * Removes and returns an idle {@link DecimalFormat} from the pool, or null if none is available and the caller
+     * should create one. The {@link DecimalFormat} should be given back using
+     * {@link #release(DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool, DecimalFormat)}.
+     */
+    DecimalFormat borrow(final DecimalFormatConverterCachePool<F> pool) {
+        final DecimalFormat decimalFormat = null != pool ?
+                pool.borrow() :
+                null;
+        if (null != decimalFormat) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+        }
+        return decimalFormat;
+    }
+
+    /**
+     * Returns a {@link DecimalFormat} to the pool it was borrowed from so it may be borrowed again, discarding it if
+     * enough are already idle. When there was no pool, the {@link DecimalFormat} is compiled and a pool is added for
+     * the key. Two threads may compile for the same key, with the first to complete being kept. Returns the pool that
+     * now holds the {@link DecimalFormat}.
+     */
+    DecimalFormatConverterCachePool<F> release(final DecimalFormatConverterCacheKey key,
+                                               final DecimalFormatConverterCachePool<F> pool,
+                                               final DecimalFormat decimalFormat) {
+        DecimalFormatConverterCachePool<F> released = pool;
+
+        if (null == released) {
+            final DecimalFormatConverterCachePool<F> created = DecimalFormatConverterCachePool.with(
+                    this.compiler.apply(decimalFormat)
+            );
+
+            final Map<DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool<F>> pools = this.pools;
+            synchronized (pools) {
+                released = pools.get(key);
+                if (null == released) {
+                    pools.put(key, created);
+                    released = created;
+                }
+            }
+        }
+
+        released.release(decimalFormat);
+        return released;
+    }
+
+    /**
+     * The number of keys with a pool.
+     */
+    int size() {
+        synchronized (this.pools) {
+            return this.pools.size();
+        }
+    }
+
+    /**
+     * The number of {@link #borrow(DecimalFormatConverterCacheKey)} that returned an idle {@link DecimalFormat}.
+     */
+    long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * The number of {@link #borrow(DecimalFormatConverterCacheKey)} that returned null.
+     */
+    long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the counters, where the size and evictions are read while holding the lock, and the hits and misses while
+     * conversions may continue.
+     */
+    ConverterCacheStatistics statistics() {
+        synchronized (this.pools) {
+            return ConverterCacheStatistics.with(
+                    this.pools.size(),
+                    this.hits.get(),
+                    this.misses.get(),
+                    this.evictions
+            );
+        }
+    }
+
+    private final int maxSize;
+
+    /**
+     * Compiles the first {@link DecimalFormat} released for each key.
+     */
+    private final Function<DecimalFormat, F> compiler;
+
+    /**
+     * A {@link LinkedHashMap} in access order, guarded by synchronizing on itself.
+     */
+    private final Map<DecimalFormatConverterCacheKey, DecimalFormatConverterCachePool<F>> pools;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Guarded by the lock of {@link #pools}.
+     */
+    private long evictions;
+
+    @Override
+    public String toString() {
+        synchronized (this.pools) {
+            return this.pools.keySet() + " hits=" + this.hits.get() + " misses=" + this.misses.get();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.text.DecimalFormat;
+import java.util.Locale;
+
+/**
+ * Captures all the {@link ConverterContext} properties that are used to configure a {@link DecimalFormat}.
+ */
+final class DecimalFormatConverterCacheKey {
+
+    static DecimalFormatConverterCacheKey with(final ConverterContext context) {
+        return new DecimalFormatConverterCacheKey(
+                context.locale(),
+                context.currencySymbol(),
+                context.decimalSeparator(),
+                context.exponentSymbol(),
+                context.groupingSeparator(),
+                context.negativeSign(),
+                context.percentageSymbol()
+        );
+    }
+
+    private DecimalFormatConverterCacheKey(final Locale locale,
+                                           final String currencySymbol,
+                                           final char decimalSeparator,
+                                           final String exponentSymbol,
+                                           final char groupingSeparator,
+                                           final char negativeSign,
+                                           final char percentageSymbol) {
+        super();
+
+        this.locale = locale;
+        this.currencySymbol = currencySymbol;
+        this.decimalSeparator = decimalSeparator;
+        this.exponentSymbol = exponentSymbol;
+        this.groupingSeparator = groupingSeparator;
+        this.negativeSign = negativeSign;
+        this.percentageSymbol = percentageSymbol;
+    }
+
+    final Locale locale;
+    final String currencySymbol;
+    final char decimalSeparator;
+    final String exponentSymbol;
+    final char groupingSeparator;
+    final char negativeSign;
+    final char percentageSymbol;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return (((((this.locale.hashCode() * 31 +
+                this.currencySymbol.hashCode()) * 31 +
+                this.decimalSeparator) * 31 +
+                this.exponentSymbol.hashCode()) * 31 +
+                this.groupingSeparator) * 31 +
+                this.negativeSign) * 31 +
+                this.percentageSymbol;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof DecimalFormatConverterCacheKey &&
+                        this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final DecimalFormatConverterCacheKey other) {
+        return this.locale.equals(other.locale) &&
+                this.currencySymbol.equals(other.currencySymbol) &&
+                this.decimalSeparator == other.decimalSeparator &&
+                this.exponentSymbol.equals(other.exponentSymbol) &&
+                this.groupingSeparator == other.groupingSeparator &&
+                this.negativeSign == other.negativeSign &&
+                this.percentageSymbol == other.percentageSymbol;
+    }
+
+    @Override
+    public String toString() {
+        return this.locale + " " +
+                this.currencySymbol + " " +
+                this.decimalSeparator + " " +
+                this.exponentSymbol + " " +
+                this.groupingSeparator + " " +
+                this.negativeSign + " " +
+                this.percentageSymbol;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The idle {@link DecimalFormat} and the compiled form for a single {@link DecimalFormatConverterCacheKey}. Each idle
+ * {@link DecimalFormat} is held in one of a few slots, which are borrowed from and released to without a lock.
+ */
+final class DecimalFormatConverterCachePool<F> {
+
+    static <F> DecimalFormatConverterCachePool<F> with(final F compiled) {
+        return new DecimalFormatConverterCachePool<>(compiled);
+    }
+
+    private DecimalFormatConverterCachePool(final F compiled) {
+        super();
+        this.compiled = compiled;
+
+        final AtomicReference<DecimalFormat>[] idle = Cast.to(new AtomicReference[DecimalFormatConverterCache.MAX_IDLE]);
+        for (int i = 0; i < idle.length; i++) {
+            idle[i] = new AtomicReference<>();
+        }
+        this.idle = idle;
+    }
+
+    /**
+     * Takes an idle {@link DecimalFormat} from the first slot holding one, or returns null if all are empty.
+     */
+    DecimalFormat borrow() {
+        for (final AtomicReference<DecimalFormat> slot : this.idle) {
+            final DecimalFormat decimalFormat = slot.get();
+            if (null != decimalFormat && slot.compareAndSet(decimalFormat, null)) {
+                return decimalFormat;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts the {@link DecimalFormat} in the first empty slot, discarding it if all are full.
+     */
+    void release(final DecimalFormat decimalFormat) {
+        for (final AtomicReference<DecimalFormat> slot : this.idle) {
+            if (null == slot.get() && slot.compareAndSet(null, decimalFormat)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * The number of idle {@link DecimalFormat}, which may change while counting.
+     */
+    int idleCount() {
+        int count = 0;
+        for (final AtomicReference<DecimalFormat> slot : this.idle) {
+            if (null != slot.get()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Slots each holding a {@link DecimalFormat} waiting to be borrowed or null.
+     */
+    private final AtomicReference<DecimalFormat>[] idle;
+
+    /**
+     * A thread safe equivalent of the {@link DecimalFormat} or null.
+     */
+    final F compiled;
+
+    @Override
+    public String toString() {
+        return this.idleCount() + " idle " + this.compiled;
+    }
+}
@@ -22,20 +22,37 @@ import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.math.Maths;
 
 import java.text.DecimalFormat;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
  * A {@link Converter} that parses {@link String} into {@link Number numbers}.
  */
-final class DecimalFormatConverterNumberString<C extends ConverterContext> extends DecimalFormatConverter<C> {
+final class DecimalFormatConverterNumberString<C extends ConverterContext> extends DecimalFormatConverter<C, DecimalFormatConverterNumberStringFormatter> {
 
     static <C extends ConverterContext> DecimalFormatConverterNumberString<C> with(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
+        return with(
+                decimalFormat,
+                DecimalFormatConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DecimalFormatConverterNumberString<C> with(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                                                                   final int cacheSize) {
         check(decimalFormat);
-        return new DecimalFormatConverterNumberString<>(decimalFormat);
+        return new DecimalFormatConverterNumberString<>(
+                decimalFormat,
+                cacheSize
+        );
     }
 
-    private DecimalFormatConverterNumberString(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
-        super(decimalFormat);
+    private DecimalFormatConverterNumberString(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                               final int cacheSize) {
+        super(
+                decimalFormat,
+                cacheSize
+        );
     }
 
     @Override
@@ -60,4 +77,33 @@ final class DecimalFormatConverterNumberString<C extends ConverterContext> exten
                 type
         );
     }
+
+    @Override
+    DecimalFormatConverterNumberStringFormatter compile(final DecimalFormat decimalFormat) {
+        return DecimalFormatConverterNumberStringFormatter.compile(decimalFormat);
+    }
+
+    @Override
+    <T> Either<T, String> convertCompiled(final DecimalFormatConverterNumberStringFormatter formatter,
+                                          final Object value,
+                                          final Class<T> type,
+                                          final ConverterContext context) {
+        final String formatted = formatter.format((Number) value);
+        return null == formatted ?
+                null :
+                this.successfulConversion(
+                        formatted,
+                        type
+                );
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.ANY_NUMBER;
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(String.class);
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread safe formatter for the simple {@link DecimalFormat} patterns, fixed decimals with optional grouping, percent
+ * or per mille, created from the affixes, digit counts, grouping, multiplier, rounding mode and
+ * {@link DecimalFormatSymbols} of a {@link DecimalFormat}. Numbers are multiplied and rounded exactly using
+ * {@link BigDecimal}, and the digits are then written with the symbols.
+ * <br>
+ * Only whole number types, {@link BigDecimal} and doubles that are whole numbers after the multiplier are formatted,
+ * for other numbers null is returned and the {@link DecimalFormat} should be used. Patterns with an exponent or
+ * currency sign are never compiled.
+ */
+final class DecimalFormatConverterNumberStringFormatter {
+
+    /**
+     * Returns a formatter equivalent to the given {@link DecimalFormat} or null if it uses features that are not
+     * supported.
+     */
+    static DecimalFormatConverterNumberStringFormatter compile(final DecimalFormat decimalFormat) {
+        final String pattern = decimalFormat.toPattern();
+        final RoundingMode roundingMode = decimalFormat.getRoundingMode();
+
+        return isExponentOrCurrency(pattern) ||
+                RoundingMode.UNNECESSARY == roundingMode ||
+                decimalFormat.getMaximumIntegerDigits() < MAX_INTEGER_DIGITS ||
+                decimalFormat.getMinimumIntegerDigits() > MAX_INTEGER_DIGITS ||
+                decimalFormat.getMaximumFractionDigits() > MAX_FRACTION_DIGITS ||
+                0 == decimalFormat.getMultiplier() ?
+                null :
+                new DecimalFormatConverterNumberStringFormatter(
+                        decimalFormat,
+                        roundingMode
+                );
+    }
+
+    /**
+     * Returns true if the pattern has an unquoted exponent or any currency sign. An E in an affix is also treated as an
+     * exponent, which only means the {@link DecimalFormat} is used.
+     */
+    // @VisibleForTesting
+    static boolean isExponentOrCurrency(final String pattern) {
+        boolean quoted = false;
+        boolean found = false;
+
+        final int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            final char c = pattern.charAt(i);
+            if (CURRENCY_SIGN == c) {
+                found = true;
+                break;
+            }
+            if ('\'' == c) {
+                quoted = false == quoted;
+                continue;
+            }
+            if (false == quoted && 'E' == c) {
+                found = true;
+                break;
+            }
+        }
+
+        return found;
+    }
+
+    private final static char CURRENCY_SIGN = '\u00A4';
+
+    /**
+     * Larger numbers of digits are handled differently by the {@link DecimalFormat} for different {@link Number} types.
+     */
+    private final static int MAX_INTEGER_DIGITS = 309;
+
+    private final static int MAX_FRACTION_DIGITS = 340;
+
+    /**
+     * Doubles at or above this size may not be exact whole numbers.
+     */
+    private final static double MAX_EXACT_DOUBLE = 9007199254740992.0;
+
+    private DecimalFormatConverterNumberStringFormatter(final DecimalFormat decimalFormat,
+                                                        final RoundingMode roundingMode) {
+        super();
+
+        this.positivePrefix = decimalFormat.getPositivePrefix();
+        this.positiveSuffix = decimalFormat.getPositiveSuffix();
+        this.negativePrefix = decimalFormat.getNegativePrefix();
+        this.negativeSuffix = decimalFormat.getNegativeSuffix();
+
+        final int multiplier = decimalFormat.getMultiplier();
+        this.multiplier = multiplier;
+        this.bigMultiplier = BigDecimal.valueOf(multiplier);
+
+        this.minimumIntegerDigits = decimalFormat.getMinimumIntegerDigits();
+        this.minimumFractionDigits = decimalFormat.getMinimumFractionDigits();
+        this.maximumFractionDigits = decimalFormat.getMaximumFractionDigits();
+        this.smallest = BigDecimal.ONE.scaleByPowerOfTen(-this.maximumFractionDigits);
+        this.decimalSeparatorAlwaysShown = decimalFormat.isDecimalSeparatorAlwaysShown();
+        this.groupingSize = decimalFormat.isGroupingUsed() ?
+                decimalFormat.getGroupingSize() :
+                0;
+        this.roundingMode = roundingMode;
+
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        this.zeroDigit = symbols.getZeroDigit();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    /**
+     * Formats the number or returns null if the {@link DecimalFormat} should be used.
+     */
+    String format(final Number number) {
+        final BigDecimal value = this.multiply(number);
+        return null == value || this.isTooSmall(value) ?
+                null :
+                this.format(
+                        value,
+                        value.signum() < 0 || isNegativeZero(number)
+                );
+    }
+
+    /**
+     * Returns the number multiplied by the multiplier, or null if the number is not supported.
+     */
+    private BigDecimal multiply(final Number number) {
+        final BigDecimal value;
+
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte ||
+                number instanceof AtomicLong || number instanceof AtomicInteger) {
+            value = this.multiply(BigDecimal.valueOf(number.longValue()));
+        } else if (number instanceof BigInteger) {
+            value = this.multiply(new BigDecimal((BigInteger) number));
+        } else if (number instanceof BigDecimal) {
+            value = this.multiply((BigDecimal) number);
+        } else if (number instanceof Double || number instanceof Float) {
+            // the DecimalFormat multiplies the double before rounding, so the same is done here
+            final double multiplied = number.doubleValue() * this.multiplier;
+            value = Math.abs(multiplied) < MAX_EXACT_DOUBLE && multiplied == Math.rint(multiplied) ?
+                    BigDecimal.valueOf((long) multiplied) :
+                    null;
+        } else {
+            value = null;
+        }
+
+        return value;
+    }
+
+    private BigDecimal multiply(final BigDecimal value) {
+        return 1 == this.multiplier ?
+                value :
+                value.multiply(this.bigMultiplier);
+    }
+
+    private boolean isNegativeZero(final Number number) {
+        return (number instanceof Double || number instanceof Float) &&
+                0 == number.doubleValue() &&
+                1 / (number.doubleValue() * this.multiplier) < 0;
+    }
+
+    /**
+     * The {@link DecimalFormat} does not round values smaller than the last fraction digit like other values, so these
+     * are left to the {@link DecimalFormat}.
+     */
+    private boolean isTooSmall(final BigDecimal value) {
+        return 0 != value.signum() &&
+                value.abs().compareTo(this.smallest) < 0;
+    }
+
+    private String format(final BigDecimal value,
+                          final boolean negative) {
+        final BigDecimal rounded = value.setScale(
+                this.maximumFractionDigits,
+                this.roundingMode
+        );
+
+        final String digits = this.digits(rounded);
+        final int integerDigits = digits.length() - this.maximumFractionDigits;
+
+        String formatted = null;
+        if (integerDigits <= MAX_INTEGER_DIGITS) {
+            final StringBuilder b = new StringBuilder();
+            b.append(
+                    negative ?
+                            this.negativePrefix :
+                            this.positivePrefix
+            );
+
+            final int fractionEnd = this.fractionEnd(digits, integerDigits);
+            this.integer(digits, integerDigits, fractionEnd > integerDigits, b);
+            this.fraction(digits, integerDigits, fractionEnd, b);
+
+            b.append(
+                    negative ?
+                            this.negativeSuffix :
+                            this.positiveSuffix
+            );
+            formatted = b.toString();
+        }
+
+        return formatted;
+    }
+
+    /**
+     * Returns the digits of the rounded value, with leading zeros so there is at least one digit for each fraction
+     * digit.
+     */
+    private String digits(final BigDecimal rounded) {
+        final String digits = rounded.unscaledValue()
+                .abs()
+                .toString();
+        final int leadingZeros = this.maximumFractionDigits - digits.length();
+
+        final String padded;
+        if (leadingZeros > 0) {
+            final StringBuilder b = new StringBuilder();
+            for (int i = 0; i < leadingZeros; i++) {
+                b.append('0');
+            }
+            padded = b.append(digits).toString();
+        } else {
+            padded = digits;
+        }
+        return padded;
+    }
+
+    /**
+     * Returns the index after the last fraction digit to be written, dropping trailing zeros beyond the minimum.
+     */
+    private int fractionEnd(final String digits,
+                            final int integerDigits) {
+        final int minimumEnd = integerDigits + this.minimumFractionDigits;
+
+        int end = digits.length();
+        while (end > minimumEnd && '0' == digits.charAt(end - 1)) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Writes the integer digits, without leading zeros but padded to the minimum, with grouping separators.
+     */
+    private void integer(final String digits,
+                         final int integerDigits,
+                         final boolean fraction,
+                         final StringBuilder b) {
+        int start = 0;
+        while (start < integerDigits && '0' == digits.charAt(start)) {
+            start++;
+        }
+
+        final int significant = integerDigits - start;
+        final int count = Math.max(significant, this.minimumIntegerDigits);
+        final int groupingSize = this.groupingSize;
+
+        for (int i = count - 1; i >= 0; i--) {
+            b.append(
+                    i < significant ?
+                            this.digit(digits.charAt(integerDigits - 1 - i)) :
+                            this.zeroDigit
+            );
+            if (groupingSize > 0 && i > 0 && 0 == i % groupingSize) {
+                b.append(this.groupingSeparator);
+            }
+        }
+
+        if (0 == count && false == fraction) {
+            b.append(this.zeroDigit);
+        }
+    }
+
+    /**
+     * Writes the decimal separator and the fraction digits.
+     */
+    private void fraction(final String digits,
+                          final int integerDigits,
+                          final int fractionEnd,
+                          final StringBuilder b) {
+        if (fractionEnd > integerDigits || this.decimalSeparatorAlwaysShown) {
+            b.append(this.decimalSeparator);
+        }
+
+        for (int i = integerDigits; i < fractionEnd; i++) {
+            b.append(
+                    this.digit(digits.charAt(i))
+            );
+        }
+    }
+
+    private char digit(final char c) {
+        return (char) (this.zeroDigit + c - '0');
+    }
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+
+    private final int multiplier;
+    private final BigDecimal bigMultiplier;
+
+    private final int minimumIntegerDigits;
+    private final int minimumFractionDigits;
+    private final int maximumFractionDigits;
+
+    /**
+     * The value of the last fraction digit, smaller values are not formatted.
+     */
+    private final BigDecimal smallest;
+    private final boolean decimalSeparatorAlwaysShown;
+    private final int groupingSize;
+    private final RoundingMode roundingMode;
+
+    private final char zeroDigit;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.positivePrefix + "#" + this.positiveSuffix + ";" + this.negativePrefix + "#" + this.negativeSuffix;
+    }
+}
@@ -21,29 +21,97 @@ import walkingkooka.Either;
 import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.math.Maths;
 
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.ParsePosition;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
  * A {@link Converter} that formats {@link Number numbers}.
  */
-final class DecimalFormatConverterStringNumber<C extends ConverterContext> extends DecimalFormatConverter<C> {
+final class DecimalFormatConverterStringNumber<C extends ConverterContext> extends DecimalFormatConverter<C, DecimalFormatConverterStringNumberCompiled> {
 
     static <C extends ConverterContext> DecimalFormatConverterStringNumber<C> with(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
+        return with(
+                decimalFormat,
+                DecimalFormatConverterCache.DEFAULT_SIZE
+        );
+    }
+
+    static <C extends ConverterContext> DecimalFormatConverterStringNumber<C> with(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                                                                   final int cacheSize) {
         check(decimalFormat);
-        return new DecimalFormatConverterStringNumber<>(decimalFormat);
+        return new DecimalFormatConverterStringNumber<>(
+                decimalFormat,
+                cacheSize
+        );
     }
 
-    private DecimalFormatConverterStringNumber(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
-        super(decimalFormat);
+    private DecimalFormatConverterStringNumber(final Function<DecimalNumberContext, DecimalFormat> decimalFormat,
+                                               final int cacheSize) {
+        super(
+                decimalFormat,
+                cacheSize
+        );
     }
 
+    /**
+     * Only accepts {@link String} that may contain a number, so a {@link ConverterCollection} skips this converter for
+     * text without paying for a parse.
+     */
     @Override
     boolean canConvertNonNull(final Object value,
                               final Class<?> type,
                               final C context) {
-        return value instanceof String;
+        return value instanceof String &&
+                this.prefilter(
+                        (String) value,
+                        type,
+                        context
+                );
+    }
+
+    /**
+     * {@link #canConvert(Object, Class, ConverterContext)} tests the text and the symbols of the context.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return true;
+    }
+
+    /**
+     * Tests the text using the {@link DecimalFormatConverterStringNumberPrefilter} for the symbols of the context. The
+     * first test for a set of symbols creates the {@link DecimalFormat}, which is then pooled for the conversion.
+     */
+    private boolean prefilter(final String text,
+                              final Class<?> type,
+                              final C context) {
+        final DecimalFormatConverterCache<DecimalFormatConverterStringNumberCompiled> cache = this.cache;
+        final DecimalFormatConverterCacheKey key = DecimalFormatConverterCacheKey.with(context);
+
+        DecimalFormatConverterCachePool<DecimalFormatConverterStringNumberCompiled> pool = cache.pool(key);
+        if (null == pool) {
+            try {
+                pool = cache.release(
+                        key,
+                        null,
+                        this.borrow(
+                                null,
+                                text,
+                                type,
+                                context
+                        )
+                );
+            } catch (final RuntimeException cause) {
+                return true; // let the conversion report the failure
+            }
+        }
+
+        final DecimalFormatConverterStringNumberCompiled compiled = pool.compiled;
+        return null == compiled ||
+                compiled.prefilter.test(text);
     }
 
     @Override
@@ -63,4 +131,37 @@ final class DecimalFormatConverterStringNumber<C extends ConverterContext> exten
                         type,
                         context);
     }
+
+    @Override
+    DecimalFormatConverterStringNumberCompiled compile(final DecimalFormat decimalFormat) {
+        return DecimalFormatConverterStringNumberCompiled.compile(decimalFormat);
+    }
+
+    @Override
+    <T> Either<T, String> convertCompiled(final DecimalFormatConverterStringNumberCompiled compiled,
+                                          final Object value,
+                                          final Class<T> type,
+                                          final ConverterContext context) {
+        final DecimalFormatConverterStringNumberParser parser = compiled.parser;
+        if (null == parser) {
+            return null;
+        }
+
+        final BigDecimal parsed = parser.parse(value.toString());
+        return null == parsed ?
+                null :
+                this.convertToNumber(parsed,
+                        type,
+                        context);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.NUMBERS;
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.text.DecimalFormat;
+
+/**
+ * Everything compiled from the {@link DecimalFormat} for a single set of symbols, used by
+ * {@link DecimalFormatConverterStringNumber}.
+ */
+final class DecimalFormatConverterStringNumberCompiled {
+
+    static DecimalFormatConverterStringNumberCompiled compile(final DecimalFormat decimalFormat) {
+        return new DecimalFormatConverterStringNumberCompiled(
+                DecimalFormatConverterStringNumberPrefilter.with(decimalFormat),
+                DecimalFormatConverterStringNumberParser.compile(decimalFormat)
+        );
+    }
+
+    private DecimalFormatConverterStringNumberCompiled(final DecimalFormatConverterStringNumberPrefilter prefilter,
+                                                       final DecimalFormatConverterStringNumberParser parser) {
+        super();
+
+        this.prefilter = prefilter;
+        this.parser = parser;
+    }
+
+    /**
+     * Rejects text that cannot be parsed before any parsing is attempted.
+     */
+    final DecimalFormatConverterStringNumberPrefilter prefilter;
+
+    /**
+     * A thread safe parser or null if the {@link DecimalFormat} must always be used.
+     */
+    final DecimalFormatConverterStringNumberParser parser;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.prefilter + " " + this.parser;
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+
+/**
+ * A thread safe replacement for {@link DecimalFormat#parse(String, ParsePosition)} with
+ * {@link DecimalFormat#setParseBigDecimal(boolean)}, compiled from a {@link DecimalFormat} using its affixes and
+ * {@link DecimalFormatSymbols}. It follows the same steps and produces identical {@link BigDecimal}, but only accepts
+ * text that is entirely a number written with the digits 0 to 9, returning null for anything else, so the
+ * {@link DecimalFormat} may parse a leading number, NaN, infinity or report the failure.
+ */
+final class DecimalFormatConverterStringNumberParser {
+
+    /**
+     * Returns a parser equivalent to the given {@link DecimalFormat} or null if it uses features that are not
+     * supported, such as currency patterns, localized digits, integer only parsing or a zero multiplier.
+     */
+    static DecimalFormatConverterStringNumberParser compile(final DecimalFormat decimalFormat) {
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+
+        return decimalFormat.isParseBigDecimal() &&
+                false == decimalFormat.isParseIntegerOnly() &&
+                0 != decimalFormat.getMultiplier() &&
+                '0' == symbols.getZeroDigit() &&
+                decimalFormat.toPattern().indexOf(CURRENCY_SIGN) == -1 ?
+                new DecimalFormatConverterStringNumberParser(
+                        decimalFormat.getPositivePrefix(),
+                        decimalFormat.getPositiveSuffix(),
+                        decimalFormat.getNegativePrefix(),
+                        decimalFormat.getNegativeSuffix(),
+                        symbols.getDecimalSeparator(),
+                        decimalFormat.isGroupingUsed(),
+                        symbols.getGroupingSeparator(),
+                        symbols.getExponentSeparator(),
+                        symbols.getMinusSign(),
+                        symbols.getNaN(),
+                        symbols.getInfinity(),
+                        decimalFormat.getMultiplier(),
+                        decimalFormat.getRoundingMode()
+                ) :
+                null;
+    }
+
+    /**
+     * Present in currency patterns, which parse using the monetary separators.
+     */
+    private final static char CURRENCY_SIGN = '\u00A4';
+
+    /**
+     * Exponents with more digits are left to the {@link DecimalFormat}, which truncates them to an int.
+     */
+    private final static int MAX_EXPONENT_DIGITS = 9;
+
+    private DecimalFormatConverterStringNumberParser(final String positivePrefix,
+                                                     final String positiveSuffix,
+                                                     final String negativePrefix,
+                                                     final String negativeSuffix,
+                                                     final char decimalSeparator,
+                                                     final boolean groupingUsed,
+                                                     final char groupingSeparator,
+                                                     final String exponentSymbol,
+                                                     final char minusSign,
+                                                     final String nan,
+                                                     final String infinity,
+                                                     final int multiplier,
+                                                     final RoundingMode roundingMode) {
+        super();
+
+        this.positivePrefix = positivePrefix;
+        this.positiveSuffix = positiveSuffix;
+        this.negativePrefix = negativePrefix;
+        this.negativeSuffix = negativeSuffix;
+        this.decimalSeparator = decimalSeparator;
+        this.groupingUsed = groupingUsed;
+        this.groupingSeparator = groupingSeparator;
+        this.exponentSymbol = exponentSymbol;
+        this.minusSign = minusSign;
+        this.nan = nan;
+        this.infinity = infinity;
+        this.multiplier = 1 != multiplier ?
+                new BigDecimal(multiplier) :
+                null;
+        this.roundingMode = roundingMode;
+    }
+
+    /**
+     * Parses the text returning the {@link BigDecimal} or null if the {@link DecimalFormat} should be used.
+     */
+    BigDecimal parse(final String text) {
+        if (text.startsWith(this.nan)) {
+            return null;
+        }
+
+        // prefixes, longest wins
+        final String positivePrefix = this.positivePrefix;
+        final String negativePrefix = this.negativePrefix;
+
+        boolean positive = text.startsWith(positivePrefix);
+        boolean negative = text.startsWith(negativePrefix);
+        if (positive && negative) {
+            final int positiveLength = positivePrefix.length();
+            final int negativeLength = negativePrefix.length();
+            if (positiveLength > negativeLength) {
+                negative = false;
+            } else if (positiveLength < negativeLength) {
+                positive = false;
+            }
+        }
+
+        int position;
+        if (positive) {
+            position = positivePrefix.length();
+        } else if (negative) {
+            position = negativePrefix.length();
+        } else {
+            return null;
+        }
+        if (text.startsWith(this.infinity, position)) {
+            return null;
+        }
+
+        // digits, leading zeros are not recorded but move the decimal point when they follow it
+        final int length = text.length();
+        final char[] digits = new char[length];
+        int count = 0;
+        int digitCount = 0;
+        int decimalAt = 0;
+        long exponent = 0;
+        boolean sawDecimal = false;
+        boolean sawDigit = false;
+        int backup = -1;
+
+        for (; position < length; position++) {
+            final char c = text.charAt(position);
+
+            if ('0' == c) {
+                backup = -1;
+                sawDigit = true;
+
+                if (0 == count) {
+                    if (sawDecimal) {
+                        decimalAt--;
+                    }
+                    continue;
+                }
+                digitCount++;
+                digits[count++] = c;
+            } else if (c > '0' && c <= '9') {
+                sawDigit = true;
+                digitCount++;
+                digits[count++] = c;
+                backup = -1;
+            } else if (c > 127 && Character.digit(c, 10) >= 0) {
+                return null; // other unicode digits
+            } else if (this.decimalSeparator == c) {
+                if (sawDecimal) {
+                    break;
+                }
+                decimalAt = digitCount;
+                sawDecimal = true;
+            } else if (this.groupingSeparator == c && this.groupingUsed) {
+                if (sawDecimal) {
+                    break;
+                }
+                // must be followed by a digit
+                backup = position;
+            } else if (text.startsWith(this.exponentSymbol, position)) {
+                // exponents are optional, when invalid the number ends before the exponent symbol
+                int i = position + this.exponentSymbol.length();
+                final boolean negativeExponent = i < length && this.minusSign == text.charAt(i);
+                if (negativeExponent) {
+                    i++;
+                }
+
+                final int start = i;
+                int significant = 0;
+                long value = 0;
+                while (i < length) {
+                    final char e = text.charAt(i);
+                    if (e >= '0' && e <= '9') {
+                        if (0 != significant || '0' != e) {
+                            significant++;
+                            if (significant > MAX_EXPONENT_DIGITS) {
+                                return null;
+                            }
+                        }
+                        value = value * 10 + e - '0';
+                        i++;
+                    } else {
+                        if (e > 127 && Character.digit(e, 10) >= 0) {
+                            return null;
+                        }
+                        break;
+                    }
+                }
+                if (i > start) {
+                    position = i;
+                    exponent = negativeExponent ?
+                            -value :
+                            value;
+                }
+                break;
+            } else {
+                break;
+            }
+        }
+
+        if (-1 != backup) {
+            position = backup;
+        }
+        if (false == sawDecimal) {
+            decimalAt = digitCount;
+        }
+        exponent += decimalAt;
+        if (exponent < Integer.MIN_VALUE || exponent > Integer.MAX_VALUE) {
+            return null;
+        }
+        decimalAt = (int) exponent;
+
+        if (false == sawDigit && 0 == digitCount) {
+            return null;
+        }
+
+        // suffixes, longest wins but fail if neither or both match
+        final String positiveSuffix = this.positiveSuffix;
+        final String negativeSuffix = this.negativeSuffix;
+
+        if (positive) {
+            positive = text.startsWith(positiveSuffix, position);
+        }
+        if (negative) {
+            negative = text.startsWith(negativeSuffix, position);
+        }
+        if (positive && negative) {
+            final int positiveLength = positiveSuffix.length();
+            final int negativeLength = negativeSuffix.length();
+            if (positiveLength > negativeLength) {
+                negative = false;
+            } else if (positiveLength < negativeLength) {
+                positive = false;
+            }
+        }
+        if (positive == negative) {
+            return null;
+        }
+        if (length != position + (positive ? positiveSuffix.length() : negativeSuffix.length())) {
+            return null;
+        }
+
+        BigDecimal number;
+        if (0 == count) {
+            number = 0 == decimalAt ?
+                    BigDecimal.ZERO :
+                    new BigDecimal("0E" + decimalAt);
+        } else {
+            number = new BigDecimal(digits, 0, count);
+            if (decimalAt != count) {
+                number = number.scaleByPowerOfTen(decimalAt - count);
+            }
+        }
+
+        final BigDecimal multiplier = this.multiplier;
+        if (null != multiplier) {
+            try {
+                number = number.divide(multiplier);
+            } catch (final ArithmeticException nonTerminating) {
+                number = number.divide(multiplier, this.roundingMode);
+            }
+        }
+
+        return positive ?
+                number :
+                number.negate();
+    }
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char decimalSeparator;
+    private final boolean groupingUsed;
+    private final char groupingSeparator;
+    private final String exponentSymbol;
+    private final char minusSign;
+    private final String nan;
+    private final String infinity;
+
+    /**
+     * The multiplier as a {@link BigDecimal} or null when it is one.
+     */
+    private final BigDecimal multiplier;
+
+    private final RoundingMode roundingMode;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.positivePrefix + "#" + this.positiveSuffix + ";" + this.negativePrefix + "#" + this.negativeSuffix;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+
+/**
+ * A cheap test, compiled from a {@link DecimalFormat}, that only rejects text from which
+ * {@link DecimalFormat#parse(String, ParsePosition)} cannot parse anything. The text must start with the NaN symbol,
+ * or with the positive or negative prefix followed by the infinity symbol or text holding at least one digit.
+ * {@link DecimalFormat} parses a leading number and ignores any text after it, so text such as <code>12abc</code> or
+ * <code>1.2,3</code> passes and is converted into the leading number. Text that passes may still fail to parse.
+ */
+final class DecimalFormatConverterStringNumberPrefilter {
+
+    static DecimalFormatConverterStringNumberPrefilter with(final DecimalFormat decimalFormat) {
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+
+        return new DecimalFormatConverterStringNumberPrefilter(
+                decimalFormat.getPositivePrefix(),
+                decimalFormat.getPositiveSuffix(),
+                decimalFormat.getNegativePrefix(),
+                decimalFormat.getNegativeSuffix(),
+                symbols.getZeroDigit(),
+                symbols.getNaN(),
+                symbols.getInfinity()
+        );
+    }
+
+    private DecimalFormatConverterStringNumberPrefilter(final String positivePrefix,
+                                                        final String positiveSuffix,
+                                                        final String negativePrefix,
+                                                        final String negativeSuffix,
+                                                        final char zeroDigit,
+                                                        final String nan,
+                                                        final String infinity) {
+        super();
+
+        this.positivePrefix = positivePrefix;
+        this.positiveSuffix = positiveSuffix;
+        this.negativePrefix = negativePrefix;
+        this.negativeSuffix = negativeSuffix;
+        this.zeroDigit = zeroDigit;
+        this.nan = nan;
+        this.infinity = infinity;
+    }
+
+    /**
+     * Returns false if nothing in the text can be parsed into a number.
+     */
+    boolean test(final String text) {
+        return text.startsWith(this.nan) ||
+                this.test(text, this.positivePrefix) ||
+                this.test(text, this.negativePrefix);
+    }
+
+    /**
+     * Tests if the text starts with the prefix followed by infinity or text with a digit.
+     */
+    private boolean test(final String text,
+                         final String prefix) {
+        final int start = prefix.length();
+
+        return text.startsWith(prefix) &&
+                (text.startsWith(this.infinity, start) || this.hasDigit(text, start));
+    }
+
+    private boolean hasDigit(final String text,
+                             final int start) {
+        final int end = text.length();
+
+        for (int i = start; i < end; i++) {
+            if (this.isDigit(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Digits relative to the zero digit of the symbols and any unicode digit are accepted by {@link DecimalFormat}.
+     */
+    private boolean isDigit(final char c) {
+        final int digit = c - this.zeroDigit;
+        return (digit >= 0 && digit <= 9) ||
+                Character.digit(c, 10) >= 0;
+    }
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char zeroDigit;
+    private final String nan;
+    private final String infinity;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.positivePrefix + "#" + this.positiveSuffix + ";" + this.negativePrefix + "#" + this.negativeSuffix + " " + this.nan + " " + this.infinity;
+    }
+}
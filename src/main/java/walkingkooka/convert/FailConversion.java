@@ -17,6 +17,7 @@
 
 package walkingkooka.convert;
 
+import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.reflect.StaticHelper;
 import walkingkooka.text.CharSequences;
@@ -31,7 +32,7 @@ final class FailConversion implements StaticHelper {
      */
     static <T> Either<T, String> handle(final Object value,
                                         final Class<T> target) {
-        return handle0(value, target, null);
+        return failure(value, target, null);
     }
 
     /**
@@ -40,25 +41,104 @@ final class FailConversion implements StaticHelper {
     static <T> Either<T, String> handle(final Object value,
                                         final Class<T> target,
                                         final Throwable cause) {
+        return failure(value, target, message(cause));
+    }
+
+    static String message(final Throwable cause) {
         final String message = cause.getMessage();
-        return handle0(value, target, (CharSequences.isNullOrEmpty(message) ? cause.getClass().getName() : cause.getMessage()));
+        return CharSequences.isNullOrEmpty(message) ?
+                cause.getClass().getName() :
+                message;
     }
 
-    private static <T> Either<T, String> handle0(final Object value,
+    private static <T> Either<T, String> failure(final Object value,
                                                  final Class<T> target,
                                                  final String message) {
         return Either.right(
-                "Failed to convert " +
-                        CharSequences.quoteIfChars(value) +
-                        (
-                                null != value ?
-                                " (" + value.getClass().getName() + ")" :
-                                ""
-                        ) +
-                        " to " + target.getName() +
-                        (CharSequences.isNullOrEmpty(message) ? "" : ", " + message));
+                message(
+                        value,
+                        target,
+                        message
+                )
+        );
+    }
+
+    /**
+     * Builds the standard failure message, used directly by converters that throw rather than return an {@link Either}.
+     */
+    static String message(final Object value,
+                          final Class<?> target,
+                          final String message) {
+        return "Failed to convert " +
+                CharSequences.quoteIfChars(value) +
+                (
+                        null != value ?
+                        " (" + value.getClass().getName() + ")" :
+                        ""
+                ) +
+                " to " + target.getName() +
+                (CharSequences.isNullOrEmpty(message) ? "" : ", " + message);
+    }
+
+    // speculative......................................................................................................
+
+    /**
+     * Converts using a child {@link Converter} whose failure will probably be discarded, such as
+     * {@link ConverterCollection} trying each of its converters. A {@link Converter2} only returns its own failures and
+     * never reads them, so while it converts its failures skip building their message and return
+     * {@link #SPECULATIVE_FAILURE}, which the caller must never return or read. Any other {@link Converter} converts as
+     * usual and always gets its real messages. Nothing is deferred while a {@link ConverterEventListener} is enabled,
+     * because it reads every failure message.
+     */
+    static <C extends ConverterContext, T> Either<T, String> speculate(final Converter<C> converter,
+                                                                      final Object value,
+                                                                      final Class<T> type,
+                                                                      final C context) {
+        final boolean speculative = converter instanceof Converter2 &&
+                null == ConverterEvents.enabled();
+        final boolean previous = isSpeculative();
+        if (speculative == previous) {
+            return converter.convert(value, type, context);
+        }
+
+        SPECULATIVE.set(speculative);
+        try {
+            return converter.convert(value, type, context);
+        } finally {
+            if (previous) {
+                SPECULATIVE.set(Boolean.TRUE);
+            } else {
+                SPECULATIVE.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns true while a {@link Converter2} is converting for {@link #speculate(Converter, Object, Class, ConverterContext)}.
+     */
+    static boolean isSpeculative() {
+        return Boolean.TRUE.equals(SPECULATIVE.get());
+    }
+
+    /**
+     * Returns true if the result is the failure returned without a message while speculative. The real message is
+     * found by converting again with the same {@link Converter} outside {@link #speculate(Converter, Object, Class, ConverterContext)}.
+     */
+    static boolean isSpeculativeFailure(final Either<?, String> result) {
+        return SPECULATIVE_FAILURE == result;
     }
 
+    /**
+     * The single failure returned by {@link Converter2#failConversion(Object, Class)} while speculative.
+     */
+    static <T> Either<T, String> speculativeFailure() {
+        return Cast.to(SPECULATIVE_FAILURE);
+    }
+
+    private final static Either<?, String> SPECULATIVE_FAILURE = Either.right("Failed to convert");
+
+    private final static ThreadLocal<Boolean> SPECULATIVE = new ThreadLocal<>();
+
     /**
      * Stop creation
      */
@@ -17,20 +17,14 @@
 
 package walkingkooka.convert;
 
-public final class ConverterNumberNumberNumberTypeVisitorLongTest extends ConverterNumberNumberNumberTypeVisitorTestCase<ConverterNumberNumberNumberTypeVisitorLong, Long> {
-
-    @Override
-    public ConverterNumberNumberNumberTypeVisitorLong createVisitor() {
-        return new ConverterNumberNumberNumberTypeVisitorLong();
-    }
-
-    @Override
-    public Class<ConverterNumberNumberNumberTypeVisitorLong> type() {
-        return ConverterNumberNumberNumberTypeVisitorLong.class;
-    }
+/**
+ * Implemented by {@link Converter converters} that cache, such as those parsing or formatting with a
+ * {@link java.text.DecimalFormat} or {@link java.time.format.DateTimeFormatter}.
+ */
+public interface HasConverterCacheStatistics {
 
-    @Override
-    Class<Long> targetType() {
-        return Long.class;
-    }
+    /**
+     * Returns a snapshot of the cache counters.
+     */
+    ConverterCacheStatistics cacheStatistics();
 }
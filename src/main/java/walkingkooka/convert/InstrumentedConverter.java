@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Wraps another {@link Converter} recording calls, outcomes and latencies in a {@link ConverterMetrics}, keyed by the
+ * wrapped converter instance or a name supplied by the caller, the value {@link Class} and the target {@link Class}.
+ * When wrapping a {@link ConverterCollection} each of its converters are also wrapped and keyed by their own instance,
+ * so the converter responsible for slow conversions may be found.
+ */
+final class InstrumentedConverter<C extends ConverterContext> implements Converter<C> {
+
+    /**
+     * Records into counters keyed by the given converter instance, named by its {@link Converter#toString()}.
+     */
+    static <C extends ConverterContext> Converter<C> wrap(final Converter<C> converter,
+                                                          final ConverterMetrics metrics) {
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(metrics, "metrics");
+
+        return wrap0(
+                converter,
+                converter.toString(),
+                converter,
+                metrics
+        );
+    }
+
+    /**
+     * Records into counters keyed by the given name, shared by all converters instrumented with the same name.
+     */
+    static <C extends ConverterContext> Converter<C> wrap(final Converter<C> converter,
+                                                          final String name,
+                                                          final ConverterMetrics metrics) {
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(metrics, "metrics");
+
+        return wrap0(
+                converter,
+                name,
+                null,
+                metrics
+        );
+    }
+
+    private static <C extends ConverterContext> Converter<C> wrap0(final Converter<C> converter,
+                                                                   final String name,
+                                                                   final Converter<?> key,
+                                                                   final ConverterMetrics metrics) {
+        return new InstrumentedConverter<>(
+                converter instanceof ConverterCollection ?
+                        Cast.<ConverterCollection<C>>to(converter)
+                                .mapConverters(c -> wrap(c, metrics)) :
+                        converter,
+                name,
+                key,
+                metrics
+        );
+    }
+
+    private InstrumentedConverter(final Converter<C> converter,
+                                  final String name,
+                                  final Converter<?> key,
+                                  final ConverterMetrics metrics) {
+        super();
+        this.converter = converter;
+        this.name = name;
+        this.key = key;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        this.counters(value, type)
+                .canConvert();
+        return this.converter.canConvert(value, type, context);
+    }
+
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        final ConverterMetricsCounters counters = this.counters(value, type);
+        final long start = System.nanoTime();
+
+        final Either<T, String> result;
+        try {
+            result = this.converter.convert(value, type, context);
+        } catch (final RuntimeException cause) {
+            counters.exception(System.nanoTime() - start);
+            throw cause;
+        }
+
+        final long nanos = System.nanoTime() - start;
+        if (result.isLeft()) {
+            counters.success(nanos);
+        } else {
+            counters.failure(nanos);
+        }
+
+        return result;
+    }
+
+    /**
+     * Passes the whole batch to the wrapped {@link Converter}, so any faster bulk conversion is kept, and then records
+     * a single sample for the batch. The counters are those of the class shared by all non null values, or
+     * {@link Object} when the values have different classes.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final long start = System.nanoTime();
+        final int failures;
+        try {
+            failures = this.converter.convertAll(values, type, context, converted, errors);
+        } catch (final RuntimeException cause) {
+            this.counters(batchSource(values), type)
+                    .exception(System.nanoTime() - start);
+            throw cause;
+        }
+
+        final int count = values.size();
+        if (count > 0) {
+            this.counters(batchSource(values), type)
+                    .batch(
+                            count - failures,
+                            failures,
+                            System.nanoTime() - start
+                    );
+        }
+
+        return failures;
+    }
+
+    private static Class<?> batchSource(final List<?> values) {
+        Class<?> source = null;
+
+        for (final Object value : values) {
+            if (null != value) {
+                final Class<?> valueClass = value.getClass();
+                if (null == source) {
+                    source = valueClass;
+                } else {
+                    if (source != valueClass) {
+                        source = Object.class;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return source;
+    }
+
+    private ConverterMetricsCounters counters(final Object value,
+                                              final Class<?> type) {
+        return this.counters(
+                null == value ?
+                        null :
+                        value.getClass(),
+                type
+        );
+    }
+
+    private ConverterMetricsCounters counters(final Class<?> source,
+                                              final Class<?> type) {
+        return this.metrics.counters(
+                this.name,
+                this.key,
+                source,
+                type
+        );
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    /**
+     * The name supplied by the caller or the {@link Object#toString()} of the original converter.
+     */
+    private final String name;
+
+    /**
+     * The original converter identifying its counters, or null when counters are grouped by {@link #name}.
+     */
+    private final Converter<?> key;
+
+    // @VisibleForTesting
+    final ConverterMetrics metrics;
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.converter.sourceTypes();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.converter.targetTypes();
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Wraps another {@link Converter}, splitting large {@link #convertAll(List, Class, ConverterContext, Object[], String[])}
+ * requests into chunks of threshold values which are converted concurrently using a parallel {@link IntStream}, with
+ * each chunk writing its results to its own range of the converted and errors arrays, so the results keep the order of
+ * the values. Requests with no more than threshold values, and single conversions, are simply passed to the wrapped
+ * {@link Converter} on the calling thread.
+ * <br>
+ * The wrapped {@link Converter} and the {@link ConverterContext} are shared by all chunks and must be safe to use from
+ * many threads. The {@link DateTimeFormatterConverter} and {@link DecimalFormatConverter} caches are, with each chunk
+ * borrowing its own {@link java.text.DecimalFormat}.
+ */
+final class ParallelConverter<C extends ConverterContext> implements Converter<C> {
+
+    /**
+     * The threshold used by {@link Converters#parallel(Converter)}.
+     */
+    final static int DEFAULT_THRESHOLD = 1024;
+
+    static <C extends ConverterContext> ParallelConverter<C> with(final Converter<C> converter,
+                                                                  final int threshold) {
+        Objects.requireNonNull(converter, "converter");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " <= 0");
+        }
+
+        return new ParallelConverter<>(converter, threshold);
+    }
+
+    private ParallelConverter(final Converter<C> converter,
+                              final int threshold) {
+        super();
+        this.converter = converter;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean canConvert(final Object value,
+                              final Class<?> type,
+                              final C context) {
+        return this.converter.canConvert(value, type, context);
+    }
+
+    @Override
+    public boolean isValueDependent() {
+        return this.converter.isValueDependent();
+    }
+
+    @Override
+    public void invalidate() {
+        this.converter.invalidate();
+    }
+
+    @Override
+    public <T> Either<T, String> convert(final Object value,
+                                         final Class<T> type,
+                                         final C context) {
+        return this.converter.convert(value, type, context);
+    }
+
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final int count = values.size();
+        final int threshold = this.threshold;
+
+        return count <= threshold ?
+                this.converter.convertAll(values, type, context, converted, errors) :
+                IntStream.range(0, (count + threshold - 1) / threshold)
+                        .parallel()
+                        .map(chunk -> this.convertChunk(
+                                values,
+                                chunk * threshold,
+                                Math.min(count, (chunk + 1) * threshold),
+                                type,
+                                context,
+                                converted,
+                                errors)
+                        ).sum();
+    }
+
+    /**
+     * Converts the values between start and end, copying the results into the same range of the given arrays and
+     * returning the number of failures.
+     */
+    private <T> int convertChunk(final List<?> values,
+                                 final int start,
+                                 final int end,
+                                 final Class<T> type,
+                                 final C context,
+                                 final T[] converted,
+                                 final String[] errors) {
+        final int count = end - start;
+        final T[] chunkConverted = Cast.to(new Object[count]);
+        final String[] chunkErrors = new String[count];
+
+        final int failures = this.converter.convertAll(
+                values.subList(start, end),
+                type,
+                context,
+                chunkConverted,
+                chunkErrors
+        );
+
+        System.arraycopy(chunkConverted, 0, converted, start, count);
+        System.arraycopy(chunkErrors, 0, errors, start, count);
+
+        return failures;
+    }
+
+    // @VisibleForTesting
+    final Converter<C> converter;
+
+    // @VisibleForTesting
+    final int threshold;
+
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return this.converter.sourceTypes();
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return this.converter.targetTypes();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.converter, this.threshold);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof ParallelConverter && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ParallelConverter<?> other) {
+        return this.converter.equals(other.converter) &&
+                this.threshold == other.threshold;
+    }
+
+    @Override
+    public String toString() {
+        return "parallel(" + this.converter + ")";
+    }
+}
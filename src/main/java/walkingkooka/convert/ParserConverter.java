@@ -18,14 +18,17 @@
 package walkingkooka.convert;
 
 import walkingkooka.Either;
+import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursors;
 import walkingkooka.text.cursor.parser.Parser;
 import walkingkooka.text.cursor.parser.ParserContext;
 import walkingkooka.text.cursor.parser.ParserToken;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -39,37 +42,87 @@ final class ParserConverter<V, P extends ParserContext, C extends ConverterConte
                                                                                                   final Parser<P> parser,
                                                                                                   final Function<C, P> context,
                                                                                                   final BiFunction<ParserToken, C, V> transformer) {
-        Objects.requireNonNull(type, "type");
-        Objects.requireNonNull(parser, "parser");
-        Objects.requireNonNull(context, "context");
-        Objects.requireNonNull(transformer, "transformer");
+        checkArguments(type, parser, context, transformer);
+
+        return new ParserConverter<>(
+                type,
+                parser,
+                context,
+                transformer,
+                null,
+                ParserConverterContextCache.with(ParserConverterContextCache.DEFAULT_SIZE)
+        );
+    }
+
+    /**
+     * Creates a {@link ParserConverter} that rejects in {@link #canConvert(Object, Class, ConverterContext)} any
+     * {@link String} shorter than minLength or that does not start with a leading character, without running the
+     * {@link Parser}.
+     */
+    static <V, P extends ParserContext, C extends ConverterContext> ParserConverter<V, P, C> with(final Class<V> type,
+                                                                                                  final Parser<P> parser,
+                                                                                                  final Function<C, P> context,
+                                                                                                  final BiFunction<ParserToken, C, V> transformer,
+                                                                                                  final CharPredicate leading,
+                                                                                                  final int minLength) {
+        checkArguments(type, parser, context, transformer);
 
         return new ParserConverter<>(
                 type,
                 parser,
                 context,
-                transformer
+                transformer,
+                ParserConverterLookahead.with(leading, minLength),
+                ParserConverterContextCache.with(ParserConverterContextCache.DEFAULT_SIZE)
         );
     }
 
+    private static void checkArguments(final Class<?> type,
+                                       final Parser<?> parser,
+                                       final Function<?, ?> context,
+                                       final BiFunction<?, ?, ?> transformer) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(transformer, "transformer");
+    }
+
     /**
      * Private ctor use factory.
      */
     private ParserConverter(final Class<V> type,
                             final Parser<P> parser,
                             final Function<C, P> context,
-                            final BiFunction<ParserToken, C, V> transformer) {
+                            final BiFunction<ParserToken, C, V> transformer,
+                            final ParserConverterLookahead lookahead,
+                            final ParserConverterContextCache cache) {
         this.type = type;
         this.parser = parser;
         this.context = context;
         this.transformer = transformer;
+        this.lookahead = lookahead;
+        this.cache = cache;
     }
 
     @Override
     public boolean canConvert(final Object value,
                               final Class<?> type,
                               final C context) {
-        return (null == value || value instanceof String) && this.type == type;
+        return this.type == type &&
+                (null == value || value instanceof String && this.testLookahead((String) value));
+    }
+
+    /**
+     * Only a {@link ParserConverter} with a lookahead gives different answers for different {@link String}.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return null != this.lookahead;
+    }
+
+    private boolean testLookahead(final String text) {
+        final ParserConverterLookahead lookahead = this.lookahead;
+        return null == lookahead || lookahead.test(text);
     }
 
     private final Class<V> type;
@@ -91,12 +144,28 @@ final class ParserConverter<V, P extends ParserContext, C extends ConverterConte
                 this.parseNonNullString(text, type, context);
     }
 
-
+    /**
+     * Reuses the {@link ParserContext} previously adapted for a {@link ConverterContext} with the same locale, date time
+     * and number symbols.
+     */
     private <T> Either<T, String> parseNonNullString(final String text,
                                                      final Class<T> type,
                                                      final C context) {
-        final TextCursor cursor = TextCursors.charSequence(text);
-        final Optional<ParserToken> result = this.parser.parse(cursor, this.context.apply(context));
+        return this.parse(
+                TextCursors.charSequence(text),
+                text,
+                type,
+                this.cache.get(context, this.context),
+                context
+        );
+    }
+
+    private <T> Either<T, String> parse(final TextCursor cursor,
+                                        final String text,
+                                        final Class<T> type,
+                                        final P parserContext,
+                                        final C context) {
+        final Optional<ParserToken> result = this.parser.parse(cursor, parserContext);
         return result.isPresent() && cursor.isEmpty() ?
                 this.successfulConversion(
                         this.transformer.apply(result.get(), context),
@@ -105,6 +174,57 @@ final class ParserConverter<V, P extends ParserContext, C extends ConverterConte
                 this.failConversion(text, type);
     }
 
+    /**
+     * Adapts the {@link ParserContext} once for the whole batch and reuses a single {@link TextCursor} for all
+     * {@link String} values. Nothing is kept after the batch, so a per request {@link ConverterContext} is neither
+     * looked up nor held.
+     */
+    @Override
+    public <T> int convertAll(final List<?> values,
+                              final Class<T> type,
+                              final C context,
+                              final T[] converted,
+                              final String[] errors) {
+        ConverterConvertAll.check(values, type, context, converted, errors);
+
+        final int count = values.size();
+        if (this.type != type || 0 == count) {
+            return Converter.super.convertAll(values, type, context, converted, errors);
+        }
+
+        final P parserContext = this.context.apply(context);
+        final ParserConverterText text = ParserConverterText.empty();
+
+        int failures = 0;
+        for (int i = 0; i < count; i++) {
+            final Object value = values.get(i);
+
+            final Either<T, String> result;
+            if (null == value) {
+                result = this.successfulConversion(null, type);
+            } else if (value instanceof String && this.testLookahead((String) value)) {
+                final String string = (String) value;
+                result = this.parse(
+                        text.reset(string),
+                        string,
+                        type,
+                        parserContext,
+                        context
+                );
+            } else {
+                result = this.failConversion(value, type);
+            }
+
+            failures += ConverterConvertAll.set(
+                    result,
+                    i,
+                    converted,
+                    errors
+            );
+        }
+        return failures;
+    }
+
     private final Parser<P> parser;
 
     /**
@@ -112,11 +232,32 @@ final class ParserConverter<V, P extends ParserContext, C extends ConverterConte
      */
     private final Function<C, P> context;
 
+    /**
+     * When present, rejects {@link String} that cannot start a match, otherwise null.
+     */
+    private final ParserConverterLookahead lookahead;
+
+    /**
+     * Holds the {@link ParserContext} previously adapted for each fingerprint of a {@link ConverterContext}.
+     */
+    // @VisibleForTesting
+    final ParserConverterContextCache cache;
+
     /**
      * Function that is invoked with the {@link ParserToken} to return the value.
      */
     private final BiFunction<ParserToken, C, V> transformer;
 
+    @Override
+    public Optional<Set<Class<?>>> sourceTypes() {
+        return ConverterTypes.of(String.class);
+    }
+
+    @Override
+    public Optional<Set<Class<?>>> targetTypes() {
+        return ConverterTypes.of(this.type);
+    }
+
     @Override
     public String toString() {
         return "String->" + this.type.getSimpleName();
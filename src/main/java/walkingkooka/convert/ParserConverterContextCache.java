@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.parser.ParserContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of {@link ParserContext} adapted from each {@link ConverterContext}, evicting the least recently used
+ * when full. The key is a fingerprint of the locale, date time and number symbols of the {@link ConverterContext},
+ * like the keys used to cache {@link java.time.format.DateTimeFormatter} and {@link java.text.DecimalFormat}, so
+ * per request {@link ConverterContext} with the same values share one adapted {@link ParserContext}.
+ */
+final class ParserConverterContextCache {
+
+    /**
+     * The default maximum number of {@link ParserContext} held by each {@link ParserConverter}.
+     */
+    final static int DEFAULT_SIZE = 16;
+
+    static ParserConverterContextCache with(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size " + maxSize + " <= 0");
+        }
+        return new ParserConverterContextCache(maxSize);
+    }
+
+    private ParserConverterContextCache(final int maxSize) {
+        super();
+
+        this.maxSize = maxSize;
+        this.contexts = new LinkedHashMap<Object, ParserContext>(maxSize, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, ParserContext> eldest) {
+                return this.size() > ParserConverterContextCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@link ParserContext} for the fingerprint of the given {@link ConverterContext} or adapts one
+     * using the factory. The factory is invoked outside the lock, so two threads may adapt the same context, with the
+     * first to complete being kept. A {@link ConverterContext} that does not support all the values of the fingerprint
+     * is adapted every time.
+     */
+    <C extends ConverterContext, P extends ParserContext> P get(final C context,
+                                                                final Function<C, P> factory) {
+        final Object key = key(context);
+        return null != key ?
+                this.get(key, context, factory) :
+                factory.apply(context);
+    }
+
+    /**
+     * Returns the fingerprint of the {@link ConverterContext} or null if it does not support one of its values.
+     */
+    private static Object key(final ConverterContext context) {
+        Object key;
+        try {
+            key = Lists.of(
+                    DateTimeFormatterConverterCacheKey.with(context),
+                    DecimalFormatConverterCacheKey.with(context)
+            );
+        } catch (final UnsupportedOperationException unsupported) {
+            key = null;
+        }
+        return key;
+    }
+
+    private <C extends ConverterContext, P extends ParserContext> P get(final Object key,
+                                                                        final C context,
+                                                                        final Function<C, P> factory) {
+        final Map<Object, ParserContext> contexts = this.contexts;
+
+        ParserContext parserContext;
+        synchronized (contexts) {
+            parserContext = contexts.get(key);
+            if (null != parserContext) {
+                this.hits++;
+            } else {
+                this.misses++;
+            }
+        }
+
+        if (null == parserContext) {
+            final P adapted = factory.apply(context);
+
+            synchronized (contexts) {
+                parserContext = contexts.get(key);
+                if (null == parserContext) {
+                    contexts.put(key, adapted);
+                    parserContext = adapted;
+                }
+            }
+        }
+
+        return Cast.to(parserContext);
+    }
+
+    /**
+     * The number of cached {@link ParserContext}.
+     */
+    int size() {
+        synchronized (this.contexts) {
+            return this.contexts.size();
+        }
+    }
+
+    /**
+     * The number of {@link #get(ConverterContext, Function)} that returned a cached {@link ParserContext}.
+     */
+    long hits() {
+        synchronized (this.contexts) {
+            return this.hits;
+        }
+    }
+
+    /**
+     * The number of {@link #get(ConverterContext, Function)} that needed to adapt a {@link ParserContext}.
+     */
+    long misses() {
+        synchronized (this.contexts) {
+            return this.misses;
+        }
+    }
+
+    private final int maxSize;
+
+    /**
+     * A {@link LinkedHashMap} in access order, guarded by synchronizing on itself.
+     */
+    private final Map<Object, ParserContext> contexts;
+
+    private long hits;
+    private long misses;
+
+    @Override
+    public String toString() {
+        synchronized (this.contexts) {
+            return "size=" + this.contexts.size() + " hits=" + this.hits + " misses=" + this.misses;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.text.cursor.parser.Parser;
+
+import java.util.Objects;
+
+/**
+ * A cheap test that rejects text that a {@link Parser} cannot match, without running the {@link Parser}. The text must
+ * have at least the minimum length and its first character must be one of the legal leading characters. Text that
+ * passes may still fail to parse.
+ */
+final class ParserConverterLookahead {
+
+    static ParserConverterLookahead with(final CharPredicate leading,
+                                         final int minLength) {
+        Objects.requireNonNull(leading, "leading");
+        if (minLength <= 0) {
+            throw new IllegalArgumentException("Invalid min length " + minLength + " <= 0");
+        }
+
+        return new ParserConverterLookahead(leading, minLength);
+    }
+
+    private ParserConverterLookahead(final CharPredicate leading,
+                                     final int minLength) {
+        super();
+
+        this.leading = leading;
+        this.minLength = minLength;
+    }
+
+    /**
+     * Returns false if the text cannot possibly be matched by the {@link Parser}.
+     */
+    boolean test(final String text) {
+        return text.length() >= this.minLength &&
+                this.leading.test(text.charAt(0));
+    }
+
+    private final CharPredicate leading;
+
+    private final int minLength;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.leading + " " + this.minLength;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Objects;
+
+/**
+ * A {@link CharSequence} whose text may be replaced, with a single {@link TextCursor} that is rewound to the start
+ * each time, so many {@link String} may be parsed one after the other without a new {@link TextCursor} for each.
+ * It is not thread safe and should only be used by a single caller, and tokens must not keep the
+ * {@link CharSequence} returned by {@link TextCursorSavePoint#textBetween()} without calling {@link Object#toString()}.
+ */
+final class ParserConverterText implements CharSequence {
+
+    static ParserConverterText empty() {
+        final ParserConverterText text = new ParserConverterText();
+        text.cursor = TextCursors.charSequence(text);
+        text.start = text.cursor.save();
+        return text;
+    }
+
+    private ParserConverterText() {
+        super();
+        this.text = "";
+    }
+
+    /**
+     * Replaces the text and returns the {@link TextCursor} positioned at its start.
+     */
+    TextCursor reset(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        this.text = text;
+        this.start.restore();
+        return this.cursor;
+    }
+
+    private String text;
+
+    private TextCursor cursor;
+
+    /**
+     * Taken when the text was empty, so restoring it moves the cursor back to the start.
+     */
+    private TextCursorSavePoint start;
+
+    // CharSequence.....................................................................................................
+
+    @Override
+    public int length() {
+        return this.text.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return this.text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        return this.text.substring(start, end);
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
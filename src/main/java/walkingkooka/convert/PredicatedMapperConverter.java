@@ -60,6 +60,14 @@ final class PredicatedMapperConverter<S, D, C extends ConverterContext> implemen
     private final Predicate<Object> source;
     private final Predicate<Class<?>> target;
 
+    /**
+     * The source {@link Predicate} is given the value, not its {@link Class}.
+     */
+    @Override
+    public boolean isValueDependent() {
+        return true;
+    }
+
     @Override
     public <T> Either<T, String> convert(final Object value,
                                          final Class<T> type,
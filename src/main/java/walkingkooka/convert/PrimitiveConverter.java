@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+/**
+ * An optional interface implemented by {@link Converter converters} that produce numbers, which converts a value
+ * directly to a primitive, avoiding boxing the result and the {@link walkingkooka.Either} holding it.
+ * Callers should test with the matching can method first, which never allocates or throws for a value that cannot be
+ * converted, and the convert methods throw a {@link ConversionException} if that test would have returned false.
+ * The results always match those returned by {@link Converter#convert(Object, Class, ConverterContext)} for the
+ * matching boxed type, except for null which has no primitive value and is never converted.
+ */
+public interface PrimitiveConverter<C extends ConverterContext> {
+
+    /**
+     * Tests if the value may be converted to a double.
+     */
+    boolean canConvertToDouble(final Object value,
+                               final C context);
+
+    /**
+     * Converts the value to a double or throws a {@link ConversionException}.
+     */
+    double convertToDouble(final Object value,
+                           final C context);
+
+    /**
+     * Tests if the value may be converted to an int.
+     */
+    boolean canConvertToInt(final Object value,
+                            final C context);
+
+    /**
+     * Converts the value to an int or throws a {@link ConversionException}.
+     */
+    int convertToInt(final Object value,
+                     final C context);
+
+    /**
+     * Tests if the value may be converted to a long.
+     */
+    boolean canConvertToLong(final Object value,
+                             final C context);
+
+    /**
+     * Converts the value to a long or throws a {@link ConversionException}.
+     */
+    long convertToLong(final Object value,
+                       final C context);
+}
@@ -92,6 +92,14 @@ public final class BooleanTrueFalseConverterTest extends ConverterTestCase2<Bool
         );
     }
 
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(),
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Locale;
+
+public final class CachingConverterKeyTest implements ClassTesting2<CachingConverterKey>,
+        HashCodeEqualsDefinedTesting2<CachingConverterKey>,
+        ToStringTesting<CachingConverterKey> {
+
+    private final static Object VALUE = "abc";
+
+    @Test
+    public void testWith() {
+        final CachingConverterKey key = this.createObject();
+        this.checkEquals(VALUE, key.value, "value");
+        this.checkEquals(Integer.class, key.type, "type");
+        this.checkEquals(DecimalFormatConverterCacheKey.with(context(Locale.UK)), key.context, "context");
+    }
+
+    @Test
+    public void testEqualsNullValue() {
+        final CachingConverterKey key = key(null, Integer.class, Locale.UK);
+        final CachingConverterKey other = key(null, Integer.class, Locale.UK);
+
+        this.checkEquals(key, other);
+        this.checkEquals(key.hashCode(), other.hashCode(), "hashCode");
+        this.checkNotEquals(key, this.createObject());
+    }
+
+    @Test
+    public void testEqualsDifferentValue() {
+        this.checkNotEquals(key("different", Integer.class, Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentValueClass() {
+        this.checkNotEquals(
+                key(new ArrayList<>(), Integer.class, Locale.UK),
+                key(new LinkedList<>(), Integer.class, Locale.UK)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentType() {
+        this.checkNotEquals(key(VALUE, Long.class, Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentLocale() {
+        this.checkNotEquals(key(VALUE, Integer.class, Locale.FRANCE));
+    }
+
+    @Test
+    public void testEqualsNullContext() {
+        final CachingConverterKey key = CachingConverterKey.with(VALUE, Integer.class, null);
+        final CachingConverterKey other = CachingConverterKey.with(VALUE, Integer.class, null);
+
+        this.checkEquals(key, other);
+        this.checkEquals(key.hashCode(), other.hashCode(), "hashCode");
+        this.checkNotEquals(key, this.createObject());
+    }
+
+    @Test
+    public void testEqualsDifferentContextSameLocale() {
+        final CachingConverterKey key = this.createObject();
+        final CachingConverterKey other = this.createObject();
+
+        this.checkEquals(key, other);
+        this.checkEquals(key.hashCode(), other.hashCode(), "hashCode");
+    }
+
+    @Test
+    public void testToString() {
+        final CachingConverterKey key = this.createObject();
+        this.toStringAndCheck(key, "\"abc\" java.lang.Integer " + key.context);
+    }
+
+    @Override
+    public CachingConverterKey createObject() {
+        return key(VALUE, Integer.class, Locale.UK);
+    }
+
+    private static CachingConverterKey key(final Object value,
+                                           final Class<?> type,
+                                           final Locale locale) {
+        return CachingConverterKey.with(
+                value,
+                type,
+                DecimalFormatConverterCacheKey.with(context(locale))
+        );
+    }
+
+    static ConverterContext context(final Locale locale) {
+        return ConverterContexts.basic(
+                Converters.fake(),
+                DateTimeContexts.locale(
+                        locale,
+                        1900,
+                        20,
+                        LocalDateTime::now
+                ),
+                DecimalNumberContexts.decimalFormatSymbols(
+                        new DecimalFormatSymbols(locale),
+                        '+',
+                        locale,
+                        MathContext.DECIMAL32
+                )
+        );
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<CachingConverterKey> type() {
+        return CachingConverterKey.class;
+    }
+}
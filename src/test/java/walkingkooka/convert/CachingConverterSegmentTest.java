@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class CachingConverterSegmentTest implements ClassTesting2<CachingConverterSegment>,
+        ToStringTesting<CachingConverterSegment> {
+
+    private final static CachingConverterKey KEY1 = key(1);
+    private final static CachingConverterKey KEY2 = key(2);
+    private final static CachingConverterKey KEY3 = key(3);
+
+    @Test
+    public void testGetMiss() {
+        final CachingConverterSegment segment = CachingConverterSegment.with(2);
+        this.checkEquals(null, segment.get(KEY1));
+        this.statisticsAndCheck(segment, 0, 0, 1, 0);
+    }
+
+    @Test
+    public void testPutGet() {
+        final CachingConverterSegment segment = CachingConverterSegment.with(2);
+        final Either<?, String> result = Either.left(1);
+        segment.put(KEY1, result);
+
+        assertSame(result, segment.get(KEY1));
+        this.statisticsAndCheck(segment, 1, 1, 0, 0);
+    }
+
+    @Test
+    public void testPutEvictsLeastRecentlyUsed() {
+        final CachingConverterSegment segment = CachingConverterSegment.with(2);
+        segment.put(KEY1, Either.left(1));
+        segment.put(KEY2, Either.left(2));
+        segment.get(KEY1); // 2 is now the least recently used
+        segment.put(KEY3, Either.left(3));
+
+        this.checkEquals(null, segment.get(KEY2), "2 should have been evicted");
+        this.checkEquals(Either.left(1), segment.get(KEY1));
+        this.statisticsAndCheck(segment, 2, 2, 1, 1);
+    }
+
+    private void statisticsAndCheck(final CachingConverterSegment segment,
+                                    final int size,
+                                    final long hits,
+                                    final long misses,
+                                    final long evictions) {
+        this.checkEquals(
+                ConverterCacheStatistics.with(size, hits, misses, evictions),
+                segment.statistics()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final CachingConverterSegment segment = CachingConverterSegment.with(2);
+        segment.put(KEY1, Either.left(1));
+        segment.get(KEY1);
+
+        this.toStringAndCheck(segment, "size=1 hits=1 misses=0 evictions=0");
+    }
+
+    private static CachingConverterKey key(final int value) {
+        return CachingConverterKey.with(
+                value,
+                Integer.class,
+                DecimalFormatConverterCacheKey.with(CachingConverterKeyTest.context(Locale.UK))
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CachingConverterSegment> type() {
+        return CachingConverterSegment.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CachingConverterTest extends ConverterTestCase2<CachingConverter<ConverterContext>> {
+
+    private final static Converter<ConverterContext> WRAPPED = Converters.numberNumber();
+    private final static int MAX_ENTRIES = 2;
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(NullPointerException.class, () -> CachingConverter.with(null, MAX_ENTRIES));
+    }
+
+    @Test
+    public void testWithInvalidMaxEntriesFails() {
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> CachingConverter.with(WRAPPED, 0));
+        this.checkEquals("Invalid cache size 0 <= 0", thrown.getMessage(), "message");
+    }
+
+    @Test
+    public void testWithInvalidSegmentCountFails() {
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> CachingConverter.with(WRAPPED, MAX_ENTRIES, 0));
+        this.checkEquals("Invalid segment count 0 not between 1 and 2", thrown.getMessage(), "message");
+    }
+
+    @Test
+    public void testWithSegmentCountGreaterThanMaxEntriesFails() {
+        assertThrows(IllegalArgumentException.class, () -> CachingConverter.with(WRAPPED, MAX_ENTRIES, MAX_ENTRIES + 1));
+    }
+
+    @Test
+    public void testWithNullContextKeyFails() {
+        assertThrows(NullPointerException.class, () -> CachingConverter.with(WRAPPED, MAX_ENTRIES, null));
+    }
+
+    @Test
+    public void testWithSmallSingleSegment() {
+        this.segmentsAndCheck(CachingConverter.with(WRAPPED, CachingConverter.MIN_SEGMENT_ENTRIES * 2 - 1), 15);
+    }
+
+    @Test
+    public void testWithSegments() {
+        this.segmentsAndCheck(CachingConverter.with(WRAPPED, 42), 9, 9, 8, 8, 8);
+    }
+
+    @Test
+    public void testWithMaxSegments() {
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(WRAPPED, 10000);
+        this.checkEquals(CachingConverter.MAX_SEGMENTS, converter.segments.length, "segments");
+    }
+
+    private void segmentsAndCheck(final CachingConverter<?> converter,
+                                  final int... maxEntries) {
+        final int[] actual = new int[converter.segments.length];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = converter.segments[i].maxEntries;
+        }
+        this.checkEquals(
+                Arrays.toString(maxEntries),
+                Arrays.toString(actual)
+        );
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCheck(123L, Integer.class, 123);
+    }
+
+    @Test
+    public void testConvertFails() {
+        this.convertFails("abc", Integer.class);
+    }
+
+    @Test
+    public void testConvertCachesSuccess() {
+        final CachingConverter<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        final Either<Integer, String> first = converter.convert(123L, Integer.class, context);
+        final Either<Integer, String> second = converter.convert(123L, Integer.class, context);
+
+        assertSame(first, second);
+        this.checkStats(converter, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testConvertCachesFailure() {
+        final CachingConverter<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        final Either<Integer, String> first = converter.convert("abc", Integer.class, context);
+        final Either<Integer, String> second = converter.convert("abc", Integer.class, context);
+
+        this.checkEquals(true, first.isRight(), "failed");
+        assertSame(first, second);
+        this.checkStats(converter, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testConvertDifferentTypeOrLocaleMisses() {
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(WRAPPED, 10);
+
+        converter.convert(123L, Integer.class, this.createContext());
+        converter.convert(123L, Long.class, this.createContext());
+        converter.convert(123L, Integer.class, CachingConverterKeyTest.context(Locale.FRANCE));
+
+        this.checkStats(converter, 3, 0, 3, 0);
+    }
+
+    @Test
+    public void testConvertEvictsLeastRecentlyUsed() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public <T> Either<T, String> convert(final Object value,
+                                                         final Class<T> type,
+                                                         final ConverterContext context) {
+                        calls.incrementAndGet();
+                        return this.successfulConversion(value, type);
+                    }
+                },
+                MAX_ENTRIES
+        );
+        final ConverterContext context = this.createContext();
+
+        converter.convert(1, Object.class, context);
+        converter.convert(2, Object.class, context);
+        converter.convert(1, Object.class, context); // 2 is now the least recently used
+        converter.convert(3, Object.class, context); // evicts 2
+        converter.convert(1, Object.class, context);
+        converter.convert(2, Object.class, context);
+
+        this.checkEquals(4, calls.get(), "calls");
+        this.checkStats(converter, 2, 2, 4, 2);
+    }
+
+    @Test
+    public void testConvertSegmentsBoundTotal() {
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(
+                Converters.simple(),
+                10,
+                3
+        );
+        final ConverterContext context = this.createContext();
+
+        for (int i = 0; i < 100; i++) {
+            converter.convert(i, Integer.class, context);
+        }
+
+        final ConverterCacheStatistics statistics = converter.cacheStatistics();
+        this.checkEquals(true, statistics.size() <= 10, () -> "size " + statistics);
+        this.checkEquals(100L, statistics.misses(), "misses");
+        this.checkEquals(100L - statistics.size(), statistics.evictions(), "evictions");
+    }
+
+    @Test
+    public void testConvertConcurrent() throws Exception {
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(
+                Converters.simple(),
+                32
+        );
+        final ConverterContext context = this.createContext();
+        final int threadCount = 4;
+        final int count = 1000;
+
+        final Thread[] threads = new Thread[threadCount];
+        final AtomicInteger failures = new AtomicInteger();
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    final int value = i % 50;
+                    final Either<Integer, String> result = converter.convert(value, Integer.class, context);
+                    if (false == result.isLeft() || value != result.leftValue()) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        final ConverterCacheStatistics statistics = converter.cacheStatistics();
+        this.checkEquals(0, failures.get(), "failures");
+        this.checkEquals((long) threadCount * count, statistics.hits() + statistics.misses(), () -> "hits + misses " + statistics);
+        this.checkEquals(true, statistics.size() <= 32, () -> "size " + statistics);
+    }
+
+    @Test
+    public void testInsideCollection() {
+        this.convertAndCheck(
+                Converters.collection(
+                        Cast.to(
+                                Arrays.asList(
+                                        this.createConverter(),
+                                        Converters.objectString()
+                                )
+                        )
+                ),
+                123L,
+                String.class,
+                this.createContext(),
+                "123"
+        );
+    }
+
+    @Test
+    public void testInsideCollectionCachesFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingConverter<ConverterContext> caching = CachingConverter.with(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public boolean canConvert(final Object value,
+                                              final Class<?> type,
+                                              final ConverterContext context) {
+                        return true;
+                    }
+
+                    @Override
+                    public <T> Either<T, String> convert(final Object value,
+                                                         final Class<T> type,
+                                                         final ConverterContext context) {
+                        calls.incrementAndGet();
+                        return this.failConversion(value, type);
+                    }
+                },
+                MAX_ENTRIES
+        );
+        final Converter<ConverterContext> collection = Converters.collection(
+                Arrays.asList(
+                        caching,
+                        Converters.numberNumber()
+                )
+        );
+        final ConverterContext context = this.createContext();
+
+        collection.convert("abc", Integer.class, context);
+        this.checkEquals(
+                Either.right("Failed to convert \"abc\" (java.lang.String) to java.lang.Integer"),
+                collection.convert("abc", Integer.class, context)
+        );
+        this.checkEquals(1, calls.get(), "calls");
+        this.checkStats(caching, 1, 1, 1, 0);
+    }
+
+    @Test
+    public void testConvertContextKey() {
+        final CachingConverter<ConverterContext> converter = CachingConverter.with(
+                WRAPPED,
+                10,
+                (c) -> "same"
+        );
+
+        converter.convert(123L, Integer.class, this.createContext());
+        converter.convert(123L, Integer.class, CachingConverterKeyTest.context(Locale.FRANCE));
+
+        this.checkStats(converter, 1, 1, 1, 0);
+    }
+
+    private void checkStats(final CachingConverter<?> converter,
+                            final int size,
+                            final long hits,
+                            final long misses,
+                            final long evictions) {
+        this.checkEquals(
+                ConverterCacheStatistics.with(size, hits, misses, evictions),
+                converter.cacheStatistics()
+        );
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(WRAPPED.isValueDependent(), this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createConverter(), "caching(" + WRAPPED + ")");
+    }
+
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        CachingConverter.with(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public void invalidate() {
+                        invalidated[0]++;
+                    }
+                },
+                MAX_ENTRIES
+        ).invalidate();
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Override
+    public CachingConverter<ConverterContext> createConverter() {
+        return CachingConverter.with(WRAPPED, MAX_ENTRIES);
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return CachingConverterKeyTest.context(Locale.UK);
+    }
+
+    @Override
+    public Class<CachingConverter<ConverterContext>> type() {
+        return Cast.to(CachingConverter.class);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConversionErrorHandlerCollectTest implements ClassTesting2<ConversionErrorHandlerCollect>,
+        ToStringTesting<ConversionErrorHandlerCollect> {
+
+    @Test
+    public void testWithNullErrorsFails() {
+        assertThrows(NullPointerException.class, () -> ConversionErrorHandlerCollect.with(null));
+    }
+
+    @Test
+    public void testHandle() {
+        final Map<Long, String> errors = new TreeMap<>();
+        final ConversionErrorHandlerCollect handler = ConversionErrorHandlerCollect.with(errors);
+        handler.handle(1, "a", Integer.class, "message-1");
+        handler.handle(3, "b", Integer.class, "message-3");
+
+        final Map<Long, String> expected = new TreeMap<>();
+        expected.put(1L, "message-1");
+        expected.put(3L, "message-3");
+
+        this.checkEquals(expected, errors);
+    }
+
+    @Test
+    public void testToString() {
+        final Map<Long, String> errors = new TreeMap<>();
+        errors.put(2L, "message-2");
+
+        this.toStringAndCheck(ConversionErrorHandlerCollect.with(errors), "collect {2=message-2}");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<ConversionErrorHandlerCollect> type() {
+        return ConversionErrorHandlerCollect.class;
+    }
+}
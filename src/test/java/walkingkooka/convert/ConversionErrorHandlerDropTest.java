@@ -14,43 +14,35 @@
  * limitations under the License.
  *
  */
-
 package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.ToStringTesting;
-import walkingkooka.math.NumberTypeVisitorTesting;
+import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 
-import java.math.BigInteger;
-
-public class ConverterNumberNumberNumberTypeVisitorTest implements NumberTypeVisitorTesting<ConverterNumberNumberNumberTypeVisitor>,
-        ToStringTesting<ConverterNumberNumberNumberTypeVisitor> {
+public final class ConversionErrorHandlerDropTest implements ClassTesting2<ConversionErrorHandlerDrop>,
+        ToStringTesting<ConversionErrorHandlerDrop> {
 
     @Test
-    public void testToString() {
-        final ConverterNumberNumberNumberTypeVisitor visitor = new ConverterNumberNumberNumberTypeVisitor();
-        visitor.accept(BigInteger.class);
-        this.toStringAndCheck(visitor, "Number->BigInteger");
+    public void testHandle() {
+        ConversionErrorHandlerDrop.INSTANCE.handle(1, "a", Integer.class, "message");
     }
 
-    @Override
-    public ConverterNumberNumberNumberTypeVisitor createVisitor() {
-        return new ConverterNumberNumberNumberTypeVisitor();
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(ConversionErrorHandlerDrop.INSTANCE, "drop");
     }
 
-    @Override
-    public String typeNamePrefix() {
-        return ConverterNumberNumber.class.getSimpleName();
-    }
+    // ClassTesting.....................................................................................................
 
     @Override
-    public Class<ConverterNumberNumberNumberTypeVisitor> type() {
-        return ConverterNumberNumberNumberTypeVisitor.class;
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
     }
 
     @Override
-    public JavaVisibility typeVisibility() {
-        return JavaVisibility.PACKAGE_PRIVATE;
+    public Class<ConversionErrorHandlerDrop> type() {
+        return ConversionErrorHandlerDrop.class;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConversionErrorHandlerFailFastTest implements ClassTesting2<ConversionErrorHandlerFailFast>,
+        ToStringTesting<ConversionErrorHandlerFailFast> {
+
+    @Test
+    public void testHandle() {
+        final ConversionException thrown = assertThrows(
+                ConversionException.class,
+                () -> ConversionErrorHandlerFailFast.INSTANCE.handle(12, "a", Integer.class, "message")
+        );
+        this.checkEquals("message at 12", thrown.getMessage(), "message");
+        this.checkEquals("a", thrown.value(), "value");
+        this.checkEquals(Integer.class, thrown.type(), "type");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(ConversionErrorHandlerFailFast.INSTANCE, "fail-fast");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<ConversionErrorHandlerFailFast> type() {
+        return ConversionErrorHandlerFailFast.class;
+    }
+}
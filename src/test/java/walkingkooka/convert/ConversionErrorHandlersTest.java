@@ -14,26 +14,27 @@
  * limitations under the License.
  *
  */
-
 package walkingkooka.convert;
 
-import walkingkooka.Cast;
-import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
 
-public final class ConverterNumberNumberNumberTypeVisitorNumberTest implements ClassTesting2<ConverterNumberNumberNumberTypeVisitorNumber<?>> {
+public final class ConversionErrorHandlersTest implements PublicStaticHelperTesting<ConversionErrorHandlers> {
 
-    ConverterNumberNumberNumberTypeVisitorNumberTest() {
-        super();
+    @Override
+    public Class<ConversionErrorHandlers> type() {
+        return ConversionErrorHandlers.class;
     }
 
     @Override
-    public Class<ConverterNumberNumberNumberTypeVisitorNumber<?>> type() {
-        return Cast.to(ConverterNumberNumberNumberTypeVisitorNumber.class);
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
     }
 
     @Override
     public JavaVisibility typeVisibility() {
-        return JavaVisibility.PACKAGE_PRIVATE;
+        return JavaVisibility.PUBLIC;
     }
 }
@@ -53,6 +53,16 @@ public final class ConverterBigDecimalBooleanTest extends ConverterTestCase2<Con
         this.toStringAndCheck(this.createConverter(), "BigDecimal->Boolean");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(BigDecimal.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(Boolean.class);
+    }
+
     @Override
     public ConverterBigDecimalBoolean<ConverterContext> createConverter() {
         return Cast.to(ConverterBigDecimalBoolean.INSTANCE);
@@ -114,11 +114,47 @@ public final class ConverterBooleanNumberTest extends ConverterTestCase2<Convert
         this.convertAndCheck(false, (short) 0);
     }
 
+    @Test
+    public void testConvertToDouble() {
+        this.convertToDoubleAndCheck(this.createConverter(), true, this.createContext(), 1.0);
+        this.convertToDoubleAndCheck(this.createConverter(), false, this.createContext(), 0.0);
+    }
+
+    @Test
+    public void testConvertToInt() {
+        this.convertToIntAndCheck(this.createConverter(), true, this.createContext(), 1);
+        this.convertToIntAndCheck(this.createConverter(), false, this.createContext(), 0);
+    }
+
+    @Test
+    public void testConvertToLong() {
+        this.convertToLongAndCheck(this.createConverter(), true, this.createContext(), 1L);
+        this.convertToLongAndCheck(this.createConverter(), false, this.createContext(), 0L);
+    }
+
+    @Test
+    public void testConvertToLongNonBooleanFails() {
+        this.convertToLongFails(this.createConverter(), "true", this.createContext());
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(), "Boolean->Number");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Boolean.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
     @Override
     public ConverterBooleanNumber<ConverterContext> createConverter() {
         return ConverterBooleanNumber.instance();
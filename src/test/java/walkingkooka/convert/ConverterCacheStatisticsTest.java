@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ConverterCacheStatisticsTest implements ClassTesting2<ConverterCacheStatistics>,
+        HashCodeEqualsDefinedTesting2<ConverterCacheStatistics>,
+        ToStringTesting<ConverterCacheStatistics> {
+
+    @Test
+    public void testWith() {
+        final ConverterCacheStatistics statistics = this.createObject();
+        this.checkEquals(1, statistics.size(), "size");
+        this.checkEquals(2L, statistics.hits(), "hits");
+        this.checkEquals(3L, statistics.misses(), "misses");
+        this.checkEquals(4L, statistics.evictions(), "evictions");
+    }
+
+    @Test
+    public void testEqualsDifferentSize() {
+        this.checkNotEquals(ConverterCacheStatistics.with(99, 2, 3, 4));
+    }
+
+    @Test
+    public void testEqualsDifferentHits() {
+        this.checkNotEquals(ConverterCacheStatistics.with(1, 99, 3, 4));
+    }
+
+    @Test
+    public void testEqualsDifferentMisses() {
+        this.checkNotEquals(ConverterCacheStatistics.with(1, 2, 99, 4));
+    }
+
+    @Test
+    public void testEqualsDifferentEvictions() {
+        this.checkNotEquals(ConverterCacheStatistics.with(1, 2, 3, 99));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "size=1 hits=2 misses=3 evictions=4");
+    }
+
+    @Override
+    public ConverterCacheStatistics createObject() {
+        return ConverterCacheStatistics.with(1, 2, 3, 4);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+
+    @Override
+    public Class<ConverterCacheStatistics> type() {
+        return ConverterCacheStatistics.class;
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterChainTest extends ConverterTestCase2<ConverterChain<ConverterContext>> {
+
+    private final static Converter<ConverterContext> FIRST = Converters.numberNumber();
+    private final static Converter<ConverterContext> SECOND = Converters.numberLocalDate(Converters.JAVA_EPOCH_OFFSET);
+
+    @Override
+    public void testTypeNaming() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Test
+    public void testWithNullFirstFails() {
+        assertThrows(NullPointerException.class, () -> ConverterChain.with(null, Long.class, SECOND));
+    }
+
+    @Test
+    public void testWithNullIntermediateTypeFails() {
+        assertThrows(NullPointerException.class, () -> ConverterChain.with(FIRST, null, SECOND));
+    }
+
+    @Test
+    public void testWithNullSecondFails() {
+        assertThrows(NullPointerException.class, () -> ConverterChain.with(FIRST, Long.class, null));
+    }
+
+    @Test
+    public void testCanConvert() {
+        this.canConvertAndCheck(BigDecimal.ONE, LocalDate.class, true);
+    }
+
+    @Test
+    public void testCanConvertNull() {
+        this.canConvertAndCheck(null, LocalDate.class, true);
+    }
+
+    @Test
+    public void testCanConvertFirstFails() {
+        this.canConvertAndCheck("1", LocalDate.class, false);
+    }
+
+    @Test
+    public void testCanConvertPrimitiveFails() {
+        this.canConvertAndCheck(1.5, LocalDate.class, false);
+    }
+
+    @Test
+    public void testCanConvertSecondTypeFails() {
+        this.canConvertAndCheck(BigDecimal.ONE, String.class, false);
+    }
+
+    @Test
+    public void testCanConvertDeclaredTargetSecondRejectsNull() {
+        this.checkEquals(
+                true,
+                ConverterChain.with(FIRST, Long.class, nonNullLongToLocalDate(ConverterTypes.of(LocalDate.class)))
+                        .canConvert(1, LocalDate.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testCanConvertUndeclaredTarget() {
+        final ConverterChain<ConverterContext> chain = ConverterChain.with(FIRST, Long.class, nonNullLongToLocalDate(Optional.empty()));
+        final ConverterContext context = this.createContext();
+
+        this.checkEquals(true, chain.canConvert(1, LocalDate.class, context), "canConvert 1 to LocalDate");
+        this.checkEquals(false, chain.canConvert(1, String.class, context), "canConvert 1 to String");
+        this.checkEquals(false, chain.canConvert(null, LocalDate.class, context), "canConvert null to LocalDate");
+    }
+
+    @Test
+    public void testConvertUndeclaredTarget() {
+        this.convertAndCheck(
+                ConverterChain.with(FIRST, Long.class, nonNullLongToLocalDate(Optional.empty())),
+                6,
+                LocalDate.class,
+                LocalDate.ofEpochDay(6)
+        );
+    }
+
+    /**
+     * A {@link Converter} that does not accept null, converting only {@link Long} to {@link LocalDate}.
+     */
+    private static Converter<ConverterContext> nonNullLongToLocalDate(final Optional<Set<Class<?>>> targetTypes) {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return value instanceof Long && LocalDate.class == type;
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                return this.canConvert(value, type, context) ?
+                        this.successfulConversion(LocalDate.ofEpochDay((Long) value), type) :
+                        this.failConversion(value, type);
+            }
+
+            @Override
+            public Optional<Set<Class<?>>> targetTypes() {
+                return targetTypes;
+            }
+        };
+    }
+
+    private void canConvertAndCheck(final Object value,
+                                    final Class<?> type,
+                                    final boolean expected) {
+        this.checkEquals(
+                expected,
+                this.createConverter()
+                        .canConvert(value, type, this.createContext()),
+                () -> "canConvert " + value + " to " + type.getName()
+        );
+    }
+
+    @Test
+    public void testConvertPrimitive() {
+        this.convertAndCheck(BigDecimal.valueOf(2), LocalDate.class, LocalDate.ofEpochDay(2));
+    }
+
+    @Test
+    public void testConvertPrimitiveFails() {
+        this.convertFails(2.5, LocalDate.class);
+    }
+
+    @Test
+    public void testConvertNull() {
+        this.convertAndCheck(null, LocalDate.class, null);
+    }
+
+    @Test
+    public void testConvertFirstFails() {
+        final String value = "2";
+        this.checkEquals(
+                FIRST.convert(value, Long.class, this.createContext()),
+                this.convert(value, LocalDate.class)
+        );
+    }
+
+    @Test
+    public void testConvertPrimitiveFailsFirstMessage() {
+        final Double value = 2.5;
+        this.checkEquals(
+                FIRST.convert(value, Long.class, this.createContext()),
+                this.convert(value, LocalDate.class)
+        );
+    }
+
+    @Test
+    public void testConvertSecondFails() {
+        final Long value = Long.MAX_VALUE;
+        this.checkEquals(
+                SECOND.convert(value, LocalDate.class, this.createContext()),
+                this.convert(value, LocalDate.class)
+        );
+    }
+
+    @Test
+    public void testCanConvertSecondRejectsIntermediateType() {
+        this.checkEquals(
+                false,
+                ConverterChain.with(FIRST, String.class, SECOND)
+                        .canConvert(1, LocalDate.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testConvertSecondRejectsIntermediateType() {
+        this.convertFails(
+                ConverterChain.with(FIRST, String.class, SECOND),
+                1,
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testTargetTypesSecondRejectsIntermediateType() {
+        this.checkEquals(
+                ConverterTypes.NONE,
+                ConverterChain.with(FIRST, String.class, SECOND)
+                        .targetTypes()
+        );
+    }
+
+    @Test
+    public void testConvertIntermediate() {
+        this.convertAndCheck(
+                ConverterChain.with(FIRST, BigDecimal.class, SECOND),
+                3,
+                LocalDate.class,
+                LocalDate.ofEpochDay(3)
+        );
+    }
+
+    @Test
+    public void testConvertIntermediateFails() {
+        this.convertFails(
+                ConverterChain.with(FIRST, BigDecimal.class, SECOND),
+                BigDecimal.valueOf(3.5),
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList(BigDecimal.ONE, null, 2.5, "3", 4L, Long.MAX_VALUE),
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testConvertAllIntermediate() {
+        this.convertAllAndCheck(
+                ConverterChain.with(FIRST, BigDecimal.class, SECOND),
+                Arrays.asList(BigDecimal.ONE, null, 2.5, "3", 4L, Long.MAX_VALUE),
+                LocalDate.class,
+                this.createContext()
+        );
+    }
+
+    @Test
+    public void testConvertAllUnsupportedType() {
+        this.convertAllAndCheck(
+                Arrays.asList(BigDecimal.ONE, null),
+                String.class
+        );
+    }
+
+    @Test
+    public void testCollection() {
+        this.convertAndCheck(
+                Converters.collection(
+                        Lists.of(
+                                Converters.simple(),
+                                this.createConverter()
+                        )
+                ),
+                5,
+                LocalDate.class,
+                LocalDate.ofEpochDay(5)
+        );
+    }
+
+    @Test
+    public void testIsValueDependentPrimitive() {
+        this.checkEquals(true, this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                false,
+                ConverterChain.with(FIRST, BigDecimal.class, SECOND)
+                        .isValueDependent()
+        );
+    }
+
+    @Test
+    public void testIsValueDependentSecond() {
+        this.checkEquals(
+                true,
+                ConverterChain.with(
+                        FIRST,
+                        Long.class,
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public boolean isValueDependent() {
+                                return true;
+                            }
+                        }
+                ).isValueDependent()
+        );
+    }
+
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        final Converter<ConverterContext> converter = new FakeConverter<ConverterContext>() {
+            @Override
+            public void invalidate() {
+                invalidated[0]++;
+            }
+        };
+
+        ConverterChain.with(converter, Long.class, converter)
+                .invalidate();
+        this.checkEquals(2, invalidated[0]);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createConverter(), FIRST + "->Long->" + SECOND);
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(LocalDate.class);
+    }
+
+    @Override
+    public ConverterChain<ConverterContext> createConverter() {
+        return ConverterChain.with(FIRST, Long.class, SECOND);
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    @Override
+    public Class<ConverterChain<ConverterContext>> type() {
+        return Cast.to(ConverterChain.class);
+    }
+}
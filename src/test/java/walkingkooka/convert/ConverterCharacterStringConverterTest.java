@@ -20,6 +20,8 @@ package walkingkooka.convert;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -137,6 +139,39 @@ public final class ConverterCharacterStringConverterTest implements ConverterTes
         );
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createConverter().sourceTypes()
+        );
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Test
+    public void testSourceTypesDeclared() {
+        this.sourceTypesAndCheck(
+                ConverterCharacterStringConverter.with(Converters.objectString()),
+                Object.class,
+                Character.class
+        );
+    }
+
+    @Test
+    public void testTargetTypesDeclared() {
+        this.targetTypesAndCheck(
+                ConverterCharacterStringConverter.with(Converters.objectString()),
+                String.class
+        );
+    }
+
     @Override
     public ConverterCharacterStringConverter<FakeConverterContext> createConverter() {
         return ConverterCharacterStringConverter.with(
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterClassPairCacheTest implements ClassTesting2<ConverterClassPairCache<?>>,
+        ToStringTesting<ConverterClassPairCache<?>> {
+
+    private final static ConverterClassPair PAIR1 = ConverterClassPair.with(String.class, Long.class);
+    private final static ConverterClassPair PAIR2 = ConverterClassPair.with(Integer.class, LocalDate.class);
+    private final static ConverterClassPair PAIR3 = ConverterClassPair.with(Boolean.class, String.class);
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterClassPairCache.with(0));
+    }
+
+    @Test
+    public void testPutNullPairFails() {
+        assertThrows(NullPointerException.class, () -> ConverterClassPairCache.<String>with(1).put(null, "value"));
+    }
+
+    @Test
+    public void testPutNullValueFails() {
+        assertThrows(NullPointerException.class, () -> ConverterClassPairCache.<String>with(1).put(PAIR1, null));
+    }
+
+    @Test
+    public void testGetAbsent() {
+        this.checkEquals(null, ConverterClassPairCache.<String>with(1).get(PAIR1));
+    }
+
+    @Test
+    public void testPutGet() {
+        final ConverterClassPairCache<String> cache = ConverterClassPairCache.with(2);
+        cache.put(PAIR1, "value1");
+        cache.put(PAIR2, "value2");
+
+        this.checkEquals("value1", cache.get(PAIR1), "pair1");
+        this.checkEquals("value2", cache.get(PAIR2), "pair2");
+        this.checkEquals("value1", cache.get(ConverterClassPair.with(String.class, Long.class)), "equal pair");
+        this.checkEquals(2, cache.size(), "size");
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final ConverterClassPairCache<String> cache = ConverterClassPairCache.with(2);
+        cache.put(PAIR1, "value1");
+        cache.put(PAIR2, "value2");
+        cache.get(PAIR1);
+        cache.put(PAIR3, "value3");
+
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals("value1", cache.get(PAIR1), "pair1");
+        this.checkEquals(null, cache.get(PAIR2), "pair2 evicted");
+        this.checkEquals("value3", cache.get(PAIR3), "pair3");
+    }
+
+    @Test
+    public void testClear() {
+        final ConverterClassPairCache<String> cache = ConverterClassPairCache.with(2);
+        cache.put(PAIR1, "value1");
+        cache.clear();
+
+        this.checkEquals(0, cache.size(), "size");
+        this.checkEquals(null, cache.get(PAIR1), "pair1");
+    }
+
+    @Test
+    public void testToString() {
+        final ConverterClassPairCache<String> cache = ConverterClassPairCache.with(2);
+        cache.put(PAIR1, "value1");
+        cache.put(PAIR2, "value2");
+
+        this.toStringAndCheck(
+                cache,
+                "[java.lang.String->java.lang.Long, java.lang.Integer->java.time.LocalDate]"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterClassPairCache<?>> type() {
+        return Cast.to(ConverterClassPairCache.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
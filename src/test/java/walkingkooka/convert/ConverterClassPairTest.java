@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterClassPairTest implements ClassTesting2<ConverterClassPair>,
+        HashCodeEqualsDefinedTesting2<ConverterClassPair>,
+        ToStringTesting<ConverterClassPair> {
+
+    private final static Class<?> SOURCE = String.class;
+    private final static Class<?> TARGET = Integer.class;
+
+    @Test
+    public void testWithNullSourceFails() {
+        assertThrows(NullPointerException.class, () -> ConverterClassPair.with(null, TARGET));
+    }
+
+    @Test
+    public void testWithNullTargetFails() {
+        assertThrows(NullPointerException.class, () -> ConverterClassPair.with(SOURCE, null));
+    }
+
+    @Test
+    public void testWith() {
+        final ConverterClassPair pair = this.createObject();
+        this.checkEquals(SOURCE, pair.source, "source");
+        this.checkEquals(TARGET, pair.target, "target");
+    }
+
+    @Test
+    public void testEqualsDifferentSource() {
+        this.checkNotEquals(ConverterClassPair.with(Long.class, TARGET));
+    }
+
+    @Test
+    public void testEqualsDifferentTarget() {
+        this.checkNotEquals(ConverterClassPair.with(SOURCE, Long.class));
+    }
+
+    @Test
+    public void testEqualsSwapped() {
+        this.checkNotEquals(ConverterClassPair.with(TARGET, SOURCE));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "java.lang.String->java.lang.Integer");
+    }
+
+    @Override
+    public ConverterClassPair createObject() {
+        return ConverterClassPair.with(SOURCE, TARGET);
+    }
+
+    @Override
+    public Class<ConverterClassPair> type() {
+        return ConverterClassPair.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -23,6 +23,10 @@ import walkingkooka.Either;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.predicate.Predicates;
 
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -49,6 +53,39 @@ public final class ConverterCollectionTest extends ConverterTestCase2<ConverterC
         assertSame(only, ConverterCollection.with(Lists.of(only)));
     }
 
+    @Test
+    public void testWithNeverRemoved() {
+        final Converter<ConverterContext> only = Converters.objectString();
+        assertSame(only, ConverterCollection.with(Lists.of(Converters.never(), only)));
+    }
+
+    @Test
+    public void testWithAllNever() {
+        assertSame(
+                ConverterNever.instance(),
+                ConverterCollection.with(Lists.of(Converters.never(), Converters.never()))
+        );
+    }
+
+    @Test
+    public void testWithRepeatRemoved() {
+        final Converter<ConverterContext> only = Converters.numberNumber();
+        assertSame(only, ConverterCollection.with(Lists.of(only, only)));
+    }
+
+    @Test
+    public void testWithRepeatRemovedKeepsOrder() {
+        final Converter<ConverterContext> first = Converters.objectString()
+                .setToString("first");
+        final Converter<ConverterContext> second = Converters.numberNumber()
+                .setToString("second");
+
+        this.toStringAndCheck(
+                ConverterCollection.with(Lists.of(first, second, first)),
+                "first | second"
+        );
+    }
+
     @Test
     public void testNull() {
         this.convertAndCheck(
@@ -101,6 +138,734 @@ public final class ConverterCollectionTest extends ConverterTestCase2<ConverterC
                 true);
     }
 
+    @Test
+    public void testFailureMessageFromLastFailed() {
+        this.checkEquals(
+                Either.right("Failed to convert 1 (java.lang.Integer) to java.lang.String, second"),
+                ConverterCollection.with(
+                        Lists.of(
+                                failing("first"),
+                                failing("second")
+                        )
+                ).convert(1, String.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testFailureMessageOtherConverterNotSpeculative() {
+        final boolean[] speculative = new boolean[1];
+
+        this.convertAndCheck(
+                ConverterCollection.with(
+                        Lists.of(
+                                new FakeConverter<ConverterContext>() {
+                                    @Override
+                                    public boolean canConvert(final Object value,
+                                                              final Class<?> type,
+                                                              final ConverterContext context) {
+                                        return true;
+                                    }
+
+                                    @Override
+                                    public <T> Either<T, String> convert(final Object value,
+                                                                         final Class<T> type,
+                                                                         final ConverterContext context) {
+                                        speculative[0] = FailConversion.isSpeculative();
+                                        return this.failConversion(value, type);
+                                    }
+                                },
+                                Converters.truthyNumberBoolean()
+                        )
+                ),
+                1,
+                Boolean.class,
+                true
+        );
+
+        this.checkEquals(false, speculative[0], "speculative while trying");
+        this.checkEquals(false, FailConversion.isSpeculative(), "speculative after");
+    }
+
+    @Test
+    public void testFailureMessageLastConverter2() {
+        this.checkEquals(
+                Either.right("Failed to convert 9223372036854775807 (java.lang.Long) to java.lang.Byte"),
+                ConverterCollection.with(
+                        Lists.of(
+                                failing("first"),
+                                Converters.numberNumber()
+                        )
+                ).convert(Long.MAX_VALUE, Byte.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testFailureConvertsEachOnce() {
+        final int[] convertCounter = new int[1];
+        final Converter<ConverterContext> failing = new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return true;
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                convertCounter[0]++;
+                return this.failConversion(value, type);
+            }
+        };
+
+        this.checkEquals(
+                Either.right("Failed to convert 1 (java.lang.Integer) to java.lang.String"),
+                ConverterCollection.with(
+                        Lists.of(
+                                failing("first"),
+                                failing
+                        )
+                ).convert(1, String.class, this.createContext())
+        );
+        this.checkEquals(1, convertCounter[0], "convert count");
+    }
+
+    @Test
+    public void testFailureMessageConvertOrFailWhileTrying() {
+        final String[] message = new String[1];
+
+        this.convertAndCheck(
+                ConverterCollection.with(
+                        Lists.of(
+                                new FakeConverter<ConverterContext>() {
+                                    @Override
+                                    public boolean canConvert(final Object value,
+                                                              final Class<?> type,
+                                                              final ConverterContext context) {
+                                        return true;
+                                    }
+
+                                    @Override
+                                    public <T> Either<T, String> convert(final Object value,
+                                                                         final Class<T> type,
+                                                                         final ConverterContext context) {
+                                        try {
+                                            Converters.numberNumber()
+                                                    .convertOrFail(value, Byte.class, context);
+                                        } catch (final ConversionException cause) {
+                                            message[0] = cause.getMessage();
+                                        }
+                                        return this.failConversion(value, type);
+                                    }
+                                },
+                                Converters.truthyNumberBoolean()
+                        )
+                ),
+                Long.MAX_VALUE,
+                Boolean.class,
+                true
+        );
+
+        this.checkEquals(
+                "Failed to convert 9223372036854775807 (java.lang.Long) to java.lang.Byte",
+                message[0]
+        );
+    }
+
+    @Test
+    public void testFailureMessageNested() {
+        this.checkEquals(
+                Either.right("Failed to convert 1 (java.lang.Integer) to java.lang.String, inner2"),
+                ConverterCollection.with(
+                        Lists.of(
+                                failing("outer"),
+                                ConverterCollection.with(
+                                        Lists.of(
+                                                failing("inner1"),
+                                                failing("inner2")
+                                        )
+                                )
+                        )
+                ).convert(1, String.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testCompiledFailureMessageFromLastFailed() {
+        this.checkEquals(
+                Either.right("Failed to convert 1 (java.lang.Integer) to java.lang.String, second"),
+                ConverterCollection.compiled(
+                        Lists.of(
+                                failing("first"),
+                                failing("second")
+                        )
+                ).convert(1, String.class, this.createContext())
+        );
+    }
+
+    private static Converter<ConverterContext> failing(final String message) {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return true;
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                return this.failConversion(value, type, new Exception(message));
+            }
+        };
+    }
+
+    @Test
+    public void testCompiledNullTypeGivenToConverters() {
+        final ConverterCollection<ConverterContext> converter = Cast.to(
+                ConverterCollection.compiled(
+                        Lists.of(
+                                Converters.numberNumber(),
+                                nullType()
+                        )
+                )
+        );
+        final ConverterContext context = this.createContext();
+
+        this.checkEquals(true, converter.canConvert(1, null, context), "canConvert");
+        this.checkEquals(Either.left("null type"), converter.convert(1, null, context), "convert");
+        this.checkEquals(0, converter.dispatch.size(), "dispatch");
+    }
+
+    /**
+     * A {@link Converter} that only accepts a null target type.
+     */
+    static Converter<ConverterContext> nullType() {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return null == type;
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                return Cast.to(Either.left("null type"));
+            }
+        };
+    }
+
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList("true", 1.0, null, "abc", 2L),
+                Long.class
+        );
+    }
+
+    @Test
+    public void testCompiledConvertAll() {
+        this.convertAllAndCheck(
+                this.createCompiledConverter(),
+                Arrays.asList("true", 1.0, 2.0, null, "abc", 3L, 4L, 5.5),
+                Long.class,
+                this.createContext()
+        );
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
+    @Test
+    public void testIsValueDependentAllClassBased() {
+        this.checkEquals(
+                false,
+                ConverterCollection.with(
+                        Lists.of(
+                                Converters.objectString(),
+                                Converters.numberNumber()
+                        )
+                ).isValueDependent()
+        );
+    }
+
+    // unsupported......................................................................................................
+
+    @Test
+    public void testUnsupportedRemembered() {
+        final int[] canConvertCounter = new int[1];
+        final Converter<ConverterContext> converter = this.classBasedCollection(canConvertCounter);
+
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.checkEquals(false, converter.canConvert(Lists.empty(), Void.class, this.createContext()));
+
+        this.checkEquals(1, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testUnsupportedConvertAll() {
+        final int[] canConvertCounter = new int[1];
+        final Converter<ConverterContext> converter = this.classBasedCollection(canConvertCounter);
+
+        this.checkEquals(
+                3,
+                converter.convertAll(
+                        Arrays.asList("a", "b", "c"),
+                        Void.class,
+                        this.createContext(),
+                        new Void[3],
+                        new String[3]
+                )
+        );
+        this.checkEquals(1, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testUnsupportedInvalidate() {
+        final int[] canConvertCounter = new int[1];
+        final Converter<ConverterContext> converter = this.classBasedCollection(canConvertCounter);
+
+        this.convertFails(converter, Lists.empty(), Void.class);
+        converter.invalidate();
+        this.convertFails(converter, Lists.empty(), Void.class);
+
+        this.checkEquals(2, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testUnsupportedSupportedStillConverts() {
+        final Converter<ConverterContext> converter = this.classBasedCollection(new int[1]);
+
+        this.convertFails(converter, 1, Void.class);
+        this.convertAndCheck(converter, 1.0, Long.class, 1L);
+    }
+
+    @Test
+    public void testUnsupportedNotCompiledNotRemembered() {
+        final ConverterCollection<ConverterContext> converter = Cast.to(
+                ConverterCollection.with(
+                        Lists.of(
+                                Converters.objectString(),
+                                Converters.numberNumber()
+                        )
+                )
+        );
+        this.checkEquals(null, converter.unsupported);
+    }
+
+    @Test
+    public void testUnsupportedUndeclaredNotRemembered() {
+        final ConverterCollection<ConverterContext> converter = Cast.to(
+                ConverterCollection.compiled(
+                        Lists.of(
+                                this.counting(new int[1]),
+                                Converters.numberNumber()
+                        )
+                )
+        );
+        this.checkEquals(null, converter.unsupported);
+    }
+
+    @Test
+    public void testUnsupportedUndeclaredAlwaysAsked() {
+        final int[] canConvertCounter = new int[1];
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        this.counting(canConvertCounter),
+                        Converters.numberNumber()
+                )
+        );
+
+        this.checkEquals(false, converter.canConvert(Lists.empty(), Void.class, this.createContext()));
+        this.checkEquals(false, converter.canConvert(Lists.empty(), Void.class, this.createContext()));
+
+        this.checkEquals(2, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testCompiledUnsupportedInvalidate() {
+        final int[] canConvertCounter = new int[1];
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        this.countingClassBased(canConvertCounter),
+                        Converters.numberNumber()
+                )
+        );
+
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.checkEquals(1, canConvertCounter[0], "canConvert count");
+
+        converter.invalidate();
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.checkEquals(2, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testInvalidateConverters() {
+        final int[] invalidated = new int[1];
+        ConverterCollection.with(
+                Lists.of(
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public void invalidate() {
+                                invalidated[0]++;
+                            }
+                        },
+                        Converters.numberNumber()
+                )
+        ).invalidate();
+
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    private Converter<ConverterContext> classBasedCollection(final int[] canConvertCounter) {
+        return ConverterCollection.compiled(
+                Lists.of(
+                        this.countingClassBased(canConvertCounter),
+                        Converters.numberNumber()
+                )
+        );
+    }
+
+    private Converter<ConverterContext> counting(final int[] canConvertCounter) {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                canConvertCounter[0]++;
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return "counting";
+            }
+        };
+    }
+
+    /**
+     * A counting {@link Converter} that declares its types, so a compiled collection may remember its answers.
+     */
+    private Converter<ConverterContext> countingClassBased(final int[] canConvertCounter) {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                canConvertCounter[0]++;
+                return false;
+            }
+
+            @Override
+            public Optional<Set<Class<?>>> sourceTypes() {
+                return ConverterTypes.ANY_OBJECT;
+            }
+
+            @Override
+            public Optional<Set<Class<?>>> targetTypes() {
+                return ConverterTypes.of(Long.class, Void.class);
+            }
+
+            @Override
+            public String toString() {
+                return "counting";
+            }
+        };
+    }
+
+    // sourceTypes/targetTypes........................................................................................
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(
+                this.declaredCollection(),
+                String.class,
+                Number.class
+        );
+    }
+
+    @Test
+    public void testSourceTypesUndeclared() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createConverter().sourceTypes()
+        );
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.add(ConverterTypes.NUMBERS, Character.class),
+                this.declaredCollection().targetTypes()
+        );
+    }
+
+    @Test
+    public void testTargetTypesUndeclared() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Test
+    public void testUnsupportedValueDependentDeclared() {
+        final ConverterCollection<ConverterContext> converter = this.declaredCollection();
+        this.checkNotEquals(null, converter.unsupported);
+    }
+
+    @Test
+    public void testUnsupportedValueDependentDeclaredRemembered() {
+        final ConverterCollection<ConverterContext> converter = this.declaredCollection();
+
+        this.convertFails(converter, Lists.empty(), Void.class);
+        this.checkEquals(
+                true,
+                converter.unsupported.contains(Lists.empty().getClass(), Void.class)
+        );
+    }
+
+    @Test
+    public void testUnsupportedValueDependentDeclaredNotRememberedForItsTypes() {
+        final ConverterCollection<ConverterContext> converter = this.declaredCollection();
+
+        this.convertFails(converter, "ab", Character.class);
+        this.checkEquals(
+                false,
+                converter.unsupported.contains(String.class, Character.class)
+        );
+        this.convertAndCheck(converter, "a", Character.class, 'a');
+    }
+
+    @Test
+    public void testCompiledSkipsValueDependentExcludedByTypes() {
+        final int[] canConvertCounter = new int[1];
+
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public boolean canConvert(final Object value,
+                                                      final Class<?> type,
+                                                      final ConverterContext context) {
+                                canConvertCounter[0]++;
+                                return false;
+                            }
+
+                            @Override
+                            public boolean isValueDependent() {
+                                return true;
+                            }
+
+                            @Override
+                            public Optional<Set<Class<?>>> sourceTypes() {
+                                return ConverterTypes.of(String.class);
+                            }
+
+                            @Override
+                            public Optional<Set<Class<?>>> targetTypes() {
+                                return ConverterTypes.of(Character.class);
+                            }
+                        },
+                        Converters.numberNumber()
+                )
+        );
+
+        this.convertAndCheck(converter, 1.0, Long.class, 1L);
+        this.convertAndCheck(converter, 2.0, Long.class, 2L);
+
+        this.checkEquals(0, canConvertCounter[0], "canConvert count");
+    }
+
+    private ConverterCollection<ConverterContext> declaredCollection() {
+        return Cast.to(
+                ConverterCollection.compiled(
+                        Lists.of(
+                                Converters.stringCharacter(),
+                                Converters.numberNumber()
+                        )
+                )
+        );
+    }
+
+    // compiled.........................................................................................................
+
+    @Test
+    public void testCompiledWithNullConvertersFails() {
+        assertThrows(NullPointerException.class, () -> ConverterCollection.compiled(null));
+    }
+
+    @Test
+    public void testCompiledWithZeroConvertersFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterCollection.compiled(Lists.empty()));
+    }
+
+    @Test
+    public void testCompiledWithOneConverter() {
+        final Converter<ConverterContext> only = Converters.objectString();
+        assertSame(only, ConverterCollection.compiled(Lists.of(only)));
+    }
+
+    @Test
+    public void testCompiledNull() {
+        this.convertAndCheck(
+                this.createCompiledConverter(),
+                null,
+                Boolean.class,
+                false
+        );
+    }
+
+    @Test
+    public void testCompiledFirst() {
+        this.convertAndCheck(
+                this.createCompiledConverter(),
+                Boolean.TRUE.toString(),
+                Boolean.class,
+                Boolean.TRUE
+        );
+    }
+
+    @Test
+    public void testCompiledLast() {
+        this.convertAndCheck(
+                this.createCompiledConverter(),
+                1.0,
+                Long.class,
+                1L
+        );
+    }
+
+    @Test
+    public void testCompiledUnhandledTargetType() {
+        this.convertFails(
+                this.createCompiledConverter(),
+                "Cant convert to Void",
+                Void.class
+        );
+    }
+
+    @Test
+    public void testCompiledSkipsUnsupportedAfterFirstRequest() {
+        final int[] canConvertCounter = new int[1];
+
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        this.countingClassBased(canConvertCounter),
+                        Converters.numberNumber()
+                )
+        );
+
+        this.convertAndCheck(converter, 1.0, Long.class, 1L);
+        this.convertAndCheck(converter, 2.0, Long.class, 2L);
+        this.convertAndCheck(converter, 3.0, Long.class, 3L);
+
+        this.checkEquals(1, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testCompiledUndeclaredAlwaysAsked() {
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        Converters.<String, Character, ConverterContext>mapper(
+                                v -> v instanceof String && ((String) v).length() == 1,
+                                t -> t == Character.class,
+                                s -> s.charAt(0)
+                        ),
+                        Converters.<String, Character, ConverterContext>mapper(
+                                v -> v instanceof String,
+                                t -> t == Character.class,
+                                s -> '!'
+                        )
+                )
+        );
+
+        this.convertAndCheck(converter, "ab", Character.class, '!');
+        this.convertAndCheck(converter, "a", Character.class, 'a');
+        this.convertAndCheck(converter, "cd", Character.class, '!');
+    }
+
+    @Test
+    public void testCompiledUndeclaredCanConvertAlwaysAsked() {
+        final int[] canConvertCounter = new int[1];
+
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        this.counting(canConvertCounter),
+                        Converters.numberNumber()
+                )
+        );
+
+        this.convertAndCheck(converter, 1.0, Long.class, 1L);
+        final int first = canConvertCounter[0];
+        this.convertAndCheck(converter, 2.0, Long.class, 2L);
+
+        this.checkEquals(2 * first, canConvertCounter[0], "canConvert count");
+    }
+
+    @Test
+    public void testCompiledValueDependentAlwaysAsked() {
+        final Converter<ConverterContext> converter = ConverterCollection.compiled(
+                Lists.of(
+                        Converters.stringCharacter(),
+                        Converters.<String, Character, ConverterContext>mapper(
+                                v -> v instanceof String,
+                                t -> t == Character.class,
+                                s -> '!'
+                        )
+                )
+        );
+
+        this.convertAndCheck(converter, "ab", Character.class, '!');
+        this.convertAndCheck(converter, "a", Character.class, 'a');
+        this.convertAndCheck(converter, "cd", Character.class, '!');
+    }
+
+    @Test
+    public void testCompiledSkipsFailed() {
+        this.convertAndCheck(ConverterCollection.compiled(Lists.of(new Converter<ConverterContext>() {
+                                                                       @Override
+                                                                       public boolean canConvert(final Object value,
+                                                                                                 final Class<?> type,
+                                                                                                 final ConverterContext context) {
+                                                                           return true;
+                                                                       }
+
+                                                                       @Override
+                                                                       public <T> Either<T, String> convert(final Object value,
+                                                                                                            final Class<T> type,
+                                                                                                            final ConverterContext context) {
+                                                                           return Either.right("failed!");
+                                                                       }
+                                                                   },
+                Converters.truthyNumberBoolean())),
+                1,
+                Boolean.class,
+                true);
+    }
+
+    @Test
+    public void testCompiledToString() {
+        this.toStringAndCheck(this.createCompiledConverter(), "String->Boolean | Number->Number");
+    }
+
+    private Converter<ConverterContext> createCompiledConverter() {
+        return ConverterCollection.compiled(Lists.of(booleanToString().setToString("String->Boolean"), Converters.numberNumber()));
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(), "String->Boolean | Number->Number");
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterCollectionUnsupportedTest implements ClassTesting2<ConverterCollectionUnsupported>,
+        ToStringTesting<ConverterCollectionUnsupported> {
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterCollectionUnsupported.with(0));
+    }
+
+    @Test
+    public void testWithSizeRoundedToPowerOfTwo() {
+        this.checkEquals(8, ConverterCollectionUnsupported.with(5).size());
+    }
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(NullPointerException.class, () -> ConverterCollectionUnsupported.with(4).add(null));
+    }
+
+    @Test
+    public void testContainsEmpty() {
+        this.checkEquals(false, ConverterCollectionUnsupported.with(4).contains(ArrayList.class, LocalTime.class));
+    }
+
+    @Test
+    public void testAddContains() {
+        final ConverterCollectionUnsupported unsupported = ConverterCollectionUnsupported.with(4);
+        unsupported.add(ConverterClassPair.with(ArrayList.class, LocalTime.class));
+
+        this.checkEquals(true, unsupported.contains(ArrayList.class, LocalTime.class));
+        this.checkEquals(false, unsupported.contains(ArrayList.class, LocalDate.class));
+        this.checkEquals(false, unsupported.contains(LocalTime.class, ArrayList.class));
+    }
+
+    @Test
+    public void testAddReplacesSameSlot() {
+        final ConverterCollectionUnsupported unsupported = ConverterCollectionUnsupported.with(1);
+        unsupported.add(ConverterClassPair.with(ArrayList.class, LocalTime.class));
+        unsupported.add(ConverterClassPair.with(ArrayList.class, LocalDate.class));
+
+        this.checkEquals(false, unsupported.contains(ArrayList.class, LocalTime.class));
+        this.checkEquals(true, unsupported.contains(ArrayList.class, LocalDate.class));
+    }
+
+    @Test
+    public void testClear() {
+        final ConverterCollectionUnsupported unsupported = ConverterCollectionUnsupported.with(4);
+        unsupported.add(ConverterClassPair.with(ArrayList.class, LocalTime.class));
+        unsupported.clear();
+
+        this.checkEquals(false, unsupported.contains(ArrayList.class, LocalTime.class));
+        this.checkEquals(4, unsupported.size());
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ConverterCollectionUnsupported unsupported = ConverterCollectionUnsupported.with(1);
+        unsupported.add(ConverterClassPair.with(ArrayList.class, LocalTime.class));
+
+        this.toStringAndCheck(unsupported, "[java.util.ArrayList->java.time.LocalTime]");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterCollectionUnsupported> type() {
+        return ConverterCollectionUnsupported.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
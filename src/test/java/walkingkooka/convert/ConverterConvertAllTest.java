@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterConvertAllTest implements ClassTesting<ConverterConvertAll> {
+
+    private final static List<?> VALUES = Arrays.asList(1, 2);
+
+    @Test
+    public void testCheckNullValuesFails() {
+        assertThrows(NullPointerException.class, () -> ConverterConvertAll.check(null, String.class, ConverterContexts.fake(), new Object[2], new String[2]));
+    }
+
+    @Test
+    public void testCheckNullTypeFails() {
+        assertThrows(NullPointerException.class, () -> ConverterConvertAll.check(VALUES, null, ConverterContexts.fake(), new Object[2], new String[2]));
+    }
+
+    @Test
+    public void testCheckNullContextFails() {
+        assertThrows(NullPointerException.class, () -> ConverterConvertAll.check(VALUES, String.class, null, new Object[2], new String[2]));
+    }
+
+    @Test
+    public void testCheckNullConvertedFails() {
+        assertThrows(NullPointerException.class, () -> ConverterConvertAll.check(VALUES, String.class, ConverterContexts.fake(), null, new String[2]));
+    }
+
+    @Test
+    public void testCheckNullErrorsFails() {
+        assertThrows(NullPointerException.class, () -> ConverterConvertAll.check(VALUES, String.class, ConverterContexts.fake(), new Object[2], null));
+    }
+
+    @Test
+    public void testCheckConvertedTooShortFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterConvertAll.check(VALUES, String.class, ConverterContexts.fake(), new Object[1], new String[2]));
+    }
+
+    @Test
+    public void testCheckErrorsTooShortFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterConvertAll.check(VALUES, String.class, ConverterContexts.fake(), new Object[2], new String[1]));
+    }
+
+    @Test
+    public void testCheckLonger() {
+        ConverterConvertAll.check(VALUES, String.class, ConverterContexts.fake(), new Object[3], new String[3]);
+    }
+
+    @Test
+    public void testSetSuccess() {
+        final String[] converted = new String[]{"a", "b"};
+        final String[] errors = new String[]{"c", "d"};
+
+        this.checkEquals(0, ConverterConvertAll.set(Either.left("x"), 1, converted, errors));
+        this.checkEquals(Arrays.asList("a", "x"), Arrays.asList(converted), "converted");
+        this.checkEquals(Arrays.asList("c", null), Arrays.asList(errors), "errors");
+    }
+
+    @Test
+    public void testSetFailure() {
+        final String[] converted = new String[]{"a", "b"};
+        final String[] errors = new String[]{"c", "d"};
+
+        this.checkEquals(1, ConverterConvertAll.set(Either.right("failed!"), 1, converted, errors));
+        this.checkEquals(Arrays.asList("a", null), Arrays.asList(converted), "converted");
+        this.checkEquals(Arrays.asList("c", "failed!"), Arrays.asList(errors), "errors");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<ConverterConvertAll> type() {
+        return ConverterConvertAll.class;
+    }
+}
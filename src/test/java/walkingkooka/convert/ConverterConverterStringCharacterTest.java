@@ -20,6 +20,8 @@ package walkingkooka.convert;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -193,6 +195,29 @@ public final class ConverterConverterStringCharacterTest implements ConverterTes
         throw new UnsupportedOperationException();
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createConverter().sourceTypes()
+        );
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(Character.class, String.class);
+    }
+
+    @Test
+    public void testSourceTypesDeclared() {
+        this.sourceTypesAndCheck(
+                ConverterConverterStringCharacter.with(Converters.numberNumber()),
+                Number.class,
+                Character.class,
+                String.class
+        );
+    }
+
     @Override
     public ConverterConverterStringCharacter<FakeConverterContext> createConverter() {
         return ConverterConverterStringCharacter.with(
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public final class ConverterEventsTest implements PublicStaticHelperTesting<ConverterEvents> {
+
+    @Test
+    public void testNoListener() {
+        this.checkEquals(null, ConverterEvents.enabled());
+    }
+
+    @Test
+    public void testDisabledListener() {
+        final TestConverterEventListener listener = new TestConverterEventListener(false);
+        ConverterEvents.setListener(listener);
+        try {
+            this.checkEquals(null, ConverterEvents.enabled());
+
+            Converters.numberNumber().convert(1L, Integer.class, ConverterContexts.fake());
+        } finally {
+            ConverterEvents.setListener(null);
+        }
+        this.checkEquals(Lists.empty(), listener.events);
+    }
+
+    @Test
+    public void testConverted() {
+        this.eventsAndCheck(
+                () -> Converters.numberNumber().convert(1L, Integer.class, ConverterContexts.fake()),
+                "converted Number->Number java.lang.Long java.lang.Integer"
+        );
+    }
+
+    @Test
+    public void testFailed() {
+        this.eventsAndCheck(
+                () -> Converters.numberNumber().convert("abc", Integer.class, ConverterContexts.fake()),
+                "failed Number->Number java.lang.String java.lang.Integer Failed to convert \"abc\" (java.lang.String) to java.lang.Integer"
+        );
+    }
+
+    @Test
+    public void testCollection() {
+        final Converter<ConverterContext> collection = Converters.collection(
+                Arrays.asList(
+                        Converters.numberNumber(),
+                        Converters.objectString()
+                )
+        );
+
+        this.eventsAndCheck(
+                () -> collection.convert(1L, String.class, ConverterContexts.fake()),
+                "converted *->String java.lang.Long java.lang.String",
+                "converted " + collection + " java.lang.Long java.lang.String"
+        );
+    }
+
+    @Test
+    public void testCollectionFailed() {
+        final Converter<ConverterContext> collection = Converters.collection(
+                Arrays.asList(
+                        Converters.numberNumber(),
+                        Converters.objectString()
+                )
+        );
+
+        this.eventsAndCheck(
+                () -> collection.convert(Long.MAX_VALUE, Byte.class, ConverterContexts.fake()),
+                "failed Number->Number java.lang.Long java.lang.Byte Failed to convert 9223372036854775807 (java.lang.Long) to java.lang.Byte",
+                "failed " + collection + " java.lang.Long java.lang.Byte Failed to convert 9223372036854775807 (java.lang.Long) to java.lang.Byte"
+        );
+    }
+
+    @Test
+    public void testDecimalFormatCacheMiss() {
+        final Converter<ConverterContext> converter = Converters.numberString((c) -> new DecimalFormat("#"));
+        final ConverterContext context = ConverterContexts.basic(
+                Converters.fake(),
+                DateTimeContexts.fake(),
+                DecimalNumberContexts.decimalFormatSymbols(
+                        new DecimalFormatSymbols(Locale.UK),
+                        '+',
+                        Locale.UK,
+                        MathContext.DECIMAL32
+                )
+        );
+
+        this.eventsAndCheck(
+                () -> {
+                    converter.convert(1, String.class, context);
+                    converter.convert(2, String.class, context);
+                },
+                "formatterCacheMiss " + converter + " java.lang.Integer java.lang.String",
+                "converted " + converter + " java.lang.Integer java.lang.String",
+                "converted " + converter + " java.lang.Integer java.lang.String"
+        );
+    }
+
+    @Test
+    public void testDateTimeFormatterCacheMiss() {
+        final Converter<ConverterContext> converter = Converters.localTimeString((c) -> DateTimeFormatter.ISO_LOCAL_TIME);
+        final ConverterContext context = ConverterContexts.basic(
+                Converters.fake(),
+                DateTimeContexts.locale(Locale.UK, 1900, 20, LocalDateTime::now),
+                DecimalNumberContexts.decimalFormatSymbols(
+                        new DecimalFormatSymbols(Locale.UK),
+                        '+',
+                        Locale.UK,
+                        MathContext.DECIMAL32
+                )
+        );
+
+        this.eventsAndCheck(
+                () -> {
+                    converter.convert(LocalTime.NOON, String.class, context);
+                    converter.convert(LocalTime.MIDNIGHT, String.class, context);
+                },
+                "formatterCacheMiss " + converter + " java.time.LocalTime java.lang.String",
+                "converted " + converter + " java.time.LocalTime java.lang.String",
+                "converted " + converter + " java.time.LocalTime java.lang.String"
+        );
+    }
+
+    /**
+     * Runs the conversions with an enabled listener, always removing it afterwards.
+     */
+    private void eventsAndCheck(final Runnable conversions,
+                                final String... expected) {
+        final TestConverterEventListener listener = new TestConverterEventListener(true);
+        ConverterEvents.setListener(listener);
+        try {
+            conversions.run();
+        } finally {
+            ConverterEvents.setListener(null);
+        }
+        this.checkEquals(Arrays.asList(expected), listener.events);
+    }
+
+    static final class TestConverterEventListener implements ConverterEventListener {
+
+        TestConverterEventListener(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        private final boolean enabled;
+
+        @Override
+        public void converted(final Converter<?> converter,
+                              final Object value,
+                              final Class<?> type,
+                              final long nanos) {
+            this.events.add("converted " + converter + " " + value.getClass().getName() + " " + type.getName());
+        }
+
+        @Override
+        public void failed(final Converter<?> converter,
+                           final Object value,
+                           final Class<?> type,
+                           final String message,
+                           final long nanos) {
+            this.events.add("failed " + converter + " " + value.getClass().getName() + " " + type.getName() + " " + message);
+        }
+
+        @Override
+        public void formatterCacheMiss(final Converter<?> converter,
+                                       final Object value,
+                                       final Class<?> type) {
+            this.events.add("formatterCacheMiss " + converter + " " + value.getClass().getName() + " " + type.getName());
+        }
+
+        final List<String> events = Lists.array();
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterEvents> type() {
+        return ConverterEvents.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
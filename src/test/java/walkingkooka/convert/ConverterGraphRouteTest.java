@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterGraphRouteTest implements ClassTesting2<ConverterGraphRoute<?>>,
+        ToStringTesting<ConverterGraphRoute<?>> {
+
+    private final static Converter<ConverterContext> BOOLEAN_NUMBER = Converters.booleanNumber();
+    private final static Converter<ConverterContext> NUMBER_LOCAL_DATE = Converters.numberLocalDate(Converters.JAVA_EPOCH_OFFSET);
+
+    @Test
+    public void testWithEmptyConvertersFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterGraphRoute.with(Lists.empty(), Lists.empty()));
+    }
+
+    @Test
+    public void testWithTooManyTypesFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterGraphRoute.with(Lists.of(BOOLEAN_NUMBER), Lists.of(Long.class)));
+    }
+
+    @Test
+    public void testCanConvert() {
+        this.checkEquals(
+                true,
+                this.route()
+                        .canConvert(true, LocalDate.class, ConverterContexts.fake())
+        );
+    }
+
+    @Test
+    public void testCanConvertFirstCannot() {
+        this.checkEquals(
+                false,
+                this.route()
+                        .canConvert("1", LocalDate.class, ConverterContexts.fake())
+        );
+    }
+
+    @Test
+    public void testConvert() {
+        this.checkEquals(
+                LocalDate.ofEpochDay(1),
+                this.route()
+                        .convert(true, LocalDate.class, ConverterContexts.fake())
+                        .leftValue()
+        );
+    }
+
+    @Test
+    public void testConvertFirstFails() {
+        this.checkEquals(
+                null,
+                this.route()
+                        .convert("1", LocalDate.class, ConverterContexts.fake())
+        );
+    }
+
+    @Test
+    public void testConvertLastFails() {
+        this.checkEquals(
+                null,
+                this.route()
+                        .convert(true, String.class, ConverterContexts.fake())
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.route(),
+                BOOLEAN_NUMBER + " ->Long-> " + NUMBER_LOCAL_DATE
+        );
+    }
+
+    @Test
+    public void testToStringSingle() {
+        this.toStringAndCheck(
+                ConverterGraphRoute.with(Lists.of(BOOLEAN_NUMBER), Lists.empty()),
+                BOOLEAN_NUMBER.toString()
+        );
+    }
+
+    private ConverterGraphRoute<ConverterContext> route() {
+        return ConverterGraphRoute.with(
+                Lists.of(BOOLEAN_NUMBER, NUMBER_LOCAL_DATE),
+                Lists.of(Long.class)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterGraphRoute<?>> type() {
+        return Cast.to(ConverterGraphRoute.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
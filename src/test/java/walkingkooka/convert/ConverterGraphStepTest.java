@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+
+public final class ConverterGraphStepTest implements ClassTesting2<ConverterGraphStep<?>>,
+        ToStringTesting<ConverterGraphStep<?>> {
+
+    private final static Converter<ConverterContext> BOOLEAN_NUMBER = Converters.booleanNumber();
+    private final static Converter<ConverterContext> NUMBER_LOCAL_DATE = Converters.numberLocalDate(Converters.JAVA_EPOCH_OFFSET);
+
+    @Test
+    public void testStart() {
+        this.checkEquals(
+                Boolean.class,
+                ConverterGraphStep.start(Boolean.class).type
+        );
+    }
+
+    @Test
+    public void testNext() {
+        this.checkEquals(
+                Number.class,
+                ConverterGraphStep.<ConverterContext>start(Boolean.class)
+                        .next(Number.class, BOOLEAN_NUMBER)
+                        .type
+        );
+    }
+
+    @Test
+    public void testRouteFromStart() {
+        this.toStringAndCheck(
+                ConverterGraphStep.<ConverterContext>start(Boolean.class)
+                        .route(BOOLEAN_NUMBER),
+                BOOLEAN_NUMBER.toString()
+        );
+    }
+
+    @Test
+    public void testRoute() {
+        final ConverterGraphRoute<ConverterContext> route = ConverterGraphStep.<ConverterContext>start(Boolean.class)
+                .next(Long.class, BOOLEAN_NUMBER)
+                .route(NUMBER_LOCAL_DATE);
+
+        this.toStringAndCheck(
+                route,
+                BOOLEAN_NUMBER + " ->Long-> " + NUMBER_LOCAL_DATE
+        );
+        this.checkEquals(
+                LocalDate.ofEpochDay(1),
+                route.convert(true, LocalDate.class, ConverterContexts.fake())
+                        .leftValue()
+        );
+    }
+
+    @Test
+    public void testRouteTwoSteps() {
+        this.toStringAndCheck(
+                ConverterGraphStep.<ConverterContext>start(Boolean.class)
+                        .next(Long.class, BOOLEAN_NUMBER)
+                        .next(LocalDate.class, NUMBER_LOCAL_DATE)
+                        .route(Converters.localDateLocalDateTime()),
+                BOOLEAN_NUMBER + " ->Long-> " + NUMBER_LOCAL_DATE + " ->LocalDate-> " + Converters.localDateLocalDateTime()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                ConverterGraphStep.<ConverterContext>start(Boolean.class)
+                        .next(Long.class, BOOLEAN_NUMBER),
+                "Boolean " + BOOLEAN_NUMBER + " Long"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterGraphStep<?>> type() {
+        return Cast.to(ConverterGraphStep.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
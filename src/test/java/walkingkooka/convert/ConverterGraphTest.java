@@ -0,0 +1,457 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterGraphTest extends ConverterTestCase2<ConverterGraph<ConverterContext>> {
+
+    private final static Converter<ConverterContext> BOOLEAN_NUMBER = Converters.booleanNumber();
+    private final static Converter<ConverterContext> NUMBER_LOCAL_DATE = Converters.numberLocalDate(Converters.JAVA_EPOCH_OFFSET);
+    private final static Converter<ConverterContext> LOCAL_DATE_LOCAL_DATE_TIME = Converters.localDateLocalDateTime();
+    private final static Converter<ConverterContext> NUMBER_NUMBER = Converters.numberNumber();
+
+    @Override
+    public void testTypeNaming() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Test
+    public void testWithNullConvertersFails() {
+        assertThrows(NullPointerException.class, () -> ConverterGraph.with(null, ConverterGraph.DEFAULT_TYPES));
+    }
+
+    @Test
+    public void testWithNullIntermediateTypesFails() {
+        assertThrows(NullPointerException.class, () -> ConverterGraph.with(Lists.of(NUMBER_NUMBER), null));
+    }
+
+    @Test
+    public void testWithEmptyConvertersFails() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterGraph.with(Lists.empty(), ConverterGraph.DEFAULT_TYPES));
+    }
+
+    @Test
+    public void testConvertDirect() {
+        final ConverterGraph<ConverterContext> converter = this.createConverter();
+        this.convertAndCheck(converter, 1L, Integer.class, 1);
+        this.checkEquals(0, converter.routes.size(), "routes");
+    }
+
+    @Test
+    public void testConvertNull() {
+        this.convertAndCheck(null, LocalDate.class, null);
+    }
+
+    @Test
+    public void testConvertNullTypeGivenToConverters() {
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        BOOLEAN_NUMBER,
+                        ConverterCollectionTest.nullType()
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        final ConverterContext context = this.createContext();
+
+        this.checkEquals(true, converter.canConvert(true, null, context), "canConvert");
+        this.checkEquals(Either.left("null type"), converter.convert(true, null, context), "convert");
+        this.checkEquals(0, converter.routes.size(), "routes");
+    }
+
+    @Test
+    public void testConvertRoute() {
+        this.convertAndCheck(true, LocalDate.class, LocalDate.ofEpochDay(1));
+    }
+
+    @Test
+    public void testConvertRouteTwoIntermediateTypes() {
+        this.convertAndCheck(true, LocalDateTime.class, LocalDateTime.of(1970, 1, 2, 0, 0));
+    }
+
+    @Test
+    public void testConvertRouteRemembered() {
+        final ConverterGraph<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, true, LocalDate.class, context, LocalDate.ofEpochDay(1));
+        this.convertAndCheck(converter, false, LocalDate.class, context, LocalDate.ofEpochDay(0));
+
+        this.checkEquals(1, converter.routes.size(), "routes");
+        this.checkEquals(
+                BOOLEAN_NUMBER + " ->Long-> " + NUMBER_LOCAL_DATE,
+                converter.routes.get(ConverterClassPair.with(Boolean.class, LocalDate.class)).get(0).toString(),
+                "route"
+        );
+    }
+
+    @Test
+    public void testConvertRouteFewestSteps() {
+        final ConverterGraph<ConverterContext> converter = this.createConverter();
+        this.convertAndCheck(converter, true, LocalDateTime.class, LocalDateTime.of(1970, 1, 2, 0, 0));
+
+        this.checkEquals(
+                BOOLEAN_NUMBER + " ->Long-> " + NUMBER_LOCAL_DATE + " ->LocalDate-> " + LOCAL_DATE_LOCAL_DATE_TIME,
+                converter.routes.get(ConverterClassPair.with(Boolean.class, LocalDateTime.class)).get(0).toString(),
+                "route"
+        );
+    }
+
+    @Test
+    public void testConvertNoRouteFails() {
+        this.convertFails("1", LocalDate.class);
+    }
+
+    @Test
+    public void testConvertNoRouteRemembered() {
+        final ConverterGraph<ConverterContext> converter = this.createConverter();
+        this.convertFails(converter, "1", LocalDate.class);
+
+        this.checkEquals(
+                true,
+                converter.routes.get(ConverterClassPair.with(String.class, LocalDate.class)).isEmpty(),
+                "route"
+        );
+    }
+
+    @Test
+    public void testConvertNoRouteUndeclaredConverter() {
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        NUMBER_LOCAL_DATE,
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public boolean canConvert(final Object value,
+                                                      final Class<?> type,
+                                                      final ConverterContext context) {
+                                return value instanceof String && Long.class == type;
+                            }
+
+                            @Override
+                            public <T> Either<T, String> convert(final Object value,
+                                                                 final Class<T> type,
+                                                                 final ConverterContext context) {
+                                return this.failConversion(value, type);
+                            }
+                        }
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        this.convertFails(converter, "1", LocalDate.class);
+
+        this.checkEquals(
+                Lists.empty(),
+                converter.routes.get(ConverterClassPair.with(String.class, LocalDate.class)),
+                "routes"
+        );
+    }
+
+    @Test
+    public void testConvertRouteValueDependentFallsBack() {
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        converter(String.class, Long.class, true, (v) -> ((String) v).matches("[0-9]+") ? Long.parseLong((String) v) : null),
+                        converter(String.class, Boolean.class, true, (v) -> "true".equals(v) ? Boolean.TRUE : null),
+                        BOOLEAN_NUMBER,
+                        NUMBER_LOCAL_DATE
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, "12", LocalDate.class, context, LocalDate.ofEpochDay(12));
+        this.checkEquals(true, converter.canConvert("true", LocalDate.class, context), "canConvert true");
+        this.convertAndCheck(converter, "true", LocalDate.class, context, LocalDate.ofEpochDay(1));
+        this.checkEquals(1, converter.routes.size(), "routes");
+    }
+
+    @Test
+    public void testConvertRouteFailsNextRoute() {
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        converter(Integer.class, Long.class, false, (v) -> (Integer) v < 100 ? Long.valueOf((Integer) v) : null),
+                        converter(Integer.class, String.class, false, String::valueOf),
+                        converter(Long.class, LocalDate.class, false, (v) -> LocalDate.ofEpochDay((Long) v)),
+                        converter(String.class, LocalDate.class, false, (v) -> LocalDate.ofEpochDay(Long.parseLong((String) v)))
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, 1, LocalDate.class, context, LocalDate.ofEpochDay(1));
+        this.convertAndCheck(converter, 500, LocalDate.class, context, LocalDate.ofEpochDay(500));
+        this.checkEquals(true, converter.canConvert(500, LocalDate.class, context), "canConvert 500");
+    }
+
+    @Test
+    public void testConvertRoutePlannedConvertsOnce() {
+        final int[] converts = new int[1];
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        BOOLEAN_NUMBER,
+                        converter(
+                                Long.class,
+                                LocalDate.class,
+                                false,
+                                (v) -> {
+                                    converts[0]++;
+                                    return LocalDate.ofEpochDay((Long) v);
+                                }
+                        )
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        this.checkEquals(
+                Either.left(LocalDate.ofEpochDay(1)),
+                converter.convert(true, LocalDate.class, this.createContext())
+        );
+        this.checkEquals(1, converts[0], "converts");
+    }
+
+    @Test
+    public void testCanConvertRouteDoesNotConvert() {
+        final int[] converts = new int[1];
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        converter(
+                                Boolean.class,
+                                Long.class,
+                                false,
+                                (v) -> {
+                                    converts[0]++;
+                                    return (Boolean) v ? 1L : 0L;
+                                }
+                        ),
+                        NUMBER_LOCAL_DATE
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        this.checkEquals(
+                true,
+                converter.canConvert(true, LocalDate.class, this.createContext())
+        );
+        this.checkEquals(0, converts[0], "converts");
+    }
+
+    @Test
+    public void testConvertPlansOnce() {
+        final ConverterGraph<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, true, LocalDate.class, context, LocalDate.ofEpochDay(1));
+        final List<ConverterGraphRoute<ConverterContext>> routes = converter.routes.get(ConverterClassPair.with(Boolean.class, LocalDate.class));
+
+        this.convertAndCheck(converter, false, LocalDate.class, context, LocalDate.ofEpochDay(0));
+        assertSame(
+                routes,
+                converter.routes.get(ConverterClassPair.with(Boolean.class, LocalDate.class))
+        );
+    }
+
+    /**
+     * Creates a {@link Converter} that declares its types and converts values of exactly the source {@link Class},
+     * failing when the function returns null.
+     */
+    private static Converter<ConverterContext> converter(final Class<?> source,
+                                                         final Class<?> target,
+                                                         final boolean valueDependent,
+                                                         final Function<Object, Object> function) {
+        return new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return null != value && source == value.getClass() && target == type;
+            }
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                final Object converted = this.canConvert(value, type, context) ?
+                        function.apply(value) :
+                        null;
+                return null != converted ?
+                        this.successfulConversion(converted, type) :
+                        this.failConversion(value, type);
+            }
+
+            @Override
+            public boolean isValueDependent() {
+                return valueDependent;
+            }
+
+            @Override
+            public Optional<Set<Class<?>>> sourceTypes() {
+                return ConverterTypes.of(source);
+            }
+
+            @Override
+            public Optional<Set<Class<?>>> targetTypes() {
+                return ConverterTypes.of(target);
+            }
+
+            @Override
+            public String toString() {
+                return source.getSimpleName() + "->" + target.getSimpleName();
+            }
+        };
+    }
+
+    @Test
+    public void testConvertIntermediateTypesEmpty() {
+        this.convertFails(
+                ConverterGraph.with(this.converters(), Lists.empty()),
+                true,
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testCanConvertDirect() {
+        this.canConvertAndCheck(1L, Integer.class, true);
+    }
+
+    @Test
+    public void testCanConvertRoute() {
+        this.canConvertAndCheck(true, LocalDate.class, true);
+    }
+
+    @Test
+    public void testCanConvertNoRoute() {
+        this.canConvertAndCheck("1", LocalDate.class, false);
+    }
+
+    private void canConvertAndCheck(final Object value,
+                                    final Class<?> type,
+                                    final boolean expected) {
+        this.checkEquals(
+                expected,
+                this.createConverter()
+                        .canConvert(value, type, this.createContext()),
+                () -> "canConvert " + value + " to " + type.getName()
+        );
+    }
+
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList(true, null, 2L, "3", false),
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(true, this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        final ConverterGraph<ConverterContext> converter = ConverterGraph.with(
+                Lists.of(
+                        BOOLEAN_NUMBER,
+                        NUMBER_LOCAL_DATE,
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public boolean canConvert(final Object value,
+                                                      final Class<?> type,
+                                                      final ConverterContext context) {
+                                return false;
+                            }
+
+                            @Override
+                            public void invalidate() {
+                                invalidated[0]++;
+                            }
+                        }
+                ),
+                ConverterGraph.DEFAULT_TYPES
+        );
+        this.convertAndCheck(converter, true, LocalDate.class, LocalDate.ofEpochDay(1));
+        this.checkEquals(1, converter.routes.size(), "routes");
+
+        converter.invalidate();
+
+        this.checkEquals(0, converter.routes.size(), "routes");
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createConverter(),
+                "graph(" + BOOLEAN_NUMBER + " | " + NUMBER_LOCAL_DATE + " | " + LOCAL_DATE_LOCAL_DATE_TIME + " | " + NUMBER_NUMBER + ")"
+        );
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Boolean.class, Number.class, LocalDate.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.add(ConverterTypes.NUMBERS, LocalDate.class, LocalDateTime.class),
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Override
+    public ConverterGraph<ConverterContext> createConverter() {
+        return ConverterGraph.with(
+                this.converters(),
+                ConverterGraph.DEFAULT_TYPES
+        );
+    }
+
+    private List<Converter<ConverterContext>> converters() {
+        return Lists.of(
+                BOOLEAN_NUMBER,
+                NUMBER_LOCAL_DATE,
+                LOCAL_DATE_LOCAL_DATE_TIME,
+                NUMBER_NUMBER
+        );
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    @Override
+    public Class<ConverterGraph<ConverterContext>> type() {
+        return Cast.to(ConverterGraph.class);
+    }
+}
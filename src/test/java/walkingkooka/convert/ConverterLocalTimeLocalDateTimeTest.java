@@ -47,6 +47,16 @@ public final class ConverterLocalTimeLocalDateTimeTest extends ConverterLocalTim
         );
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(LocalTime.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(LocalDateTime.class);
+    }
+
     @Override
     public ConverterLocalTimeLocalDateTime<ConverterContext> createConverter() {
         return ConverterLocalTimeLocalDateTime.instance();
@@ -108,11 +108,59 @@ public final class ConverterLocalTimeNumberTest extends ConverterLocalTimeTestCa
         this.convertAndCheck2((double) VALUE);
     }
 
+    @Test
+    public void testConvertToDouble() {
+        this.convertToDoubleAndCheck(this.createConverter(), LocalTime.ofSecondOfDay(VALUE), this.createContext(), VALUE);
+    }
+
+    @Test
+    public void testConvertToDoubleWithNanos() {
+        this.convertToDoubleAndCheck(this.createConverter(), this.withNanos(), this.createContext(), WITH_NANOS);
+    }
+
+    @Test
+    public void testConvertToDoubleInexactNanosFails() {
+        this.convertToDoubleFails(this.createConverter(), LocalTime.ofSecondOfDay(VALUE).plusNanos(100000000), this.createContext());
+    }
+
+    @Test
+    public void testConvertToInt() {
+        this.convertToIntAndCheck(this.createConverter(), LocalTime.ofSecondOfDay(VALUE), this.createContext(), VALUE);
+    }
+
+    @Test
+    public void testConvertToIntWithNanosFails() {
+        this.convertToIntFails(this.createConverter(), this.withNanos(), this.createContext());
+    }
+
+    @Test
+    public void testConvertToLong() {
+        this.convertToLongAndCheck(this.createConverter(), LocalTime.ofSecondOfDay(VALUE), this.createContext(), VALUE);
+    }
+
+    @Test
+    public void testConvertToLongWithNanosFails() {
+        this.convertToLongFails(this.createConverter(), this.withNanos(), this.createContext());
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(), "LocalTime->Number");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(LocalTime.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
     @Override
     public ConverterLocalTimeNumber<ConverterContext> createConverter() {
         return ConverterLocalTimeNumber.instance();
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.stream.LongStream;
+
+public final class ConverterMetricsCountersTest implements ClassTesting2<ConverterMetricsCounters>,
+        ToStringTesting<ConverterMetricsCounters> {
+
+    @Test
+    public void testEmpty() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        this.checkCounters(counters, 0, 0, 0, 0, 0);
+        this.checkEquals(ConverterMetricsCounters.LATENCY_BUCKETS, counters.latencyHistogram().length, "buckets");
+        this.checkEquals(ConverterMetricsCounters.LATENCY_BUCKETS, counters.batchLatencyHistogram().length, "batch buckets");
+    }
+
+    @Test
+    public void testCounts() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        counters.canConvert();
+        counters.canConvert();
+        counters.success(10);
+        counters.success(20);
+        counters.success(30);
+        counters.failure(40);
+        counters.exception(50);
+
+        this.checkCounters(counters, 2, 3, 1, 1, 150);
+        this.checkEquals(5L, counters.convertCount(), "convertCount");
+    }
+
+    @Test
+    public void testBatch() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        counters.batch(3, 1, 1000);
+
+        this.checkCounters(counters, 0, 3, 1, 0, 1000);
+        this.checkEquals(1L, counters.batchCount(), "batchCount");
+
+        final long[] histogram = counters.batchLatencyHistogram();
+        this.checkEquals(1L, histogram[9], "bucket 9");
+        this.checkEquals(1L, LongStream.of(histogram).sum(), "batch latency samples");
+        this.checkEquals(0L, LongStream.of(counters.latencyHistogram()).sum(), "latency samples");
+    }
+
+    @Test
+    public void testBatchAndSingleHistogramsSeparate() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        counters.success(1);
+        counters.batch(100, 0, 1L << 20);
+
+        final long[] latencies = counters.latencyHistogram();
+        this.checkEquals(1L, latencies[0], "bucket 0");
+        this.checkEquals(1L, LongStream.of(latencies).sum(), "latency samples");
+
+        final long[] batchLatencies = counters.batchLatencyHistogram();
+        this.checkEquals(1L, batchLatencies[20], "batch bucket 20");
+        this.checkEquals(1L, LongStream.of(batchLatencies).sum(), "batch latency samples");
+    }
+
+    @Test
+    public void testBucket() {
+        this.bucketAndCheck(0, 0);
+        this.bucketAndCheck(1, 0);
+        this.bucketAndCheck(2, 1);
+        this.bucketAndCheck(3, 1);
+        this.bucketAndCheck(4, 2);
+        this.bucketAndCheck(1023, 9);
+        this.bucketAndCheck(1024, 10);
+        this.bucketAndCheck(1L << 31, ConverterMetricsCounters.LATENCY_BUCKETS - 1);
+        this.bucketAndCheck(Long.MAX_VALUE, ConverterMetricsCounters.LATENCY_BUCKETS - 1);
+    }
+
+    private void bucketAndCheck(final long nanos,
+                                final int bucket) {
+        this.checkEquals(bucket, ConverterMetricsCounters.bucket(nanos), () -> "bucket " + nanos);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        counters.success(1);
+        counters.failure(1000);
+        counters.exception(600);
+
+        final long[] histogram = counters.latencyHistogram();
+        this.checkEquals(1L, histogram[0], "bucket 0");
+        this.checkEquals(2L, histogram[9], "bucket 9");
+
+        histogram[0] = 99;
+        this.checkEquals(1L, counters.latencyHistogram()[0], "copy");
+    }
+
+    @Test
+    public void testToString() {
+        final ConverterMetricsCounters counters = ConverterMetricsCounters.empty();
+        counters.canConvert();
+        counters.success(10);
+        counters.failure(20);
+
+        this.toStringAndCheck(counters, "canConvert=1 success=1 failure=1 exception=0 batch=0 nanos=30");
+    }
+
+    private void checkCounters(final ConverterMetricsCounters counters,
+                               final long canConvert,
+                               final long success,
+                               final long failure,
+                               final long exception,
+                               final long nanos) {
+        this.checkEquals(canConvert, counters.canConvertCount(), "canConvertCount");
+        this.checkEquals(success, counters.successCount(), "successCount");
+        this.checkEquals(failure, counters.failureCount(), "failureCount");
+        this.checkEquals(exception, counters.exceptionCount(), "exceptionCount");
+        this.checkEquals(nanos, counters.totalNanos(), "totalNanos");
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+
+    @Override
+    public Class<ConverterMetricsCounters> type() {
+        return ConverterMetricsCounters.class;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Optional;
+
+public final class ConverterMetricsKeyTest implements ClassTesting2<ConverterMetricsKey>,
+        HashCodeEqualsDefinedTesting2<ConverterMetricsKey>,
+        ToStringTesting<ConverterMetricsKey> {
+
+    private final static String NAME = "Number->Number";
+
+    private final static Converter<ConverterContext> CONVERTER = Converters.numberNumber();
+
+    @Test
+    public void testWith() {
+        final ConverterMetricsKey key = this.createObject();
+        this.checkEquals(NAME, key.name(), "name");
+        this.checkEquals(Optional.of(CONVERTER), key.converter(), "converter");
+        this.checkEquals(Long.class, key.source(), "source");
+        this.checkEquals(Integer.class, key.target(), "target");
+    }
+
+    @Test
+    public void testWithoutConverter() {
+        this.checkEquals(
+                Optional.empty(),
+                ConverterMetricsKey.with(NAME, null, Long.class, Integer.class).converter()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentName() {
+        this.checkNotEquals(ConverterMetricsKey.with("different", CONVERTER, Long.class, Integer.class));
+    }
+
+    @Test
+    public void testEqualsDifferentConverterSameToString() {
+        this.checkNotEquals(
+                ConverterMetricsKey.with(
+                        NAME,
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public String toString() {
+                                return NAME;
+                            }
+                        },
+                        Long.class,
+                        Integer.class
+                )
+        );
+    }
+
+    @Test
+    public void testEqualsWithoutConverter() {
+        this.checkNotEquals(ConverterMetricsKey.with(NAME, null, Long.class, Integer.class));
+    }
+
+    @Test
+    public void testEqualsDifferentSource() {
+        this.checkNotEquals(ConverterMetricsKey.with(NAME, CONVERTER, Short.class, Integer.class));
+    }
+
+    @Test
+    public void testEqualsNullSource() {
+        this.checkNotEquals(ConverterMetricsKey.with(NAME, CONVERTER, null, Integer.class));
+    }
+
+    @Test
+    public void testEqualsDifferentTarget() {
+        this.checkNotEquals(ConverterMetricsKey.with(NAME, CONVERTER, Long.class, Short.class));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "Number->Number java.lang.Long->java.lang.Integer");
+    }
+
+    @Test
+    public void testToStringNullSource() {
+        this.toStringAndCheck(ConverterMetricsKey.with(NAME, CONVERTER, null, Integer.class), "Number->Number null->java.lang.Integer");
+    }
+
+    @Override
+    public ConverterMetricsKey createObject() {
+        return ConverterMetricsKey.with(NAME, CONVERTER, Long.class, Integer.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+
+    @Override
+    public Class<ConverterMetricsKey> type() {
+        return ConverterMetricsKey.class;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterMetricsTest implements ClassTesting2<ConverterMetrics> {
+
+    @Test
+    public void testEmpty() {
+        this.checkEquals(0, ConverterMetrics.empty().counters().size());
+    }
+
+    @Test
+    public void testCountersSameKey() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterMetricsCounters counters = metrics.counters("converter", null, Long.class, Integer.class);
+
+        assertSame(counters, metrics.counters("converter", null, Long.class, Integer.class));
+        assertSame(counters, metrics.counters().get(ConverterMetricsKey.with("converter", null, Long.class, Integer.class)));
+    }
+
+    @Test
+    public void testCountersDifferentKey() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        assertNotSame(
+                metrics.counters("converter", null, Long.class, Integer.class),
+                metrics.counters("converter", null, null, Integer.class)
+        );
+        this.checkEquals(2, metrics.counters().size());
+    }
+
+    @Test
+    public void testCountersDifferentConverterSameName() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        assertNotSame(
+                metrics.counters("converter", Converters.numberNumber(), Long.class, Integer.class),
+                metrics.counters("converter", Converters.objectString(), Long.class, Integer.class)
+        );
+        this.checkEquals(2, metrics.counters().size());
+    }
+
+    @Test
+    public void testCountersReadOnly() {
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> ConverterMetrics.empty()
+                        .counters()
+                        .clear()
+        );
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+
+    @Override
+    public Class<ConverterMetrics> type() {
+        return ConverterMetrics.class;
+    }
+}
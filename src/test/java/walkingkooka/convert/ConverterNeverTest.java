@@ -37,6 +37,16 @@ public final class ConverterNeverTest extends ConverterTestCase2<ConverterNever<
         this.toStringAndCheck(this.createConverter(), "never");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck();
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck();
+    }
+
     @Override
     public ConverterNever<ConverterContext> createConverter() {
         return ConverterNever.instance();
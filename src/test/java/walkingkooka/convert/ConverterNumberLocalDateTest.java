@@ -19,10 +19,12 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.Either;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.Arrays;
 
 public final class ConverterNumberLocalDateTest extends ConverterNumberTestCase<ConverterNumberLocalDate<ConverterContext>, LocalDate> {
 
@@ -60,6 +62,11 @@ public final class ConverterNumberLocalDateTest extends ConverterNumberTestCase<
         this.convertAndCheck2(BigInteger.valueOf(VALUE));
     }
 
+    @Test
+    public void testBigIntegerOverflowFails() {
+        this.convertFails2(BigInteger.TEN.pow(30));
+    }
+
     @Test
     public void testBigIntegerWithExcelOffset() {
         this.convertAndCheckExcelOffset(BigInteger.valueOf(VALUE));
@@ -126,6 +133,45 @@ public final class ConverterNumberLocalDateTest extends ConverterNumberTestCase<
                 DATE_VALUE_EXCEL_OFFSET);
     }
 
+    @Test
+    public void testConvertOutOfRangeFails() {
+        final Either<LocalDate, String> result = this.createConverter()
+                .convert(Long.MAX_VALUE, LocalDate.class, this.createContext());
+
+        this.checkEquals(
+                true,
+                result.rightValue()
+                        .startsWith("Failed to convert 9223372036854775807 (java.lang.Long) to java.time.LocalDate, Invalid value for EpochDay"),
+                result::toString
+        );
+    }
+
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, 2L, (short) 3, (byte) 4, 5.0, 5.5, BigDecimal.ONE, null, Long.MAX_VALUE),
+                LocalDate.class
+        );
+    }
+
+    @Test
+    public void testConvertAllUnsupportedType() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, 2L),
+                String.class
+        );
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(LocalDate.class);
+    }
+
     @Override
     public ConverterNumberLocalDate<ConverterContext> createConverter() {
         return ConverterNumberLocalDate.with(Converters.JAVA_EPOCH_OFFSET);
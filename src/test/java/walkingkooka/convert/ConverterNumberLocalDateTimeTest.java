@@ -57,6 +57,16 @@ public final class ConverterNumberLocalDateTimeTest extends ConverterNumberTestC
         this.convertAndCheckExcelOffset(BigDecimal.valueOf(VALUE));
     }
 
+    @Test
+    public void testBigDecimalInfiniteDoubleFails() {
+        this.convertFails2(new BigDecimal("1E400"));
+    }
+
+    @Test
+    public void testBigIntegerOverflowFails() {
+        this.convertFails2(BigInteger.TEN.pow(30));
+    }
+
     @Test
     public void testBigInteger() {
         this.convertAndCheck2(BigInteger.valueOf(VALUE));
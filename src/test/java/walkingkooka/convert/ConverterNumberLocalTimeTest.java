@@ -48,6 +48,11 @@ public final class ConverterNumberLocalTimeTest extends ConverterNumberTestCase<
         this.convertAndCheck(BigDecimal.valueOf(123.5), LocalTime.ofSecondOfDay(VALUE).plusNanos(Converters.NANOS_PER_SECOND / 2));
     }
 
+    @Test
+    public void testBigIntegerOverflowFails() {
+        this.convertFails2(BigInteger.TEN.pow(30));
+    }
+
     @Test
     public void testBigInteger() {
         this.convertAndCheck2(BigInteger.valueOf(123));
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConverterNumberNumberTableTest implements ClassTesting<ConverterNumberNumberTable> {
+
+    @Test
+    public void testIndexBigDecimal() {
+        this.indexAndCheck(BigDecimal.class, ConverterNumberNumberTable.BIG_DECIMAL);
+    }
+
+    @Test
+    public void testIndexBigInteger() {
+        this.indexAndCheck(BigInteger.class, ConverterNumberNumberTable.BIG_INTEGER);
+    }
+
+    @Test
+    public void testIndexByte() {
+        this.indexAndCheck(Byte.class, ConverterNumberNumberTable.BYTE);
+    }
+
+    @Test
+    public void testIndexDouble() {
+        this.indexAndCheck(Double.class, ConverterNumberNumberTable.DOUBLE);
+    }
+
+    @Test
+    public void testIndexFloat() {
+        this.indexAndCheck(Float.class, ConverterNumberNumberTable.FLOAT);
+    }
+
+    @Test
+    public void testIndexInteger() {
+        this.indexAndCheck(Integer.class, ConverterNumberNumberTable.INTEGER);
+    }
+
+    @Test
+    public void testIndexLong() {
+        this.indexAndCheck(Long.class, ConverterNumberNumberTable.LONG);
+    }
+
+    @Test
+    public void testIndexShort() {
+        this.indexAndCheck(Short.class, ConverterNumberNumberTable.SHORT);
+    }
+
+    @Test
+    public void testIndexNumber() {
+        this.indexAndCheck(Number.class, -1);
+    }
+
+    @Test
+    public void testIndexUnknown() {
+        this.indexAndCheck(AtomicLong.class, -1);
+    }
+
+    private void indexAndCheck(final Class<?> type,
+                               final int expected) {
+        this.checkEquals(
+                expected,
+                ConverterNumberNumberTable.index(type),
+                () -> "index " + type.getName()
+        );
+    }
+
+    // convert..........................................................................................................
+
+    @Test
+    public void testConvertSameType() {
+        final Number[] numbers = {
+                BigDecimal.valueOf(1.5),
+                BigInteger.valueOf(2),
+                (byte) 3,
+                4.5,
+                5.5f,
+                6,
+                7L,
+                (short) 8
+        };
+        for (final Number number : numbers) {
+            this.convertAndCheck(number, number.getClass(), number);
+        }
+    }
+
+    @Test
+    public void testConvertAllTypesToAllTypes() {
+        final Number[] numbers = {
+                BigDecimal.valueOf(99),
+                BigInteger.valueOf(99),
+                (byte) 99,
+                99.0,
+                99.0f,
+                99,
+                99L,
+                (short) 99
+        };
+        for (final Number from : numbers) {
+            for (final Number to : numbers) {
+                this.convertAndCheck(
+                        from,
+                        to.getClass(),
+                        to instanceof BigDecimal && (from instanceof Double || from instanceof Float) ?
+                                BigDecimal.valueOf(99.0) :
+                                to
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testConvertDoubleToBigDecimal() {
+        this.convertAndCheck(1.25, BigDecimal.class, BigDecimal.valueOf(1.25));
+    }
+
+    @Test
+    public void testConvertBigDecimalToBigIntegerFails() {
+        this.convertFails(BigDecimal.valueOf(1.5), BigInteger.class);
+    }
+
+    @Test
+    public void testConvertDoubleToBigIntegerFails() {
+        this.convertFails(1.5, BigInteger.class);
+    }
+
+    @Test
+    public void testConvertIntegerToByteOverflow() {
+        this.convertAndCheck(256, Byte.class, null);
+    }
+
+    @Test
+    public void testConvertDoubleToByteFraction() {
+        this.convertAndCheck(1.5, Byte.class, null);
+    }
+
+    @Test
+    public void testConvertBigDecimalToDoubleLoss() {
+        this.convertAndCheck(new BigDecimal("0.1"), Double.class, null);
+    }
+
+    @Test
+    public void testConvertLongToDoubleLoss() {
+        this.convertAndCheck(Long.MAX_VALUE - 1, Double.class, null);
+    }
+
+    @Test
+    public void testConvertDoubleToFloatLoss() {
+        this.convertAndCheck(0.1, Float.class, null);
+    }
+
+    @Test
+    public void testConvertLongToFloatLoss() {
+        this.convertAndCheck(Long.MAX_VALUE - 1, Float.class, null);
+    }
+
+    @Test
+    public void testConvertLongToIntegerOverflow() {
+        this.convertAndCheck(1L + Integer.MAX_VALUE, Integer.class, null);
+    }
+
+    @Test
+    public void testConvertDoubleToLongFails() {
+        this.convertFails(1.5, Long.class);
+    }
+
+    @Test
+    public void testConvertIntegerToShortOverflow() {
+        this.convertAndCheck(1 + Short.MAX_VALUE, Short.class, null);
+    }
+
+    @Test
+    public void testConvertUnknownSourceType() {
+        this.convertAndCheck(new AtomicLong(1), Long.class, null);
+    }
+
+    @Test
+    public void testConvertUnknownTargetType() {
+        this.convertAndCheck(1L, AtomicLong.class, null);
+    }
+
+    private void convertAndCheck(final Number value,
+                                 final Class<?> type,
+                                 final Number expected) {
+        this.checkEquals(
+                expected,
+                ConverterNumberNumberTable.convert(value, type),
+                () -> "convert " + value + " (" + value.getClass().getName() + ") to " + type.getName()
+        );
+    }
+
+    private void convertFails(final Number value,
+                              final Class<?> type) {
+        this.convertAndCheck(value, type, null);
+    }
+
+    /**
+     * Converts values that overflow, have fractions or are not finite between every pair of types, which must return
+     * null rather than throw, and otherwise agree with the exact {@link BigDecimal} conversions.
+     */
+    @Test
+    public void testConvertNeverThrows() {
+        final Number[] numbers = {
+                new BigDecimal("1E400"),
+                new BigDecimal("-1E-400"),
+                new BigDecimal("128"),
+                new BigDecimal("32768.0"),
+                new BigDecimal("2147483648"),
+                new BigDecimal("9223372036854775808"),
+                new BigDecimal("-9223372036854775808.000"),
+                BigDecimal.valueOf(1.5),
+                BigInteger.TEN.pow(400),
+                BigInteger.valueOf(Long.MIN_VALUE),
+                BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+                BigInteger.valueOf(-129),
+                Double.NaN,
+                Double.POSITIVE_INFINITY,
+                Double.MAX_VALUE,
+                -0.0,
+                0x1p63,
+                -0x1p63,
+                1.5,
+                Float.NaN,
+                Float.NEGATIVE_INFINITY,
+                2147483648f,
+                Long.MIN_VALUE,
+                (int) Short.MIN_VALUE - 1,
+        };
+        final Class<?>[] types = {
+                BigDecimal.class,
+                BigInteger.class,
+                Byte.class,
+                Double.class,
+                Float.class,
+                Integer.class,
+                Long.class,
+                Short.class
+        };
+
+        for (final Number number : numbers) {
+            for (final Class<?> type : types) {
+                this.convertAndCheck(number, type, this.convertExact(number, type));
+            }
+        }
+    }
+
+    private Number convertExact(final Number value,
+                                final Class<?> type) {
+        Number converted;
+
+        if (value.getClass() == type) {
+            converted = value;
+        } else if ((value instanceof Double || value instanceof Float) && (Double.class == type || Float.class == type)) {
+            // infinities and NaN are also converted between double and float
+            converted = Double.class == type ?
+                    (Number) value.doubleValue() :
+                    value.floatValue() == value.doubleValue() ?
+                            (Number) value.floatValue() :
+                            null;
+        } else {
+            try {
+                final BigDecimal bigDecimal = value instanceof BigDecimal ?
+                        (BigDecimal) value :
+                        value instanceof BigInteger ?
+                                new BigDecimal((BigInteger) value) :
+                                value instanceof Double || value instanceof Float ?
+                                        new BigDecimal(value.doubleValue()) :
+                                        BigDecimal.valueOf(value.longValue());
+                if (BigDecimal.class == type) {
+                    converted = value instanceof Double || value instanceof Float ?
+                            BigDecimal.valueOf(value.doubleValue()) :
+                            bigDecimal;
+                } else if (BigInteger.class == type) {
+                    converted = bigDecimal.toBigIntegerExact();
+                } else if (Byte.class == type) {
+                    converted = bigDecimal.byteValueExact();
+                } else if (Double.class == type) {
+                    converted = 0 == new BigDecimal(bigDecimal.doubleValue()).compareTo(bigDecimal) ?
+                            bigDecimal.doubleValue() :
+                            null;
+                } else if (Float.class == type) {
+                    converted = 0 == new BigDecimal(bigDecimal.floatValue()).compareTo(bigDecimal) ?
+                            bigDecimal.floatValue() :
+                            null;
+                } else if (Integer.class == type) {
+                    converted = bigDecimal.intValueExact();
+                } else if (Long.class == type) {
+                    converted = bigDecimal.longValueExact();
+                } else {
+                    converted = bigDecimal.shortValueExact();
+                }
+            } catch (final ArithmeticException | NumberFormatException cause) {
+                converted = null;
+            }
+        }
+
+        return converted;
+    }
+
+    // primitives.......................................................................................................
+
+    @Test
+    public void testCanConvertToPrimitivesMatchesConvert() {
+        final Number[] numbers = {
+                BigDecimal.valueOf(1.5),
+                new BigDecimal("2.000"),
+                new BigDecimal("0.1"),
+                BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE),
+                BigInteger.valueOf(Long.MIN_VALUE),
+                BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+                (byte) 3,
+                4.0,
+                4.5,
+                1e10,
+                0x1p63,
+                -0x1p63,
+                Double.NaN,
+                Double.NEGATIVE_INFINITY,
+                5.0f,
+                Float.MAX_VALUE,
+                Integer.MIN_VALUE,
+                Long.MAX_VALUE,
+                Long.MAX_VALUE - 1,
+                1L + Integer.MAX_VALUE,
+                (short) 6,
+                new AtomicLong(7)
+        };
+        for (final Number number : numbers) {
+            this.canConvertAndCheck(number, Double.class, ConverterNumberNumberTable.canConvertToDouble(number));
+            this.canConvertAndCheck(number, Integer.class, ConverterNumberNumberTable.canConvertToInt(number));
+            this.canConvertAndCheck(number, Long.class, ConverterNumberNumberTable.canConvertToLong(number));
+        }
+    }
+
+    private void canConvertAndCheck(final Number value,
+                                    final Class<?> type,
+                                    final boolean can) {
+        this.checkEquals(
+                null != ConverterNumberNumberTable.convert(value, type),
+                can,
+                () -> "canConvert " + value + " (" + value.getClass().getName() + ") to " + type.getName()
+        );
+    }
+
+    @Test
+    public void testIsDouble() {
+        this.checkEquals(true, ConverterNumberNumberTable.isDouble(1L << 53));
+        this.checkEquals(false, ConverterNumberNumberTable.isDouble((1L << 53) + 1));
+    }
+
+    @Test
+    public void testIsInt() {
+        this.checkEquals(true, ConverterNumberNumberTable.isInt(Integer.MIN_VALUE));
+        this.checkEquals(false, ConverterNumberNumberTable.isInt(Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    public void testIsLong() {
+        this.checkEquals(true, ConverterNumberNumberTable.isLong(-0x1p63));
+        this.checkEquals(false, ConverterNumberNumberTable.isLong(0x1p63));
+        this.checkEquals(false, ConverterNumberNumberTable.isLong(1.5));
+        this.checkEquals(false, ConverterNumberNumberTable.isLong(Double.NaN));
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<ConverterNumberNumberTable> type() {
+        return ConverterNumberNumberTable.class;
+    }
+}
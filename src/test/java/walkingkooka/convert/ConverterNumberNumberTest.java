@@ -22,6 +22,7 @@ import walkingkooka.Cast;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 public final class ConverterNumberNumberTest extends ConverterTestCase2<ConverterNumberNumber<ConverterContext>> {
 
@@ -664,8 +665,145 @@ public final class ConverterNumberNumberTest extends ConverterTestCase2<Converte
         this.convertFails(number, Short.class);
     }
 
+    // convertAll.......................................................................................................
+
+    @Test
+    public void testConvertAllToLong() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, 2L, 3.0, null, 4.5, BigDecimal.valueOf(6), BigInteger.TEN, "7"),
+                Long.class
+        );
+    }
+
+    @Test
+    public void testConvertAllToByteOverflow() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, 999, (short) 2, Long.MAX_VALUE),
+                Byte.class
+        );
+    }
+
+    @Test
+    public void testConvertAllToNumber() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, 2L, 3.5, null),
+                Number.class
+        );
+    }
+
+    @Test
+    public void testConvertAllToUnsupportedType() {
+        this.convertAllAndCheck(
+                Arrays.asList(1, null),
+                String.class
+        );
+    }
+
+    // PrimitiveConverter...............................................................................................
+
+    @Test
+    public void testConvertToDouble() {
+        this.convertToDoubleAndCheck(1, 1.0);
+        this.convertToDoubleAndCheck(2L, 2.0);
+        this.convertToDoubleAndCheck(2.5f, 2.5);
+        this.convertToDoubleAndCheck(3.5, 3.5);
+        this.convertToDoubleAndCheck(BigDecimal.valueOf(4.5), 4.5);
+        this.convertToDoubleAndCheck(BigInteger.TEN, 10.0);
+    }
+
+    @Test
+    public void testConvertToDoubleFails() {
+        this.convertToDoubleFails(Long.MAX_VALUE - 1);
+        this.convertToDoubleFails(new BigDecimal("0.1"));
+        this.convertToDoubleFails(this.bigIntegerLongMax2().add(BigInteger.ONE));
+        this.convertToDoubleFails("1");
+    }
+
+    @Test
+    public void testConvertToInt() {
+        this.convertToIntAndCheck((byte) 1, 1);
+        this.convertToIntAndCheck(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        this.convertToIntAndCheck((long) Integer.MIN_VALUE, Integer.MIN_VALUE);
+        this.convertToIntAndCheck(2.0, 2);
+        this.convertToIntAndCheck(new BigDecimal("3.00"), 3);
+        this.convertToIntAndCheck(BigInteger.TEN, 10);
+    }
+
+    @Test
+    public void testConvertToIntFails() {
+        this.convertToIntFails(Integer.MAX_VALUE + 1L);
+        this.convertToIntFails(2.5);
+        this.convertToIntFails(1e10);
+        this.convertToIntFails(Double.NaN);
+        this.convertToIntFails(new BigDecimal("3.5"));
+        this.convertToIntFails(BigInteger.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testConvertToLong() {
+        this.convertToLongAndCheck(1, 1L);
+        this.convertToLongAndCheck(Long.MAX_VALUE, Long.MAX_VALUE);
+        this.convertToLongAndCheck(-2.0, -2L);
+        this.convertToLongAndCheck(3.0f, 3L);
+        this.convertToLongAndCheck(BigDecimal.valueOf(Long.MIN_VALUE), Long.MIN_VALUE);
+        this.convertToLongAndCheck(new BigDecimal("4.000"), 4L);
+        this.convertToLongAndCheck(BigInteger.valueOf(Long.MIN_VALUE), Long.MIN_VALUE);
+    }
+
+    @Test
+    public void testConvertToLongFails() {
+        this.convertToLongFails(2.5);
+        this.convertToLongFails(0x1p63);
+        this.convertToLongFails(Double.POSITIVE_INFINITY);
+        this.convertToLongFails(Float.NaN);
+        this.convertToLongFails(new BigDecimal("4.5"));
+        this.convertToLongFails(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE));
+        this.convertToLongFails(this.bigIntegerLongMax2());
+        this.convertToLongFails(true);
+    }
+
+    private void convertToDoubleAndCheck(final Object value,
+                                         final double expected) {
+        this.convertToDoubleAndCheck(this.createConverter(), value, this.createContext(), expected);
+    }
+
+    private void convertToDoubleFails(final Object value) {
+        this.convertToDoubleFails(this.createConverter(), value, this.createContext());
+    }
+
+    private void convertToIntAndCheck(final Object value,
+                                      final int expected) {
+        this.convertToIntAndCheck(this.createConverter(), value, this.createContext(), expected);
+    }
+
+    private void convertToIntFails(final Object value) {
+        this.convertToIntFails(this.createConverter(), value, this.createContext());
+    }
+
+    private void convertToLongAndCheck(final Object value,
+                                       final long expected) {
+        this.convertToLongAndCheck(this.createConverter(), value, this.createContext(), expected);
+    }
+
+    private void convertToLongFails(final Object value) {
+        this.convertToLongFails(this.createConverter(), value, this.createContext());
+    }
+
     // helper............................................................................................................
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
     @Override
     public ConverterNumberNumber<ConverterContext> createConverter() {
         return ConverterNumberNumber.instance();
@@ -61,6 +61,16 @@ public final class ConverterObjectStringTest extends ConverterTestCase<Converter
         this.toStringAndCheck(this.createConverter(), "*->String");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Object.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(String.class);
+    }
+
     @Override
     public ConverterObjectString<ConverterContext> createConverter() {
         return ConverterObjectString.instance();
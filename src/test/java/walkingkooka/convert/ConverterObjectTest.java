@@ -65,6 +65,16 @@ public final class ConverterObjectTest extends ConverterTestCase<ConverterObject
         );
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Object.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(Object.class);
+    }
+
     @Override
     public ConverterObject<ConverterContext> createConverter() {
         return ConverterObject.instance();
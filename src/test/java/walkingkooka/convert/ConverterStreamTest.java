@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConverterStreamTest implements ClassTesting2<ConverterStream<?, ?>>,
+        ConverterTesting {
+
+    private final static int BATCH_SIZE = 2;
+
+    @Test
+    public void testWithNullValuesFails() {
+        assertThrows(NullPointerException.class, () -> ConverterStream.with(null, this.converter(), Integer.class, this.context(), BATCH_SIZE, ConversionErrorHandlers.drop()));
+    }
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(NullPointerException.class, () -> ConverterStream.with(Stream.empty(), null, Integer.class, this.context(), BATCH_SIZE, ConversionErrorHandlers.drop()));
+    }
+
+    @Test
+    public void testWithNullTypeFails() {
+        assertThrows(NullPointerException.class, () -> ConverterStream.with(Stream.empty(), this.converter(), null, this.context(), BATCH_SIZE, ConversionErrorHandlers.drop()));
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(NullPointerException.class, () -> ConverterStream.with(Stream.empty(), this.converter(), Integer.class, null, BATCH_SIZE, ConversionErrorHandlers.drop()));
+    }
+
+    @Test
+    public void testWithInvalidBatchSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> ConverterStream.with(Stream.empty(), this.converter(), Integer.class, this.context(), 0, ConversionErrorHandlers.drop()));
+        this.checkEquals("Invalid batch size 0 <= 0", thrown.getMessage(), "message");
+    }
+
+    @Test
+    public void testWithNullErrorHandlerFails() {
+        assertThrows(NullPointerException.class, () -> ConverterStream.with(Stream.empty(), this.converter(), Integer.class, this.context(), BATCH_SIZE, null));
+    }
+
+    @Test
+    public void testEmpty() {
+        this.convertAndCheck(
+                Stream.empty(),
+                ConversionErrorHandlers.drop()
+        );
+    }
+
+    @Test
+    public void testAllConverted() {
+        this.convertAndCheck(
+                Stream.of(1L, 2.0, (byte) 3, 4, 5L),
+                ConversionErrorHandlers.drop(),
+                1, 2, 3, 4, 5
+        );
+    }
+
+    @Test
+    public void testNullConverted() {
+        this.convertAndCheck(
+                Stream.of(1L, null, 3L),
+                ConversionErrorHandlers.drop(),
+                1, null, 3
+        );
+    }
+
+    @Test
+    public void testDrop() {
+        this.convertAndCheck(
+                Stream.of(1L, "x", 2.5, 4L, Long.MAX_VALUE),
+                ConversionErrorHandlers.drop(),
+                1, 4
+        );
+    }
+
+    @Test
+    public void testCollect() {
+        final Map<Long, String> errors = new TreeMap<>();
+
+        this.convertAndCheck(
+                Stream.of(1L, "x", 2.5, 4L, Long.MAX_VALUE),
+                ConversionErrorHandlers.collect(errors),
+                1, 4
+        );
+
+        final Converter<ConverterContext> converter = this.converter();
+        final ConverterContext context = this.context();
+
+        final Map<Long, String> expected = new TreeMap<>();
+        expected.put(1L, converter.convert("x", Integer.class, context).rightValue());
+        expected.put(2L, converter.convert(2.5, Integer.class, context).rightValue());
+        expected.put(4L, converter.convert(Long.MAX_VALUE, Integer.class, context).rightValue());
+
+        this.checkEquals(expected, errors, "errors");
+    }
+
+    @Test
+    public void testFailFast() {
+        final List<Integer> converted = Lists.array();
+
+        final ConversionException thrown = assertThrows(
+                ConversionException.class,
+                () -> ConverterStream.with(
+                        Stream.of(1L, 2L, 3L, "x", 5L),
+                        this.converter(),
+                        Integer.class,
+                        this.context(),
+                        BATCH_SIZE,
+                        ConversionErrorHandlers.failFast()
+                ).forEach(converted::add)
+        );
+        this.checkEquals("x", thrown.value(), "value");
+        this.checkEquals(Arrays.asList(1, 2), converted, "converted before failure");
+    }
+
+    @Test
+    public void testPullsOneBatchAtATime() {
+        final AtomicInteger pulled = new AtomicInteger();
+
+        final List<Integer> converted = ConverterStream.with(
+                Stream.iterate(0L, i -> i + 1)
+                        .peek(i -> pulled.incrementAndGet()),
+                this.converter(),
+                Integer.class,
+                this.context(),
+                BATCH_SIZE,
+                ConversionErrorHandlers.drop()
+        ).limit(3)
+                .collect(Collectors.toList());
+
+        this.checkEquals(Arrays.asList(0, 1, 2), converted, "converted");
+        this.checkEquals(2 * BATCH_SIZE, pulled.get(), "pulled");
+    }
+
+    @Test
+    public void testCloseClosesValues() {
+        final AtomicInteger closed = new AtomicInteger();
+
+        ConverterStream.with(
+                Stream.of(1L).onClose(closed::incrementAndGet),
+                this.converter(),
+                Integer.class,
+                this.context(),
+                BATCH_SIZE,
+                ConversionErrorHandlers.drop()
+        ).close();
+
+        this.checkEquals(1, closed.get(), "closed");
+    }
+
+    private void convertAndCheck(final Stream<?> values,
+                                 final ConversionErrorHandler errorHandler,
+                                 final Integer... expected) {
+        this.checkEquals(
+                Arrays.asList(expected),
+                ConverterStream.with(
+                        values,
+                        this.converter(),
+                        Integer.class,
+                        this.context(),
+                        BATCH_SIZE,
+                        errorHandler
+                ).collect(Collectors.toList())
+        );
+    }
+
+    private Converter<ConverterContext> converter() {
+        return Converters.numberNumber();
+    }
+
+    private ConverterContext context() {
+        return ConverterContexts.fake();
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<ConverterStream<?, ?>> type() {
+        return Cast.to(ConverterStream.class);
+    }
+}
@@ -20,6 +20,8 @@ package walkingkooka.convert;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 
+import java.util.Arrays;
+
 public final class ConverterStringCharacterTest extends ConverterTestCase2<ConverterStringCharacter<ConverterContext>> {
 
     @Test
@@ -57,11 +59,37 @@ public final class ConverterStringCharacterTest extends ConverterTestCase2<Conve
         );
     }
 
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(), "String->Character");
     }
 
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList("A", "BC", null, "", 1),
+                Character.class
+        );
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(String.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(Character.class);
+    }
+
     @Override
     public ConverterStringCharacter<ConverterContext> createConverter() {
         return ConverterStringCharacter.instance();
@@ -95,6 +95,43 @@ public final class ConverterTemporalLocalDateNumberTest extends ConverterTempora
         this.convertAndCheck(LocalDate.ofEpochDay(BYTE_VALUE), Number.class, (long)BYTE_VALUE);
     }
 
+    // PrimitiveConverter...............................................................................................
+
+    @Test
+    public void testConvertToDouble() {
+        this.convertToDoubleAndCheck(this.createConverter(), LocalDate.ofEpochDay(BYTE_VALUE), this.createContext(), BYTE_VALUE);
+    }
+
+    @Test
+    public void testConvertToInt() {
+        this.convertToIntAndCheck(this.createConverter(), LocalDate.ofEpochDay(BYTE_VALUE), this.createContext(), BYTE_VALUE);
+    }
+
+    @Test
+    public void testConvertToIntWithOffset() {
+        this.convertToIntAndCheck(ConverterTemporalLocalDateNumber.with(Converters.EXCEL_1900_DATE_SYSTEM_OFFSET),
+                LocalDate.ofEpochDay(BYTE_VALUE),
+                this.createContext(),
+                (int) (BYTE_VALUE + Converters.EXCEL_1900_DATE_SYSTEM_OFFSET));
+    }
+
+    @Test
+    public void testConvertToIntOverflowFails() {
+        this.convertToIntFails(ConverterTemporalLocalDateNumber.with(Long.MAX_VALUE / 2),
+                LocalDate.ofEpochDay(BYTE_VALUE),
+                this.createContext());
+    }
+
+    @Test
+    public void testConvertToLong() {
+        this.convertToLongAndCheck(this.createConverter(), LocalDate.ofEpochDay(BYTE_VALUE), this.createContext(), BYTE_VALUE);
+    }
+
+    @Test
+    public void testConvertToLongNonLocalDateFails() {
+        this.convertToLongFails(this.createConverter(), LocalDate.ofEpochDay(BYTE_VALUE).atStartOfDay(), this.createContext());
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -104,6 +141,19 @@ public final class ConverterTemporalLocalDateNumberTest extends ConverterTempora
 
     // ConverterTesting.................................................................................................
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(LocalDate.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
     @Override
     public ConverterTemporalLocalDateNumber<ConverterContext> createConverter() {
         return walkingkooka.convert.ConverterTemporalLocalDateNumber.with(Converters.JAVA_EPOCH_OFFSET);
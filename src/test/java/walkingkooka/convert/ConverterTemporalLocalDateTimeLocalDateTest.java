@@ -47,6 +47,16 @@ public final class ConverterTemporalLocalDateTimeLocalDateTest extends Converter
 
     // ConverterTesting.................................................................................................
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(LocalDateTime.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(LocalDate.class);
+    }
+
     @Override
     public ConverterTemporalLocalDateTimeLocalDate<ConverterContext> createConverter() {
         return ConverterTemporalLocalDateTimeLocalDate.instance();
@@ -180,6 +180,54 @@ public final class ConverterTemporalLocalDateTimeNumberTest extends ConverterTem
                 (double)(BYTE_VALUE + OFFSET));
     }
 
+    // PrimitiveConverter...............................................................................................
+
+    @Test
+    public void testConvertToDouble() {
+        this.convertToDoubleAndCheck(this.createConverter(),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.NOON),
+                this.createContext(),
+                BYTE_VALUE + 0.5);
+    }
+
+    @Test
+    public void testConvertToDoubleWithOffset() {
+        this.convertToDoubleAndCheck(ConverterTemporalLocalDateTimeNumber.with(OFFSET),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.of(6, 0)),
+                this.createContext(),
+                BYTE_VALUE + OFFSET + 0.25);
+    }
+
+    @Test
+    public void testConvertToInt() {
+        this.convertToIntAndCheck(this.createConverter(),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.MIDNIGHT),
+                this.createContext(),
+                BYTE_VALUE);
+    }
+
+    @Test
+    public void testConvertToIntWithTimeFails() {
+        this.convertToIntFails(this.createConverter(),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.NOON),
+                this.createContext());
+    }
+
+    @Test
+    public void testConvertToLong() {
+        this.convertToLongAndCheck(ConverterTemporalLocalDateTimeNumber.with(OFFSET),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.MIDNIGHT),
+                this.createContext(),
+                BYTE_VALUE + OFFSET);
+    }
+
+    @Test
+    public void testConvertToLongWithTimeFails() {
+        this.convertToLongFails(this.createConverter(),
+                LocalDateTime.of(LocalDate.ofEpochDay(BYTE_VALUE), LocalTime.of(0, 0, 1)),
+                this.createContext());
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -19,9 +19,17 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.Either;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class ConverterTest implements ClassTesting<Converter<?>> {
@@ -40,6 +48,84 @@ public final class ConverterTest implements ClassTesting<Converter<?>> {
         assertSame(converter, converterFake);
     }
 
+    @Test
+    public void testConvertAll() {
+        final Converter<ConverterContext> converter = new FakeConverter<ConverterContext>() {
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                return value instanceof String ?
+                        this.successfulConversion(value, type) :
+                        this.failConversion(value, type);
+            }
+        };
+
+        final String[] converted = new String[4];
+        final String[] errors = new String[4];
+
+        this.checkEquals(
+                2,
+                converter.convertAll(
+                        Arrays.asList("a", 1, "b", 2L),
+                        String.class,
+                        ConverterContexts.fake(),
+                        converted,
+                        errors
+                ),
+                "failures"
+        );
+        this.checkEquals(Arrays.asList("a", null, "b", null), Arrays.asList(converted), "converted");
+        this.checkEquals(
+                Arrays.asList(
+                        null,
+                        "Failed to convert 1 (java.lang.Integer) to java.lang.String",
+                        null,
+                        "Failed to convert 2 (java.lang.Long) to java.lang.String"
+                ),
+                Arrays.asList(errors),
+                "errors"
+        );
+    }
+
+    @Test
+    public void testConvertStream() {
+        final Map<Long, String> errors = new TreeMap<>();
+
+        this.checkEquals(
+                Arrays.asList(1, 3),
+                Converters.numberNumber()
+                        .convertStream(
+                                Stream.of(1L, "two", 3.0),
+                                Integer.class,
+                                ConverterContexts.fake(),
+                                2,
+                                ConversionErrorHandlers.collect(errors)
+                        ).collect(Collectors.toList()),
+                "converted"
+        );
+
+        final Map<Long, String> expected = new TreeMap<>();
+        expected.put(1L, "Failed to convert \"two\" (java.lang.String) to java.lang.Integer");
+        this.checkEquals(expected, errors, "errors");
+    }
+
+    @Test
+    public void testSourceTypesDefault() {
+        this.checkEquals(
+                Optional.empty(),
+                new FakeConverter<ConverterContext>().sourceTypes()
+        );
+    }
+
+    @Test
+    public void testTargetTypesDefault() {
+        this.checkEquals(
+                Optional.empty(),
+                new FakeConverter<ConverterContext>().targetTypes()
+        );
+    }
+
     static class TestFakeConverterContext extends FakeConverterContext {
     }
 
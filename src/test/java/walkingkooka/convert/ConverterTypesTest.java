@@ -0,0 +1,290 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConverterTypesTest implements ClassTesting2<ConverterTypes> {
+
+    @Test
+    public void testOf() {
+        this.checkEquals(
+                Optional.of(Sets.of(String.class, Long.class)),
+                ConverterTypes.of(String.class, Long.class)
+        );
+    }
+
+    @Test
+    public void testAdd() {
+        this.checkEquals(
+                ConverterTypes.of(String.class, Long.class, Character.class),
+                ConverterTypes.add(ConverterTypes.of(String.class, Long.class), Character.class)
+        );
+    }
+
+    @Test
+    public void testAddUndeclared() {
+        this.checkEquals(
+                Optional.empty(),
+                ConverterTypes.add(Optional.empty(), Character.class)
+        );
+    }
+
+    // mayConvert.......................................................................................................
+
+    @Test
+    public void testMayConvertSourceAndTarget() {
+        this.mayConvertAndCheck(
+                Converters.stringCharacter(),
+                "a",
+                Character.class,
+                true
+        );
+    }
+
+    @Test
+    public void testMayConvertSourceExcluded() {
+        this.mayConvertAndCheck(
+                Converters.stringCharacter(),
+                1L,
+                Character.class,
+                false
+        );
+    }
+
+    @Test
+    public void testMayConvertTargetExcluded() {
+        this.mayConvertAndCheck(
+                Converters.stringCharacter(),
+                "a",
+                LocalDate.class,
+                false
+        );
+    }
+
+    @Test
+    public void testMayConvertNullValue() {
+        this.mayConvertAndCheck(
+                Converters.stringCharacter(),
+                null,
+                Character.class,
+                true
+        );
+    }
+
+    @Test
+    public void testMayConvertNullValueTargetExcluded() {
+        this.mayConvertAndCheck(
+                Converters.stringCharacter(),
+                null,
+                LocalDate.class,
+                false
+        );
+    }
+
+    @Test
+    public void testMayConvertAnyNumber() {
+        this.mayConvertAndCheck(
+                Converters.numberNumber(),
+                new AtomicLong(1),
+                BigDecimal.class,
+                true
+        );
+    }
+
+    @Test
+    public void testMayConvertAnyObject() {
+        this.mayConvertAndCheck(
+                Converters.objectString(),
+                LocalDate.of(2000, 1, 31),
+                String.class,
+                true
+        );
+    }
+
+    @Test
+    public void testMayConvertUndeclared() {
+        this.mayConvertAndCheck(
+                Converters.fake(),
+                LocalDate.of(2000, 1, 31),
+                Void.class,
+                true
+        );
+    }
+
+    private void mayConvertAndCheck(final Converter<?> converter,
+                                    final Object value,
+                                    final Class<?> type,
+                                    final boolean expected) {
+        this.checkEquals(
+                expected,
+                ConverterTypes.mayConvert(converter, value, type),
+                () -> converter + " " + value + " " + type.getName()
+        );
+    }
+
+    // isSource.........................................................................................................
+
+    @Test
+    public void testIsSourceClass() {
+        this.checkEquals(true, ConverterTypes.isSource(Converters.stringCharacter(), String.class));
+    }
+
+    @Test
+    public void testIsSourceClassExcluded() {
+        this.checkEquals(false, ConverterTypes.isSource(Converters.stringCharacter(), Long.class));
+    }
+
+    @Test
+    public void testIsSourceClassAnyNumber() {
+        this.checkEquals(true, ConverterTypes.isSource(Converters.numberNumber(), Long.class));
+    }
+
+    @Test
+    public void testIsSourceClassUndeclared() {
+        this.checkEquals(true, ConverterTypes.isSource(Converters.fake(), Void.class));
+    }
+
+    // isDeclared.......................................................................................................
+
+    @Test
+    public void testIsDeclared() {
+        this.checkEquals(true, ConverterTypes.isDeclared(Converters.numberNumber()));
+    }
+
+    @Test
+    public void testIsDeclaredTargetOnly() {
+        this.checkEquals(
+                false,
+                ConverterTypes.isDeclared(
+                        new FakeConverter<ConverterContext>() {
+                            @Override
+                            public Optional<Set<Class<?>>> targetTypes() {
+                                return ConverterTypes.of(String.class);
+                            }
+                        }
+                )
+        );
+    }
+
+    @Test
+    public void testIsDeclaredUndeclared() {
+        this.checkEquals(false, ConverterTypes.isDeclared(Converters.fake()));
+    }
+
+    @Test
+    public void testIsDeclaredSourceAndTarget() {
+        this.checkEquals(true, ConverterTypes.isDeclared(Converters.numberNumber(), Long.class, Integer.class));
+    }
+
+    @Test
+    public void testIsDeclaredSourceAndTargetExcluded() {
+        this.checkEquals(false, ConverterTypes.isDeclared(Converters.numberNumber(), Long.class, String.class));
+    }
+
+    @Test
+    public void testIsDeclaredSourceAndTargetUndeclared() {
+        this.checkEquals(false, ConverterTypes.isDeclared(Converters.fake(), Long.class, Integer.class));
+    }
+
+    // isClassBased.....................................................................................................
+
+    @Test
+    public void testIsClassBased() {
+        this.checkEquals(true, ConverterTypes.isClassBased(Converters.numberNumber()));
+    }
+
+    @Test
+    public void testIsClassBasedValueDependent() {
+        this.checkEquals(false, ConverterTypes.isClassBased(Converters.stringCharacter()));
+    }
+
+    @Test
+    public void testIsClassBasedUndeclared() {
+        this.checkEquals(false, ConverterTypes.isClassBased(Converters.fake()));
+    }
+
+    // isNever..........................................................................................................
+
+    @Test
+    public void testIsNever() {
+        this.checkEquals(true, ConverterTypes.isNever(Converters.never()));
+    }
+
+    @Test
+    public void testIsNeverDeclared() {
+        this.checkEquals(false, ConverterTypes.isNever(Converters.numberNumber()));
+    }
+
+    @Test
+    public void testIsNeverUndeclared() {
+        this.checkEquals(false, ConverterTypes.isNever(Converters.fake()));
+    }
+
+    // union............................................................................................................
+
+    @Test
+    public void testUnion() {
+        this.checkEquals(
+                ConverterTypes.of(String.class, Object.class),
+                ConverterTypes.union(
+                        Lists.<Converter<ConverterContext>>of(
+                                Converters.stringCharacter(),
+                                Converters.objectString()
+                        ),
+                        Converter::sourceTypes
+                )
+        );
+    }
+
+    @Test
+    public void testUnionUndeclared() {
+        this.checkEquals(
+                Optional.empty(),
+                ConverterTypes.union(
+                        Lists.<Converter<ConverterContext>>of(
+                                Converters.stringCharacter(),
+                                Converters.fake()
+                        ),
+                        Converter::sourceTypes
+                )
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ConverterTypes> type() {
+        return ConverterTypes.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -23,6 +23,7 @@ import walkingkooka.reflect.PublicStaticHelperTesting;
 
 import java.lang.reflect.Method;
 import java.math.MathContext;
+import java.util.Optional;
 
 public final class ConvertersTest implements PublicStaticHelperTesting<Converters> {
 
@@ -31,6 +32,22 @@ public final class ConvertersTest implements PublicStaticHelperTesting<Converter
         this.checkEquals(Converters.EXCEL_1904_DATE_SYSTEM_OFFSET - Converters.EXCEL_1900_DATE_SYSTEM_OFFSET, 1462L);
     }
 
+    @Test
+    public void testCacheStatisticsCaching() {
+        this.checkEquals(
+                Optional.of(ConverterCacheStatistics.with(0, 0, 0, 0)),
+                Converters.cacheStatistics(Converters.caching(Converters.simple(), 10))
+        );
+    }
+
+    @Test
+    public void testCacheStatisticsNotCaching() {
+        this.checkEquals(
+                Optional.empty(),
+                Converters.cacheStatistics(Converters.simple())
+        );
+    }
+
     @Test
     public void testPublicStaticMethodsWithoutMathContextParameter() {
         this.publicStaticMethodParametersTypeCheck(MathContext.class);
@@ -86,6 +86,31 @@ public final class CustomToStringConverterTest extends ConverterTestCase2<Custom
         this.toStringAndCheck(this.createConverter(), CUSTOM_TO_STRING);
     }
 
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        CustomToStringConverter.wrap(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public void invalidate() {
+                        invalidated[0]++;
+                    }
+                },
+                CUSTOM_TO_STRING
+        ).invalidate();
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Object.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(String.class);
+    }
+
     @Override
     public CustomToStringConverter<ConverterContext> createConverter() {
         return Cast.to(CustomToStringConverter.wrap(WRAPPED, CUSTOM_TO_STRING));
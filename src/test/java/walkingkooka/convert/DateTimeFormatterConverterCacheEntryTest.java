@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class DateTimeFormatterConverterCacheEntryTest implements ClassTesting2<DateTimeFormatterConverterCacheEntry>,
+        ToStringTesting<DateTimeFormatterConverterCacheEntry> {
+
+    private final static DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    @Test
+    public void testWith() {
+        assertSame(
+                FORMATTER,
+                DateTimeFormatterConverterCacheEntry.with(FORMATTER).formatter
+        );
+    }
+
+    @Test
+    public void testResolverReused() {
+        final DateTimeFormatterConverterCacheEntry entry = DateTimeFormatterConverterCacheEntry.with(FORMATTER);
+        final DateTimeFormatterConverterResolver resolver = entry.resolver();
+
+        assertSame(resolver, entry.resolver());
+    }
+
+    @Test
+    public void testShapeReused() {
+        final DateTimeFormatterConverterCacheEntry entry = DateTimeFormatterConverterCacheEntry.with(FORMATTER);
+        final ConverterContext context = DateTimeFormatterConverterPatternTest.context();
+        final DateTimeFormatterConverterShape shape = entry.shape("yyyy-MM-dd", context);
+
+        assertSame(shape, entry.shape("yyyy-MM-dd", context));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                DateTimeFormatterConverterCacheEntry.with(FORMATTER),
+                FORMATTER.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DateTimeFormatterConverterCacheEntry> type() {
+        return DateTimeFormatterConverterCacheEntry.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+
+import java.util.Locale;
+
+public final class DateTimeFormatterConverterCacheKeyTest extends DateTimeFormatterConverterTestCase<DateTimeFormatterConverterCacheKey>
+        implements HashCodeEqualsDefinedTesting2<DateTimeFormatterConverterCacheKey>,
+        ToStringTesting<DateTimeFormatterConverterCacheKey> {
+
+    private final static Locale LOCALE = Locale.ENGLISH;
+    private final static int TWO_DIGIT_YEAR = 20;
+    private final static char POSITIVE = '+';
+    private final static char NEGATIVE = '-';
+    private final static char DECIMAL = '.';
+
+    @Test
+    public void testWith() {
+        final DateTimeFormatterConverterCacheKey key = this.createObject();
+        this.checkEquals(LOCALE, key.locale, "locale");
+        this.checkEquals(TWO_DIGIT_YEAR, key.twoDigitYear, "twoDigitYear");
+        this.checkEquals(POSITIVE, key.positiveSign, "positiveSign");
+        this.checkEquals(NEGATIVE, key.negativeSign, "negativeSign");
+        this.checkEquals(DECIMAL, key.decimalSeparator, "decimalSeparator");
+    }
+
+    @Test
+    public void testEqualsDifferentLocale() {
+        this.checkNotEquals(key(Locale.GERMAN, TWO_DIGIT_YEAR, POSITIVE, NEGATIVE, DECIMAL));
+    }
+
+    @Test
+    public void testEqualsDifferentTwoDigitYear() {
+        this.checkNotEquals(key(LOCALE, 99, POSITIVE, NEGATIVE, DECIMAL));
+    }
+
+    @Test
+    public void testEqualsDifferentPositiveSign() {
+        this.checkNotEquals(key(LOCALE, TWO_DIGIT_YEAR, 'P', NEGATIVE, DECIMAL));
+    }
+
+    @Test
+    public void testEqualsDifferentNegativeSign() {
+        this.checkNotEquals(key(LOCALE, TWO_DIGIT_YEAR, POSITIVE, 'N', DECIMAL));
+    }
+
+    @Test
+    public void testEqualsDifferentDecimalSeparator() {
+        this.checkNotEquals(key(LOCALE, TWO_DIGIT_YEAR, POSITIVE, NEGATIVE, ','));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "en 20 +-.");
+    }
+
+    @Override
+    public DateTimeFormatterConverterCacheKey createObject() {
+        return key(LOCALE, TWO_DIGIT_YEAR, POSITIVE, NEGATIVE, DECIMAL);
+    }
+
+    static DateTimeFormatterConverterCacheKey key(final Locale locale,
+                                                  final int twoDigitYear,
+                                                  final char positiveSign,
+                                                  final char negativeSign,
+                                                  final char decimalSeparator) {
+        return DateTimeFormatterConverterCacheKey.with(
+                context(locale, twoDigitYear, positiveSign, negativeSign, decimalSeparator)
+        );
+    }
+
+    static ConverterContext context(final Locale locale,
+                                    final int twoDigitYear,
+                                    final char positiveSign,
+                                    final char negativeSign,
+                                    final char decimalSeparator) {
+        return new FakeConverterContext() {
+
+            @Override
+            public char decimalSeparator() {
+                return decimalSeparator;
+            }
+
+            @Override
+            public char negativeSign() {
+                return negativeSign;
+            }
+
+            @Override
+            public char positiveSign() {
+                return positiveSign;
+            }
+
+            @Override
+            public Locale locale() {
+                return locale;
+            }
+
+            @Override
+            public int twoDigitYear() {
+                return twoDigitYear;
+            }
+        };
+    }
+
+    @Override
+    public Class<DateTimeFormatterConverterCacheKey> type() {
+        return DateTimeFormatterConverterCacheKey.class;
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "CacheKey";
+    }
+}
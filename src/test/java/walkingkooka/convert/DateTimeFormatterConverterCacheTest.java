@@ -19,19 +19,139 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.ToStringTesting;
+import walkingkooka.datetime.DateTimeContext;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class DateTimeFormatterConverterCacheTest extends DateTimeFormatterConverterTestCase<DateTimeFormatterConverterCache>
         implements ToStringTesting<DateTimeFormatterConverterCache> {
 
+    private final static ConverterContext ENGLISH = DateTimeFormatterConverterCacheKeyTest.context(Locale.ENGLISH, 20, '+', '-', '.');
+    private final static ConverterContext GERMAN = DateTimeFormatterConverterCacheKeyTest.context(Locale.GERMAN, 20, '+', '-', ',');
+    private final static ConverterContext FRENCH = DateTimeFormatterConverterCacheKeyTest.context(Locale.FRENCH, 20, '+', '-', ',');
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterConverterCache.with(0));
+    }
+
+    @Test
+    public void testWithNegativeSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterConverterCache.with(-1));
+    }
+
+    @Test
+    public void testGetMiss() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        final DateTimeFormatter formatter = cache.get(ENGLISH, this.factory())
+                .formatter;
+
+        this.checkEquals(Locale.ENGLISH, formatter.getLocale(), "locale");
+        this.checkEquals('.', formatter.getDecimalStyle().getDecimalSeparator(), "decimalSeparator");
+        this.countersAndCheck(cache, 1, 0, 1);
+    }
+
+    @Test
+    public void testGetHit() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        final DateTimeFormatterConverterCacheEntry entry = cache.get(ENGLISH, this.factory());
+
+        assertSame(entry, cache.get(ENGLISH, this.factory()));
+        this.countersAndCheck(cache, 1, 1, 1);
+    }
+
+    @Test
+    public void testGetDecimalStyleApplied() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        final DateTimeFormatter formatter = cache.get(
+                DateTimeFormatterConverterCacheKeyTest.context(Locale.ENGLISH, 20, 'P', 'N', '*'),
+                this.factory()
+        ).formatter;
+
+        this.checkEquals('P', formatter.getDecimalStyle().getPositiveSign(), "positiveSign");
+        this.checkEquals('N', formatter.getDecimalStyle().getNegativeSign(), "negativeSign");
+        this.checkEquals('*', formatter.getDecimalStyle().getDecimalSeparator(), "decimalSeparator");
+    }
+
+    @Test
+    public void testGetInterleavedLocales() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        final DateTimeFormatterConverterCacheEntry english = cache.get(ENGLISH, this.factory());
+        final DateTimeFormatterConverterCacheEntry german = cache.get(GERMAN, this.factory());
+
+        assertSame(english, cache.get(ENGLISH, this.factory()));
+        assertSame(german, cache.get(GERMAN, this.factory()));
+        this.countersAndCheck(cache, 2, 2, 2);
+    }
+
+    @Test
+    public void testGetEvictsLeastRecentlyUsed() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        final DateTimeFormatterConverterCacheEntry english = cache.get(ENGLISH, this.factory());
+        cache.get(GERMAN, this.factory());
+
+        // touch english so german becomes the eldest
+        assertSame(english, cache.get(ENGLISH, this.factory()));
+        cache.get(FRENCH, this.factory());
+        this.countersAndCheck(cache, 2, 1, 3);
+
+        assertSame(english, cache.get(ENGLISH, this.factory()));
+        this.countersAndCheck(cache, 2, 2, 3);
+
+        cache.get(GERMAN, this.factory());
+        this.countersAndCheck(cache, 2, 2, 4);
+    }
+
+    @Test
+    public void testStatistics() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        cache.get(ENGLISH, this.factory());
+        cache.get(ENGLISH, this.factory());
+        cache.get(GERMAN, this.factory());
+        cache.get(FRENCH, this.factory());
+
+        this.checkEquals(
+                ConverterCacheStatistics.with(2, 1, 3, 1),
+                cache.statistics()
+        );
+    }
+
+    @Test
+    public void testCached() {
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        this.checkEquals(null, cache.cached(ENGLISH));
+
+        final DateTimeFormatterConverterCacheEntry entry = cache.get(ENGLISH, this.factory());
+        assertSame(entry, cache.cached(ENGLISH));
+        this.checkEquals(null, cache.cached(GERMAN));
+        this.countersAndCheck(cache, 1, 0, 1);
+    }
+
+    private Function<DateTimeContext, DateTimeFormatter> factory() {
+        return (c) -> DateTimeFormatter.ISO_LOCAL_DATE.withLocale(c.locale());
+    }
+
+    private void countersAndCheck(final DateTimeFormatterConverterCache cache,
+                                  final int size,
+                                  final long hits,
+                                  final long misses) {
+        this.checkEquals(size, cache.size(), "size");
+        this.checkEquals(hits, cache.hits(), "hits");
+        this.checkEquals(misses, cache.misses(), "misses");
+    }
+
     @Test
     public void testToString() {
-        final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        final DateTimeFormatterConverterCache cache = DateTimeFormatterConverterCache.with(2);
+        cache.get(ENGLISH, this.factory());
+        cache.get(ENGLISH, this.factory());
 
-        this.toStringAndCheck(DateTimeFormatterConverterCache.with(Locale.ENGLISH, 123, formatter ),
-                "en 123 " + formatter);
+        this.toStringAndCheck(cache, "[en 20 +-.] hits=1 misses=1");
     }
 
     @Override
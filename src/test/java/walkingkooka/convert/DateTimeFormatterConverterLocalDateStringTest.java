@@ -23,6 +23,7 @@ import walkingkooka.datetime.DateTimeContext;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 import java.util.function.Function;
 
 public final class DateTimeFormatterConverterLocalDateStringTest extends DateTimeFormatterConverterTestCase2<DateTimeFormatterConverterLocalDateString<ConverterContext>, LocalDate, String> {
@@ -43,6 +44,54 @@ public final class DateTimeFormatterConverterLocalDateStringTest extends DateTim
                 "2000-Januar-31");
     }
 
+    @Test
+    public void testFirstConversionUsesContextDecimalStyle() {
+        this.convertAndCheck2(
+                this.createConverter(
+                        (c) -> DateTimeFormatter.ofPattern("uuuu-MM-dd")
+                ),
+                LocalDate.of(-5, 1, 31),
+                new FakeConverterContext() {
+
+                    @Override
+                    public char decimalSeparator() {
+                        return '.';
+                    }
+
+                    @Override
+                    public char negativeSign() {
+                        return 'N';
+                    }
+
+                    @Override
+                    public char positiveSign() {
+                        return 'P';
+                    }
+
+                    @Override
+                    public Locale locale() {
+                        return LOCALE1;
+                    }
+
+                    @Override
+                    public int twoDigitYear() {
+                        return TWO_DIGIT_YEARS1;
+                    }
+                },
+                "N0005-01-31"
+        );
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(LocalDate.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(String.class);
+    }
+
     @Override
     protected DateTimeFormatterConverterLocalDateString<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return DateTimeFormatterConverterLocalDateString.with(formatter);
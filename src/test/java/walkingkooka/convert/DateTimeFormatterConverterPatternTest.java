@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DateTimeFormatterConverterPatternTest implements ClassTesting2<DateTimeFormatterConverterPattern> {
+
+    @Test
+    public void testFormatterNullPatternFails() {
+        assertThrows(NullPointerException.class, () -> DateTimeFormatterConverterPattern.formatter(null));
+    }
+
+    @Test
+    public void testFormatterInvalidPatternFails() {
+        assertThrows(IllegalArgumentException.class, () -> DateTimeFormatterConverterPattern.formatter("yyyy{"));
+    }
+
+    @Test
+    public void testFormatterDigits() {
+        this.checkEquals(
+                LocalDate.of(2000, 12, 31),
+                LocalDate.parse(
+                        "2000-12-31",
+                        this.formatter("yyyy-MM-dd")
+                )
+        );
+    }
+
+    @Test
+    public void testFormatterMonthNames() {
+        final DateTimeFormatter formatter = this.formatter("d MMMM yyyy");
+
+        this.checkEquals(
+                LocalDate.of(2000, 12, 31),
+                LocalDate.parse(
+                        "31 December! 2000",
+                        formatter
+                )
+        );
+        assertThrows(DateTimeParseException.class, () -> LocalDate.parse("31 December 2000", formatter));
+    }
+
+    @Test
+    public void testFormatterMonthNameAbbreviations() {
+        this.checkEquals(
+                LocalDate.of(2000, 1, 2),
+                LocalDate.parse(
+                        "2 Jan! 2000",
+                        this.formatter("d MMM yyyy")
+                )
+        );
+    }
+
+    @Test
+    public void testFormatterWeekDayNames() {
+        this.checkEquals(
+                "Sunday! 31 Dec! 2000",
+                this.formatter("EEEE d MMM yyyy")
+                        .format(LocalDate.of(2000, 12, 31))
+        );
+    }
+
+    @Test
+    public void testFormatterWeekDayNameAbbreviations() {
+        this.checkEquals(
+                "Mon! 1 Jan! 2001",
+                this.formatter("EEE d MMM yyyy")
+                        .format(LocalDate.of(2001, 1, 1))
+        );
+    }
+
+    @Test
+    public void testFormatterAmPm() {
+        this.checkEquals(
+                LocalTime.of(13, 58),
+                LocalTime.parse(
+                        "1:58 PM!",
+                        this.formatter("h:mm a")
+                )
+        );
+    }
+
+    @Test
+    public void testFormatterQuotedAndOptional() {
+        final DateTimeFormatter formatter = this.formatter("h 'o''clock' a[ MMM]");
+
+        this.checkEquals(
+                "1 o'clock PM! Dec!",
+                formatter.format(LocalDateTime.of(2000, 12, 31, 13, 0))
+        );
+    }
+
+    private DateTimeFormatter formatter(final String pattern) {
+        return DateTimeFormatterConverterPattern.formatter(pattern)
+                .apply(context());
+    }
+
+    /**
+     * A context with names that are different from any {@link Locale}.
+     */
+    static ConverterContext context() {
+        return new FakeConverterContext() {
+
+            @Override
+            public List<String> ampms() {
+                return names("AM", "PM");
+            }
+
+            @Override
+            public Locale locale() {
+                return Locale.ENGLISH;
+            }
+
+            @Override
+            public List<String> monthNames() {
+                return names("January", "February", "March", "April", "May", "June", "July", "August", "September", "October", "November", "December");
+            }
+
+            @Override
+            public List<String> monthNameAbbreviations() {
+                return names("Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
+            }
+
+            @Override
+            public List<String> weekDayNames() {
+                return names("Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday");
+            }
+
+            @Override
+            public List<String> weekDayNameAbbreviations() {
+                return names("Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat");
+            }
+
+            private List<String> names(final String... names) {
+                final String[] exclaimed = new String[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    exclaimed[i] = names[i] + '!';
+                }
+                return Arrays.asList(exclaimed);
+            }
+        };
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DateTimeFormatterConverterPattern> type() {
+        return DateTimeFormatterConverterPattern.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+public final class DateTimeFormatterConverterResolverTest implements ClassTesting2<DateTimeFormatterConverterResolver> {
+
+    private final static String[] DATE_PATTERNS = {
+            "yyyy-MM-dd",
+            "uuuu-MM-dd",
+            "dd MMMM yyyy",
+            "d/M/yy",
+            "EEE dd/MM/yyyy",
+            "G yyyy MM dd",
+            "Q yyyy-MM-dd",
+            "YYYY-ww",
+            "yyyy-DDD"
+    };
+
+    private final static String[] TIME_PATTERNS = {
+            "HH:mm",
+            "HH:mm:ss.SSS",
+            "kk:mm",
+            "h:mm a",
+            "hh 'o''clock' a",
+            "H:mm:ss n",
+            "A"
+    };
+
+    private final static String[] DATE_TIME_PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd hh:mm a",
+            "dd MMM uuuu'T'HH:mm",
+            "yyyy-MM-dd",
+            "yyyy-MM-dd[ HH:mm]"
+    };
+
+    // parseUnresolved..................................................................................................
+
+    @Test
+    public void testParseUnresolved() {
+        this.checkNotEquals(
+                null,
+                DateTimeFormatterConverterResolver.with(DateTimeFormatter.ISO_LOCAL_DATE)
+                        .parseUnresolved("2000-12-31")
+        );
+    }
+
+    @Test
+    public void testParseUnresolvedNotMatched() {
+        this.checkEquals(
+                null,
+                DateTimeFormatterConverterResolver.with(DateTimeFormatter.ISO_LOCAL_DATE)
+                        .parseUnresolved("hello")
+        );
+    }
+
+    @Test
+    public void testParseUnresolvedTrailingText() {
+        this.checkEquals(
+                null,
+                DateTimeFormatterConverterResolver.with(DateTimeFormatter.ISO_LOCAL_DATE)
+                        .parseUnresolved("2000-12-31!")
+        );
+    }
+
+    // fields...........................................................................................................
+
+    @Test
+    public void testFieldsDate() {
+        this.fieldsAndCheck("dd MMMM yyyy", 1);
+    }
+
+    @Test
+    public void testFieldsTime() {
+        this.fieldsAndCheck("hh 'o''clock' a", 2);
+    }
+
+    @Test
+    public void testFieldsDateTimeOptional() {
+        this.fieldsAndCheck(DateTimeFormatter.ISO_LOCAL_DATE_TIME, 3);
+    }
+
+    @Test
+    public void testFieldsWeek() {
+        this.fieldsAndCheck("YYYY-ww", -1);
+    }
+
+    @Test
+    public void testFieldsQuarter() {
+        this.fieldsAndCheck("Q yyyy", -1);
+    }
+
+    @Test
+    public void testFieldsDayOfYear() {
+        this.fieldsAndCheck("yyyy-DDD", -1);
+    }
+
+    @Test
+    public void testFieldsZone() {
+        this.fieldsAndCheck("yyyy-MM-dd VV", -1);
+    }
+
+    @Test
+    public void testFieldsDefault() {
+        this.fieldsAndCheck(
+                new DateTimeFormatterBuilder()
+                        .appendPattern("yyyy")
+                        .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1)
+                        .parseDefaulting(ChronoField.DAY_OF_MONTH, 1)
+                        .toFormatter(),
+                -1
+        );
+    }
+
+    private void fieldsAndCheck(final String pattern,
+                                final int expected) {
+        this.fieldsAndCheck(this.formatter(pattern), expected);
+    }
+
+    private void fieldsAndCheck(final DateTimeFormatter formatter,
+                                final int expected) {
+        this.checkEquals(
+                expected,
+                DateTimeFormatterConverterResolver.fields(formatter.toString()),
+                formatter::toString
+        );
+    }
+
+    // resolve..........................................................................................................
+
+    @Test
+    public void testLocalDate() {
+        this.localDateAndCheck("yyyy-MM-dd", "2000-12-31", LocalDate.of(2000, 12, 31));
+    }
+
+    @Test
+    public void testLocalDateSmartLastDayOfMonth() {
+        this.localDateAndCheck("yyyy-MM-dd", "2001-02-30", LocalDate.of(2001, 2, 28));
+    }
+
+    @Test
+    public void testLocalDateStrictInvalidDay() {
+        this.localDateAndCheck(DateTimeFormatter.ISO_LOCAL_DATE, "2001-02-30", null);
+    }
+
+    @Test
+    public void testLocalDateStrictYearOfEra() {
+        this.localDateAndCheck(
+                DateTimeFormatter.ofPattern("yyyy-MM-dd").withResolverStyle(ResolverStyle.STRICT),
+                "2000-12-31",
+                null
+        );
+    }
+
+    @Test
+    public void testLocalDateDayOfWeekMismatch() {
+        this.localDateAndCheck("EEE dd/MM/yyyy", "Mon 31/12/2000", null);
+    }
+
+    @Test
+    public void testLocalDateUnsupportedField() {
+        this.localDateAndCheck("yyyy-DDD", "2000-100", null);
+    }
+
+    @Test
+    public void testLocalDateWithTime() {
+        this.localDateAndCheck("yyyy-MM-dd HH:mm", "2000-12-31 12:58", null);
+    }
+
+    @Test
+    public void testLocalTime() {
+        this.localTimeAndCheck("h:mm a", "1:58 PM", LocalTime.of(13, 58));
+    }
+
+    @Test
+    public void testLocalTimeMidnight24() {
+        this.localTimeAndCheck("kk:mm", "24:00", LocalTime.MIDNIGHT);
+    }
+
+    @Test
+    public void testLocalTimeInvalidHour() {
+        this.localTimeAndCheck("HH:mm", "25:00", null);
+    }
+
+    @Test
+    public void testLocalDateTime() {
+        final DateTimeFormatterConverterResolver resolver = DateTimeFormatterConverterResolver.with(this.formatter("yyyy-MM-dd HH:mm:ss"));
+        this.checkEquals(
+                LocalDateTime.of(2000, 12, 31, 12, 58, 59),
+                resolver.localDateTime(resolver.parseUnresolved("2000-12-31 12:58:59"))
+        );
+    }
+
+    private void localDateAndCheck(final String pattern,
+                                   final String text,
+                                   final LocalDate expected) {
+        this.localDateAndCheck(this.formatter(pattern), text, expected);
+    }
+
+    private void localDateAndCheck(final DateTimeFormatter formatter,
+                                   final String text,
+                                   final LocalDate expected) {
+        final DateTimeFormatterConverterResolver resolver = DateTimeFormatterConverterResolver.with(formatter);
+        this.checkEquals(
+                expected,
+                resolver.localDate(resolver.parseUnresolved(text)),
+                () -> formatter + " " + text
+        );
+    }
+
+    private void localTimeAndCheck(final String pattern,
+                                   final String text,
+                                   final LocalTime expected) {
+        final DateTimeFormatterConverterResolver resolver = DateTimeFormatterConverterResolver.with(this.formatter(pattern));
+        this.checkEquals(
+                expected,
+                resolver.localTime(resolver.parseUnresolved(text)),
+                () -> pattern + " " + text
+        );
+    }
+
+    // same as DateTimeFormatter........................................................................................
+
+    @Test
+    public void testLocalDateSameAsDateTimeFormatter() {
+        this.resolveSameAsDateTimeFormatter(
+                DATE_PATTERNS,
+                DateTimeFormatterConverterResolver::localDate,
+                LocalDate::from
+        );
+    }
+
+    @Test
+    public void testLocalTimeSameAsDateTimeFormatter() {
+        this.resolveSameAsDateTimeFormatter(
+                TIME_PATTERNS,
+                DateTimeFormatterConverterResolver::localTime,
+                LocalTime::from
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeSameAsDateTimeFormatter() {
+        this.resolveSameAsDateTimeFormatter(
+                DATE_TIME_PATTERNS,
+                DateTimeFormatterConverterResolver::localDateTime,
+                LocalDateTime::from
+        );
+    }
+
+    /**
+     * Formats random date times and then replaces some digits, parsing the text with the {@link DateTimeFormatter}
+     * and resolving it. Text that is not matched must fail with the {@link DateTimeFormatter}, and any resolved
+     * value must be the same as the {@link DateTimeFormatter}.
+     */
+    private <T> void resolveSameAsDateTimeFormatter(final String[] patterns,
+                                                    final BiFunction<DateTimeFormatterConverterResolver, TemporalAccessor, T> resolve,
+                                                    final TemporalQuery<T> query) {
+        final Random random = new Random(1);
+        int resolved = 0;
+
+        for (final String pattern : patterns) {
+            for (final ResolverStyle resolverStyle : ResolverStyle.values()) {
+                final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH)
+                        .withResolverStyle(resolverStyle);
+                final DateTimeFormatterConverterResolver resolver = DateTimeFormatterConverterResolver.with(formatter);
+
+                for (int i = 0; i < 2000; i++) {
+                    final LocalDateTime dateTime = LocalDateTime.of(
+                            1900 + random.nextInt(200),
+                            1 + random.nextInt(12),
+                            1 + random.nextInt(28),
+                            random.nextInt(24),
+                            random.nextInt(60),
+                            random.nextInt(60),
+                            random.nextInt(1000) * 1000_000
+                    );
+                    final char[] text = formatter.format(dateTime).toCharArray();
+                    final int changes = random.nextInt(3);
+                    for (int j = 0; j < changes; j++) {
+                        final int index = random.nextInt(text.length);
+                        if (Character.isDigit(text[index])) {
+                            text[index] = (char) ('0' + random.nextInt(10));
+                        }
+                    }
+                    final String string = new String(text);
+
+                    T expected;
+                    try {
+                        expected = formatter.parse(string, query);
+                    } catch (final DateTimeException cause) {
+                        expected = null;
+                    }
+
+                    final TemporalAccessor unresolved = resolver.parseUnresolved(string);
+                    if (null == unresolved) {
+                        this.checkEquals(null, expected, () -> "not matched " + pattern + " " + resolverStyle + " " + string);
+                    } else {
+                        final T actual = resolve.apply(resolver, unresolved);
+                        if (null != actual) {
+                            this.checkEquals(expected, actual, () -> pattern + " " + resolverStyle + " " + string);
+                            resolved++;
+                        }
+                    }
+                }
+            }
+        }
+
+        this.checkNotEquals(0, resolved);
+    }
+
+    private DateTimeFormatter formatter(final String pattern) {
+        return DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DateTimeFormatterConverterResolver> type() {
+        return DateTimeFormatterConverterResolver.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.datetime.DateTimeContext;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.ParsePosition;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class DateTimeFormatterConverterShapeTest implements ClassTesting2<DateTimeFormatterConverterShape>,
+        ToStringTesting<DateTimeFormatterConverterShape> {
+
+    private final static String[] PATTERNS = {
+            "yyyy-MM-dd",
+            "uuuu-MM-dd",
+            "yyyyMMdd",
+            "d/M/yy",
+            "dd MMMM yyyy",
+            "d MMM yyyy",
+            "EEEE, d MMMM yyyy",
+            "EEE, d MMM yy h:mm a",
+            "G yyyy",
+            "LLLL yyyy",
+            "D yyyy",
+            "HH:mm",
+            "HH:mm:ss.SSS",
+            "h 'o''clock' a",
+            "HH''mm",
+            "yyyy-MM-dd[ HH:mm[:ss]]",
+            "yyyy-MM-dd VV"
+    };
+
+    private final static Locale[] LOCALES = {
+            Locale.ENGLISH,
+            Locale.UK,
+            Locale.FRANCE,
+            Locale.GERMANY,
+            Locale.forLanguageTag("ru")
+    };
+
+    @Test
+    public void testDigits() {
+        final DateTimeFormatterConverterShape shape = this.shape("uuuu-MM-dd");
+
+        this.testAndCheck(shape, "2000-12-31", true);
+        this.testAndCheck(shape, "+12000-12-31", true);
+        this.testAndCheck(shape, "", false);
+        this.testAndCheck(shape, "Hello", false);
+        this.testAndCheck(shape, "Hello World 1234", false);
+        this.testAndCheck(shape, "2000/12/31", false);
+        this.testAndCheck(shape, "2000-12-3", false);
+        this.testAndCheck(shape, "2000-12-31 is a very long text", false);
+    }
+
+    @Test
+    public void testMonthNames() {
+        final DateTimeFormatterConverterShape shape = this.shape("dd MMMM yyyy");
+
+        this.testAndCheck(shape, "31 December 2000", true);
+        this.testAndCheck(shape, "31 december 2000", false);
+        this.testAndCheck(shape, "31 Dec 2000", false);
+        this.testAndCheck(shape, "31 Hello 2000", false);
+    }
+
+    @Test
+    public void testContextNames() {
+        final DateTimeFormatterConverterShape shape = DateTimeFormatterConverterShape.with(
+                "dd MMMM yyyy",
+                DateTimeFormatterConverterPatternTest.context(),
+                '0'
+        );
+
+        this.testAndCheck(shape, "31 December! 2000", true);
+        this.testAndCheck(shape, "31 December 2000", false);
+    }
+
+    @Test
+    public void testWeekDayAndAmPmNames() {
+        final DateTimeFormatterConverterShape shape = this.shape("EEE, d MMM yy h:mm a");
+
+        this.testAndCheck(shape, "Sun, 31 Dec 00 1:58 PM", true);
+        this.testAndCheck(shape, "Hello, 31 Dec 00 1:58 PM", false);
+        this.testAndCheck(shape, "Sun, 31 Dec 00 1:58 xy", false);
+    }
+
+    @Test
+    public void testQuotedLiteral() {
+        final DateTimeFormatterConverterShape shape = this.shape("h 'o''clock' a");
+
+        this.testAndCheck(shape, "1 o'clock PM", true);
+        this.testAndCheck(shape, "1 PM", false);
+    }
+
+    @Test
+    public void testDoubledQuote() {
+        final DateTimeFormatterConverterShape shape = this.shape("HH''mm");
+
+        this.testAndCheck(shape, "12'58", true);
+        this.testAndCheck(shape, "12:58", false);
+    }
+
+    @Test
+    public void testOptional() {
+        final DateTimeFormatterConverterShape shape = this.shape("yyyy-MM-dd[ HH:mm]");
+
+        this.testAndCheck(shape, "2000-12-31", true);
+        this.testAndCheck(shape, "2000-12-31 12:58", true);
+        this.testAndCheck(shape, "2000-12-31 12:58:59 is a very long text", false);
+    }
+
+    @Test
+    public void testZoneAcceptsAny() {
+        this.testAndCheck(this.shape("yyyy-MM-dd VV"), "Hello", true);
+    }
+
+    @Test
+    public void testWeekBasedYearAcceptsAny() {
+        this.testAndCheck(this.shape("YYYY-ww"), "Hello", true);
+    }
+
+    private void testAndCheck(final DateTimeFormatterConverterShape shape,
+                              final String text,
+                              final boolean expected) {
+        this.checkEquals(
+                expected,
+                shape.test(text),
+                () -> shape + " " + text
+        );
+    }
+
+    /**
+     * Every text that the {@link DateTimeFormatter} parses must pass the shape.
+     */
+    @Test
+    public void testNeverRejectsParseable() {
+        int rejected = 0;
+
+        for (final Locale locale : LOCALES) {
+            final DateTimeContext context = context(locale);
+
+            for (final String pattern : PATTERNS) {
+                final DateTimeFormatterConverterShape shape = DateTimeFormatterConverterShape.with(
+                        pattern,
+                        context,
+                        '0'
+                );
+
+                for (final ResolverStyle resolverStyle : ResolverStyle.values()) {
+                    final DateTimeFormatter formatter = DateTimeFormatterConverterPattern.formatter(
+                            pattern,
+                            context
+                    ).withResolverStyle(resolverStyle);
+
+                    for (final String text : this.texts(formatter)) {
+                        final ParsePosition position = new ParsePosition(0);
+                        final boolean parsed = null != formatter.parseUnresolved(text, position) &&
+                                position.getErrorIndex() < 0 &&
+                                position.getIndex() == text.length();
+                        final boolean test = shape.test(text);
+                        if (parsed) {
+                            this.checkEquals(
+                                    true,
+                                    test,
+                                    () -> locale + " " + pattern + " " + shape + " " + text
+                            );
+                        }
+                        if (false == test) {
+                            rejected++;
+                        }
+                    }
+                }
+            }
+        }
+
+        this.checkNotEquals(0, rejected);
+    }
+
+    private List<String> texts(final DateTimeFormatter formatter) {
+        final List<String> texts = new ArrayList<>();
+        texts.add("");
+        texts.add("Hello");
+        texts.add("12");
+        texts.add("2000-12-31");
+        texts.add("31/12/2000");
+        texts.add("31 12 2000");
+
+        for (int i = 0; i < 24; i++) {
+            final String formatted;
+            try {
+                formatted = formatter.format(
+                        LocalDateTime.of(1999, 1, 1, 0, 0)
+                                .plusDays(17 * i)
+                                .plusHours(5 * i)
+                                .plusMinutes(7 * i)
+                                .plusSeconds(i)
+                );
+            } catch (final RuntimeException cannotFormat) {
+                break;
+            }
+            texts.add(formatted);
+            texts.add(formatted.toUpperCase(Locale.ROOT));
+            texts.add(formatted.toLowerCase(Locale.ROOT));
+            texts.add(formatted.substring(1));
+            texts.add(formatted.substring(0, formatted.length() - 1));
+            texts.add(formatted.replaceFirst("0", ""));
+            texts.add(formatted.replaceFirst("1", "11"));
+            texts.add("0" + formatted);
+            texts.add(formatted + " ");
+        }
+
+        return texts;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.shape("uuuu-MM-dd'T'HH:mm"),
+                "16..32 digits=12 [-] [-] [T] [:]"
+        );
+    }
+
+    @Test
+    public void testToStringNames() {
+        this.toStringAndCheck(
+                this.shape("a h"),
+                "4..2147483647 digits=1 [AM, PM] [ ]"
+        );
+    }
+
+    private DateTimeFormatterConverterShape shape(final String pattern) {
+        return DateTimeFormatterConverterShape.with(
+                pattern,
+                context(Locale.ENGLISH),
+                '0'
+        );
+    }
+
+    private static DateTimeContext context(final Locale locale) {
+        return DateTimeContexts.locale(
+                locale,
+                1900,
+                20,
+                LocalDateTime::now
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DateTimeFormatterConverterShape> type() {
+        return DateTimeFormatterConverterShape.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
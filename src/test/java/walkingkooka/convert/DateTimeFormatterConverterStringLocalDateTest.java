@@ -25,8 +25,12 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class DateTimeFormatterConverterStringLocalDateTest extends DateTimeFormatterConverterTestCase2<DateTimeFormatterConverterStringLocalDate<ConverterContext>, String, LocalDate> {
 
+    private final static String PATTERN = "dd MMMM yyyy";
+
     @Test
     public void testConvert2() {
         this.convertAndCheck(this.createConverter(DateTimeFormatter.ofPattern("yyyy MM dd")),
@@ -50,6 +54,116 @@ public final class DateTimeFormatterConverterStringLocalDateTest extends DateTim
                 this.converted());
     }
 
+    @Test
+    public void testInterleavedLocalesKeepResolver() {
+        final DateTimeFormatterConverterStringLocalDate<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        final DateTimeFormatterConverterResolver resolver = converter.cache.cached(context)
+                .resolver();
+
+        this.convertAndCheck2(converter,
+                "31 Dezember 2000",
+                this.createContext2(),
+                this.converted());
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+
+        assertSame(resolver, converter.cache.cached(context).resolver());
+    }
+
+    @Test
+    public void testInterleavedLocalesKeepShape() {
+        final DateTimeFormatterConverterStringLocalDate<ConverterContext> converter = DateTimeFormatterConverterStringLocalDate.with(PATTERN);
+        final ConverterContext context = this.createContext();
+        final ConverterContext context2 = this.createContext2();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.convertAndCheck2(converter,
+                "31 Dezember 2000",
+                context2,
+                this.converted());
+
+        final DateTimeFormatterConverterShape shape = converter.cache.cached(context)
+                .shape(PATTERN, context);
+        this.checkEquals(false, converter.canConvert("Hello", LocalDate.class, context2));
+        this.checkEquals(false, converter.canConvert("Hello", LocalDate.class, context));
+
+        assertSame(shape, converter.cache.cached(context).shape(PATTERN, context));
+    }
+
+    @Test
+    public void testWithPattern() {
+        this.convertAndCheck(
+                DateTimeFormatterConverterStringLocalDate.with(PATTERN),
+                this.source(),
+                LocalDate.class,
+                this.converted()
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFormatterTrue() {
+        final DateTimeFormatterConverterStringLocalDate<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                true,
+                converter.canConvert("Hello", LocalDate.class, context)
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFalse() {
+        final DateTimeFormatterConverterStringLocalDate<ConverterContext> converter = DateTimeFormatterConverterStringLocalDate.with(PATTERN);
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                false,
+                converter.canConvert("Hello", LocalDate.class, context)
+        );
+    }
+
+    @Test
+    public void testConvertTextFails() {
+        this.convertFails("Hello", LocalDate.class);
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(String.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(LocalDate.class);
+    }
+
     @Override
     protected DateTimeFormatterConverterStringLocalDate<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return DateTimeFormatterConverterStringLocalDate.with(formatter);
@@ -57,7 +171,7 @@ public final class DateTimeFormatterConverterStringLocalDateTest extends DateTim
 
     @Override
     DateTimeFormatter formatter() {
-        return DateTimeFormatter.ofPattern("dd MMMM yyyy");
+        return DateTimeFormatter.ofPattern(PATTERN);
     }
 
     @Override
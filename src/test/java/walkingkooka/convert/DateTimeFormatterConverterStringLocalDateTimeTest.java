@@ -29,6 +29,8 @@ import java.util.function.Function;
 
 public final class DateTimeFormatterConverterStringLocalDateTimeTest extends DateTimeFormatterConverterTestCase2<DateTimeFormatterConverterStringLocalDateTime<ConverterContext>, String, LocalDateTime> {
 
+    private final static String PATTERN = "HH mm ss yyyy MMMM dd";
+
     @Test
     public void testConvert2() {
         this.convertAndCheck(this.createConverter(DateTimeFormatter.ofPattern("yyyy MM dd HH mm ss")),
@@ -52,6 +54,59 @@ public final class DateTimeFormatterConverterStringLocalDateTimeTest extends Dat
                 this.converted());
     }
 
+    @Test
+    public void testWithPattern() {
+        this.convertAndCheck(
+                DateTimeFormatterConverterStringLocalDateTime.with(PATTERN),
+                this.source(),
+                LocalDateTime.class,
+                this.converted()
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFormatterTrue() {
+        final DateTimeFormatterConverterStringLocalDateTime<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                true,
+                converter.canConvert("Hello", LocalDateTime.class, context)
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFalse() {
+        final DateTimeFormatterConverterStringLocalDateTime<ConverterContext> converter = DateTimeFormatterConverterStringLocalDateTime.with(PATTERN);
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                false,
+                converter.canConvert("Hello", LocalDateTime.class, context)
+        );
+    }
+
+    @Test
+    public void testConvertTextFails() {
+        this.convertFails("Hello", LocalDateTime.class);
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     @Override
     protected DateTimeFormatterConverterStringLocalDateTime<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return DateTimeFormatterConverterStringLocalDateTime.with(formatter);
@@ -59,7 +114,7 @@ public final class DateTimeFormatterConverterStringLocalDateTimeTest extends Dat
 
     @Override
     DateTimeFormatter formatter() {
-        return DateTimeFormatter.ofPattern("HH mm ss yyyy MMMM dd");
+        return DateTimeFormatter.ofPattern(PATTERN);
     }
 
     @Override
@@ -27,6 +27,8 @@ import java.util.function.Function;
 
 public final class DateTimeFormatterConverterStringLocalTimeTest extends DateTimeFormatterConverterTestCase2<DateTimeFormatterConverterStringLocalTime<ConverterContext>, String, LocalTime> {
 
+    private final static String PATTERN = "a ss mm HH";
+
     @Test
     public void testConvert2() {
         this.convertAndCheck(this.createConverter(DateTimeFormatter.ofPattern("ss HH mm")),
@@ -50,6 +52,59 @@ public final class DateTimeFormatterConverterStringLocalTimeTest extends DateTim
                 this.converted());
     }
 
+    @Test
+    public void testWithPattern() {
+        this.convertAndCheck(
+                DateTimeFormatterConverterStringLocalTime.with(PATTERN),
+                this.source(),
+                LocalTime.class,
+                this.converted()
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFormatterTrue() {
+        final DateTimeFormatterConverterStringLocalTime<ConverterContext> converter = this.createConverter();
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                true,
+                converter.canConvert("Hello", LocalTime.class, context)
+        );
+    }
+
+    @Test
+    public void testCanConvertTextFalse() {
+        final DateTimeFormatterConverterStringLocalTime<ConverterContext> converter = DateTimeFormatterConverterStringLocalTime.with(PATTERN);
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck2(converter,
+                this.source(),
+                context,
+                this.converted());
+        this.checkEquals(
+                false,
+                converter.canConvert("Hello", LocalTime.class, context)
+        );
+    }
+
+    @Test
+    public void testConvertTextFails() {
+        this.convertFails("Hello", LocalTime.class);
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     @Override
     protected DateTimeFormatterConverterStringLocalTime<ConverterContext> createConverter(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return DateTimeFormatterConverterStringLocalTime.with(formatter);
@@ -57,7 +112,7 @@ public final class DateTimeFormatterConverterStringLocalTimeTest extends DateTim
 
     @Override
     DateTimeFormatter formatter() {
-        return DateTimeFormatter.ofPattern("a ss mm HH");
+        return DateTimeFormatter.ofPattern(PATTERN);
     }
 
     @Override
@@ -19,9 +19,12 @@ package walkingkooka.convert;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.datetime.DateTimeContext;
+import walkingkooka.datetime.DateTimeContexts;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DecimalStyle;
+import java.util.List;
 import java.util.Locale;
 import java.util.function.Function;
 
@@ -65,6 +68,40 @@ public abstract class DateTimeFormatterConverterTestCase2<C extends DateTimeForm
         this.convertAndCheck(converter, source, targetType, context, converted);
     }
 
+    @Test
+    public final void testConvertInterleavedLocalesCached() {
+        final C converter = this.createConverter();
+        final S source = this.source();
+        final Class<T> targetType = this.targetType();
+        final ConverterContext context = this.createContext();
+        final T converted = this.converted();
+
+        this.convertAndCheck(converter, source, targetType, context, converted);
+        converter.convert(source, targetType, this.createContext2());
+        this.convertAndCheck(converter, source, targetType, context, converted);
+
+        this.checkEquals(2, converter.cache.size(), "size");
+        this.checkEquals(1L, converter.cache.hits(), "hits");
+        this.checkEquals(2L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public final void testCacheStatistics() {
+        final C converter = this.createConverter();
+        final S source = this.source();
+        final Class<T> targetType = this.targetType();
+        final ConverterContext context = this.createContext();
+
+        converter.convert(source, targetType, context);
+        converter.convert(source, targetType, this.createContext2());
+        converter.convert(source, targetType, context);
+
+        this.checkEquals(
+                ConverterCacheStatistics.with(2, 1, 2, 0),
+                converter.cacheStatistics()
+        );
+    }
+
     @Override
     public final C createConverter() {
         return this.createConverter(this.formatter());
@@ -114,9 +151,40 @@ public abstract class DateTimeFormatterConverterTestCase2<C extends DateTimeForm
 
     final ConverterContext createContext(final Locale locale, final int twoDigitYears) {
         final DecimalStyle decimalStyle = DecimalStyle.of(locale);
+        final DateTimeContext dateTimeContext = DateTimeContexts.locale(
+                locale,
+                1900,
+                twoDigitYears,
+                LocalDateTime::now
+        );
 
         return new FakeConverterContext() {
 
+            @Override
+            public List<String> ampms() {
+                return dateTimeContext.ampms();
+            }
+
+            @Override
+            public List<String> monthNames() {
+                return dateTimeContext.monthNames();
+            }
+
+            @Override
+            public List<String> monthNameAbbreviations() {
+                return dateTimeContext.monthNameAbbreviations();
+            }
+
+            @Override
+            public List<String> weekDayNames() {
+                return dateTimeContext.weekDayNames();
+            }
+
+            @Override
+            public List<String> weekDayNameAbbreviations() {
+                return dateTimeContext.weekDayNameAbbreviations();
+            }
+
             @Override
             public char decimalSeparator() {
                 return decimalStyle.getDecimalSeparator();
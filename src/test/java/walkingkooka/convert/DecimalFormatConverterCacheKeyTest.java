@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+import java.util.Locale;
+
+public final class DecimalFormatConverterCacheKeyTest implements ClassTesting2<DecimalFormatConverterCacheKey>,
+        HashCodeEqualsDefinedTesting2<DecimalFormatConverterCacheKey>,
+        ToStringTesting<DecimalFormatConverterCacheKey> {
+
+    @Test
+    public void testWith() {
+        final DecimalFormatConverterCacheKey key = this.createObject();
+        this.checkEquals(Locale.UK, key.locale, "locale");
+        this.checkEquals("C", key.currencySymbol, "currencySymbol");
+        this.checkEquals('D', key.decimalSeparator, "decimalSeparator");
+        this.checkEquals("E", key.exponentSymbol, "exponentSymbol");
+        this.checkEquals('G', key.groupingSeparator, "groupingSeparator");
+        this.checkEquals('N', key.negativeSign, "negativeSign");
+        this.checkEquals('R', key.percentageSymbol, "percentageSymbol");
+    }
+
+    @Test
+    public void testEqualsDifferentLocale() {
+        this.checkNotEquals(key("C", 'D', "E", 'G', 'N', 'R', Locale.FRANCE));
+    }
+
+    @Test
+    public void testEqualsDifferentCurrencySymbol() {
+        this.checkNotEquals(key("c", 'D', "E", 'G', 'N', 'R', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentDecimalSeparator() {
+        this.checkNotEquals(key("C", 'd', "E", 'G', 'N', 'R', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentExponentSymbol() {
+        this.checkNotEquals(key("C", 'D', "e", 'G', 'N', 'R', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentGroupingSeparator() {
+        this.checkNotEquals(key("C", 'D', "E", 'g', 'N', 'R', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentNegativeSign() {
+        this.checkNotEquals(key("C", 'D', "E", 'G', 'n', 'R', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentPercentageSymbol() {
+        this.checkNotEquals(key("C", 'D', "E", 'G', 'N', 'r', Locale.UK));
+    }
+
+    @Test
+    public void testEqualsDifferentContextSameSymbols() {
+        final DecimalFormatConverterCacheKey key = this.createObject();
+        final DecimalFormatConverterCacheKey other = this.createObject();
+
+        this.checkEquals(key, other);
+        this.checkEquals(key.hashCode(), other.hashCode(), "hashCode");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "en_GB C D E G N R");
+    }
+
+    @Override
+    public DecimalFormatConverterCacheKey createObject() {
+        return key("C", 'D', "E", 'G', 'N', 'R', Locale.UK);
+    }
+
+    private static DecimalFormatConverterCacheKey key(final String currencySymbol,
+                                                      final char decimalSeparator,
+                                                      final String exponentSymbol,
+                                                      final char groupingSeparator,
+                                                      final char negativeSign,
+                                                      final char percentageSymbol,
+                                                      final Locale locale) {
+        return DecimalFormatConverterCacheKey.with(
+                ConverterContexts.basic(
+                        Converters.fake(),
+                        DateTimeContexts.fake(),
+                        DecimalNumberContexts.basic(
+                                currencySymbol,
+                                decimalSeparator,
+                                exponentSymbol,
+                                groupingSeparator,
+                                negativeSign,
+                                percentageSymbol,
+                                '+',
+                                locale,
+                                MathContext.DECIMAL32
+                        )
+                )
+        );
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<DecimalFormatConverterCacheKey> type() {
+        return DecimalFormatConverterCacheKey.class;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DecimalFormat;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class DecimalFormatConverterCachePoolTest implements ClassTesting2<DecimalFormatConverterCachePool<?>>,
+        ToStringTesting<DecimalFormatConverterCachePool<?>> {
+
+    @Test
+    public void testWith() {
+        final DecimalFormatConverterCachePool<String> pool = DecimalFormatConverterCachePool.with("compiled");
+        this.checkEquals("compiled", pool.compiled, "compiled");
+        this.checkEquals(0, pool.idleCount(), "idle");
+        this.checkEquals(null, pool.borrow(), "borrow");
+    }
+
+    @Test
+    public void testReleaseBorrow() {
+        final DecimalFormatConverterCachePool<String> pool = DecimalFormatConverterCachePool.with("compiled");
+        final DecimalFormat decimalFormat = new DecimalFormat();
+
+        pool.release(decimalFormat);
+        this.checkEquals(1, pool.idleCount(), "idle");
+        assertSame(decimalFormat, pool.borrow());
+        this.checkEquals(null, pool.borrow(), "borrowed twice");
+    }
+
+    @Test
+    public void testReleaseDiscardsWhenFull() {
+        final DecimalFormatConverterCachePool<String> pool = DecimalFormatConverterCachePool.with("compiled");
+        for (int i = 0; i < DecimalFormatConverterCache.MAX_IDLE + 1; i++) {
+            pool.release(new DecimalFormat());
+        }
+        this.checkEquals(DecimalFormatConverterCache.MAX_IDLE, pool.idleCount());
+    }
+
+    @Test
+    public void testToString() {
+        final DecimalFormatConverterCachePool<String> pool = DecimalFormatConverterCachePool.with("compiled");
+        pool.release(new DecimalFormat());
+
+        this.toStringAndCheck(pool, "1 idle compiled");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatConverterCachePool<?>> type() {
+        return Cast.to(DecimalFormatConverterCachePool.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
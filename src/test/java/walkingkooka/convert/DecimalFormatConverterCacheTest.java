@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalFormatConverterCacheTest implements ClassTesting2<DecimalFormatConverterCache<?>>,
+        ToStringTesting<DecimalFormatConverterCache<?>> {
+
+    private final static DecimalFormatConverterCacheKey UK = key(Locale.UK);
+    private final static DecimalFormatConverterCacheKey FRANCE = key(Locale.FRANCE);
+    private final static DecimalFormatConverterCacheKey GERMANY = key(Locale.GERMANY);
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> DecimalFormatConverterCache.with(0));
+    }
+
+    @Test
+    public void testWithNegativeSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> DecimalFormatConverterCache.with(-1));
+    }
+
+    @Test
+    public void testBorrowEmpty() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        this.checkEquals(null, borrow(cache, UK));
+        this.countersAndCheck(cache, 0, 0, 1);
+    }
+
+    @Test
+    public void testBorrowReleaseBorrow() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        final DecimalFormat decimalFormat = new DecimalFormat();
+
+        release(cache, UK, decimalFormat);
+        assertSame(decimalFormat, borrow(cache, UK));
+        this.checkEquals(null, borrow(cache, UK), "borrowed twice");
+        this.countersAndCheck(cache, 1, 1, 1);
+    }
+
+    @Test
+    public void testBorrowDifferentKey() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        release(cache, UK, new DecimalFormat());
+
+        this.checkEquals(null, borrow(cache, FRANCE));
+        this.countersAndCheck(cache, 1, 0, 1);
+    }
+
+    @Test
+    public void testReleaseDiscardsAfterMaxIdle() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        for (int i = 0; i < DecimalFormatConverterCache.MAX_IDLE + 1; i++) {
+            release(cache, UK, new DecimalFormat());
+        }
+        for (int i = 0; i < DecimalFormatConverterCache.MAX_IDLE; i++) {
+            this.checkNotEquals(null, borrow(cache, UK));
+        }
+        this.checkEquals(null, borrow(cache, UK));
+    }
+
+    @Test
+    public void testReleaseEvictsLeastRecentlyUsed() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        final DecimalFormat uk = new DecimalFormat();
+
+        release(cache, UK, uk);
+        release(cache, FRANCE, new DecimalFormat());
+
+        // touch uk so france becomes the eldest
+        assertSame(uk, borrow(cache, UK));
+        release(cache, UK, uk);
+
+        release(cache, GERMANY, new DecimalFormat());
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals(null, borrow(cache, FRANCE), "france should have been evicted");
+        assertSame(uk, borrow(cache, UK));
+    }
+
+    @Test
+    public void testStatistics() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        borrow(cache, UK);
+        release(cache, UK, new DecimalFormat());
+        borrow(cache, UK);
+        release(cache, FRANCE, new DecimalFormat());
+        release(cache, GERMANY, new DecimalFormat());
+
+        this.checkEquals(
+                ConverterCacheStatistics.with(2, 1, 1, 1),
+                cache.statistics()
+        );
+    }
+
+    @Test
+    public void testWithNullCompilerFails() {
+        assertThrows(NullPointerException.class, () -> DecimalFormatConverterCache.with(2, null));
+    }
+
+    @Test
+    public void testCompiledNone() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2, (d) -> "compiled");
+        this.checkEquals(null, compiled(cache, UK));
+        this.countersAndCheck(cache, 0, 0, 0);
+    }
+
+    @Test
+    public void testCompiledAfterFirstRelease() {
+        final List<DecimalFormat> compiled = Lists.array();
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(
+                2,
+                (d) -> {
+                    compiled.add(d);
+                    return d.toPattern();
+                }
+        );
+
+        final DecimalFormat decimalFormat = new DecimalFormat("#.00");
+        release(cache, UK, decimalFormat);
+        release(cache, UK, new DecimalFormat("#.000"));
+
+        this.checkEquals("#.00", compiled(cache, UK));
+        this.checkEquals(null, compiled(cache, FRANCE));
+        this.checkEquals(Lists.of(decimalFormat), compiled);
+    }
+
+    @Test
+    public void testCompiledNull() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2, (d) -> null);
+        release(cache, UK, new DecimalFormat());
+
+        this.checkEquals(null, compiled(cache, UK));
+        assertNotNull(borrow(cache, UK));
+    }
+
+    @Test
+    public void testCompiledEvicted() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2, DecimalFormat::toPattern);
+        release(cache, UK, new DecimalFormat("#.0"));
+        release(cache, FRANCE, new DecimalFormat("#.00"));
+
+        this.checkEquals("#.0", compiled(cache, UK)); // UK is now most recently used
+        release(cache, GERMANY, new DecimalFormat("#.000"));
+
+        this.checkEquals("#.0", compiled(cache, UK));
+        this.checkEquals(null, compiled(cache, FRANCE), "france should have been evicted");
+        this.checkEquals("#.000", compiled(cache, GERMANY));
+    }
+
+    @Test
+    public void testReleaseReturnsPool() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        final DecimalFormatConverterCachePool<String> pool = cache.release(UK, null, new DecimalFormat());
+
+        assertSame(pool, cache.pool(UK));
+        assertSame(pool, cache.release(UK, pool, new DecimalFormat()));
+    }
+
+    @Test
+    public void testReleaseCompilesOutsideLock() {
+        final List<DecimalFormatConverterCache<String>> caches = Lists.array();
+        final boolean[] locked = new boolean[1];
+
+        caches.add(
+                DecimalFormatConverterCache.with(
+                        2,
+                        (d) -> {
+                            // another thread can only find a pool while the lock is free
+                            final Thread thread = new Thread(() -> caches.get(0).pool(FRANCE));
+                            thread.start();
+                            try {
+                                thread.join(10000);
+                            } catch (final InterruptedException cause) {
+                                throw new IllegalStateException(cause);
+                            }
+                            locked[0] = thread.isAlive();
+                            return "compiled";
+                        }
+                )
+        );
+
+        this.checkEquals("compiled", release(caches.get(0), UK, new DecimalFormat()).compiled);
+        this.checkEquals(false, locked[0], "locked while compiling");
+    }
+
+    private static <F> DecimalFormat borrow(final DecimalFormatConverterCache<F> cache,
+                                            final DecimalFormatConverterCacheKey key) {
+        return cache.borrow(cache.pool(key));
+    }
+
+    private static <F> DecimalFormatConverterCachePool<F> release(final DecimalFormatConverterCache<F> cache,
+                                                                  final DecimalFormatConverterCacheKey key,
+                                                                  final DecimalFormat decimalFormat) {
+        return cache.release(key, cache.pool(key), decimalFormat);
+    }
+
+    private static <F> F compiled(final DecimalFormatConverterCache<F> cache,
+                                  final DecimalFormatConverterCacheKey key) {
+        final DecimalFormatConverterCachePool<F> pool = cache.pool(key);
+        return null != pool ?
+                pool.compiled :
+                null;
+    }
+
+    private void countersAndCheck(final DecimalFormatConverterCache<?> cache,
+                                  final int size,
+                                  final long hits,
+                                  final long misses) {
+        this.checkEquals(size, cache.size(), "size");
+        this.checkEquals(hits, cache.hits(), "hits");
+        this.checkEquals(misses, cache.misses(), "misses");
+    }
+
+    @Test
+    public void testToString() {
+        final DecimalFormatConverterCache<String> cache = DecimalFormatConverterCache.with(2);
+        release(cache, UK, new DecimalFormat());
+        borrow(cache, UK);
+        borrow(cache, UK);
+
+        this.toStringAndCheck(cache, "[en_GB C D E G N R] hits=1 misses=1");
+    }
+
+    private static DecimalFormatConverterCacheKey key(final Locale locale) {
+        return DecimalFormatConverterCacheKey.with(
+                ConverterContexts.basic(
+                        Converters.fake(),
+                        DateTimeContexts.fake(),
+                        DecimalNumberContexts.basic(
+                                "C",
+                                'D',
+                                "E",
+                                'G',
+                                'N',
+                                'R',
+                                '+',
+                                locale,
+                                MathContext.DECIMAL32
+                        )
+                )
+        );
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public Class<DecimalFormatConverterCache<?>> type() {
+        return Cast.to(DecimalFormatConverterCache.class);
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class DecimalFormatConverterNumberStringFormatterTest implements ClassTesting2<DecimalFormatConverterNumberStringFormatter> {
+
+    private final static String[] PATTERNS = {
+            "#",
+            "0",
+            "#.###",
+            "#.000",
+            "000.00",
+            ".##",
+            "#.",
+            "#,##0.00",
+            "#,##0.###",
+            "#,####",
+            "#,##0.#;(#,##0.#)",
+            "#%",
+            "#,##0.0%",
+            "#\u2030",
+            "$ #,##0.00",
+            "#,##0.00 kg",
+            "'#'#,##0.#",
+            "#;#"
+    };
+
+    private final static RoundingMode[] ROUNDING_MODES = {
+            RoundingMode.HALF_EVEN,
+            RoundingMode.HALF_UP,
+            RoundingMode.HALF_DOWN,
+            RoundingMode.UP,
+            RoundingMode.DOWN,
+            RoundingMode.CEILING,
+            RoundingMode.FLOOR
+    };
+
+    // isExponentOrCurrency.............................................................................................
+
+    @Test
+    public void testIsExponentOrCurrencyWithout() {
+        this.isExponentOrCurrencyAndCheck("#,##0.00", false);
+    }
+
+    @Test
+    public void testIsExponentOrCurrencyExponent() {
+        this.isExponentOrCurrencyAndCheck("0.###E00", true);
+    }
+
+    @Test
+    public void testIsExponentOrCurrencyQuotedE() {
+        this.isExponentOrCurrencyAndCheck("'E'0.#'E'", false);
+    }
+
+    @Test
+    public void testIsExponentOrCurrencyNegativeSubpattern() {
+        this.isExponentOrCurrencyAndCheck("0.#;(0.#E0)", true);
+    }
+
+    @Test
+    public void testIsExponentOrCurrencyCurrency() {
+        this.isExponentOrCurrencyAndCheck("\u00A4#,##0.00", true);
+    }
+
+    private void isExponentOrCurrencyAndCheck(final String pattern,
+                                              final boolean expected) {
+        this.checkEquals(
+                expected,
+                DecimalFormatConverterNumberStringFormatter.isExponentOrCurrency(pattern),
+                pattern
+        );
+    }
+
+    // compile..........................................................................................................
+
+    @Test
+    public void testCompileCurrencyPattern() {
+        this.compileAndCheck(this.decimalFormat("\u00A4#,##0.00", Locale.UK), false);
+    }
+
+    @Test
+    public void testCompileExponentPattern() {
+        this.compileAndCheck(this.decimalFormat("0.000E0", Locale.UK), false);
+    }
+
+    @Test
+    public void testCompileRoundingModeUnnecessary() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#.##", Locale.UK);
+        decimalFormat.setRoundingMode(RoundingMode.UNNECESSARY);
+        this.compileAndCheck(decimalFormat, false);
+    }
+
+    @Test
+    public void testCompileMaximumIntegerDigits() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#.##", Locale.UK);
+        decimalFormat.setMaximumIntegerDigits(2);
+        this.compileAndCheck(decimalFormat, false);
+    }
+
+    @Test
+    public void testCompile() {
+        for (final String pattern : PATTERNS) {
+            this.compileAndCheck(this.decimalFormat(pattern, Locale.UK), true);
+        }
+    }
+
+    private void compileAndCheck(final DecimalFormat decimalFormat,
+                                 final boolean expected) {
+        this.checkEquals(
+                expected,
+                null != DecimalFormatConverterNumberStringFormatter.compile(decimalFormat),
+                decimalFormat::toPattern
+        );
+    }
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatLong() {
+        this.formatAndCheck("#,##0.00", 1234567L, "1,234,567.00");
+    }
+
+    @Test
+    public void testFormatNegativeInteger() {
+        this.formatAndCheck("#,##0", -1234, "-1,234");
+    }
+
+    @Test
+    public void testFormatLongMinValue() {
+        this.formatAndCheck("#,##0", Long.MIN_VALUE, "-9,223,372,036,854,775,808");
+    }
+
+    @Test
+    public void testFormatLongPercentOverflows() {
+        this.formatAndCheck("#%", Long.MAX_VALUE, "922337203685477580700%");
+    }
+
+    @Test
+    public void testFormatWholeDouble() {
+        this.formatAndCheck("#,##0.00", 1234.0, "1,234.00");
+    }
+
+    @Test
+    public void testFormatDoublePercent() {
+        this.formatAndCheck("#.#%", 0.25, "25%");
+    }
+
+    @Test
+    public void testFormatNegativeZero() {
+        this.formatAndCheck("#.##", -0.0, "-0");
+    }
+
+    @Test
+    public void testFormatBigDecimal() {
+        this.formatAndCheck("#,##0.00", new BigDecimal("-1234.565"), "-1,234.56");
+    }
+
+    @Test
+    public void testFormatBigDecimalLeadingFractionZeros() {
+        this.formatAndCheck("#.#####", new BigDecimal("0.00123"), "0.00123");
+    }
+
+    @Test
+    public void testFormatBigDecimalRoundHalfEven() {
+        this.formatAndCheck("#.#", new BigDecimal("0.25"), "0.2");
+    }
+
+    @Test
+    public void testFormatBigInteger() {
+        this.formatAndCheck("#,##0", new BigInteger("123456789012345678901234567890"), "123,456,789,012,345,678,901,234,567,890");
+    }
+
+    @Test
+    public void testFormatNegativeSubpattern() {
+        this.formatAndCheck("#,##0.00;(#,##0.00)", new BigDecimal("-1234.5"), "(1,234.50)");
+    }
+
+    @Test
+    public void testFormatSuffix() {
+        this.formatAndCheck("#,##0.00 kg", 12, "12.00 kg");
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final Number number,
+                                final String expected) {
+        final DecimalFormat decimalFormat = this.decimalFormat(pattern, Locale.UK);
+
+        this.checkEquals(
+                expected,
+                DecimalFormatConverterNumberStringFormatter.compile(decimalFormat)
+                        .format(number),
+                () -> pattern + " " + number
+        );
+        this.checkEquals(
+                expected,
+                decimalFormat.format(number),
+                () -> "DecimalFormat " + pattern + " " + number
+        );
+    }
+
+    @Test
+    public void testFormatFractionDoubleUnsupported() {
+        this.formatUnsupportedAndCheck(1234.5);
+    }
+
+    @Test
+    public void testFormatFloatUnsupported() {
+        this.formatUnsupportedAndCheck(0.5f);
+    }
+
+    @Test
+    public void testFormatNaNUnsupported() {
+        this.formatUnsupportedAndCheck(Double.NaN);
+    }
+
+    @Test
+    public void testFormatInfinityUnsupported() {
+        this.formatUnsupportedAndCheck(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    public void testFormatLargeDoubleUnsupported() {
+        this.formatUnsupportedAndCheck(1.0E20);
+    }
+
+    @Test
+    public void testFormatBelowLastFractionDigitUnsupported() {
+        this.formatUnsupportedAndCheck(new BigDecimal("-0.005"));
+    }
+
+    private void formatUnsupportedAndCheck(final Number number) {
+        this.checkEquals(
+                null,
+                DecimalFormatConverterNumberStringFormatter.compile(this.decimalFormat("#,##0.00", Locale.UK))
+                        .format(number),
+                () -> String.valueOf(number)
+        );
+    }
+
+    // differential.....................................................................................................
+
+    /**
+     * Formats boundary and random numbers of every type with the {@link DecimalFormat} and the compiled formatter for
+     * every pattern, several locales and every rounding mode, which must produce the same text whenever the formatter
+     * does not decline.
+     */
+    @Test
+    public void testFormatSameAsDecimalFormat() {
+        final Random random = new Random(1);
+        final List<Number> boundaries = this.boundaryNumbers();
+
+        int formatted = 0;
+        int declined = 0;
+
+        for (final DecimalFormatSymbols symbols : this.symbols()) {
+            for (final String pattern : PATTERNS) {
+                for (final RoundingMode roundingMode : ROUNDING_MODES) {
+                    final DecimalFormat decimalFormat = this.decimalFormat(pattern, symbols);
+                    decimalFormat.setRoundingMode(roundingMode);
+
+                    final DecimalFormatConverterNumberStringFormatter formatter = DecimalFormatConverterNumberStringFormatter.compile(decimalFormat);
+                    this.checkNotEquals(null, formatter);
+
+                    final List<Number> numbers = Lists.array();
+                    numbers.addAll(boundaries);
+                    for (int i = 0; i < 500; i++) {
+                        numbers.add(this.randomNumber(random));
+                    }
+
+                    for (final Number number : numbers) {
+                        final String text = formatter.format(number);
+                        if (null != text) {
+                            this.checkEquals(
+                                    decimalFormat.format(number),
+                                    text,
+                                    () -> "" + symbols.getZeroDigit() + symbols.getGroupingSeparator() + symbols.getDecimalSeparator() + " " + pattern + " " + roundingMode + " " + number + " " + number.getClass().getSimpleName()
+                            );
+                            formatted++;
+                        } else {
+                            declined++;
+                        }
+                    }
+                }
+            }
+        }
+
+        final String counts = "formatted " + formatted + " declined " + declined;
+        this.checkEquals(
+                true,
+                formatted > declined,
+                counts
+        );
+    }
+
+    private List<DecimalFormatSymbols> symbols() {
+        final List<DecimalFormatSymbols> symbols = Lists.array();
+        for (final Locale locale : new Locale[]{
+                Locale.UK,
+                Locale.GERMANY,
+                Locale.FRANCE,
+                new Locale("de", "CH"),
+                new Locale("ar", "EG"),
+                new Locale("hi", "IN")
+        }) {
+            symbols.add(DecimalFormatSymbols.getInstance(locale));
+        }
+        symbols.add(this.customSymbols());
+        return symbols;
+    }
+
+    /**
+     * Numbers either side of and exactly on rounding boundaries, zeros and the limits of each type.
+     */
+    private List<Number> boundaryNumbers() {
+        final List<Number> numbers = Lists.array();
+
+        for (final String text : new String[]{
+                "0", "-0", "0.5", "-0.5", "1.5", "-1.5", "2.5", "-2.5",
+                "0.05", "0.15", "0.25", "-0.25", "0.0005", "-0.0005", "0.00049", "-0.00051",
+                "0.125", "0.135", "-0.135", "0.9995", "9.9995", "-9.9995", "999.9995", "0.001", "-0.001",
+                "1234567.125", "-1234567.875", "0.0000001", "1E+3", "1.5E+20", "-123456789012345678901234.5"
+        }) {
+            final BigDecimal bigDecimal = new BigDecimal(text);
+            numbers.add(bigDecimal);
+            numbers.add(bigDecimal.doubleValue());
+            numbers.add(bigDecimal.floatValue());
+        }
+
+        numbers.add(-0.0);
+        numbers.add(-0.0f);
+        numbers.add(0L);
+        numbers.add(Long.MAX_VALUE);
+        numbers.add(Long.MIN_VALUE);
+        numbers.add(Integer.MIN_VALUE);
+        numbers.add(Short.MIN_VALUE);
+        numbers.add(Byte.MIN_VALUE);
+        numbers.add(9007199254740991.0);
+        numbers.add(-9007199254740991.0);
+        numbers.add(9007199254740992.0);
+        numbers.add(new AtomicLong(-1234567));
+        numbers.add(new AtomicInteger(1234567));
+        numbers.add(BigInteger.TEN.pow(40).negate());
+
+        return numbers;
+    }
+
+    private Number randomNumber(final Random random) {
+        final Number number;
+
+        final int digits = 1 + random.nextInt(18);
+        final long unscaled = random.nextLong() % (long) Math.pow(10, digits);
+        final int scale = random.nextInt(12) - 4;
+
+        switch (random.nextInt(8)) {
+            case 0:
+                number = unscaled;
+                break;
+            case 1:
+                number = (int) unscaled;
+                break;
+            case 2:
+                number = BigDecimal.valueOf(unscaled, scale);
+                break;
+            case 3:
+                // values that land exactly on a rounding boundary
+                number = BigDecimal.valueOf(unscaled * 10 + 5, 1 + random.nextInt(6));
+                break;
+            case 4:
+                number = (double) (unscaled % 100000000);
+                break;
+            case 5:
+                number = BigInteger.valueOf(unscaled).multiply(BigInteger.TEN.pow(random.nextInt(24)));
+                break;
+            case 6:
+                number = BigDecimal.valueOf(unscaled, scale).doubleValue();
+                break;
+            default:
+                number = (short) unscaled;
+                break;
+        }
+        return number;
+    }
+
+    private DecimalFormatSymbols customSymbols() {
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.UK);
+        symbols.setDecimalSeparator(',');
+        symbols.setGroupingSeparator('.');
+        symbols.setMinusSign('~');
+        symbols.setPercent('P');
+        symbols.setPerMill('M');
+        symbols.setZeroDigit('\u0660');
+        return symbols;
+    }
+
+    private DecimalFormat decimalFormat(final String pattern,
+                                        final Locale locale) {
+        return this.decimalFormat(
+                pattern,
+                DecimalFormatSymbols.getInstance(locale)
+        );
+    }
+
+    private DecimalFormat decimalFormat(final String pattern,
+                                        final DecimalFormatSymbols symbols) {
+        return new DecimalFormat(pattern, symbols);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatConverterNumberStringFormatter> type() {
+        return DecimalFormatConverterNumberStringFormatter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -102,13 +102,77 @@ public final class DecimalFormatConverterNumberStringTest extends DecimalFormatC
                 "$ 1234,50");
     }
 
+    @Test
+    public void testCompiledFormatterSkipsDecimalFormat() {
+        final DecimalFormatConverterNumberString<ConverterContext> converter = this.createConverter("#,##0.00");
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, 1234567L, String.class, context, "1,234,567.00");
+        this.convertAndCheck(converter, -2.0, String.class, context, "-2.00");
+        this.convertAndCheck(converter, new BigDecimal("0.125"), String.class, context, "0.12");
+
+        this.checkNotEquals(null, converter.cache.pool(DecimalFormatConverterCacheKey.with(context)).compiled);
+        this.checkEquals(0L, converter.cache.hits(), "hits");
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public void testCompiledFormatterFractionDoubleUsesDecimalFormat() {
+        final DecimalFormatConverterNumberString<ConverterContext> converter = this.createConverter("#,##0.00");
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, -2.5, String.class, context, "-2.50");
+
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public void testCompiledFormatterLocaleSymbols() {
+        this.convertAndCheck2("#,##0.##%",
+                12345.678,
+                Locale.GERMANY,
+                "1.234.567,8%");
+    }
+
+    @Test
+    public void testCompiledFormatterExponent() {
+        this.convertAndCheck2("0.00E00",
+                -0.000123456,
+                "-1.23E-04");
+    }
+
     // ConverterTesting..................................................................................................
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(String.class);
+    }
+
     @Override
     DecimalFormatConverterNumberString<ConverterContext> createConverter(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
         return DecimalFormatConverterNumberString.with(decimalFormat);
     }
 
+    @Override
+    Object value(final ConverterContext context) {
+        return 123;
+    }
+
+    @Override
+    String uncompiledPattern() {
+        return "\u00A4#.000";
+    }
+
+    @Override
+    Class<?> targetType() {
+        return String.class;
+    }
+
     @Override
     public Class<DecimalFormatConverterNumberString<ConverterContext>> type() {
         return Cast.to(DecimalFormatConverterNumberString.class);
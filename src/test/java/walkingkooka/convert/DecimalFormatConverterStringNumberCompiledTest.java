@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public final class DecimalFormatConverterStringNumberCompiledTest implements ClassTesting2<DecimalFormatConverterStringNumberCompiled>,
+        ToStringTesting<DecimalFormatConverterStringNumberCompiled> {
+
+    @Test
+    public void testCompile() {
+        final DecimalFormatConverterStringNumberCompiled compiled = this.compile("#,##0.###");
+
+        assertNotNull(compiled.prefilter);
+        assertNotNull(compiled.parser);
+    }
+
+    @Test
+    public void testCompileCurrencyWithoutParser() {
+        final DecimalFormatConverterStringNumberCompiled compiled = this.compile("\u00A4#,##0.00");
+
+        assertNotNull(compiled.prefilter);
+        this.checkEquals(null, compiled.parser, "parser");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.compile("#.##"),
+                "#;-# NaN \u221E #;-#"
+        );
+    }
+
+    private DecimalFormatConverterStringNumberCompiled compile(final String pattern) {
+        final DecimalFormat decimalFormat = new DecimalFormat(
+                pattern,
+                DecimalFormatSymbols.getInstance(Locale.UK)
+        );
+        decimalFormat.setParseBigDecimal(true);
+
+        return DecimalFormatConverterStringNumberCompiled.compile(decimalFormat);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatConverterStringNumberCompiled> type() {
+        return DecimalFormatConverterStringNumberCompiled.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+public final class DecimalFormatConverterStringNumberParserTest implements ClassTesting2<DecimalFormatConverterStringNumberParser> {
+
+    private final static String[] PATTERNS = {
+            "#",
+            "0",
+            "#.###",
+            "#,##0.00",
+            "#,##0.###",
+            "0.000E0",
+            "##0.##E0",
+            "#%",
+            "#,##0.0%",
+            "#\u2030",
+            "$ #,##0.00",
+            "#,##0.00 kg",
+            "#,##0.00;(#,##0.00)",
+            "#;#"
+    };
+
+    // compile..........................................................................................................
+
+    @Test
+    public void testCompileCurrencyPattern() {
+        this.compileAndCheck(this.decimalFormat("\u00A4#,##0.00", Locale.UK), false);
+    }
+
+    @Test
+    public void testCompileParseIntegerOnly() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#,##0.00", Locale.UK);
+        decimalFormat.setParseIntegerOnly(true);
+        this.compileAndCheck(decimalFormat, false);
+    }
+
+    @Test
+    public void testCompileWithoutParseBigDecimal() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#,##0.00", Locale.UK);
+        decimalFormat.setParseBigDecimal(false);
+        this.compileAndCheck(decimalFormat, false);
+    }
+
+    @Test
+    public void testCompileZeroMultiplier() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#,##0.00", Locale.UK);
+        decimalFormat.setMultiplier(0);
+        this.compileAndCheck(decimalFormat, false);
+    }
+
+    @Test
+    public void testCompileLocalizedDigits() {
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.UK);
+        symbols.setZeroDigit('\u0660');
+        this.compileAndCheck(this.decimalFormat("#,##0.00", symbols), false);
+    }
+
+    @Test
+    public void testCompile() {
+        for (final String pattern : PATTERNS) {
+            this.compileAndCheck(this.decimalFormat(pattern, Locale.UK), true);
+        }
+    }
+
+    private void compileAndCheck(final DecimalFormat decimalFormat,
+                                 final boolean compiled) {
+        this.checkEquals(
+                compiled,
+                null != DecimalFormatConverterStringNumberParser.compile(decimalFormat),
+                decimalFormat::toPattern
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseInteger() {
+        this.parseAndCheck("#", "1234", "1234");
+    }
+
+    @Test
+    public void testParseDecimal() {
+        this.parseAndCheck("#.###", "1234.5", "1234.5");
+    }
+
+    @Test
+    public void testParseTrailingZeros() {
+        this.parseAndCheck("#.###", "1.500", "1.500");
+    }
+
+    @Test
+    public void testParseLeadingZeros() {
+        this.parseAndCheck("#.###", "000.0050", "0.0050");
+    }
+
+    @Test
+    public void testParseZeros() {
+        this.parseAndCheck("#.###", "0.00", "0.00");
+    }
+
+    @Test
+    public void testParseNegative() {
+        this.parseAndCheck("#,##0.###", "-1,234.5", "-1234.5");
+    }
+
+    @Test
+    public void testParseGrouping() {
+        this.parseAndCheck("#,##0.###", "1,2,34", "1234");
+    }
+
+    @Test
+    public void testParseExponent() {
+        this.parseAndCheck("#.###", "1.5E3", "1.5E3");
+    }
+
+    @Test
+    public void testParseNegativeExponent() {
+        this.parseAndCheck("#.###", "-15E-3", "-0.015");
+    }
+
+    @Test
+    public void testParsePercent() {
+        this.parseAndCheck("#%", "12.5%", "0.125");
+    }
+
+    @Test
+    public void testParsePerMille() {
+        this.parseAndCheck("#\u2030", "1\u2030", "0.001");
+    }
+
+    @Test
+    public void testParseNegativeSubpattern() {
+        this.parseAndCheck("#,##0.00;(#,##0.00)", "(1,234.50)", "-1234.50");
+    }
+
+    @Test
+    public void testParseSuffix() {
+        this.parseAndCheck("#,##0.00 kg", "12.5 kg", "12.5");
+    }
+
+    @Test
+    public void testParseFrenchSymbols() {
+        final DecimalFormat decimalFormat = this.decimalFormat("#,##0.###", Locale.FRANCE);
+        final String text = "-1" + decimalFormat.getDecimalFormatSymbols().getGroupingSeparator() + "234,5";
+
+        this.checkEquals(
+                new BigDecimal("-1234.5"),
+                DecimalFormatConverterStringNumberParser.compile(decimalFormat)
+                        .parse(text)
+        );
+    }
+
+    @Test
+    public void testParseCustomSymbols() {
+        this.checkEquals(
+                new BigDecimal("-1234.5E-2"),
+                DecimalFormatConverterStringNumberParser.compile(
+                        this.decimalFormat("#,##0.###%", this.customSymbols())
+                ).parse("~1.234,5x10^~0P")
+        );
+    }
+
+    @Test
+    public void testParseTrailingText() {
+        this.parseAndCheck("#", "12abc", null);
+    }
+
+    @Test
+    public void testParseTrailingGrouping() {
+        this.parseAndCheck("#,##0", "12,", null);
+    }
+
+    @Test
+    public void testParseGroupingAfterDecimal() {
+        this.parseAndCheck("#,##0.##", "1.2,3", null);
+    }
+
+    @Test
+    public void testParseInvalidExponent() {
+        this.parseAndCheck("#", "1E", null);
+    }
+
+    @Test
+    public void testParsePositiveExponent() {
+        this.parseAndCheck("#", "1E+2", null);
+    }
+
+    @Test
+    public void testParseEmpty() {
+        this.parseAndCheck("#", "", null);
+    }
+
+    @Test
+    public void testParseNaN() {
+        this.parseAndCheck("#", "NaN", null);
+    }
+
+    @Test
+    public void testParseInfinity() {
+        this.parseAndCheck("#", "\u221E", null);
+    }
+
+    @Test
+    public void testParseUnicodeDigits() {
+        this.parseAndCheck("#", "1\u0662", null);
+    }
+
+    @Test
+    public void testParseMissingPercent() {
+        this.parseAndCheck("#%", "12", null);
+    }
+
+    private void parseAndCheck(final String pattern,
+                               final String text,
+                               final String expected) {
+        final DecimalFormat decimalFormat = this.decimalFormat(pattern, Locale.UK);
+        final BigDecimal parsed = DecimalFormatConverterStringNumberParser.compile(decimalFormat)
+                .parse(text);
+
+        this.checkEquals(
+                null != expected ? new BigDecimal(expected) : null,
+                parsed,
+                () -> pattern + " " + text
+        );
+        if (null != parsed) {
+            this.checkEquals(
+                    decimalFormat.parse(text, new ParsePosition(0)),
+                    parsed,
+                    () -> "DecimalFormat " + pattern + " " + text
+            );
+        }
+    }
+
+    /**
+     * Parses many generated strings with the {@link DecimalFormat} and the compiled parser, which must either agree
+     * exactly including the scale or decline. Every text that the {@link DecimalFormat} parses entirely and is only
+     * made of digits, symbols and affixes must be accepted.
+     */
+    @Test
+    public void testParseSameAsDecimalFormat() {
+        final Random random = new Random(1);
+
+        for (final DecimalFormatSymbols symbols : new DecimalFormatSymbols[]{
+                DecimalFormatSymbols.getInstance(Locale.UK),
+                DecimalFormatSymbols.getInstance(Locale.GERMANY),
+                this.customSymbols()
+        }) {
+            for (final String pattern : PATTERNS) {
+                final DecimalFormat decimalFormat = this.decimalFormat(pattern, symbols);
+                final DecimalFormatConverterStringNumberParser parser = DecimalFormatConverterStringNumberParser.compile(decimalFormat);
+
+                final String[] alphabet = {
+                        "0",
+                        "1",
+                        "5",
+                        "9",
+                        "0",
+                        "7",
+                        String.valueOf(symbols.getDecimalSeparator()),
+                        String.valueOf(symbols.getGroupingSeparator()),
+                        String.valueOf(symbols.getMinusSign()),
+                        symbols.getExponentSeparator(),
+                        decimalFormat.getPositivePrefix(),
+                        decimalFormat.getPositiveSuffix(),
+                        decimalFormat.getNegativePrefix(),
+                        decimalFormat.getNegativeSuffix(),
+                        "x",
+                };
+
+                for (int i = 0; i < 20000; i++) {
+                    final StringBuilder b = new StringBuilder();
+                    final boolean affixes = random.nextBoolean();
+                    final boolean negative = random.nextBoolean();
+                    if (affixes) {
+                        b.append(negative ? decimalFormat.getNegativePrefix() : decimalFormat.getPositivePrefix());
+                    }
+                    final int length = random.nextInt(12);
+                    for (int j = 0; j < length; j++) {
+                        b.append(
+                                alphabet[random.nextInt(j > 1 && random.nextBoolean() ? alphabet.length : 6)]
+                        );
+                    }
+                    if (affixes) {
+                        b.append(negative ? decimalFormat.getNegativeSuffix() : decimalFormat.getPositiveSuffix());
+                    }
+
+                    final String text = b.toString();
+                    final ParsePosition position = new ParsePosition(0);
+                    final Number expected = decimalFormat.parse(text, position);
+                    final BigDecimal parsed = parser.parse(text);
+
+                    if (null != parsed) {
+                        this.checkEquals(
+                                expected,
+                                parsed,
+                                () -> pattern + " " + text
+                        );
+                        this.checkEquals(
+                                text.length(),
+                                position.getIndex(),
+                                () -> "DecimalFormat stopped early " + pattern + " " + text
+                        );
+                    } else {
+                        this.checkEquals(
+                                false,
+                                expected instanceof BigDecimal && text.length() == position.getIndex(),
+                                () -> "Parser declined " + pattern + " " + text + " DecimalFormat returned " + expected
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private DecimalFormatSymbols customSymbols() {
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.UK);
+        symbols.setDecimalSeparator(',');
+        symbols.setGroupingSeparator('.');
+        symbols.setMinusSign('~');
+        symbols.setExponentSeparator("x10^");
+        symbols.setPercent('P');
+        return symbols;
+    }
+
+    private DecimalFormat decimalFormat(final String pattern,
+                                        final Locale locale) {
+        return this.decimalFormat(
+                pattern,
+                DecimalFormatSymbols.getInstance(locale)
+        );
+    }
+
+    private DecimalFormat decimalFormat(final String pattern,
+                                        final DecimalFormatSymbols symbols) {
+        final DecimalFormat decimalFormat = new DecimalFormat(pattern, symbols);
+        decimalFormat.setParseBigDecimal(true);
+        return decimalFormat;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatConverterStringNumberParser> type() {
+        return DecimalFormatConverterStringNumberParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+public final class DecimalFormatConverterStringNumberPrefilterTest implements ClassTesting2<DecimalFormatConverterStringNumberPrefilter>,
+        ToStringTesting<DecimalFormatConverterStringNumberPrefilter> {
+
+    private final static String[] PATTERNS = {
+            "#",
+            "#,##0.###",
+            "0.000E0",
+            "#%",
+            "$ #,##0.00",
+            "#,##0.00 kg",
+            "#,##0.00;(#,##0.00)",
+            "\u00A4#,##0.00"
+    };
+
+    private final static String[] TEXT = {
+            "",
+            " ",
+            "abc",
+            "Hello World",
+            "-",
+            "+",
+            ".",
+            ",",
+            "%",
+            "$",
+            "E",
+            "(",
+            "kg",
+            "1",
+            "-1",
+            "1.5",
+            "1,234.5",
+            "abc1",
+            "$ 12",
+            "(12)",
+            "12 kg",
+            "1E3",
+            "NaN",
+            "NaNa",
+            "\u221E",
+            "-\u221E",
+            "$ \u221E",
+            "12abc",
+            "1-2-3",
+            "1.2.3",
+            "1.2,3",
+            "12 ",
+            "1,234",
+            "1,",
+            "12%",
+            "(12",
+            "12)",
+            "$12",
+            "1E",
+            "1E-3",
+            "-1E-3",
+            "1E3E3",
+            "-0",
+            "\u0661\u0662", // arabic-indic
+            "\u0967", // devanagari
+            "\uFF11", // fullwidth
+            "\u0661\u066B\u0665", // arabic-indic decimal
+            "1,5",
+            "1\u00A0234,5",
+            "1.234,5"
+    };
+
+    @Test
+    public void testDigit() {
+        this.testAndCheck("1", true);
+    }
+
+    @Test
+    public void testNegative() {
+        this.testAndCheck("-12.5", true);
+    }
+
+    @Test
+    public void testGrouping() {
+        this.testAndCheck("1,234.5", true);
+    }
+
+    @Test
+    public void testExponent() {
+        this.testAndCheck("1.5E-3", true);
+    }
+
+    @Test
+    public void testUnicodeDigit() {
+        this.testAndCheck("\u0661", true);
+    }
+
+    @Test
+    public void testNaN() {
+        this.testAndCheck("NaN", true);
+    }
+
+    @Test
+    public void testInfinity() {
+        this.testAndCheck("-\u221E", true);
+    }
+
+    @Test
+    public void testAffixes() {
+        this.testAndCheck("$ #,##0.00;($ #,##0.00)", "($ 1,234.50)", true);
+    }
+
+    @Test
+    public void testEmpty() {
+        this.testAndCheck("", false);
+    }
+
+    @Test
+    public void testText() {
+        this.testAndCheck("Hello World", false);
+    }
+
+    @Test
+    public void testSymbolsWithoutDigits() {
+        this.testAndCheck("-.,%E", false);
+    }
+
+    @Test
+    public void testNaNNotFirst() {
+        this.testAndCheck(" NaN", false);
+    }
+
+    @Test
+    public void testInfinityWithoutPrefix() {
+        this.testAndCheck("$ #,##0.00", "\u221E", false);
+    }
+
+    @Test
+    public void testPrefixWithoutDigits() {
+        this.testAndCheck("$ #,##0.00", "$ abc", false);
+    }
+
+    // DecimalFormat parses the leading number, so these were converted before the prefilter and still must pass.
+
+    @Test
+    public void testNaNTrailingText() {
+        this.testAndCheck("NaNa", true);
+    }
+
+    @Test
+    public void testTrailingText() {
+        this.testAndCheck("12abc", true);
+    }
+
+    @Test
+    public void testTrailingSpace() {
+        this.testAndCheck("12 ", true);
+    }
+
+    @Test
+    public void testMinusSignBetweenDigits() {
+        this.testAndCheck("1-2-3", true);
+    }
+
+    @Test
+    public void testGroupingAfterDecimalSeparator() {
+        this.testAndCheck("1.2,3", true);
+    }
+
+    @Test
+    public void testExponentWithoutDigits() {
+        this.testAndCheck("1E", true);
+    }
+
+    private void testAndCheck(final String text,
+                              final boolean expected) {
+        this.testAndCheck(
+                "#,##0.###",
+                text,
+                expected
+        );
+    }
+
+    private void testAndCheck(final String pattern,
+                              final String text,
+                              final boolean expected) {
+        this.checkEquals(
+                expected,
+                DecimalFormatConverterStringNumberPrefilter.with(
+                        new DecimalFormat(
+                                pattern,
+                                DecimalFormatSymbols.getInstance(Locale.UK)
+                        )
+                ).test(text),
+                () -> pattern + " " + text
+        );
+    }
+
+    /**
+     * Every text that a {@link DecimalFormat} parses, even partially, must pass the prefilter.
+     */
+    @Test
+    public void testNeverRejectsParseable() {
+        int parsed = 0;
+
+        for (final Locale locale : new Locale[]{Locale.UK, Locale.FRANCE, Locale.GERMANY, Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("hi-IN-u-nu-deva")}) {
+            final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+
+            for (final String pattern : PATTERNS) {
+                final DecimalFormat decimalFormat = new DecimalFormat(pattern, symbols);
+                decimalFormat.setParseBigDecimal(true);
+
+                final DecimalFormatConverterStringNumberPrefilter prefilter = DecimalFormatConverterStringNumberPrefilter.with(decimalFormat);
+
+                for (final String text : TEXT) {
+                    final ParsePosition position = new ParsePosition(0);
+                    final Number number = decimalFormat.parse(text, position);
+                    if (null != number) {
+                        this.checkEquals(
+                                true,
+                                prefilter.test(text),
+                                () -> locale + " " + pattern + " " + text + " parsed " + number
+                        );
+                        parsed++;
+                    }
+                }
+            }
+        }
+
+        this.checkEquals(true, parsed > 100, "parsed " + parsed);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                DecimalFormatConverterStringNumberPrefilter.with(
+                        new DecimalFormat(
+                                "$ #,##0.00;($ #,##0.00)",
+                                DecimalFormatSymbols.getInstance(Locale.UK)
+                        )
+                ),
+                "$ #;($ #) NaN \u221E"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatConverterStringNumberPrefilter> type() {
+        return DecimalFormatConverterStringNumberPrefilter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -24,6 +24,7 @@ import walkingkooka.math.DecimalNumberContext;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.function.Function;
 
@@ -122,13 +123,211 @@ public final class DecimalFormatConverterStringNumberTest extends DecimalFormatC
                 BigDecimal.valueOf(1.235));
     }
 
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList("1.5", "2", null, "abc", 3),
+                BigDecimal.class
+        );
+    }
+
+    @Test
+    public void testConvertAllInteger() {
+        this.convertAllAndCheck(
+                Arrays.asList("1.5", "2", "99999999999"),
+                Integer.class
+        );
+    }
+
+    @Test
+    public void testConvertAllSharesDecimalFormat() {
+        final DecimalFormatConverterStringNumber<ConverterContext> converter = this.createConverter();
+        converter.convertAll(
+                Arrays.asList("1", "2", "3"),
+                Long.class,
+                this.createContext(),
+                new Long[3],
+                new String[3]
+        );
+
+        this.checkEquals(1L, converter.cache.hits(), "hits");
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public void testCompiledParserSkipsDecimalFormat() {
+        final DecimalFormatConverterStringNumber<ConverterContext> converter = this.createConverter("#,##0.###");
+        final ConverterContext context = this.createContext();
+
+        this.convertAndCheck(converter, "1,234.5", BigDecimal.class, context, new BigDecimal("1234.5"));
+        this.convertAndCheck(converter, "-2.50", BigDecimal.class, context, new BigDecimal("-2.50"));
+        this.convertAndCheck(converter, "3", Integer.class, context, 3);
+
+        this.checkNotEquals(null, converter.cache.pool(DecimalFormatConverterCacheKey.with(context)).compiled);
+        this.checkEquals(0L, converter.cache.hits(), "hits");
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    // DecimalFormat parses a leading number and ignores the rest, which the prefilter must not change...............
+
+    @Test
+    public void testCompiledParserLeadingNumber() {
+        this.convertAndCheck2("#,##0.###",
+                "12abc",
+                BigDecimal.valueOf(12));
+    }
+
+    @Test
+    public void testCompiledParserTrailingSpace() {
+        this.convertAndCheck2("#,##0.###",
+                "12 ",
+                BigDecimal.valueOf(12));
+    }
+
+    @Test
+    public void testCompiledParserGroupingAfterDecimalSeparator() {
+        this.convertAndCheck2("#,##0.###",
+                "1.2,3",
+                BigDecimal.valueOf(1.2));
+    }
+
+    @Test
+    public void testCompiledParserMinusSignBetweenDigits() {
+        this.convertAndCheck2("#,##0.###",
+                "1-2-3",
+                BigDecimal.valueOf(1));
+    }
+
+    @Test
+    public void testCanConvertLeadingNumber() {
+        this.checkEquals(
+                true,
+                this.createConverter()
+                        .canConvert("12abc", BigDecimal.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testCompiledParserInvalidFails() {
+        this.convertFails(this.createConverter("#,##0.###"),
+                "abc",
+                BigDecimal.class,
+                this.createContext());
+    }
+
+    @Test
+    public void testCanConvertTextFalse() {
+        this.checkEquals(
+                false,
+                this.createConverter()
+                        .canConvert("Hello", BigDecimal.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testCanConvertDigitTrue() {
+        this.checkEquals(
+                true,
+                this.createConverter()
+                        .canConvert("1.5", BigDecimal.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testCanConvertNaNTrue() {
+        this.checkEquals(
+                true,
+                this.createConverter()
+                        .canConvert("NaN", Double.class, this.createContext())
+        );
+    }
+
+    @Test
+    public void testConvertTextSkipsParse() {
+        final DecimalFormatConverterStringNumber<ConverterContext> converter = this.createConverter(this.uncompiledPattern());
+        final ConverterContext context = this.createContext();
+
+        this.convertFails(
+                converter,
+                "Hello",
+                BigDecimal.class,
+                context
+        );
+        this.convertFails(
+                converter,
+                "World",
+                BigDecimal.class,
+                context
+        );
+
+        // the DecimalFormat created to compile the prefilter is never borrowed
+        this.checkEquals(1, converter.cache.size(), "size");
+        this.checkEquals(0L, converter.cache.hits(), "hits");
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public void testConvertNaN() {
+        this.convertAndCheck2(
+                "#.###",
+                "NaN",
+                Double.class,
+                Double.NaN
+        );
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     // ConverterTesting..................................................................................................
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(String.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
     @Override
     DecimalFormatConverterStringNumber<ConverterContext> createConverter(final Function<DecimalNumberContext, DecimalFormat> decimalFormat) {
         return DecimalFormatConverterStringNumber.with(decimalFormat);
     }
 
+    @Override
+    Object value(final ConverterContext context) {
+        return context.currencySymbol() + "123";
+    }
+
+    @Override
+    String uncompiledPattern() {
+        return "\u00A4#.000";
+    }
+
+    /**
+     * The first {@link Converter#canConvert(Object, Class, ConverterContext)} for each set of symbols creates and releases the
+     * {@link DecimalFormat}, which each conversion then borrows.
+     */
+    @Override
+    long reusedHits() {
+        return 3;
+    }
+
+    @Override
+    Class<?> targetType() {
+        return Integer.class;
+    }
+
     @Override
     public Class<DecimalFormatConverterStringNumber<ConverterContext>> type() {
         return Cast.to(DecimalFormatConverterStringNumber.class);
@@ -31,7 +31,7 @@ import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-public abstract class DecimalFormatConverterTestCase<C extends DecimalFormatConverter<ConverterContext>> extends ConverterTestCase2<C> {
+public abstract class DecimalFormatConverterTestCase<C extends DecimalFormatConverter<ConverterContext, ?>> extends ConverterTestCase2<C> {
 
     DecimalFormatConverterTestCase() {
         super();
@@ -42,6 +42,61 @@ public abstract class DecimalFormatConverterTestCase<C extends DecimalFormatConv
         assertThrows(NullPointerException.class, () -> this.createConverter((Function<DecimalNumberContext, DecimalFormat>)null));
     }
 
+    @Test
+    public final void testDecimalFormatReusedForSameSymbols() {
+        final C converter = this.createConverter(this.uncompiledPattern());
+        final Class<?> type = this.targetType();
+
+        for (final Locale locale : new Locale[]{Locale.UK, Locale.UK, Locale.FRANCE}) {
+            final ConverterContext context = this.createContext(locale);
+            final Object value = this.value(context);
+            this.checkEquals(
+                    true,
+                    converter.convert(value, type, context).isLeft(),
+                    () -> locale + " " + value
+            );
+        }
+
+        this.checkEquals(2, converter.cache.size(), "size");
+        this.checkEquals(this.reusedHits(), converter.cache.hits(), "hits");
+        this.checkEquals(2L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public final void testCacheStatistics() {
+        final C converter = this.createConverter(this.uncompiledPattern());
+        final Class<?> type = this.targetType();
+
+        for (final Locale locale : new Locale[]{Locale.UK, Locale.UK, Locale.FRANCE}) {
+            final ConverterContext context = this.createContext(locale);
+            converter.convert(this.value(context), type, context);
+        }
+
+        this.checkEquals(
+                ConverterCacheStatistics.with(2, this.reusedHits(), 2, 0),
+                converter.cacheStatistics()
+        );
+    }
+
+    /**
+     * The number of {@link DecimalFormat} borrowed from the cache by {@link #testDecimalFormatReusedForSameSymbols()}.
+     */
+    long reusedHits() {
+        return 1;
+    }
+
+    /**
+     * A value that the {@link #uncompiledPattern()} converts with the symbols of the given {@link ConverterContext}.
+     */
+    abstract Object value(final ConverterContext context);
+
+    /**
+     * A pattern that cannot be compiled, so the {@link DecimalFormat} is always used.
+     */
+    abstract String uncompiledPattern();
+
+    abstract Class<?> targetType();
+
     // toString.........................................................................................................
 
     @Test
@@ -64,6 +64,62 @@ public final class FailConversionTest implements ClassTesting<FailConversion> {
         );
     }
     
+    @Test
+    public void testSpeculateConverter2() {
+        final Either<Byte, String> result = FailConversion.speculate(
+                Converters.numberNumber(),
+                Long.MAX_VALUE,
+                Byte.class,
+                ConverterContexts.fake()
+        );
+        this.checkEquals(true, FailConversion.isSpeculativeFailure(result), "isSpeculativeFailure");
+        this.checkEquals(false, FailConversion.isSpeculative(), "isSpeculative after");
+    }
+
+    @Test
+    public void testSpeculateConverter2Success() {
+        this.checkEquals(
+                Either.left((byte) 1),
+                FailConversion.speculate(
+                        Converters.numberNumber(),
+                        1L,
+                        Byte.class,
+                        ConverterContexts.fake()
+                )
+        );
+    }
+
+    @Test
+    public void testSpeculateOtherConverterRealMessage() {
+        final boolean[] speculative = new boolean[1];
+
+        final Either<String, String> result = FailConversion.speculate(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public <T> Either<T, String> convert(final Object value,
+                                                         final Class<T> type,
+                                                         final ConverterContext context) {
+                        speculative[0] = FailConversion.isSpeculative();
+                        return this.failConversion(value, type);
+                    }
+                },
+                1,
+                String.class,
+                ConverterContexts.fake()
+        );
+
+        this.checkEquals(false, speculative[0], "speculative");
+        this.checkEquals(
+                Either.right("Failed to convert 1 (java.lang.Integer) to java.lang.String"),
+                result
+        );
+    }
+
+    @Test
+    public void testNotSpeculativeFailure() {
+        this.checkEquals(false, FailConversion.isSpeculativeFailure(FailConversion.handle(1, String.class)));
+    }
+
     // ClassTesting.....................................................................................................
     
     @Override
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InstrumentedConverterTest extends ConverterTestCase2<InstrumentedConverter<ConverterContext>> {
+
+    private final static Converter<ConverterContext> WRAPPED = Converters.numberNumber();
+
+    @Test
+    public void testWrapNullConverterFails() {
+        assertThrows(NullPointerException.class, () -> InstrumentedConverter.wrap(null, ConverterMetrics.empty()));
+    }
+
+    @Test
+    public void testWrapNullMetricsFails() {
+        assertThrows(NullPointerException.class, () -> InstrumentedConverter.wrap(WRAPPED, null));
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCheck(123L, Integer.class, 123);
+    }
+
+    @Test
+    public void testConvertFails() {
+        this.convertFails("abc", Integer.class);
+    }
+
+    @Test
+    public void testCounts() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> converter = InstrumentedConverter.wrap(WRAPPED, metrics);
+        final ConverterContext context = this.createContext();
+
+        converter.canConvert(1L, Integer.class, context);
+        converter.convert(1L, Integer.class, context);
+        converter.convert(2L, Integer.class, context);
+        converter.convert(Long.MAX_VALUE, Integer.class, context);
+        converter.convert("abc", Integer.class, context);
+
+        final ConverterMetricsCounters longs = this.counters(metrics, WRAPPED, Long.class, Integer.class);
+        this.checkEquals(1L, longs.canConvertCount(), "canConvertCount");
+        this.checkEquals(2L, longs.successCount(), "successCount");
+        this.checkEquals(1L, longs.failureCount(), "failureCount");
+        this.checkEquals(3L, sum(longs.latencyHistogram()), "latencyHistogram");
+
+        final ConverterMetricsCounters strings = this.counters(metrics, WRAPPED, String.class, Integer.class);
+        this.checkEquals(1L, strings.failureCount(), "failureCount");
+    }
+
+    @Test
+    public void testConvertThrows() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> thrower = new FakeConverter<ConverterContext>() {
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public String toString() {
+                return "thrower";
+            }
+        };
+        final Converter<ConverterContext> converter = InstrumentedConverter.wrap(thrower, metrics);
+
+        assertThrows(IllegalStateException.class, () -> converter.convert(1, String.class, this.createContext()));
+        this.checkEquals(1L, this.counters(metrics, thrower, Integer.class, String.class).exceptionCount(), "exceptionCount");
+    }
+
+    @Test
+    public void testConvertAll() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        final Integer[] converted = new Integer[4];
+        final String[] errors = new String[4];
+
+        InstrumentedConverter.wrap(WRAPPED, metrics)
+                .convertAll(
+                        Arrays.asList(1L, 2L, 3.5, null),
+                        Integer.class,
+                        this.createContext(),
+                        converted,
+                        errors
+                );
+        this.checkEquals(Arrays.asList(1, 2, null, null), Arrays.asList(converted), "converted");
+
+        final ConverterMetricsCounters counters = this.counters(metrics, WRAPPED, Object.class, Integer.class);
+        this.checkEquals(3L, counters.successCount(), "successCount");
+        this.checkEquals(1L, counters.failureCount(), "failureCount");
+        this.checkEquals(1L, counters.batchCount(), "batchCount");
+        this.checkEquals(0L, sum(counters.latencyHistogram()), "latencyHistogram");
+        this.checkEquals(1L, sum(counters.batchLatencyHistogram()), "batchLatencyHistogram");
+        this.checkEquals(1, metrics.counters().size(), "counters");
+    }
+
+    @Test
+    public void testConvertAllSameClassIgnoresNulls() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        InstrumentedConverter.wrap(WRAPPED, metrics)
+                .convertAll(
+                        Arrays.asList(1L, null, Long.MAX_VALUE),
+                        Integer.class,
+                        this.createContext(),
+                        new Integer[3],
+                        new String[3]
+                );
+
+        final ConverterMetricsCounters counters = this.counters(metrics, WRAPPED, Long.class, Integer.class);
+        this.checkEquals(2L, counters.successCount(), "successCount");
+        this.checkEquals(1L, counters.failureCount(), "failureCount");
+        this.checkEquals(1L, sum(counters.batchLatencyHistogram()), "batchLatencyHistogram");
+    }
+
+    @Test
+    public void testConvertAllEmpty() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+
+        InstrumentedConverter.wrap(WRAPPED, metrics)
+                .convertAll(
+                        Arrays.asList(),
+                        Integer.class,
+                        this.createContext(),
+                        new Integer[0],
+                        new String[0]
+                );
+
+        this.checkEquals(0, metrics.counters().size(), "counters");
+    }
+
+    @Test
+    public void testSameToStringDifferentCounters() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> first = Converters.simple();
+        final Converter<ConverterContext> second = new FakeConverter<ConverterContext>() {
+            @Override
+            public boolean canConvert(final Object value,
+                                      final Class<?> type,
+                                      final ConverterContext context) {
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return first.toString();
+            }
+        };
+        final ConverterContext context = this.createContext();
+
+        InstrumentedConverter.wrap(first, metrics).canConvert(1, Integer.class, context);
+        InstrumentedConverter.wrap(second, metrics).canConvert(1, Integer.class, context);
+
+        this.checkEquals(1L, this.counters(metrics, first, Integer.class, Integer.class).canConvertCount(), "first canConvertCount");
+        this.checkEquals(1L, this.counters(metrics, second, Integer.class, Integer.class).canConvertCount(), "second canConvertCount");
+    }
+
+    @Test
+    public void testWrapNameNullFails() {
+        assertThrows(NullPointerException.class, () -> InstrumentedConverter.wrap(WRAPPED, null, ConverterMetrics.empty()));
+    }
+
+    @Test
+    public void testWrapNameSharesCounters() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final ConverterContext context = this.createContext();
+
+        InstrumentedConverter.wrap(WRAPPED, "numbers", metrics).convert(1L, Integer.class, context);
+        InstrumentedConverter.wrap(Converters.numberNumber(), "numbers", metrics).convert(2L, Integer.class, context);
+
+        final ConverterMetricsCounters counters = metrics.counters()
+                .get(ConverterMetricsKey.with("numbers", null, Long.class, Integer.class));
+        this.checkEquals(2L, counters.successCount(), "successCount");
+        this.checkEquals(1, metrics.counters().size(), "counters");
+    }
+
+    @Test
+    public void testWrapNameToString() {
+        this.toStringAndCheck(
+                InstrumentedConverter.wrap(WRAPPED, "numbers", ConverterMetrics.empty()),
+                "numbers"
+        );
+    }
+
+    @Test
+    public void testWrapCollectionWrapsEachConverter() {
+        final ConverterMetrics metrics = ConverterMetrics.empty();
+        final Converter<ConverterContext> first = Converters.numberNumber();
+        final Converter<ConverterContext> second = Converters.objectString();
+        final Converter<ConverterContext> collection = Converters.collection(Arrays.asList(first, second));
+
+        final Converter<ConverterContext> converter = InstrumentedConverter.wrap(collection, metrics);
+        this.checkEquals(collection.toString(), converter.toString(), "toString");
+
+        this.checkEquals(
+                Either.left("123"),
+                converter.convert(123L, String.class, this.createContext())
+        );
+
+        this.checkEquals(1L, this.counters(metrics, first, Long.class, String.class).canConvertCount(), "first canConvertCount");
+        this.checkEquals(1L, this.counters(metrics, second, Long.class, String.class).successCount(), "second successCount");
+        this.checkEquals(1L, this.counters(metrics, collection, Long.class, String.class).successCount(), "collection successCount");
+    }
+
+    @Test
+    public void testWrapCompiledCollection() {
+        final Converter<ConverterContext> collection = Converters.compiledCollection(
+                Arrays.asList(Converters.numberNumber(), Converters.objectString())
+        );
+
+        final InstrumentedConverter<ConverterContext> converter = Cast.to(InstrumentedConverter.wrap(collection, ConverterMetrics.empty()));
+        this.checkEquals(true, converter.converter instanceof ConverterCollection, "collection");
+        this.convertAndCheck(converter, 123L, String.class, this.createContext(), "123");
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(WRAPPED.isValueDependent(), this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createConverter(), WRAPPED.toString());
+    }
+
+    private ConverterMetricsCounters counters(final ConverterMetrics metrics,
+                                              final Converter<?> converter,
+                                              final Class<?> source,
+                                              final Class<?> target) {
+        final ConverterMetricsCounters counters = metrics.counters()
+                .get(ConverterMetricsKey.with(converter.toString(), converter, source, target));
+        this.checkEquals(true, null != counters, () -> "missing counters for " + converter + " " + source + " " + target + " in " + metrics);
+        return counters;
+    }
+
+    private static long sum(final long[] values) {
+        long sum = 0;
+        for (final long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        InstrumentedConverter.wrap(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public void invalidate() {
+                        invalidated[0]++;
+                    }
+                },
+                ConverterMetrics.empty()
+        ).invalidate();
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Override
+    public InstrumentedConverter<ConverterContext> createConverter() {
+        return Cast.to(InstrumentedConverter.wrap(WRAPPED, ConverterMetrics.empty()));
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    @Override
+    public Class<InstrumentedConverter<ConverterContext>> type() {
+        return Cast.to(InstrumentedConverter.class);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParallelConverterTest extends ConverterTestCase2<ParallelConverter<ConverterContext>>
+        implements HashCodeEqualsDefinedTesting2<ParallelConverter<ConverterContext>> {
+
+    private final static Converter<ConverterContext> WRAPPED = Converters.numberNumber();
+    private final static int THRESHOLD = 4;
+
+    @Test
+    public void testWithNullConverterFails() {
+        assertThrows(NullPointerException.class, () -> ParallelConverter.with(null, THRESHOLD));
+    }
+
+    @Test
+    public void testWithInvalidThresholdFails() {
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> ParallelConverter.with(WRAPPED, 0));
+        this.checkEquals("Invalid threshold 0 <= 0", thrown.getMessage(), "message");
+    }
+
+    @Test
+    public void testConvertersParallelDefaultThreshold() {
+        final ParallelConverter<ConverterContext> converter = Cast.to(Converters.parallel(WRAPPED));
+        this.checkEquals(ParallelConverter.DEFAULT_THRESHOLD, converter.threshold, "threshold");
+    }
+
+    @Test
+    public void testConvert() {
+        this.convertAndCheck(123L, Integer.class, 123);
+    }
+
+    @Test
+    public void testConvertFails() {
+        this.convertFails("abc", Integer.class);
+    }
+
+    @Test
+    public void testConvertAllBelowThreshold() {
+        this.convertAllAndCheck(
+                Arrays.asList(1L, 2.5, null, "x"),
+                Integer.class
+        );
+    }
+
+    @Test
+    public void testConvertAllManyChunks() {
+        final Object[] values = new Object[THRESHOLD * 25 + 3];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0 == i % 7 ?
+                    i + 0.5 :
+                    (long) i;
+        }
+
+        this.convertAllAndCheck(
+                Arrays.asList(values),
+                Integer.class
+        );
+    }
+
+    @Test
+    public void testConvertAllChunksUseWrappedConvertAll() {
+        final Set<List<?>> chunks = ConcurrentHashMap.newKeySet();
+
+        final Converter<ConverterContext> wrapped = new FakeConverter<ConverterContext>() {
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> type,
+                                                 final ConverterContext context) {
+                return this.successfulConversion(value, type);
+            }
+
+            @Override
+            public <T> int convertAll(final List<?> values,
+                                      final Class<T> type,
+                                      final ConverterContext context,
+                                      final T[] converted,
+                                      final String[] errors) {
+                chunks.add(values);
+                return super.convertAll(values, type, context, converted, errors);
+            }
+        };
+
+        final List<Object> values = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        this.convertAllAndCheck(
+                ParallelConverter.with(wrapped, THRESHOLD),
+                values,
+                Object.class,
+                this.createContext()
+        );
+
+        this.checkEquals(
+                Set.of(
+                        Arrays.asList(1, 2, 3, 4),
+                        Arrays.asList(5, 6, 7, 8),
+                        Arrays.asList(9, 10)
+                ),
+                chunks,
+                "chunks"
+        );
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(WRAPPED.isValueDependent(), this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testEqualsDifferentConverter() {
+        this.checkNotEquals(ParallelConverter.with(Converters.objectString(), THRESHOLD));
+    }
+
+    @Test
+    public void testEqualsDifferentThreshold() {
+        this.checkNotEquals(ParallelConverter.with(WRAPPED, THRESHOLD + 1));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createConverter(), "parallel(" + WRAPPED + ")");
+    }
+
+    @Test
+    public void testInvalidate() {
+        final int[] invalidated = new int[1];
+        ParallelConverter.with(
+                new FakeConverter<ConverterContext>() {
+                    @Override
+                    public void invalidate() {
+                        invalidated[0]++;
+                    }
+                },
+                THRESHOLD
+        ).invalidate();
+        this.checkEquals(1, invalidated[0], "invalidated");
+    }
+
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(Number.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.checkEquals(
+                ConverterTypes.NUMBERS,
+                this.createConverter().targetTypes()
+        );
+    }
+
+    @Override
+    public ParallelConverter<ConverterContext> createConverter() {
+        return ParallelConverter.with(WRAPPED, THRESHOLD);
+    }
+
+    @Override
+    public ConverterContext createContext() {
+        return ConverterContexts.fake();
+    }
+
+    @Override
+    public Class<ParallelConverter<ConverterContext>> type() {
+        return Cast.to(ParallelConverter.class);
+    }
+
+    @Override
+    public ParallelConverter<ConverterContext> createObject() {
+        return this.createConverter();
+    }
+}
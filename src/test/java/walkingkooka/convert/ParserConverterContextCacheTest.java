@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserContexts;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserConverterContextCacheTest implements ClassTesting2<ParserConverterContextCache>,
+        ToStringTesting<ParserConverterContextCache> {
+
+    private final static ConverterContext CONTEXT1 = CachingConverterKeyTest.context(Locale.UK);
+    private final static ConverterContext CONTEXT2 = CachingConverterKeyTest.context(Locale.FRANCE);
+    private final static ConverterContext CONTEXT3 = CachingConverterKeyTest.context(Locale.GERMANY);
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserConverterContextCache.with(0));
+    }
+
+    @Test
+    public void testWithNegativeSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserConverterContextCache.with(-1));
+    }
+
+    @Test
+    public void testGetMiss() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        cache.get(CONTEXT1, this.factory());
+
+        this.countersAndCheck(cache, 1, 0, 1);
+    }
+
+    @Test
+    public void testGetHit() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        final ParserContext parserContext = cache.get(CONTEXT1, this.factory());
+
+        assertSame(parserContext, cache.get(CONTEXT1, this.factory()));
+        this.countersAndCheck(cache, 1, 1, 1);
+    }
+
+    @Test
+    public void testGetDifferentContextSameValues() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        final ParserContext parserContext = cache.get(CONTEXT1, this.factory());
+
+        assertSame(parserContext, cache.get(CachingConverterKeyTest.context(Locale.UK), this.factory()));
+        this.countersAndCheck(cache, 1, 1, 1);
+    }
+
+    @Test
+    public void testGetDifferentContext() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        final ParserContext parserContext = cache.get(CONTEXT1, this.factory());
+
+        assertNotSame(parserContext, cache.get(CONTEXT2, this.factory()));
+        this.countersAndCheck(cache, 2, 0, 2);
+    }
+
+    @Test
+    public void testGetEvictsLeastRecentlyUsed() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        final ParserContext parserContext = cache.get(CONTEXT1, this.factory());
+        cache.get(CONTEXT2, this.factory());
+
+        // touch 1 so 2 becomes the eldest
+        assertSame(parserContext, cache.get(CONTEXT1, this.factory()));
+        cache.get(CONTEXT3, this.factory());
+        this.countersAndCheck(cache, 2, 1, 3);
+
+        cache.get(CONTEXT2, this.factory());
+        this.countersAndCheck(cache, 2, 1, 4);
+    }
+
+    @Test
+    public void testGetUnsupportedContextNotCached() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        final ConverterContext context = new FakeConverterContext();
+
+        assertNotSame(
+                cache.get(context, this.factory()),
+                cache.get(context, this.factory())
+        );
+        this.countersAndCheck(cache, 0, 0, 0);
+    }
+
+    private Function<ConverterContext, ParserContext> factory() {
+        return (c) -> ParserContexts.basic(c, c);
+    }
+
+    private void countersAndCheck(final ParserConverterContextCache cache,
+                                  final int size,
+                                  final long hits,
+                                  final long misses) {
+        this.checkEquals(size, cache.size(), "size");
+        this.checkEquals(hits, cache.hits(), "hits");
+        this.checkEquals(misses, cache.misses(), "misses");
+    }
+
+    @Test
+    public void testToString() {
+        final ParserConverterContextCache cache = ParserConverterContextCache.with(2);
+        cache.get(CONTEXT1, this.factory());
+        cache.get(CONTEXT1, this.factory());
+
+        this.toStringAndCheck(cache, "size=1 hits=1 misses=1");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserConverterContextCache> type() {
+        return ParserConverterContextCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
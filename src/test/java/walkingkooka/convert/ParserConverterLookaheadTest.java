@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserConverterLookaheadTest implements ClassTesting2<ParserConverterLookahead>,
+        ToStringTesting<ParserConverterLookahead> {
+
+    private final static CharPredicate LEADING = CharPredicates.range('0', '9');
+
+    @Test
+    public void testWithNullLeadingFails() {
+        assertThrows(NullPointerException.class, () -> ParserConverterLookahead.with(null, 1));
+    }
+
+    @Test
+    public void testWithZeroMinLengthFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserConverterLookahead.with(LEADING, 0));
+    }
+
+    @Test
+    public void testWithNegativeMinLengthFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserConverterLookahead.with(LEADING, -1));
+    }
+
+    @Test
+    public void testEmpty() {
+        this.testAndCheck("", 1, false);
+    }
+
+    @Test
+    public void testLeadingLegal() {
+        this.testAndCheck("1", 1, true);
+    }
+
+    @Test
+    public void testLeadingLegalLonger() {
+        this.testAndCheck("1abc", 1, true);
+    }
+
+    @Test
+    public void testLeadingIllegal() {
+        this.testAndCheck("a1", 1, false);
+    }
+
+    @Test
+    public void testMinLength() {
+        this.testAndCheck("12", 2, true);
+    }
+
+    @Test
+    public void testTooShort() {
+        this.testAndCheck("12", 3, false);
+    }
+
+    private void testAndCheck(final String text,
+                              final int minLength,
+                              final boolean expected) {
+        this.checkEquals(
+                expected,
+                ParserConverterLookahead.with(LEADING, minLength)
+                        .test(text),
+                () -> "test " + text + " min length " + minLength
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                ParserConverterLookahead.with(LEADING, 2),
+                LEADING + " 2"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserConverterLookahead> type() {
+        return ParserConverterLookahead.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
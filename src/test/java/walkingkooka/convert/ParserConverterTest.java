@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.datetime.DateTimeContexts;
 import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
 import walkingkooka.text.cursor.parser.BigDecimalParserToken;
 import walkingkooka.text.cursor.parser.Parser;
 import walkingkooka.text.cursor.parser.ParserContext;
@@ -30,6 +32,8 @@ import walkingkooka.text.cursor.parser.Parsers;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -77,11 +81,205 @@ public final class ParserConverterTest extends ConverterTestCase2<ParserConverte
         this.convertFails("FAILS", BigDecimal.class);
     }
 
+    @Test
+    public void testParserContextReused() {
+        final ParserConverter<BigDecimal, ParserContext, ConverterContext> converter = this.createConverter();
+
+        this.convertAndCheck(converter, "1.23", BigDecimal.class, CachingConverterKeyTest.context(Locale.US), BigDecimal.valueOf(1.23));
+        this.convertAndCheck(converter, "4.5", BigDecimal.class, CachingConverterKeyTest.context(Locale.US), BigDecimal.valueOf(4.5));
+
+        this.checkEquals(1, converter.cache.size(), "size");
+        this.checkEquals(1L, converter.cache.hits(), "hits");
+        this.checkEquals(1L, converter.cache.misses(), "misses");
+    }
+
+    @Test
+    public void testConvertAll() {
+        this.convertAllAndCheck(
+                Arrays.asList("1.23", null, "FAILS", 4, "5", "6.75", "7x"),
+                BigDecimal.class
+        );
+    }
+
+    @Test
+    public void testConvertAllDifferentType() {
+        this.convertAllAndCheck(
+                Arrays.asList("1.23", null),
+                Integer.class
+        );
+    }
+
+    @Test
+    public void testConvertAllAdaptsParserContextOncePerBatch() {
+        final int[] adapted = new int[1];
+        final ParserConverter<BigDecimal, ParserContext, ConverterContext> converter = ParserConverter.with(
+                BigDecimal.class,
+                this.bigDecimalParser(),
+                (c) -> {
+                    adapted[0]++;
+                    return ParserContexts.basic(c, c);
+                },
+                this.transformer()
+        );
+        final ConverterContext context = this.createContext();
+
+        for (int i = 0; i < 2; i++) {
+            converter.convertAll(
+                    Arrays.asList("1", "2", "3"),
+                    BigDecimal.class,
+                    context,
+                    new BigDecimal[3],
+                    new String[3]
+            );
+        }
+
+        this.checkEquals(2, adapted[0], "adapted");
+    }
+
+    // lookahead......................................................................................................
+
+    @Test
+    public void testWithNullLeadingFails() {
+        assertThrows(NullPointerException.class, () -> ParserConverter.with(BigDecimal.class, this.bigDecimalParser(), this.parserContextAdapter(), this.transformer(), null, 1));
+    }
+
+    @Test
+    public void testWithZeroMinLengthFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserConverter.with(BigDecimal.class, this.bigDecimalParser(), this.parserContextAdapter(), this.transformer(), this.leading(), 0));
+    }
+
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(false, this.createConverter().isValueDependent());
+    }
+
+    @Test
+    public void testIsValueDependentLookahead() {
+        this.checkEquals(true, this.createConverterLookahead().isValueDependent());
+    }
+
+    @Test
+    public void testCanConvertLookahead() {
+        this.canConvertLookaheadAndCheck("1.23", true);
+    }
+
+    @Test
+    public void testCanConvertLookaheadNull() {
+        this.canConvertLookaheadAndCheck(null, true);
+    }
+
+    @Test
+    public void testCanConvertLookaheadLeadingIllegal() {
+        this.canConvertLookaheadAndCheck("FAILS", false);
+    }
+
+    @Test
+    public void testCanConvertLookaheadTooShort() {
+        this.canConvertLookaheadAndCheck("1", false);
+    }
+
+    @Test
+    public void testCanConvertLookaheadEmpty() {
+        this.canConvertLookaheadAndCheck("", false);
+    }
+
+    @Test
+    public void testCanConvertLookaheadLeadingLegalParseFails() {
+        this.canConvertLookaheadAndCheck("1x", true);
+    }
+
+    @Test
+    public void testCanConvertLookaheadDifferentType() {
+        this.checkEquals(
+                false,
+                this.createConverterLookahead()
+                        .canConvert("1.23", Integer.class, this.createContext())
+        );
+    }
+
+    private void canConvertLookaheadAndCheck(final String text,
+                                             final boolean expected) {
+        this.checkEquals(
+                expected,
+                this.createConverterLookahead()
+                        .canConvert(text, BigDecimal.class, this.createContext()),
+                () -> "canConvert " + text
+        );
+    }
+
+    @Test
+    public void testConvertLookahead() {
+        this.convertAndCheck(
+                this.createConverterLookahead(),
+                "1.23",
+                BigDecimal.class,
+                this.createContext(),
+                BigDecimal.valueOf(1.23)
+        );
+    }
+
+    @Test
+    public void testConvertLookaheadFails() {
+        this.convertFails(
+                this.createConverterLookahead(),
+                "FAILS",
+                BigDecimal.class,
+                this.createContext()
+        );
+    }
+
+    @Test
+    public void testConvertLookaheadFailsSameMessage() {
+        final String text = "FAILS";
+        final ConverterContext context = this.createContext();
+
+        this.checkEquals(
+                this.createConverter().convert(text, BigDecimal.class, context),
+                this.createConverterLookahead().convert(text, BigDecimal.class, context)
+        );
+    }
+
+    @Test
+    public void testConvertAllLookahead() {
+        this.convertAllAndCheck(
+                this.createConverterLookahead(),
+                Arrays.asList("1.23", null, "FAILS", "4", 5, "67", "8x"),
+                BigDecimal.class,
+                this.createContext()
+        );
+    }
+
+    private ParserConverter<BigDecimal, ParserContext, ConverterContext> createConverterLookahead() {
+        return ParserConverter.with(
+                BigDecimal.class,
+                this.bigDecimalParser(),
+                this.parserContextAdapter(),
+                this.transformer(),
+                this.leading(),
+                2
+        );
+    }
+
+    private CharPredicate leading() {
+        return CharPredicates.range('0', '9')
+                .or(CharPredicates.any("+-."));
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter(), "String->BigDecimal");
     }
 
+    @Test
+    public void testSourceTypes() {
+        this.sourceTypesAndCheck(String.class);
+    }
+
+    @Test
+    public void testTargetTypes() {
+        this.targetTypesAndCheck(BigDecimal.class);
+    }
+
     @Override
     public ParserConverter<BigDecimal, ParserContext, ConverterContext> createConverter() {
         return ParserConverter.with(
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.convert;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserConverterTextTest implements ClassTesting2<ParserConverterText>,
+        ToStringTesting<ParserConverterText> {
+
+    @Test
+    public void testResetNullFails() {
+        assertThrows(NullPointerException.class, () -> ParserConverterText.empty().reset(null));
+    }
+
+    @Test
+    public void testEmpty() {
+        final ParserConverterText text = ParserConverterText.empty();
+        this.checkEquals(0, text.length(), "length");
+        this.checkEquals(true, text.reset("").isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testReset() {
+        final ParserConverterText text = ParserConverterText.empty();
+        final TextCursor cursor = text.reset("abc");
+
+        this.checkEquals(3, text.length(), "length");
+        this.checkEquals('b', text.charAt(1), "charAt");
+        this.checkEquals("bc", text.subSequence(1, 3).toString(), "subSequence");
+        this.readAndCheck(cursor, "abc");
+    }
+
+    @Test
+    public void testResetRewindsSameCursor() {
+        final ParserConverterText text = ParserConverterText.empty();
+        final TextCursor cursor = text.reset("abc");
+        this.readAndCheck(cursor, "abc");
+
+        assertSame(cursor, text.reset("de"));
+        this.readAndCheck(cursor, "de");
+
+        assertSame(cursor, text.reset("fghi"));
+        cursor.next();
+        assertSame(cursor, text.reset("jk"));
+        this.readAndCheck(cursor, "jk");
+    }
+
+    @Test
+    public void testTextBetween() {
+        final ParserConverterText text = ParserConverterText.empty();
+        text.reset("abc");
+
+        final TextCursor cursor = text.reset("12345");
+        cursor.next();
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+        this.checkEquals("23", save.textBetween().toString());
+    }
+
+    private void readAndCheck(final TextCursor cursor,
+                              final String expected) {
+        final StringBuilder b = new StringBuilder();
+        while (false == cursor.isEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+        }
+        this.checkEquals(expected, b.toString());
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ParserConverterText text = ParserConverterText.empty();
+        text.reset("abc");
+        this.toStringAndCheck(text, "abc");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserConverterText> type() {
+        return ParserConverterText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
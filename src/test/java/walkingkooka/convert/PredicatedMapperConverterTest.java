@@ -74,6 +74,14 @@ public final class PredicatedMapperConverterTest extends ConverterTestCase2<Pred
 
     // toString.........................................................................................................
 
+    @Test
+    public void testIsValueDependent() {
+        this.checkEquals(
+                true,
+                this.createConverter().isValueDependent()
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createConverter().setToString("String->Boolean"), "String->Boolean");